@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+const fs = require("fs");
+const path = require("path");
+const zlib = require("zlib");
+
+/*
+ * Writes gzip and brotli variants next to the text based files in the specified directories. The standalone server
+ * serves these variants if the browser accepts them, so that the files don't have to be compressed on every request.
+ *
+ * Usage: node compress.js <directory>...
+ */
+
+const EXTENSIONS = [".css", ".html", ".js", ".json", ".map", ".svg", ".txt", ".xml", ".eot", ".ttf"];
+const MIN_SIZE = 1024; // bytes
+
+function files(directory) {
+    return fs.readdirSync(directory, {withFileTypes: true}).flatMap((entry) => {
+        const file = path.join(directory, entry.name);
+        return entry.isDirectory() ? files(file) : [file];
+    });
+}
+
+function write(file, compressed, size) {
+    // don't keep variants which are not smaller than the original
+    if (compressed.length < size) {
+        fs.writeFileSync(file, compressed);
+        return compressed.length;
+    }
+    return size;
+}
+
+let original = 0;
+let gzip = 0;
+let brotli = 0;
+for (const directory of process.argv.slice(2)) {
+    if (!fs.existsSync(directory)) {
+        console.warn(`Skip missing directory ${directory}`);
+        continue;
+    }
+    for (const file of files(directory)) {
+        if (!EXTENSIONS.includes(path.extname(file))) {
+            continue;
+        }
+        const content = fs.readFileSync(file);
+        if (content.length < MIN_SIZE) {
+            continue;
+        }
+        original += content.length;
+        gzip += write(`${file}.gz`, zlib.gzipSync(content, {level: zlib.constants.Z_BEST_COMPRESSION}),
+            content.length);
+        brotli += write(`${file}.br`, zlib.brotliCompressSync(content, {
+            params: {
+                [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+                [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+            },
+        }), content.length);
+    }
+}
+console.log(`Compressed ${original} bytes: gzip ${gzip} bytes, brotli ${brotli} bytes`);
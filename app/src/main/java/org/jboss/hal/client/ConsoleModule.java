@@ -145,6 +145,7 @@ import org.jboss.hal.client.rhcp.UnderTheBridgeView;
 import org.jboss.hal.client.runtime.ProcessStateHandler;
 import org.jboss.hal.client.runtime.RuntimePresenter;
 import org.jboss.hal.client.runtime.RuntimeView;
+import org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangeDetector;
 import org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesPresenter;
 import org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesView;
 import org.jboss.hal.client.runtime.group.Mbui_ServerGroupView;
@@ -175,6 +176,7 @@ import org.jboss.hal.client.runtime.subsystem.microprofile.health.MicroProfileHe
 import org.jboss.hal.client.runtime.subsystem.microprofile.health.MicroProfileHealthView;
 import org.jboss.hal.client.runtime.subsystem.resourceadapter.ChildResourcePresenter;
 import org.jboss.hal.client.runtime.subsystem.resourceadapter.ChildResourceView;
+import org.jboss.hal.client.search.ModelIndex;
 import org.jboss.hal.client.skeleton.FooterPresenter;
 import org.jboss.hal.client.skeleton.FooterView;
 import org.jboss.hal.client.skeleton.HeaderPresenter;
@@ -215,6 +217,8 @@ public class ConsoleModule extends AbstractPresenterModule {
         // ------------------------------------------------------ misc
 
         bind(AccessControlTokens.class).in(Singleton.class);
+        bind(ConfigurationChangeDetector.class).asEagerSingleton(); // to register the event handler
+        bind(ModelIndex.class).asEagerSingleton(); // to register the event handlers
         bind(DataSourceTemplates.class).in(Singleton.class);
         bind(ExceptionHandler.class).in(Singleton.class);
         bind(ProcessStateHandler.class).asEagerSingleton(); // to register the event handler
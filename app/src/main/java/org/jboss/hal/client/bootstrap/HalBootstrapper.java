@@ -26,6 +26,7 @@ import org.jboss.hal.core.ExceptionHandler;
 import org.jboss.hal.dmr.dispatch.Dispatcher.ResponseStatus;
 import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.Graph;
 import org.jboss.hal.js.Browser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,9 +73,11 @@ public class HalBootstrapper implements Bootstrapper {
 
         endpointManager.select(() -> {
             LoadingPanel.get().on();
-            Flow.sequential(new FlowContext(), bootstrapTasks.tasks())
+            Graph<FlowContext> graph = Flow.graph(new FlowContext(), bootstrapTasks.tasks());
+            graph.promise()
                     .then(context -> {
                         logger.info("Bootstrap finished");
+                        logger.debug("Bootstrap timings: {}", graph.timings());
                         LoadingPanel.get().off();
                         placeManager.revealCurrentPlace();
                         exceptionHandler.afterBootstrap();
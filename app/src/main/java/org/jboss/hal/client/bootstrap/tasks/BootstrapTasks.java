@@ -20,16 +20,27 @@ import java.util.List;
 import javax.inject.Inject;
 
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 
 import static java.util.Arrays.asList;
 
-/** Simple wrapper around an ordered array of bootstrap tasks. */
+/**
+ * Simple wrapper around the bootstrap tasks. The tasks are executed as a {@linkplain org.jboss.hal.flow.Flow#graph graph}: Each
+ * task declares the keys below it requires and provides, and independent tasks are executed concurrently.
+ */
 public class BootstrapTasks {
 
-    private final List<Task<FlowContext>> tasks;
+    // Keys don't necessarily have values in the flow context. Most tasks store their results in the environment.
+    static final String ENVIRONMENT = "bootstrap.environment";
+    static final String ACCESS_CONTROL = "bootstrap.accessControl";
+    static final String DOMAIN_CONTROLLER = "bootstrap.domainController";
+    static final String STABILITY_LEVEL = "bootstrap.stabilityLevel";
+    static final String CAPABILITIES = "bootstrap.capabilities";
+    static final String SETTINGS = "bootstrap.settings";
+
+    private final List<GraphTask<FlowContext>> tasks;
 
-    // Don't change the order unless you know what you're doing!
+    // Don't change the dependencies unless you know what you're doing!
     @Inject
     public BootstrapTasks(ReadEnvironment readEnvironment,
             ReadAuthentication readAuthentication,
@@ -52,7 +63,7 @@ public class BootstrapTasks {
                 startAnalytics);
     }
 
-    public List<Task<FlowContext>> tasks() {
+    public List<GraphTask<FlowContext>> tasks() {
         return tasks;
     }
 }
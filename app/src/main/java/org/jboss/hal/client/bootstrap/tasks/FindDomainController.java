@@ -16,6 +16,7 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -25,14 +26,17 @@ import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.flow.Task;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
 
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.DOMAIN_CONTROLLER;
 import static org.jboss.hal.client.bootstrap.tasks.ReadHostNames.HOST_NAMES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
@@ -42,7 +46,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PRIMARY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 
-public final class FindDomainController implements Task<FlowContext> {
+public final class FindDomainController implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(FindDomainController.class);
 
@@ -55,6 +59,21 @@ public final class FindDomainController implements Task<FlowContext> {
         this.environment = environment;
     }
 
+    @Override
+    public String name() {
+        return "FindDomainController"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(HOST_NAMES);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(DOMAIN_CONTROLLER);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         if (!environment.isStandalone()) {
@@ -87,7 +106,7 @@ public final class FindDomainController implements Task<FlowContext> {
                             });
                         })
                         .collect(toList());
-                return Flow.sequential(context, hostTasks).promise();
+                return Flow.parallel(context, hostTasks).promise();
             } else {
                 return Promise.resolve(context);
             }
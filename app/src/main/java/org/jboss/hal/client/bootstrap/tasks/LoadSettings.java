@@ -15,19 +15,27 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Build;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.resources.Names;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.ACCESS_CONTROL;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.SETTINGS;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.STABILITY_LEVEL;
 import static org.jboss.hal.config.Settings.Key.COLLECT_USER_DATA;
 import static org.jboss.hal.config.Settings.Key.LOCALE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
@@ -37,10 +45,11 @@ import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.config.Settings.Key.TITLE;
 
 /**
- * Loads the settings. Please make sure this is one of the last bootstrap function. This function loads the run-as role which is
- * then used by the dispatcher. But all previous bootstrap functions must not have a run-as role in the dispatcher.
+ * Loads the settings. Please make sure this function requires all bootstrap functions which execute operations. This function
+ * loads the run-as role which is then used by the dispatcher. But all previous bootstrap functions must not have a run-as role
+ * in the dispatcher.
  */
-public final class LoadSettings implements Task<FlowContext> {
+public final class LoadSettings implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(LoadSettings.class);
 
@@ -53,6 +62,21 @@ public final class LoadSettings implements Task<FlowContext> {
         this.settings = settings;
     }
 
+    @Override
+    public String name() {
+        return "LoadSettings"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return newHashSet(ACCESS_CONTROL, STABILITY_LEVEL);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(SETTINGS);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         settings.load(TITLE, Names.BROWSER_DEFAULT_TITLE);
@@ -31,7 +31,7 @@ import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
@@ -40,8 +40,11 @@ import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toSet;
 
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.ACCESS_CONTROL;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.ENVIRONMENT;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.AccessControlProvider.SIMPLE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS;
@@ -69,7 +72,7 @@ import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
  * function, because the operation might fail in some corner cases (e.g. when the current user is a host scoped role scoped to a
  * secondary host).
  */
-public final class ReadAuthentication implements Task<FlowContext> {
+public final class ReadAuthentication implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(ReadAuthentication.class);
     private static final AddressTemplate CORE_SERVICE_TEMPLATE = AddressTemplate.of("/core-service=management");
@@ -85,6 +88,21 @@ public final class ReadAuthentication implements Task<FlowContext> {
         this.statementContext = statementContext;
     }
 
+    @Override
+    public String name() {
+        return "ReadAuthentication"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(ACCESS_CONTROL);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         logger.debug("Read authentication");
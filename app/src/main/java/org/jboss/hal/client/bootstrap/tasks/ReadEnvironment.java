@@ -16,7 +16,10 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -31,37 +34,47 @@ import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.meta.ManagementModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
+
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.ENVIRONMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DOMAIN_ORGANIZATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EXTENSION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LAUNCH_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ORGANIZATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PRODUCT_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PRODUCT_VERSION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELEASE_CODENAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELEASE_VERSION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBSYSTEM;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VERBOSE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.WHOAMI;
 import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 
 /**
  * Reads important information from the root resource like product name and version, operation mode and management version.
- * Executes the {@code :whoami} operation to get the current user / roles.
+ * Executes the {@code :whoami} operation to get the current user / roles. Reads the management versions of the subsystems which
+ * are used to validate the metadata stored in the local databases.
  */
-public final class ReadEnvironment implements Task<FlowContext> {
+public final class ReadEnvironment implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(ReadEnvironment.class);
 
@@ -76,6 +89,16 @@ public final class ReadEnvironment implements Task<FlowContext> {
         this.user = user;
     }
 
+    @Override
+    public String name() {
+        return "ReadEnvironment"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(ENVIRONMENT);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         logger.debug("Read environment");
@@ -93,6 +116,18 @@ public final class ReadEnvironment implements Task<FlowContext> {
                 .build());
         ops.add(new Operation.Builder(ResourceAddress.root(), WHOAMI).param(VERBOSE, true).build());
 
+        // the subsystem versions are optional: don't let the bootstrap fail if they cannot be read
+        Operation extensions = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION)
+                .param(CHILD_TYPE, EXTENSION)
+                .param(RECURSIVE, true)
+                .build();
+        Promise<Map<String, Version>> subsystems = dispatcher.execute(extensions)
+                .then(result -> Promise.resolve(subsystemVersions(result)))
+                .catch_(error -> {
+                    logger.warn("Unable to read subsystem versions: {}", error);
+                    return Promise.resolve(new HashMap<>());
+                });
+
         return dispatcher.execute(new Composite(ops))
                 .then(result -> {
                     ModelNode node = result.step(0).get(RESULT);
@@ -155,7 +190,24 @@ public final class ReadEnvironment implements Task<FlowContext> {
                     user.setAuthenticated(true);
                     logger.debug("User info: {} {}", user.getName(), user.getRoles());
 
+                    return subsystems;
+                })
+                .then(versions -> {
+                    environment.setSubsystemVersions(versions);
+                    logger.debug("Subsystem versions: {}", versions);
                     return Promise.resolve(context);
                 });
     }
+
+    private Map<String, Version> subsystemVersions(ModelNode extensions) {
+        Map<String, Version> versions = new HashMap<>();
+        for (Property extension : extensions.asPropertyList()) {
+            if (extension.getValue().hasDefined(SUBSYSTEM)) {
+                for (Property subsystem : extension.getValue().get(SUBSYSTEM).asPropertyList()) {
+                    versions.put(subsystem.getName(), ManagementModel.parseVersion(subsystem.getValue()));
+                }
+            }
+        }
+        return versions;
+    }
 }
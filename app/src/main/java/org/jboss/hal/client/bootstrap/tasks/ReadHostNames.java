@@ -16,6 +16,7 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -25,18 +26,20 @@ import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
 
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.ENVIRONMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 
 /** Reads the domain controller. Only executed in domain mode. Depends on {@link ReadEnvironment}. */
-public final class ReadHostNames implements Task<FlowContext> {
+public final class ReadHostNames implements GraphTask<FlowContext> {
 
     static final String HOST_NAMES = "bootstrap.hostNames";
 
@@ -49,6 +52,21 @@ public final class ReadHostNames implements Task<FlowContext> {
         this.environment = environment;
     }
 
+    @Override
+    public String name() {
+        return "ReadHostNames"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(HOST_NAMES);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         if (environment.isStandalone()) {
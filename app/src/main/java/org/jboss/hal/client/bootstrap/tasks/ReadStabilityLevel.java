@@ -16,6 +16,7 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.Objects;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -25,7 +26,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
@@ -33,6 +34,10 @@ import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
+
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.DOMAIN_CONTROLLER;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.STABILITY_LEVEL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PERMISSIBLE_STABILITY_LEVELS;
@@ -40,7 +45,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATIO
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STABILITY;
 import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 
-public class ReadStabilityLevel implements Task<FlowContext> {
+public class ReadStabilityLevel implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(ReadStabilityLevel.class);
 
@@ -55,6 +60,21 @@ public class ReadStabilityLevel implements Task<FlowContext> {
         this.dispatcher = dispatcher;
     }
 
+    @Override
+    public String name() {
+        return "ReadStabilityLevel"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(DOMAIN_CONTROLLER);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(STABILITY_LEVEL);
+    }
+
     @Override
     public Promise<FlowContext> apply(FlowContext context) {
         StabilityLevel defaultStabilityLevel = environment.getHalBuild().defaultStability;
@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.ManagementModel;
 import org.jboss.hal.meta.capabilitiy.Capabilities;
@@ -28,10 +30,14 @@ import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
+
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.CAPABILITIES;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.ENVIRONMENT;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_PROFILE;
 
-/** Reads the capabilities from the capability registry. Depends on {@link ReadHostNames}. */
-public final class RegisterStaticCapabilities implements Task<FlowContext> {
+/** Registers well-known capabilities if the capability registry is not supported. Depends on {@link ReadEnvironment}. */
+public final class RegisterStaticCapabilities implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(RegisterStaticCapabilities.class);
 
@@ -44,6 +50,21 @@ public final class RegisterStaticCapabilities implements Task<FlowContext> {
         this.capabilities = capabilities;
     }
 
+    @Override
+    public String name() {
+        return "RegisterStaticCapabilities"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(CAPABILITIES);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         if (!ManagementModel.supportsCapabilitiesRegistry(environment.getManagementVersion())) {
@@ -17,6 +17,7 @@ package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -24,17 +25,20 @@ import javax.inject.Inject;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.resources.Names;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
+
 import static com.google.common.base.Strings.emptyToNull;
 import static elemental2.dom.DomGlobal.document;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.SETTINGS;
 
-public final class SetTitle implements Task<FlowContext> {
+public final class SetTitle implements GraphTask<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(SetTitle.class);
     private static final String NAME_PLACEHOLDER = "%n";
@@ -52,6 +56,16 @@ public final class SetTitle implements Task<FlowContext> {
         data.put(ORGANIZATION_PLACEHOLDER, environment::getOrganization);
     }
 
+    @Override
+    public String name() {
+        return "SetTitle"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(SETTINGS);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         String title = settings.get(Settings.Key.TITLE).value();
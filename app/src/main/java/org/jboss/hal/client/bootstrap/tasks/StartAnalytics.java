@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Endpoints;
@@ -25,7 +27,7 @@ import org.jboss.hal.core.analytics.Tracker;
 import org.jboss.hal.core.finder.FinderContextEvent;
 import org.jboss.hal.core.modelbrowser.ModelBrowserPathEvent;
 import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
+import org.jboss.hal.flow.GraphTask;
 import org.jboss.hal.js.JsonObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,14 +38,17 @@ import com.gwtplatform.mvp.client.proxy.NavigationEvent;
 import elemental2.dom.HTMLScriptElement;
 import elemental2.promise.Promise;
 
+import static java.util.Collections.singleton;
+
 import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.window;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapTasks.SETTINGS;
 import static org.jboss.hal.config.Settings.Key.COLLECT_USER_DATA;
 import static org.jboss.hal.config.Settings.Key.LOCALE;
 import static org.jboss.hal.js.Json.stringify;
 
 /** Initialises google analytics and binds {@link Tracker} */
-public final class StartAnalytics implements Task<FlowContext> {
+public final class StartAnalytics implements GraphTask<FlowContext> {
 
     private static final String PRODUCTION_ID = "UA-89365654-1";
     private static final String DEVELOPMENT_ID = "UA-89365654-2";
@@ -71,6 +76,16 @@ public final class StartAnalytics implements Task<FlowContext> {
         this.eventBus = eventBus;
     }
 
+    @Override
+    public String name() {
+        return "StartAnalytics"; // NON-NLS
+    }
+
+    @Override
+    public Set<String> requires() {
+        return singleton(SETTINGS);
+    }
+
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
         String pathname = window.location.pathname;
@@ -142,9 +142,8 @@ public class DataSourcePresenter
     }
 
     @Override
-    protected void onReset() {
-        super.onReset();
-        reload();
+    protected ResourceAddress changeScope() {
+        return resourceAddress();
     }
 
     @Override
@@ -156,7 +155,10 @@ public class DataSourcePresenter
 
     @Override
     protected void reload() {
-        crud.read(resourceAddress(), 1, result -> getView().update(new DataSource(name, result, xa)));
+        crud.read(resourceAddress(), 1, result -> {
+            getView().update(new DataSource(name, result, xa));
+            loaded();
+        });
     }
 
     void saveDataSource(Form<DataSource> form, Map<String, Object> changedValues, Map<String, String> existing) {
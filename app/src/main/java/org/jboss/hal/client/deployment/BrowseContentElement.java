@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -60,6 +62,7 @@ import org.jboss.hal.resources.UIConstants;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.Sets;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.web.bindery.event.shared.EventBus;
@@ -191,6 +194,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
     private final HTMLElement root;
     private final Search treeSearch;
     private Tree<ContentEntry> tree;
+    private ContentBrowser contentBrowser;
     private final EmptyState pleaseSelect;
     private final EmptyState deploymentPreview;
     private final EmptyState explodedPreview;
@@ -224,8 +228,8 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         this.resources = resources;
         this.surroundingHeight = 0;
 
-        treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, query -> tree.search(query))
-                .onClear(() -> tree.clearSearch())
+        treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, this::search)
+                .onClear(this::clearSearch)
                 .build();
         treeSearch.element().classList.add(marginLeftSmall);
 
@@ -431,11 +435,14 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
 
     private void refresh() {
         String selectedId = selectedId();
+        Node<ContentEntry> selection = tree != null ? tree.getSelected() : null;
         browseContent()
                 .then(__ -> awaitTreeReady())
                 .then(__ -> {
-                    if (selectedId != null) {
+                    if (Ids.CONTENT_TREE_ROOT.equals(selectedId)) {
                         tree.selectNode(selectedId);
+                    } else if (selection != null) {
+                        select(selection.data.path);
                     }
                     return null;
                 });
@@ -449,8 +456,16 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         setVisible(uploadContentButton.orElse(null), content.isExploded());
         setVisible(removeContentButton.orElse(null), content.isExploded());
         setVisible(saveContentButton.orElse(null), content.isExploded());
+        setVisible(expandAllButton, !content.isExploded());
         editor.getEditor().setReadOnly(!content.isExploded());
 
+        // exploded deployments can contain lots of files: load them one directory at a time
+        contentBrowser = content.isExploded()
+                ? new ContentBrowser(dispatcher, content.getName(),
+                        error -> MessageEvent.fire(eventBus, Message.error(resources.messages().loadContentError(), error)))
+                : null;
+        treeSearch.clear();
+
         browseContent().then(__ -> {
             noSelection();
             return null;
@@ -479,7 +494,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        select(path);
                         return null;
                     });
         });
@@ -537,7 +552,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                         // returns encoded SafeHtml.
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        select(path);
                         return null;
                     });
         });
@@ -557,37 +572,105 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
 
     @SuppressWarnings("unchecked")
     private Promise<Void> browseContent() {
+        if (contentBrowser != null) {
+            contentBrowser.clear();
+            showTree(new Tree<>(Ids.CONTENT_TREE, rootNode(true), contentBrowser));
+            return Promise.resolve((Void) null);
+        }
+
         ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
         Operation operation = new Operation.Builder(address, BROWSE_CONTENT).build();
         return dispatcher.execute(operation)
                 .then(result -> {
-                    String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
-                    Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName,
-                            new ContentEntry())
-                            .root()
-                            .folder()
-                            .open()
-                            .build();
                     JsArray<Node<ContentEntry>> nodes = new JsArray<>();
-                    new ContentParser().parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
-
-                    if (tree != null) {
-                        tree.destroy();
-                        tree = null;
-                    }
-                    tree = new Tree<>(Ids.CONTENT_TREE, nodes);
-                    Elements.removeChildrenFrom(treeContainer);
-                    treeContainer.appendChild(tree.element());
-                    tree.attach();
-                    tree.onSelectionChange((event, selectionContext) -> {
-                        if (!"ready".equals(selectionContext.action)) { // NON-NLS
-                            onNodeSelected(selectionContext);
-                        }
-                    });
+                    new ContentParser().parse(rootNode(false), nodes, result.isDefined() ? result.asList() : emptyList());
+                    showTree(new Tree<>(Ids.CONTENT_TREE, nodes));
                     return Promise.resolve((Void) null);
                 });
     }
 
+    private Node<ContentEntry> rootNode(boolean async) {
+        String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
+        Node.Builder<ContentEntry> builder = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName, new ContentEntry())
+                .root();
+        if (async) {
+            builder.asyncFolder();
+        } else {
+            builder.folder();
+        }
+        return builder.open().build();
+    }
+
+    private void showTree(Tree<ContentEntry> newTree) {
+        if (tree != null) {
+            tree.destroy();
+            tree = null;
+        }
+        tree = newTree;
+        Elements.removeChildrenFrom(treeContainer);
+        treeContainer.appendChild(tree.element());
+        tree.attach();
+        tree.onSelectionChange((event, selectionContext) -> {
+            if (!"ready".equals(selectionContext.action)) { // NON-NLS
+                onNodeSelected(selectionContext);
+            }
+        });
+    }
+
+    private void search(String query) {
+        if (contentBrowser != null) {
+            if (query == null || query.trim().isEmpty()) {
+                clearSearch();
+                return;
+            }
+            contentBrowser.search(query).then(matches -> {
+                showTree(new Tree<>(Ids.CONTENT_TREE, new ContentParser().searchResult(rootNode(false), matches)));
+                return null;
+            });
+        } else {
+            tree.search(query);
+        }
+    }
+
+    private void clearSearch() {
+        if (contentBrowser != null) {
+            Node<ContentEntry> selection = tree.getSelected();
+            showTree(new Tree<>(Ids.CONTENT_TREE, rootNode(true), contentBrowser));
+            if (selection != null && !Ids.CONTENT_TREE_ROOT.equals(selection.id)) {
+                awaitTreeReady().then(__ -> {
+                    select(selection.data.path);
+                    return null;
+                });
+            }
+        } else {
+            tree.clearSearch();
+        }
+    }
+
+    /** Selects the node with the specified path. Opens the parent directories first if the tree is loaded on demand. */
+    private void select(String path) {
+        if (contentBrowser != null) {
+            List<String> directories = new ArrayList<>();
+            List<String> segments = Splitter.on('/').omitEmptyStrings().splitToList(path);
+            StringBuilder directory = new StringBuilder();
+            for (int i = 0; i < segments.size() - 1; i++) {
+                directory.append(segments.get(i)).append('/');
+                directories.add(directory.toString());
+            }
+            openAndSelect(directories, 0, NODE_ID.apply(path));
+        } else {
+            tree.selectNode(NODE_ID.apply(path));
+        }
+    }
+
+    private void openAndSelect(List<String> directories, int index, String id) {
+        if (index < directories.size()) {
+            tree.openNode(NODE_ID.apply(directories.get(index)), () -> openAndSelect(directories, index + 1, id));
+        } else {
+            tree.selectNode(id);
+        }
+    }
+
     private void loadContent(ContentEntry contentEntry, Consumer<String> successCallback) {
         if (!contentEntry.directory) {
             ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
@@ -624,7 +707,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().saveContentSuccess(content.getName(), filename)));
-                        tree.selectNode(selection.id);
+                        select(selection.data.path);
                         return null;
                     });
         }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.ballroom.tree.DataFunction;
+import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Ids;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPTH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+
+/**
+ * Loads the content of a deployment one directory at a time using the {@code path} and {@code depth} parameters of the
+ * {@code browse-content} operation. Loaded directories are cached until {@link #clear()} is called.
+ * <p>
+ * The search reads the listing of the deployment once and returns the entries matching a query. Only the matching entries are
+ * turned into tree nodes.
+ */
+class ContentBrowser implements DataFunction<ContentEntry> {
+
+    static final int MAX_SEARCH_RESULTS = 500;
+
+    private final Dispatcher dispatcher;
+    private final String deployment;
+    private final Consumer<String> onError;
+    private final ContentParser parser;
+    private final Map<String, Promise<List<ModelNode>>> directories;
+    private Promise<List<ModelNode>> listing;
+
+    /** @param onError called with the error if the content of a directory can't be loaded */
+    ContentBrowser(Dispatcher dispatcher, String deployment, Consumer<String> onError) {
+        this.dispatcher = dispatcher;
+        this.deployment = deployment;
+        this.onError = onError;
+        this.parser = new ContentParser();
+        this.directories = new HashMap<>();
+    }
+
+    @Override
+    public void load(Node<ContentEntry> node, ResultCallback<ContentEntry> callback) {
+        String directory = Ids.CONTENT_TREE_ROOT.equals(node.id) ? "" : node.data.path;
+        directory(directory).then(
+                content -> {
+                    loaded(directory, content, callback);
+                    return null;
+                },
+                error -> {
+                    failed(error, callback);
+                    return null;
+                });
+    }
+
+    void loaded(String directory, List<ModelNode> content, ResultCallback<ContentEntry> callback) {
+        callback.result(parser.level(directory, content));
+    }
+
+    @SuppressWarnings("unchecked")
+    void failed(Object error, ResultCallback<ContentEntry> callback) {
+        // the tree shows a loading indicator until the callback is called
+        callback.result(new Node[0]);
+        onError.accept(String.valueOf(error));
+    }
+
+    /** @return up to {@link #MAX_SEARCH_RESULTS} entries whose name contains the query (case-insensitive) */
+    Promise<List<ContentEntry>> search(String query) {
+        String normalized = query.trim().toLowerCase();
+        if (listing == null) {
+            listing = browseContent(null);
+        }
+        return listing.then(content -> {
+            List<ContentEntry> matches = new ArrayList<>();
+            for (ModelNode node : content) {
+                ContentEntry contentEntry = parser.contentEntry(node, "");
+                if (contentEntry.name.toLowerCase().contains(normalized)) {
+                    matches.add(contentEntry);
+                    if (matches.size() == MAX_SEARCH_RESULTS) {
+                        break;
+                    }
+                }
+            }
+            return Promise.resolve(matches);
+        });
+    }
+
+    /** Removes all cached directories and the cached listing. */
+    void clear() {
+        directories.clear();
+        listing = null;
+    }
+
+    private Promise<List<ModelNode>> directory(String directory) {
+        Promise<List<ModelNode>> promise = directories.get(directory);
+        if (promise == null) {
+            promise = browseContent(directory);
+            directories.put(directory, promise);
+        }
+        return promise;
+    }
+
+    private Promise<List<ModelNode>> browseContent(String directory) {
+        ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, deployment);
+        Operation.Builder builder = new Operation.Builder(address, BROWSE_CONTENT);
+        if (directory != null) {
+            if (!directory.isEmpty()) {
+                builder.param(PATH, directory);
+            }
+            builder.param(DEPTH, 1);
+        }
+        return dispatcher.execute(builder.build())
+                .then(result -> Promise.resolve(result.isDefined() ? result.asList() : emptyList()))
+                .catch_(error -> {
+                    // don't cache failed requests
+                    if (directory != null) {
+                        directories.remove(directory);
+                    } else {
+                        listing = null;
+                    }
+                    return Promise.reject(error);
+                });
+    }
+}
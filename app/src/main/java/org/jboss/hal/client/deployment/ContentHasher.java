@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.File;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+/**
+ * Computes the SHA-1 hash of files in a web worker. The content repository of the server addresses its content by the same
+ * hash, so the hash can be used to find out whether a file has already been uploaded.
+ */
+final class ContentHasher {
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsProperty static Worker hashWorker;
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentHasher.class);
+    private static final Map<Integer, Pending> pending = new HashMap<>();
+    private static boolean listening = false;
+    private static int counter = 0;
+
+    /** @return a promise which resolves to the hex encoded SHA-1 hash of the file */
+    static Promise<String> hash(File file) {
+        Worker worker = WorkerProvider.hashWorker;
+        if (worker == null) {
+            return Promise.reject("No hash worker available");
+        }
+        if (!listening) {
+            worker.onmessage = event -> {
+                JsPropertyMap<Object> data = Js.asPropertyMap(event.data);
+                Pending callbacks = pending.remove(Js.asInt(data.get("id")));
+                if (callbacks != null) {
+                    if (data.has("hash")) {
+                        callbacks.resolve.onInvoke(Js.<String> uncheckedCast(data.get("hash")));
+                    } else {
+                        callbacks.reject.onInvoke(data.get("error"));
+                    }
+                }
+            };
+            listening = true;
+        }
+
+        int id = ++counter;
+        return new Promise<>((resolve, reject) -> {
+            pending.put(id, new Pending(resolve, reject));
+            logger.debug("Compute hash of {}", file.name);
+            worker.postMessage(JsPropertyMap.of("id", id, "file", file)); // NON-NLS
+        });
+    }
+
+    // ------------------------------------------------------ hex encoding
+
+    static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return builder.toString();
+    }
+
+    static byte[] bytes(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ((Character.digit(hex.charAt(2 * i), 16) << 4) + Character.digit(hex.charAt(2 * i + 1), 16));
+        }
+        return bytes;
+    }
+
+    private ContentHasher() {
+    }
+
+    private static class Pending {
+
+        final ResolveCallbackFn<String> resolve;
+        final RejectCallbackFn reject;
+
+        Pending(ResolveCallbackFn<String> resolve, RejectCallbackFn reject) {
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,8 @@ import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 
 import elemental2.core.JsArray;
 
+import static java.util.stream.Collectors.toList;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
@@ -38,6 +41,7 @@ class ContentParser {
 
     private static final Comparator<ContentEntry> BY_NAME = Comparator.comparing(c -> c.name);
     private static final Comparator<ContentEntry> BY_DEPTH = Comparator.comparingInt(c -> c.depth);
+    private static final Comparator<ContentEntry> BY_DIRECTORY = Comparator.comparing(c -> !c.directory);
 
     private static final String DIRECTORY = "directory";
     private static final String FILE_SIZE = "file-size";
@@ -48,9 +52,9 @@ class ContentParser {
     void parse(Node<ContentEntry> root, JsArray<Node<ContentEntry>> nodes, List<ModelNode> content) {
         nodes.push(root);
 
+        List<ContentEntry> entries = content.stream().map(node -> contentEntry(node, "")).collect(toList());
         Map<String, Node<ContentEntry>> nodesByPath = new HashMap<>();
-        content.stream()
-                .map(this::contentEntry)
+        entries.stream()
                 .filter(contentEntry -> contentEntry.directory)
                 .sorted(BY_DEPTH.thenComparing(BY_NAME))
                 .forEach(directory -> {
@@ -63,8 +67,7 @@ class ContentParser {
                     }
                 });
 
-        content.stream()
-                .map(this::contentEntry)
+        entries.stream()
                 .filter(contentEntry -> !contentEntry.directory)
                 .sorted(BY_NAME)
                 .forEach(file -> {
@@ -76,9 +79,60 @@ class ContentParser {
                 });
     }
 
-    private ContentEntry contentEntry(ModelNode node) {
+    /**
+     * Turns the content of one directory into nodes which are loaded on demand: Directories first, then files, both sorted by
+     * name.
+     *
+     * @param directory the path of the directory ending with "/" or an empty string for the root directory
+     * @param content the result of {@code browse-content} for the directory using a depth of 1
+     */
+    @SuppressWarnings("unchecked")
+    Node<ContentEntry>[] level(String directory, List<ModelNode> content) {
+        List<Node<ContentEntry>> nodes = new ArrayList<>();
+        content.stream()
+                .map(node -> contentEntry(node, directory))
+                .sorted(BY_DIRECTORY.thenComparing(BY_NAME))
+                .forEach(contentEntry -> {
+                    Node.Builder<ContentEntry> builder = new Node.Builder<>(NODE_ID.apply(contentEntry.path),
+                            contentEntry.name, contentEntry);
+                    if (contentEntry.directory) {
+                        builder.asyncFolder();
+                    } else {
+                        builder.icon(fontAwesome("file-text-o"));
+                    }
+                    nodes.add(builder.build());
+                });
+        return nodes.toArray(new Node[0]);
+    }
+
+    /** Returns the root node and the specified entries as flat list of its children, labeled with their full path. */
+    JsArray<Node<ContentEntry>> searchResult(Node<ContentEntry> root, List<ContentEntry> entries) {
+        JsArray<Node<ContentEntry>> nodes = new JsArray<>();
+        nodes.push(root);
+        for (Node<ContentEntry> node : searchNodes(root, entries)) {
+            nodes.push(node);
+        }
+        return nodes;
+    }
+
+    /** @return the children of the search result sorted by path */
+    List<Node<ContentEntry>> searchNodes(Node<ContentEntry> root, List<ContentEntry> entries) {
+        return entries.stream()
+                .sorted(Comparator.comparing(c -> c.path))
+                .map(contentEntry -> new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.path, contentEntry)
+                        .parent(root.id)
+                        .icon(contentEntry.directory ? fontAwesome("folder") : fontAwesome("file-text-o"))
+                        .build())
+                .collect(toList());
+    }
+
+    /**
+     * @param directory the directory the path of the node is relative to ({@code browse-content} returns paths relative to the
+     *        {@code path} parameter) or an empty string for the root directory
+     */
+    ContentEntry contentEntry(ModelNode node, String directory) {
         String path = node.get(PATH).asString();
-        String safePath = SafeHtmlUtils.htmlEscape(path);
+        String safePath = directory + SafeHtmlUtils.htmlEscape(path);
         Iterable<String> segments = Splitter.on('/').omitEmptyStrings().split(safePath);
 
         ContentEntry contentEntry = new ContentEntry();
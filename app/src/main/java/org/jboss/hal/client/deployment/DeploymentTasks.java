@@ -69,63 +69,85 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ENABLED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FULL_REPLACE_DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE_DEPTH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNTIME_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.hal.flow.Flow.parallel;
 import static org.jboss.hal.flow.Flow.sequential;
 
 /** Deployment related functions */
 class DeploymentTasks {
 
     static final String SERVER_GROUP_DEPLOYMENTS = "deploymentFunctions.serverGroupDeployments";
+    static final int UPLOAD_CONCURRENCY = 3;
     private static final String UPLOAD_STATISTICS = "deploymentsFunctions.uploadStatistics";
+    private static final String CONTENT_HASHES = "deploymentsFunctions.contentHashes";
     private static final Logger logger = LoggerFactory.getLogger(DeploymentTasks.class);
 
     /**
      * Uploads or updates one or multiple deployment in standalone mode resp. content in domain mode. If available deploys it to
      * a server group.
+     * <p>
+     * After the user confirmed the replacement of existing deployments, up to {@link #UPLOAD_CONCURRENCY} files are processed
+     * in parallel. Files whose SHA-1 hash is already in the content repository are referenced by their hash instead of being
+     * uploaded again.
      */
     static <T> void upload(FinderColumn<T> column, Environment environment, Dispatcher dispatcher,
             EventBus eventBus, Provider<Progress> progress, FileList files,
             String serverGroup, Resources resources) {
         if (files.getLength() > 0) {
-            boolean hasServerGroup = serverGroup != null;
-
             StringBuilder builder = new StringBuilder();
+            Progress uploadProgress = progress.get();
+            UploadStatistics statistics = new UploadStatistics(environment, uploadProgress);
+            List<Upload> uploads = new ArrayList<>();
             List<Task<FlowContext>> tasks = new ArrayList<>();
 
+            tasks.add(new ReadContentHashes(dispatcher));
             for (int i = 0; i < files.getLength(); i++) {
-                String filename = files.item(i).name;
-                builder.append(filename).append(" ");
-                tasks.add(new CheckDeployment(dispatcher, filename));
+                Upload upload = new Upload(files.item(i));
+                uploads.add(upload);
+                statistics.expect(upload.name, upload.file.size);
+                builder.append(upload.name).append(" ");
+                tasks.add(context -> {
+                    Map<String, String> hashes = context.get(CONTENT_HASHES);
+                    return context.resolve(hashes.containsKey(upload.name) ? 200 : 404);
+                });
                 tasks.add(new ConfirmReplacement(resources.constants().replaceDeployment(), resources.constants().replace(),
-                        resources.messages().deploymentReplaceConfirmation(filename)));
-                tasks.add(new UploadOrReplace(environment, dispatcher, filename, filename, files.item(i), !hasServerGroup));
-                if (hasServerGroup) {
-                    tasks.add(new AddServerGroupDeployment(environment, dispatcher, filename, filename, serverGroup));
-                }
+                        resources.messages().deploymentReplaceConfirmation(upload.name)));
+                tasks.add(context -> {
+                    upload.status = context.pop();
+                    return Promise.resolve(context);
+                });
             }
 
             logger.debug("About to upload / update {} file(s): {}", files.getLength(), builder);
-            sequential(new FlowContext(progress.get()), tasks)
+            FlowContext flowContext = new FlowContext(Progress.NOOP);
+            sequential(flowContext, tasks)
                     .then(context -> {
-                        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                        if (statistics != null) {
-                            eventBus.fireEvent(new MessageEvent(statistics.getMessage()));
-                        } else {
-                            logger.error("Unable to find upload statistics in the context using key '{}'", UPLOAD_STATISTICS);
+                        Map<String, String> hashes = context.get(CONTENT_HASHES);
+                        List<Task<FlowContext>> uploadTasks = new ArrayList<>();
+                        for (Upload upload : uploads) {
+                            uploadTasks.add(new UploadContent(environment, dispatcher, upload, serverGroup,
+                                    knownHashes(hashes), statistics));
                         }
+                        uploadProgress.reset(100);
+                        return parallel(context, uploadTasks, UPLOAD_CONCURRENCY).promise();
+                    })
+                    .then(context -> {
+                        uploadProgress.finish();
+                        eventBus.fireEvent(new MessageEvent(statistics.getMessage()));
                         column.refresh(FinderColumn.RefreshMode.RESTORE_SELECTION);
                         return null;
                     })
                     .catch_(__ -> {
+                        uploadProgress.finish();
                         MessageEvent.fire(eventBus,
                                 Message.error(resources.messages().deploymentOpFailed(files.getLength())));
                         return null;
@@ -133,6 +155,83 @@ class DeploymentTasks {
         }
     }
 
+    /** @return the hashes of the managed deployments or an empty set if there are no such deployments */
+    static Set<String> knownHashes(Map<String, String> hashes) {
+        if (hashes == null) {
+            return Collections.emptySet();
+        }
+        // unmanaged deployments have no hash
+        return hashes.values().stream().filter(hash -> !hash.isEmpty()).collect(toSet());
+    }
+
+    /**
+     * Sets the content of an {@code add} or {@code full-replace-deployment} operation. If the hash is known, the content is
+     * referenced by its hash. Otherwise the content is the first attached input stream. A content which has been set before
+     * is replaced.
+     *
+     * @return {@code true} if the content is referenced by its hash and the file doesn't need to be uploaded
+     */
+    static boolean content(Operation operation, String hash, Set<String> knownHashes) {
+        ModelNode content = operation.get(CONTENT).setEmptyList().add();
+        if (hash != null && knownHashes.contains(hash)) {
+            content.get(HASH).set(ContentHasher.bytes(hash));
+            return true;
+        } else {
+            content.get(INPUT_STREAM_INDEX).set(0); // NON-NLS
+            return false;
+        }
+    }
+
+    /**
+     * @return whether the failure of an operation which references the content by the specified hash is caused by content
+     *         which is no longer in the content repository. The failure description of the server contains the hash in this
+     *         case.
+     */
+    static boolean missingContent(Object error, String hash) {
+        return error != null && hash != null && String.valueOf(error).toLowerCase().contains(hash.toLowerCase());
+    }
+
+    /**
+     * Executes an {@code add} or {@code full-replace-deployment} operation with the content of the file. The file is hashed
+     * only if there are known hashes. If its hash is known, the content is referenced by its hash. Otherwise, the file is
+     * uploaded.
+     * <p>
+     * The known hashes might be outdated: The content could have been removed from the content repository in the meantime.
+     * If the operation fails because of missing content, it's executed again with the file attached.
+     */
+    private static Promise<ModelNode> addContent(Dispatcher dispatcher, Operation operation, File file,
+            Set<String> knownHashes, Dispatcher.UploadProgress progress) {
+        Promise<String> hash;
+        if (knownHashes.isEmpty()) {
+            hash = Promise.resolve((String) null);
+        } else {
+            hash = ContentHasher.hash(file).catch_(error -> {
+                logger.debug("Unable to compute hash of {}: {}", file.name, error);
+                return Promise.resolve((String) null);
+            });
+        }
+        return hash.then(h -> {
+            if (content(operation, h, knownHashes)) {
+                logger.debug("Content of {} is already in the content repository: {}", file.name, h);
+                return dispatcher.execute(operation).catch_(error -> {
+                    if (missingContent(error, h)) {
+                        logger.debug("Content of {} has been removed from the content repository: {}. Upload file.",
+                                file.name, h);
+                        content(operation, null, knownHashes);
+                        return uploadFile(dispatcher, operation, file, progress);
+                    }
+                    return Promise.reject(error);
+                });
+            }
+            return uploadFile(dispatcher, operation, file, progress);
+        });
+    }
+
+    private static Promise<ModelNode> uploadFile(Dispatcher dispatcher, Operation operation, File file,
+            Dispatcher.UploadProgress progress) {
+        return progress != null ? dispatcher.upload(file, operation, progress) : dispatcher.upload(file, operation);
+    }
+
     private DeploymentTasks() {
     }
 
@@ -342,7 +441,8 @@ class DeploymentTasks {
 
     /**
      * Checks whether a deployment with the given name exists and pushes {@code 200} to the context stack if it exists,
-     * {@code 404} otherwise.
+     * {@code 404} otherwise. Stores the hashes of the deployments like {@link ReadContentHashes}, so that
+     * {@link UploadOrReplace} doesn't upload known content again.
      */
     static final class CheckDeployment implements Task<FlowContext> {
 
@@ -356,18 +456,10 @@ class DeploymentTasks {
 
         @Override
         public Promise<FlowContext> apply(final FlowContext context) {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, DEPLOYMENT)
-                    .build();
-            return dispatcher.execute(operation)
-                    .then(result -> {
-                        Set<String> names = result.asList().stream().map(ModelNode::asString).collect(toSet());
-                        if (names.contains(name)) {
-                            return context.resolve(200);
-                        } else {
-                            return context.resolve(404);
-                        }
-                    });
+            return new ReadContentHashes(dispatcher).apply(context).then(c -> {
+                Map<String, String> hashes = c.get(CONTENT_HASHES);
+                return c.resolve(hashes.containsKey(name) ? 200 : 404);
+            });
         }
     }
 
@@ -422,6 +514,9 @@ class DeploymentTasks {
      * status context or {@code 404} is found, a new deployment is created, if {@code 200} is found the deployment is replaced.
      * If {@code 403} is found the task does nothing.
      * <p>
+     * If the context contains the hashes read by {@link CheckDeployment} or {@link ReadContentHashes} and the hash of the file
+     * is one of them, the content is referenced by its hash instead of being uploaded.
+     * <p>
      * The function puts an {@link UploadStatistics} under the key {@link DeploymentTasks#UPLOAD_STATISTICS} into the context.
      */
     static final class UploadOrReplace implements Task<FlowContext> {
@@ -479,9 +574,8 @@ class DeploymentTasks {
                 builder.param(RUNTIME_NAME, runtimeName);
             }
             Operation operation = builder.build();
-            operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); // NON-NLS
 
-            return dispatcher.upload(file, operation)
+            return addContent(dispatcher, operation, file, knownHashes(context.get(CONTENT_HASHES)), null)
                     .then(result -> {
                         UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
                         if (statistics == null) {
@@ -507,6 +601,131 @@ class DeploymentTasks {
         }
     }
 
+    /**
+     * Reads the names of the deployments in the content repository together with the SHA-1 hashes of their content. Stores a
+     * {@code Map<String, String>} with the hex encoded hash by name under the key {@link #CONTENT_HASHES} in the context.
+     * Deployments without a hash (unmanaged deployments) are mapped to an empty string.
+     */
+    static final class ReadContentHashes implements Task<FlowContext> {
+
+        private final Dispatcher dispatcher;
+
+        ReadContentHashes(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION)
+                    .param(CHILD_TYPE, DEPLOYMENT)
+                    .build();
+            return dispatcher.execute(operation).then(result -> {
+                Map<String, String> hashes = new HashMap<>();
+                for (Property property : result.asPropertyList()) {
+                    String hash = "";
+                    ModelNode content = property.getValue().get(CONTENT);
+                    if (content.isDefined() && !content.asList().isEmpty() && content.asList().get(0).hasDefined(HASH)) {
+                        hash = ContentHasher.hex(content.asList().get(0).get(HASH).asBytes());
+                    }
+                    hashes.put(property.getName(), hash);
+                }
+                context.set(CONTENT_HASHES, hashes);
+                return Promise.resolve(context);
+            });
+        }
+    }
+
+    /** A file to upload together with the status of the confirmation (see {@link ConfirmReplacement}). */
+    static final class Upload {
+
+        final File file;
+        final String name;
+        Integer status;
+
+        Upload(File file) {
+            this.file = file;
+            this.name = file.name;
+            this.status = 404;
+        }
+    }
+
+    /**
+     * Adds or replaces the content of an {@link Upload} depending on its status and deploys new content to the server group (if
+     * any). If the hash of the file is already in the content repository, the content is referenced by its hash. Otherwise, the
+     * file is uploaded and the progress is recorded in the {@link UploadStatistics}.
+     * <p>
+     * Failures are recorded in the statistics, but don't fail the task, so that parallel uploads are not affected.
+     */
+    static final class UploadContent implements Task<FlowContext> {
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final Upload upload;
+        private final String serverGroup;
+        private final Set<String> hashes;
+        private final UploadStatistics statistics;
+
+        UploadContent(Environment environment, Dispatcher dispatcher, Upload upload, String serverGroup,
+                Set<String> hashes, UploadStatistics statistics) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.upload = upload;
+            this.serverGroup = serverGroup;
+            this.hashes = hashes;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            if (upload.status == 403) {
+                statistics.sent(upload.name, upload.file.size);
+                return Promise.resolve(context);
+            }
+
+            boolean replace = upload.status == 200;
+            boolean deploy = !replace && serverGroup != null && !environment.isStandalone();
+            Operation.Builder builder;
+            if (replace) {
+                builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT)
+                        .param(NAME, upload.name);
+            } else {
+                builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, upload.name), ADD)
+                        .param(ENABLED, serverGroup == null);
+            }
+            Operation operation = builder.param(RUNTIME_NAME, upload.name).build();
+
+            return addContent(dispatcher, operation, upload.file, hashes,
+                    (loaded, total) -> statistics.sent(upload.name, loaded))
+                    .then(result -> {
+                        if (deploy) {
+                            ResourceAddress address = new ResourceAddress()
+                                    .add(SERVER_GROUP, serverGroup)
+                                    .add(DEPLOYMENT, upload.name);
+                            return dispatcher.execute(new Operation.Builder(address, ADD)
+                                    .param(ENABLED, true)
+                                    .param(RUNTIME_NAME, upload.name)
+                                    .build());
+                        }
+                        return Promise.resolve(result);
+                    })
+                    .then(result -> {
+                        statistics.sent(upload.name, upload.file.size);
+                        if (replace) {
+                            statistics.recordReplaced(upload.name);
+                        } else {
+                            statistics.recordAdded(upload.name);
+                        }
+                        return Promise.resolve(context);
+                    })
+                    .catch_(error -> {
+                        logger.error("Unable to upload {}: {}", upload.name, error);
+                        statistics.sent(upload.name, upload.file.size);
+                        statistics.recordFailed(upload.name);
+                        return Promise.resolve(context);
+                    });
+        }
+    }
+
     /** Adds an unmanaged deployment. */
     static final class AddUnmanagedDeployment implements Task<FlowContext> {
 
@@ -21,6 +21,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.flow.Progress;
 import org.jboss.hal.resources.Messages;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.Message.Level;
@@ -31,7 +32,7 @@ import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 
 /**
  * Holds information about added, replaced and failed uploads and provides a message which summarizes the upload of one or
- * several files.
+ * several files. Keeps track of the bytes sent so far and reflects them in a {@link Progress} indicator.
  */
 class UploadStatistics {
 
@@ -42,13 +43,58 @@ class UploadStatistics {
     private final Messages MESSAGES = GWT.create(Messages.class);
 
     private final Environment environment;
+    private final Progress progress;
     private final Map<String, UploadStatus> status;
+    private final Map<String, Double> sizes;
+    private final Map<String, Double> sent;
+    private double total;
+    private int percent;
 
     UploadStatistics(Environment environment) {
+        this(environment, Progress.NOOP);
+    }
+
+    UploadStatistics(Environment environment, Progress progress) {
         this.environment = environment;
+        this.progress = progress;
         this.status = new HashMap<>();
+        this.sizes = new HashMap<>();
+        this.sent = new HashMap<>();
+        this.total = 0;
+        this.percent = 0;
+    }
+
+    // ------------------------------------------------------ bytes
+
+    /** Registers a file which is going to be uploaded. */
+    void expect(String name, double size) {
+        sizes.put(name, size);
+        total += size;
+    }
+
+    /** Records the number of bytes sent so far for the specified file. Ticks the progress once per percent. */
+    void sent(String name, double bytes) {
+        sent.put(name, Math.min(bytes, sizes.getOrDefault(name, bytes)));
+        int current = total > 0 ? (int) (100 * bytesSent() / total) : 100;
+        for (; percent < current; percent++) {
+            progress.tick();
+        }
     }
 
+    double bytesSent() {
+        double bytes = 0;
+        for (Double value : sent.values()) {
+            bytes += value;
+        }
+        return bytes;
+    }
+
+    double bytesTotal() {
+        return total;
+    }
+
+    // ------------------------------------------------------ status
+
     void recordAdded(String name) {
         status.put(name, UploadStatus.ADDED);
     }
@@ -61,6 +107,8 @@ class UploadStatistics {
         status.put(name, UploadStatus.FAILED);
     }
 
+    // ------------------------------------------------------ message
+
     public Message getMessage() {
         SortedSet<String> added = new TreeSet<>();
         SortedSet<String> replaced = new TreeSet<>();
@@ -27,6 +27,7 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyLoader;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
@@ -74,7 +75,6 @@ import static org.jboss.elemento.Elements.p;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.Elements.td;
 import static org.jboss.elemento.EventType.click;
-import static org.jboss.hal.core.runtime.TopologyTasks.serverConfigsOfHost;
 import static org.jboss.hal.core.runtime.TopologyTasks.startedServerOperations;
 import static org.jboss.hal.core.runtime.TopologyTasks.topology;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
@@ -100,8 +100,8 @@ class TopologyPreview extends PreviewContent<StaticItem>
     private static final Logger logger = LoggerFactory.getLogger(TopologyPreview.class);
     private static final long TOPOLOGY_TIMEOUT = 5_000; // milli seconds
 
-    private final Environment environment;
     private final Dispatcher dispatcher;
+    private final TopologyLoader topologyLoader;
     private final Provider<Progress> progress;
     private final EventBus eventBus;
     private final Resources resources;
@@ -113,6 +113,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
             SecurityContextRegistry securityContextRegistry,
             Environment environment,
             Dispatcher dispatcher,
+            TopologyLoader topologyLoader,
             Provider<Progress> progress,
             EventBus eventBus,
             Places places,
@@ -123,8 +124,8 @@ class TopologyPreview extends PreviewContent<StaticItem>
             Resources resources) {
         super(Names.TOPOLOGY, resources.previews().runtimeTopology());
 
-        this.environment = environment;
         this.dispatcher = dispatcher;
+        this.topologyLoader = topologyLoader;
         this.progress = progress;
         this.eventBus = eventBus;
         this.resources = resources;
@@ -145,7 +146,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
         // keep the order (1-3)!
         previewBuilder()
                 .add(p() // 1
-                        .add(a().css(clickable, pullRight).on(click, event -> update(null))
+                        .add(a().css(clickable, pullRight).on(click, event -> refresh())
                                 .add(span().css(fontAwesome("refresh"), marginRight5))
                                 .add(span().textContent(resources.constants().refresh()))));
         topologyElements.addTo(previewBuilder()); // 2
@@ -157,7 +158,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
     @Override
     public void update(StaticItem item) {
         startUpdate();
-        sequential(new FlowContext(progress.get()), topology(environment, dispatcher))
+        sequential(new FlowContext(progress.get()), topology(topologyLoader))
                 .timeout(TOPOLOGY_TIMEOUT)
                 .subscribe(context -> {
                     if (context.successful()) {
@@ -181,6 +182,11 @@ class TopologyPreview extends PreviewContent<StaticItem>
                 });
     }
 
+    private void refresh() {
+        topologyLoader.invalidate();
+        update(null);
+    }
+
     private void startUpdate() {
         topologyStatus.reset();
         topologyAttributes.hideAll();
@@ -257,79 +263,62 @@ class TopologyPreview extends PreviewContent<StaticItem>
     private void updateServers(List<Host> hosts, List<ServerGroup> serverGroups) {
         for (Host host : hosts) {
             if (host.isConnected()) {
-                // 1. Read server configs
-                sequential(new FlowContext(progress.get()), serverConfigsOfHost(environment, dispatcher, host.getName()))
-                        .timeout(TOPOLOGY_TIMEOUT)
-                        .subscribe(context -> {
-                            if (context.successful()) {
-                                List<Server> servers = context.get(TopologyTasks.SERVERS);
-                                for (ServerGroup serverGroup : serverGroups) {
-                                    List<HTMLElement> serverElements = servers.stream()
-                                            .filter(sc -> host.getName().equals(sc.getHost()) &&
-                                                    serverGroup.getName().equals(sc.getServerGroup()))
-                                            .sorted(comparing(Server::getName))
-                                            .map(server -> topologyElements.serverElement(server))
-                                            .collect(toList());
-                                    if (!serverElements.isEmpty()) {
-                                        HTMLElement td = topologyElements.lookupServersElement(host, serverGroup);
-                                        if (td != null) {
-                                            td.classList.remove(empty);
-                                            td.classList.remove(CSS.progress);
-                                            td(td).add(div().css(CSS.servers)
-                                                    .addAll(serverElements));
-                                            adjustTdHeight();
-                                        }
-                                    }
-                                }
-
-                                // 2. Read runtime attributes for started servers one at a time
-                                // to prevent timeouts for blocked servers (HAL-1795)
-                                servers.stream()
-                                        .filter(Server::isStarted)
-                                        .forEach(topologyElements::startProgress);
-                                Map<String, Server> serverLookup = servers.stream()
-                                        .collect(toMap(Server::getId, Function.identity()));
-                                startedServerOperations(servers).forEach((serverId, composite) -> dispatcher.execute(composite)
-                                        .then(result -> {
-                                            Server server = serverLookup.get(serverId);
-                                            ModelNode attributes = result.step(0).get(RESULT);
-                                            server.addServerAttributes(attributes);
-                                            List<ModelNode> bootErrors = result.step(1).get(RESULT).asList();
-                                            server.setBootErrors(!bootErrors.isEmpty());
-                                            topologyElements.replaceServer(server,
-                                                    () -> topologyElements.serverElement(server),
-                                                    __ -> serverDetails(server));
-                                            return null;
-                                        })
-                                        .catch_(failure -> {
-                                            String reason = String.valueOf(failure);
-                                            Server server = serverLookup.get(serverId);
-                                            server.setOperationFailure(reason);
-                                            logger.error("Error in serverConfigsOfHost({}): Unable to update server {}: {}",
-                                                    host.getAddress(), server.getServerConfigAddress(), reason);
-                                            MessageEvent.fire(eventBus,
-                                                    Message.error(resources.messages().topologyError(), reason));
-                                            topologyElements.replaceServer(server,
-                                                    () -> topologyElements.serverElement(server),
-                                                    __ -> serverDetails(server));
-                                            return null;
-                                        })
-                                        .finally_(() -> {
-                                            Server server = serverLookup.get(serverId);
-                                            topologyElements.stopProgress(server);
-                                        }));
-
-                            } else if (context.timeout()) {
-                                logger.warn("Timeout in serverConfigsOfHost({})", host.getAddress());
-                                MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyTimeout()));
-
-                            } else if (context.failure()) {
-                                String reason = context.failureReason();
-                                logger.error("Error in serverConfigsOfHost({}): {}", host.getAddress(), reason);
-                                MessageEvent.fire(eventBus, Message.warning(resources.messages().topologyError(),
-                                        reason));
-                            }
-                        });
+                // 1. Render the server configs which are already part of the topology
+                List<Server> servers = host.getServers();
+                for (ServerGroup serverGroup : serverGroups) {
+                    List<HTMLElement> serverElements = servers.stream()
+                            .filter(sc -> serverGroup.getName().equals(sc.getServerGroup()))
+                            .sorted(comparing(Server::getName))
+                            .map(server -> topologyElements.serverElement(server))
+                            .collect(toList());
+                    if (!serverElements.isEmpty()) {
+                        HTMLElement td = topologyElements.lookupServersElement(host, serverGroup);
+                        if (td != null) {
+                            td.classList.remove(empty);
+                            td.classList.remove(CSS.progress);
+                            td(td).add(div().css(CSS.servers)
+                                    .addAll(serverElements));
+                            adjustTdHeight();
+                        }
+                    }
+                }
+
+                // 2. Read runtime attributes for started servers one at a time
+                // to prevent timeouts for blocked servers (HAL-1795)
+                servers.stream()
+                        .filter(Server::isStarted)
+                        .forEach(topologyElements::startProgress);
+                Map<String, Server> serverLookup = servers.stream()
+                        .collect(toMap(Server::getId, Function.identity()));
+                startedServerOperations(servers).forEach((serverId, composite) -> dispatcher.execute(composite)
+                        .then(result -> {
+                            Server server = serverLookup.get(serverId);
+                            ModelNode attributes = result.step(0).get(RESULT);
+                            server.addServerAttributes(attributes);
+                            List<ModelNode> bootErrors = result.step(1).get(RESULT).asList();
+                            server.setBootErrors(!bootErrors.isEmpty());
+                            topologyElements.replaceServer(server,
+                                    () -> topologyElements.serverElement(server),
+                                    __ -> serverDetails(server));
+                            return null;
+                        })
+                        .catch_(failure -> {
+                            Server server = serverLookup.get(serverId);
+                            String reason = String.valueOf(failure);
+                            server.setOperationFailure(reason);
+                            logger.error("Error in updateServers({}): Unable to update server {}: {}",
+                                    host.getAddress(), server.getServerConfigAddress(), reason);
+                            MessageEvent.fire(eventBus,
+                                    Message.error(resources.messages().topologyError(), reason));
+                            topologyElements.replaceServer(server,
+                                    () -> topologyElements.serverElement(server),
+                                    __ -> serverDetails(server));
+                            return null;
+                        })
+                        .finally_(() -> {
+                            Server server = serverLookup.get(serverId);
+                            topologyElements.stopProgress(server);
+                        }));
             }
         }
     }
@@ -337,7 +326,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
     private void updateServer(Server server) {
         // It's not enough to read just the server. We also need to update
         // its host and server group. So we use topology() here.
-        sequential(new FlowContext(progress.get()), topology(environment, dispatcher))
+        sequential(new FlowContext(progress.get()), topology(topologyLoader))
                 .timeout(TOPOLOGY_TIMEOUT)
                 .subscribe(context -> {
                     if (context.successful()) {
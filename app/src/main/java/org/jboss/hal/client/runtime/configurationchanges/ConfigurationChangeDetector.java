@@ -0,0 +1,219 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.configurationchanges;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.core.ApplicationReadyEvent;
+import org.jboss.hal.core.ApplicationReadyEvent.ApplicationReadyHandler;
+import org.jboss.hal.core.ModelChanges;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.config.Settings.DEFAULT_POLL_TIME;
+import static org.jboss.hal.config.Settings.Key.POLL;
+import static org.jboss.hal.config.Settings.Key.POLL_TIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_MANAGEMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DOMAIN_UUID;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_CHANGES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION_DATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVICE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STEPS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+
+/**
+ * Detects changes of the management model made by other clients like other consoles or the CLI. Polls the history of the
+ * configuration changes service in the background and turns new entries into {@linkplain ModelChangedEvent#isExternal()
+ * external} {@link ModelChangedEvent}s.
+ * <p>
+ * In domain mode the history of the domain controller is used, which contains the changes of the domain configuration. The
+ * history is polled every {@linkplain Settings.Key#POLL_TIME poll time} seconds if {@linkplain Settings.Key#POLL polling} is
+ * enabled. If the configuration changes service is not available, external changes are not {@linkplain ModelChanges#setTracking
+ * tracked} and the service is polled with an increasing interval of up to {@value #MAX_INTERVAL} ms.
+ */
+public class ConfigurationChangeDetector implements ApplicationReadyHandler {
+
+    static final long MAX_INTERVAL = 5 * 60 * 1000;
+    private static final String CONFIGURATION_CHANGES = "configuration-changes";
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationChangeDetector.class);
+
+    private final Environment environment;
+    private final EventBus eventBus;
+    private final Dispatcher dispatcher;
+    private final Settings settings;
+    private final ModelChanges modelChanges;
+    private boolean started;
+    private boolean initialized;
+    private String lastChange;
+    private long interval;
+
+    @Inject
+    public ConfigurationChangeDetector(Environment environment, EventBus eventBus, Dispatcher dispatcher, Settings settings,
+            ModelChanges modelChanges) {
+        this.environment = environment;
+        this.eventBus = eventBus;
+        this.dispatcher = dispatcher;
+        this.settings = settings;
+        this.modelChanges = modelChanges;
+        this.started = false;
+        this.initialized = false;
+
+        eventBus.addHandler(ApplicationReadyEvent.getType(), this);
+    }
+
+    @Override
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!started && settings.get(POLL).asBoolean()) {
+            started = true;
+            interval = pollInterval();
+            poll();
+        }
+    }
+
+    private void poll() {
+        dispatcher.execute(new Operation.Builder(address(), LIST_CHANGES_OPERATION).build())
+                .then(result -> {
+                    interval = pollInterval();
+                    polled(result);
+                    next();
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to read configuration changes: {}", error);
+                    modelChanges.setTracking(false);
+                    initialized = false;
+                    interval = Math.min(2 * interval, MAX_INTERVAL);
+                    next();
+                    return null;
+                });
+    }
+
+    /**
+     * Processes the history returned by a successful poll. Reading the history is not a change of the management model:
+     * {@code list-changes} is a read-only operation, so only external changes increase the {@linkplain ModelChanges#version()
+     * version}.
+     */
+    void polled(ModelNode result) {
+        modelChanges.setTracking(true);
+        process(result.isDefined() ? result.asList() : new ArrayList<>());
+    }
+
+    private void next() {
+        setTimeout(__ -> poll(), interval);
+    }
+
+    private void process(List<ModelNode> history) {
+        if (initialized) {
+            List<ModelNode> changes = newChanges(history, lastChange);
+            if (changes == null) {
+                // more changes than the history holds: we don't know what changed
+                logger.debug("Configuration changes exceeded the history");
+                modelChanges.invalidate();
+                changes = history;
+            }
+            List<Operation> operations = operations(changes);
+            if (!operations.isEmpty()) {
+                logger.debug("Detected {} external configuration change(s)", changes.size());
+                eventBus.fireEvent(new ModelChangedEvent(operations, true));
+            }
+        }
+        lastChange = history.isEmpty() ? null : id(history.get(0));
+        initialized = true;
+    }
+
+    private ResourceAddress address() {
+        ResourceAddress address = new ResourceAddress();
+        if (!environment.isStandalone()) {
+            address.add(HOST, environment.getDomainController());
+        }
+        return address.add(SUBSYSTEM, CORE_MANAGEMENT).add(SERVICE, CONFIGURATION_CHANGES);
+    }
+
+    private long pollInterval() {
+        return settings.get(POLL_TIME).asInt(DEFAULT_POLL_TIME) * 1000L;
+    }
+
+    // ------------------------------------------------------ history
+
+    /**
+     * @param history the history of configuration changes, newest first
+     * @param lastChange the ID of the newest change known so far or {@code null} if the history was empty
+     * @return the changes which are newer than the last change or {@code null} if the last change is no longer part of the
+     *         history
+     */
+    static List<ModelNode> newChanges(List<ModelNode> history, String lastChange) {
+        if (lastChange == null) {
+            return history;
+        }
+        for (int i = 0; i < history.size(); i++) {
+            if (lastChange.equals(id(history.get(i)))) {
+                return history.subList(0, i);
+            }
+        }
+        return null;
+    }
+
+    /** @return the successful operations of the specified changes with composite operations split into their steps */
+    static List<Operation> operations(List<ModelNode> changes) {
+        List<Operation> operations = new ArrayList<>();
+        for (ModelNode change : changes) {
+            if (change.hasDefined(OUTCOME) && !SUCCESS.equals(change.get(OUTCOME).asString())) {
+                continue;
+            }
+            if (change.hasDefined(OPERATIONS)) {
+                for (ModelNode operation : change.get(OPERATIONS).asList()) {
+                    if (COMPOSITE.equals(operation.get(OPERATION).asString()) && operation.hasDefined(STEPS)) {
+                        for (ModelNode step : operation.get(STEPS).asList()) {
+                            operations.add(operation(step));
+                        }
+                    } else {
+                        operations.add(operation(operation));
+                    }
+                }
+            }
+        }
+        return operations;
+    }
+
+    private static Operation operation(ModelNode node) {
+        ResourceAddress address = node.hasDefined(ADDRESS) ? new ResourceAddress(node.get(ADDRESS)) : ResourceAddress.root();
+        return new Operation.Builder(address, node.get(OPERATION).asString()).build();
+    }
+
+    static String id(ModelNode change) {
+        return change.hasDefined(DOMAIN_UUID) ? change.get(DOMAIN_UUID).asString() : change.get(OPERATION_DATE).asString();
+    }
+}
@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyLoader;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
@@ -83,6 +84,8 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
         return AddressTemplate.of("/server-group=" + serverGroup.getName());
     }
 
+    private final TopologyLoader topologyLoader;
+
     @Inject
     public ServerGroupColumn(Finder finder,
             Environment environment,
@@ -92,6 +95,7 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             ServerGroupActions serverGroupActions,
+            TopologyLoader topologyLoader,
             Places places,
             Resources resources) {
 
@@ -112,6 +116,7 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
                 .useFirstActionAsBreadcrumbHandler()
                 .withFilter()
                 .filterDescription(resources.messages().serverGroupColumnFilterDescription()));
+        this.topologyLoader = topologyLoader;
 
         addColumnAction(columnActionFactory.add(Ids.SERVER_GROUP_ADD, Names.SERVER_GROUP,
                 AddressTemplate.of("/server-group=*"), Ids::serverGroup, this::createUniqueValidation));
@@ -225,6 +230,20 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
         eventBus.addHandler(ServerGroupResultEvent.getType(), this);
     }
 
+    /** Invalidates the shared topology snapshot, so that the column shows the changes which led to the refresh. */
+    @Override
+    public void refresh(RefreshMode refreshMode) {
+        topologyLoader.invalidate();
+        super.refresh(refreshMode);
+    }
+
+    /** Invalidates the shared topology snapshot, so that the column shows the server group which has been added. */
+    @Override
+    public void refresh(String selectItemId) {
+        topologyLoader.invalidate();
+        super.refresh(selectItemId);
+    }
+
     private Constraints constraints(ServerGroup serverGroup, String operation) {
         return Constraints.or(
                 Constraint.executable(AddressTemplate.of("/server-group=*"), operation),
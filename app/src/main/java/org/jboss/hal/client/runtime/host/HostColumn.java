@@ -22,7 +22,6 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.jboss.hal.ballroom.dialog.DialogFactory;
-import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.finder.ColumnAction;
 import org.jboss.hal.core.finder.ColumnActionFactory;
@@ -32,6 +31,7 @@ import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.finder.ItemsProvider;
+import org.jboss.hal.core.runtime.TopologyLoader;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.host.Host;
 import org.jboss.hal.core.runtime.host.HostActionEvent;
@@ -104,11 +104,11 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
     private final CrudOperations crud;
     private final EventBus eventBus;
     private final StatementContext statementContext;
+    private final TopologyLoader topologyLoader;
     private final Resources resources;
 
     @Inject
     public HostColumn(Finder finder,
-            Environment environment,
             Dispatcher dispatcher,
             CrudOperations crud,
             EventBus eventBus,
@@ -117,6 +117,7 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             HostActions hostActions,
+            TopologyLoader topologyLoader,
             Resources resources,
             MetadataRegistry metadataRegistry) {
 
@@ -135,6 +136,7 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
         this.crud = crud;
         this.eventBus = eventBus;
         this.statementContext = statementContext;
+        this.topologyLoader = topologyLoader;
         this.resources = resources;
 
         addColumnAction(columnActionFactory.refresh(Ids.HOST_REFRESH));
@@ -152,7 +154,7 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
         addColumnActions(Ids.HOST_PRUNE_ACTIONS, pfIcon("remove"), resources.constants().prune(), pruneActions);
 
         ItemsProvider<Host> itemsProvider = finderContext -> sequential(new FlowContext(progress.get()),
-                hosts(environment, dispatcher)).then(flowContext -> {
+                hosts(topologyLoader)).then(flowContext -> {
                     List<Host> hosts = flowContext.get(TopologyTasks.HOSTS);
                     // Restore pending visualization
                     hosts.stream()
@@ -218,6 +220,13 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
         eventBus.addHandler(HostResultEvent.getType(), this);
     }
 
+    /** Invalidates the shared topology snapshot, so that the column shows the changes which led to the refresh. */
+    @Override
+    public void refresh(RefreshMode refreshMode) {
+        topologyLoader.invalidate();
+        super.refresh(refreshMode);
+    }
+
     @Override
     public void onHostAction(HostActionEvent event) {
         if (isVisible()) {
@@ -46,6 +46,7 @@ import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyLoader;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroupSelectionEvent;
 import org.jboss.hal.core.runtime.host.HostSelectionEvent;
@@ -153,6 +154,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
     private final StatementContext statementContext;
     private final MetadataProcessor metadataProcessor;
     private final ServerActions serverActions;
+    private final TopologyLoader topologyLoader;
     private final CrudOperations crud;
     private final Resources resources;
     private FinderPath refreshPath;
@@ -173,6 +175,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
             ItemActionFactory itemActionFactory,
             ServerActions serverActions,
             CrudOperations crud,
+            TopologyLoader topologyLoader,
             Resources resources,
             MetadataRegistry metadataRegistry) {
 
@@ -234,6 +237,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
         this.statementContext = statementContext;
         this.metadataProcessor = metadataProcessor;
         this.serverActions = serverActions;
+        this.topologyLoader = topologyLoader;
         this.crud = crud;
         this.resources = resources;
 
@@ -241,10 +245,10 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
             List<Task<FlowContext>> tasks;
             if (BrowseByColumn.browseByHosts(finderContext)) {
                 processAddColumnAction(statementContext.selectedHost());
-                tasks = serversOfHost(environment, dispatcher, statementContext.selectedHost());
+                tasks = serversOfHost(environment, dispatcher, topologyLoader, statementContext.selectedHost());
 
             } else {
-                tasks = serversOfServerGroup(environment, dispatcher, statementContext.selectedServerGroup());
+                tasks = serversOfServerGroup(environment, dispatcher, topologyLoader, statementContext.selectedServerGroup());
             }
             return sequential(new FlowContext(progress.get()), tasks)
                     .then(flowContext -> {
@@ -452,6 +456,13 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
         eventBus.addHandler(ServerResultEvent.getType(), this);
     }
 
+    /** Invalidates the shared topology snapshot, so that the column shows the changes which led to the refresh. */
+    @Override
+    public void refresh(RefreshMode refreshMode) {
+        topologyLoader.invalidate();
+        super.refresh(refreshMode);
+    }
+
     private void addServer(boolean browseByHost) {
         if (browseByHost) {
             AddressTemplate template = serverConfigTemplate(statementContext.selectedHost());
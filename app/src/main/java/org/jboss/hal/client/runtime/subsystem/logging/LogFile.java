@@ -26,8 +26,8 @@ import static org.jboss.hal.dmr.ModelNodeHelper.failSafeDate;
 class LogFile extends ModelNode {
 
     // TODO Move to ModelDescriptionConstants
+    static final String FILE_SIZE = "file-size";
     private static final String FILE_NAME = "file-name";
-    private static final String FILE_SIZE = "file-size";
     private static final String LAST_MODIFIED_TIMESTAMP = "last-modified-timestamp";
 
     LogFile(ModelNode node) {
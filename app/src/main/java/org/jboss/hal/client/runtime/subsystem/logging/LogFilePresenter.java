@@ -45,7 +45,7 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
-import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
@@ -59,6 +59,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOGGING;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOGGING_PROFILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
@@ -68,15 +69,18 @@ import static org.jboss.hal.meta.token.NameTokens.LOG_FILE;
 public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresenter.MyView, LogFilePresenter.MyProxy> {
 
     private static final int REFRESH_INTERVAL = 1000;
+    private static final int TAIL_LINES = 200;
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final Resources resources;
+    private final LogTail logTail;
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
     private double intervalHandle;
+    private boolean tailPending;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -92,11 +96,13 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.resources = resources;
+        this.logTail = new LogTail(LogFiles.LINES);
 
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
         this.intervalHandle = -1;
+        this.tailPending = false;
     }
 
     @Override
@@ -124,12 +130,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     protected void reload() {
         if (logFileName != null) {
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
+            ResourceAddress address = address();
             Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
                     .param(INCLUDE_RUNTIME, true)
                     .build();
@@ -146,10 +147,9 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
                         } else {
                             logFile = new LogFile(logFileName, loggingProfile, result.step(0).get(RESULT));
                         }
-                        List<ModelNode> linesRead = result.step(1).get(RESULT).asList();
-                        String content = linesRead.stream().map(ModelNode::asString)
-                                .collect(joining("\n"));
-                        getView().show(logFile, linesRead.size(), content);
+                        List<String> linesRead = lines(result.step(1).get(RESULT));
+                        logTail.reset(linesRead, logFile.getSize());
+                        getView().show(logFile, linesRead.size(), String.join("\n", linesRead));
                     },
                     (operation, failure) -> {
                         clearTimeout(handle);
@@ -163,24 +163,17 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
             // noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
+            Operation operation = new Operation.Builder(address(), READ_LOG_FILE)
+                    .param(LINES, LogFiles.LINES)
                     .param(TAIL, true)
                     .build();
             dispatcher.execute(operation, result -> {
                 clearTimeout(handle);
-                List<ModelNode> linesRead = result.asList();
-                String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                getView().refresh(linesRead.size(), content);
+                List<String> linesRead = lines(result);
+                logTail.reset(linesRead, LogTail.UNKNOWN_SIZE);
+                getView().refresh(linesRead.size(), String.join("\n", linesRead));
             }, (op, failure) -> {
                 clearTimeout(handle);
                 MessageEvent.fire(getEventBus(),
@@ -195,7 +188,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         if (logFile != null) {
             if (on) {
                 if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                    intervalHandle = setInterval((o) -> tail(), REFRESH_INTERVAL);
                 }
             } else {
                 clearInterval(intervalHandle);
@@ -207,6 +200,73 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
+    /**
+     * Reads the size of the log file. Only if the size has changed, the lines the log file has grown are read and merged with
+     * the lines already shown. Only new lines are appended to the editor. Ticks are skipped while a previous tail request is
+     * still pending.
+     */
+    private void tail() {
+        if (logFile == null || tailPending) {
+            return;
+        }
+        tailPending = true;
+        Operation operation = new Operation.Builder(address(), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, LogFile.FILE_SIZE)
+                .build();
+        dispatcher.execute(operation, result -> {
+            long size = result.asLong();
+            if (inTailMode() && logTail.changed(size)) {
+                readTail(size, logTail.linesToRead(size, TAIL_LINES));
+            } else {
+                tailPending = false;
+            }
+        }, (op, failure) -> tailFailed(failure));
+    }
+
+    /**
+     * Reads the last lines of the log file. If the lines don't overlap with the lines already shown (e.g. because the estimated
+     * number of lines was too small), the last {@link #TAIL_LINES} lines are read instead.
+     */
+    private void readTail(long size, int count) {
+        Operation operation = new Operation.Builder(address(), READ_LOG_FILE)
+                .param(LINES, count)
+                .param(TAIL, true)
+                .build();
+        dispatcher.execute(operation, result -> {
+            List<String> chunk = lines(result);
+            if (count < TAIL_LINES && !logTail.anchors(chunk, size)) {
+                readTail(size, TAIL_LINES);
+                return;
+            }
+            tailPending = false;
+            if (inTailMode()) {
+                LogTail.Delta delta = logTail.merge(chunk, size);
+                if (delta.replaced) {
+                    getView().refresh(delta.lines.size(), String.join("\n", delta.lines));
+                } else {
+                    getView().append(delta.lines, delta.removed, logTail.size());
+                }
+            }
+        }, (op, failure) -> tailFailed(failure));
+    }
+
+    private void tailFailed(String failure) {
+        tailPending = false;
+        MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
+    }
+
+    private ResourceAddress address() {
+        if (loggingProfile == null) {
+            return LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            return PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+    }
+
+    private static List<String> lines(ModelNode result) {
+        return result.asList().stream().map(ModelNode::asString).collect(toList());
+    }
+
     private boolean inTailMode() {
         return intervalHandle != -1;
     }
@@ -225,7 +285,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
         void refresh(int lines, String content);
 
-        int visibleLines();
+        void append(List<String> lines, int removed, int total);
     }
     // @formatter:on
 }
@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Keeps the lines shown in tail mode together with the size of the log file when the lines were read. New chunks read from the
+ * end of the log file are anchored using the number of bytes the log file has grown: The lines at the end of the chunk which
+ * make up these bytes are new, provided that the lines before them match the end of the retained lines. If the sizes don't add
+ * up (e.g. because of a partially written line), the chunk is merged by looking for the longest overlap between the end of the
+ * retained lines and the start of the chunk. Only the lines after the overlap are appended. The number of retained lines is
+ * capped; lines exceeding the capacity are removed from the top.
+ */
+class LogTail {
+
+    static final long UNKNOWN_SIZE = -1;
+
+    private final int capacity;
+    private final List<String> lines;
+    private long size;
+
+    LogTail(int capacity) {
+        this.capacity = capacity;
+        this.lines = new ArrayList<>();
+        this.size = UNKNOWN_SIZE;
+    }
+
+    /** Replaces the retained lines. Use {@link #UNKNOWN_SIZE} if the size of the log file is not known. */
+    void reset(List<String> lines, long size) {
+        this.lines.clear();
+        this.lines.addAll(lines.subList(Math.max(0, lines.size() - capacity), lines.size()));
+        this.size = size;
+    }
+
+    /** @return {@code true} if the size differs from the size of the log file when the lines were read */
+    boolean changed(long size) {
+        return size == UNKNOWN_SIZE || this.size == UNKNOWN_SIZE || size != this.size;
+    }
+
+    /**
+     * @return the number of lines to read from the end of the log file in order to get the bytes the log file has grown. The
+     *         number is estimated from the average length of the retained lines and doubled to leave room for longer lines and
+     *         the anchor. Returns {@code max} if there's nothing to estimate from.
+     */
+    int linesToRead(long size, int max) {
+        if (size == UNKNOWN_SIZE || this.size == UNKNOWN_SIZE || size <= this.size || lines.isEmpty()) {
+            return max;
+        }
+        long bytes = 0;
+        for (String line : lines) {
+            bytes += utf8Length(line) + 1;
+        }
+        long average = Math.max(1, bytes / lines.size());
+        long estimate = (size - this.size + average - 1) / average;
+        return (int) Math.min(max, 2 * estimate + 2);
+    }
+
+    /** @return whether the chunk can be merged without replacing the retained lines */
+    boolean anchors(List<String> chunk, long size) {
+        boolean shrank = size != UNKNOWN_SIZE && this.size != UNKNOWN_SIZE && size < this.size;
+        return !shrank && (grown(chunk, size) > 0 || overlap(chunk) > 0);
+    }
+
+    /**
+     * Merges the last lines of the log file. If the log file shrank (e.g. because it was rotated) or if there's no overlap
+     * between the retained lines and the chunk, the retained lines are replaced by the chunk.
+     */
+    Delta merge(List<String> chunk, long size) {
+        boolean shrank = size != UNKNOWN_SIZE && this.size != UNKNOWN_SIZE && size < this.size;
+        int overlap = 0;
+        if (!shrank) {
+            int grown = grown(chunk, size);
+            overlap = grown > 0 ? chunk.size() - grown : overlap(chunk);
+        }
+        if (overlap == 0 && !(lines.isEmpty() && chunk.isEmpty())) {
+            reset(chunk, size);
+            return new Delta(true, lines, 0);
+        }
+
+        List<String> appended = new ArrayList<>(chunk.subList(overlap, chunk.size()));
+        lines.addAll(appended);
+        int removed = Math.max(0, lines.size() - capacity);
+        if (removed > 0) {
+            lines.subList(0, removed).clear();
+        }
+        this.size = size;
+        return new Delta(false, appended.isEmpty() ? emptyList() : appended, removed);
+    }
+
+    /**
+     * @return the number of lines at the end of the chunk which make up the bytes the log file has grown or 0 if the sizes
+     *         don't add up. Unlike {@link #overlap(List)} this works for repeated identical lines, too.
+     */
+    private int grown(List<String> chunk, long size) {
+        if (size == UNKNOWN_SIZE || this.size == UNKNOWN_SIZE || size <= this.size) {
+            return 0;
+        }
+        long grown = size - this.size;
+        // line separators are either "\n" or "\r\n"
+        for (int separator = 1; separator <= 2; separator++) {
+            long bytes = 0;
+            int count = 0;
+            // keep at least one line to check the anchor
+            for (int i = chunk.size() - 1; i > 0 && bytes < grown; i--) {
+                bytes += utf8Length(chunk.get(i)) + separator;
+                count++;
+            }
+            if (bytes == grown && endsWith(chunk.subList(0, chunk.size() - count))) {
+                return count;
+            }
+        }
+        return 0;
+    }
+
+    private int overlap(List<String> chunk) {
+        for (int length = Math.min(lines.size(), chunk.size()); length > 0; length--) {
+            if (endsWith(chunk.subList(0, length))) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    /** @return whether the retained lines end with the specified lines */
+    private boolean endsWith(List<String> part) {
+        int offset = lines.size() - part.size();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < part.size(); i++) {
+            if (!lines.get(offset + i).equals(part.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int utf8Length(String line) {
+        int length = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    List<String> lines() {
+        return lines;
+    }
+
+    int size() {
+        return lines.size();
+    }
+
+    /** The changes to apply to the editor after a chunk has been merged. */
+    static class Delta {
+
+        /** Whether all lines have been replaced. In that case {@link #lines} contains all retained lines. */
+        final boolean replaced;
+        final List<String> lines;
+        /** The number of lines to remove from the top */
+        final int removed;
+
+        private Delta(boolean replaced, List<String> lines, int removed) {
+            this.replaced = replaced;
+            this.lines = lines;
+            this.removed = removed;
+        }
+    }
+}
@@ -115,10 +115,12 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     private final Provider<Progress> progress;
     private final Resources resources;
     private final Map<String, Boolean> showAll;
+    private final Map<String, String> selectors;
     private String deployment;
     private String subdeployment;
     private String messageServer;
     private String queue;
+    private boolean listed;
 
     @Inject
     public JmsQueuePresenter(EventBus eventBus,
@@ -139,6 +141,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         this.progress = progress;
         this.resources = resources;
         this.showAll = new HashMap<>();
+        this.selectors = new HashMap<>();
     }
 
     @Override
@@ -168,13 +171,13 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
 
     @Override
     protected void reload() {
+        String selector = selector();
         if (showAll()) {
-            readAll();
+            readAll(selector);
 
         } else {
-            ResourceAddress address = queueAddress();
             Task<FlowContext> count = context -> {
-                Operation operation = new Operation.Builder(address, COUNT_MESSAGES).build();
+                Operation operation = messagesOperation(COUNT_MESSAGES, selector);
                 return dispatcher.execute(operation)
                         .then(result -> context.resolve(MESSAGES_COUNT, result.asLong()));
             };
@@ -184,7 +187,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
                     context.set(MESSAGES, emptyList());
                     return Promise.resolve(context);
                 } else {
-                    Operation operation = new Operation.Builder(address, LIST_MESSAGES).build();
+                    Operation operation = messagesOperation(LIST_MESSAGES, selector);
                     return dispatcher.execute(operation)
                             .then(result -> context.resolve(MESSAGES,
                                     result.asList().stream().map(JmsMessage::new).collect(toList())));
@@ -198,8 +201,10 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
                         if (c > MESSAGES_THRESHOLD) {
                             logger.debug("More than {} messages in queue {}. Skip :list-messages operation.",
                                     MESSAGES_THRESHOLD, queueAddress());
-                            getView().showMany(c);
+                            listed = false;
+                            getView().showMany(c, selector);
                         } else {
+                            listed = true;
                             getView().showAll(messages);
                         }
                         return null;
@@ -209,26 +214,51 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
 
     void readAllMessages(boolean always) {
         if (always) {
-            String id = Ids.destination(deployment, subdeployment, messageServer, Type.JMS_QUEUE.name(), queue);
-            showAll.put(id, true);
+            showAll.put(queueId(), true);
         }
-        readAll();
+        readAll(selector());
     }
 
-    private void readAll() {
-        ResourceAddress address = queueAddress();
-        Operation operation = new Operation.Builder(address, LIST_MESSAGES).build();
-        dispatcher.execute(operation,
-                result -> getView().showAll(result.asList().stream().map(JmsMessage::new).collect(toList())));
+    private void readAll(String selector) {
+        dispatcher.execute(messagesOperation(LIST_MESSAGES, selector), result -> {
+            List<JmsMessage> messages = result.asList().stream().map(JmsMessage::new).collect(toList());
+            listed = true;
+            getView().showAll(messages);
+        });
     }
 
     private boolean showAll() {
-        String id = Ids.destination(deployment, subdeployment, messageServer, Type.JMS_QUEUE.name(), queue);
-        return showAll.getOrDefault(id, false);
+        return showAll.getOrDefault(queueId(), false);
+    }
+
+    /**
+     * Sets the message selector which is used to filter the messages on the server side. If there are too many messages to show,
+     * the bulk operations use the selector to affect all matching messages. Use {@code null} or an empty string to remove the
+     * selector.
+     */
+    void select(String selector) {
+        if (selector == null || selector.trim().isEmpty()) {
+            selectors.remove(queueId());
+        } else {
+            selectors.put(queueId(), selector.trim());
+        }
+        reload();
+    }
+
+    private String selector() {
+        return selectors.get(queueId());
+    }
+
+    private Operation messagesOperation(String name, String selector) {
+        Operation.Builder builder = new Operation.Builder(queueAddress(), name);
+        if (selector != null) {
+            builder.param(FILTER, selector);
+        }
+        return builder.build();
     }
 
     void changePriority(List<JmsMessage> messages) {
-        if (messages.isEmpty()) {
+        if (messages.isEmpty() && !selectorOnly()) {
             noMessagesSelected();
         } else {
             Metadata metadata = metadataRegistry.lookup(MESSAGING_CORE_QUEUE_TEMPLATE);
@@ -281,12 +311,11 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     void expire(List<JmsMessage> messages) {
-        if (messages.isEmpty()) {
+        if (messages.isEmpty() && !selectorOnly()) {
             noMessagesSelected();
         } else {
-            SafeHtml question = messages.size() == 1
-                    ? resources.messages().expireMessageQuestion()
-                    : resources.messages().expireMessagesQuestion();
+            SafeHtml question = question(messages, resources.messages().expireMessageQuestion(),
+                    resources.messages().expireMessagesQuestion());
             DialogFactory.showConfirmation(resources.constants().expire(), question, () -> {
                 Operation operation;
                 if (messages.size() == 1) {
@@ -308,7 +337,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     void move(List<JmsMessage> messages) {
-        if (messages.isEmpty()) {
+        if (messages.isEmpty() && !selectorOnly()) {
             noMessagesSelected();
         } else {
             Metadata metadata = metadataRegistry.lookup(MESSAGING_CORE_QUEUE_TEMPLATE);
@@ -359,12 +388,11 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     void sendToDeadLetter(List<JmsMessage> messages) {
-        if (messages.isEmpty()) {
+        if (messages.isEmpty() && !selectorOnly()) {
             noMessagesSelected();
         } else {
-            SafeHtml question = messages.size() == 1
-                    ? resources.messages().sendMessageToDeadLetterQuestion()
-                    : resources.messages().sendMessagesToDeadLetterQuestion();
+            SafeHtml question = question(messages, resources.messages().sendMessageToDeadLetterQuestion(),
+                    resources.messages().sendMessagesToDeadLetterQuestion());
             DialogFactory.showConfirmation(resources.constants().sendToDeadLetter(), question, () -> {
                 Operation operation;
                 if (messages.size() == 1) {
@@ -386,12 +414,11 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     void remove(List<JmsMessage> messages) {
-        if (messages.isEmpty()) {
+        if (messages.isEmpty() && !selectorOnly()) {
             noMessagesSelected();
         } else {
-            SafeHtml question = messages.size() == 1
-                    ? resources.messages().removeMessageQuestion()
-                    : resources.messages().removeMessagesQuestion();
+            SafeHtml question = question(messages, resources.messages().removeMessageQuestion(),
+                    resources.messages().removeMessagesQuestion());
             DialogFactory.showConfirmation(resources.constants().remove(), question, () -> {
                 Operation operation;
                 if (messages.size() == 1) {
@@ -412,16 +439,43 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         }
     }
 
+    /** @return whether there are too many messages to show, but a selector which can be used for bulk operations */
+    private boolean selectorOnly() {
+        return !listed && selector() != null;
+    }
+
+    private SafeHtml question(List<JmsMessage> messages, SafeHtml single, SafeHtml multiple) {
+        if (messages.size() == 1) {
+            return single;
+        } else if (messages.isEmpty() && selector() != null) {
+            return resources.messages().selectorQuestion(selector());
+        }
+        return multiple;
+    }
+
     private void noMessagesSelected() {
         MessageEvent.fire(getEventBus(), Message.warning(resources.messages().noMessagesSelected()));
     }
 
+    /**
+     * @return the current selector if no messages are specified (i.e. the bulk operation was explicitly started for all matching
+     *         messages), otherwise a filter which matches the IDs of the specified messages. Using the selector for selected
+     *         messages would also affect messages which arrived after the messages have been listed.
+     */
     private String filter(List<JmsMessage> messages) {
+        String selector = selector();
+        if (selector != null && messages.isEmpty()) {
+            return selector;
+        }
         return messages.stream()
                 .map(message -> JMS_MESSAGE_ID + "='" + message.getMessageId() + "'")
                 .collect(joining(" OR ")); // NON-NLS
     }
 
+    private String queueId() {
+        return Ids.destination(deployment, subdeployment, messageServer, Type.JMS_QUEUE.name(), queue);
+    }
+
     private ResourceAddress queueAddress() {
         ResourceAddress address;
         if (deployment != null || subdeployment != null) {
@@ -451,7 +505,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     public interface MyView extends HalView, HasPresenter<JmsQueuePresenter> {
-        void showMany(long count);
+        void showMany(long count, String selector);
 
         void showAll(List<JmsMessage> messages);
     }
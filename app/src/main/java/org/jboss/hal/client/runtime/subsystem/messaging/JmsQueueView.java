@@ -20,6 +20,7 @@ import java.util.List;
 import javax.inject.Inject;
 
 import org.jboss.hal.ballroom.EmptyState;
+import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.Toolbar.Attribute;
 import org.jboss.hal.ballroom.dataprovider.DataProvider;
@@ -34,8 +35,11 @@ import org.jboss.hal.resources.Resources;
 
 import static java.util.Comparator.comparing;
 
+import static org.jboss.elemento.Elements.bag;
+import static org.jboss.elemento.Elements.div;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.resources.CSS.marginBottomSmall;
 
 public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyView {
 
@@ -44,6 +48,7 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
     private final Resources resources;
     private final DataProvider<JmsMessage> dataProvider;
     private final EmptyState tooManyMessages;
+    private final Search selector;
     private final ModelNodeListView<JmsMessage> listView;
     private JmsQueuePresenter presenter;
 
@@ -51,6 +56,10 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
     public JmsQueueView(MetadataRegistry metadataRegistry, Resources resources) {
         this.resources = resources;
 
+        selector = new Search.Builder(Ids.JMS_MESSAGE_LIST_SELECTOR, query -> presenter.select(query))
+                .onClear(() -> presenter.select(null))
+                .placeholder(resources.constants().messageSelector())
+                .build();
         dataProvider = new DataProvider<>(JmsMessage::getName, true);
         Metadata metadata = metadataRegistry.lookup(MESSAGING_CORE_QUEUE_TEMPLATE);
         tooManyMessages = new EmptyState.Builder(Ids.JMS_MESSAGE_LIST_TOO_MANY, resources.constants().manyMessages())
@@ -107,7 +116,10 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
                 .build();
 
         registerAttachable(listView);
-        initElements(listView);
+        initElements(bag()
+                .add(div().css(marginBottomSmall).add(selector))
+                .addAll(listView)
+                .elements());
     }
 
     @Override
@@ -116,8 +128,10 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
     }
 
     @Override
-    public void showMany(long count) {
-        tooManyMessages.setDescription(resources.messages().manyMessages(count));
+    public void showMany(long count, String selector) {
+        tooManyMessages.setDescription(selector != null
+                ? resources.messages().manyMessagesSelector(count, selector)
+                : resources.messages().manyMessages(count));
         listView.showEmptyState(TOO_MANY_MESSAGES);
     }
 
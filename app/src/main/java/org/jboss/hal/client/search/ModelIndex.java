@@ -0,0 +1,363 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Role;
+import org.jboss.hal.config.RolesChangedEvent;
+import org.jboss.hal.config.RolesChangedEvent.RolesChangedHandler;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.config.User;
+import org.jboss.hal.config.UserChangedEvent;
+import org.jboss.hal.config.UserChangedEvent.UserChangedHandler;
+import org.jboss.hal.core.ApplicationReadyEvent;
+import org.jboss.hal.core.ApplicationReadyEvent.ApplicationReadyHandler;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent.ModelChangedHandler;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Stopwatch;
+import com.google.web.bindery.event.shared.EventBus;
+
+import elemental2.core.JsArray;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toSet;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.config.Settings.Key.RUN_AS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
+
+/**
+ * Client side index of the resources in the management model. The index is used by the search box in the header to find
+ * resources by name without navigating the finder.
+ * <p>
+ * The addresses of the resources are collected by the {@link ModelWalker}. A web worker builds an inverted index of the address
+ * segments, answers the search queries and stores the addresses in the browser's database. When the console starts, the stored
+ * index is used if it belongs to the same management version and is younger than {@value #MAX_AGE} ms. Otherwise the model is
+ * walked again {@value #START_DELAY} ms after the console is ready.
+ * <p>
+ * The index contains only the resources the user can see. That's why there's one database per user and effective roles (the
+ * run-as roles if any, the roles of the user otherwise). If the user or the roles change, the index of the new user and roles
+ * is loaded or built.
+ * <p>
+ * Resources added or removed by the console or by other clients (as far as they're detected) are applied incrementally.
+ */
+public class ModelIndex implements ApplicationReadyHandler, ModelChangedHandler, UserChangedHandler, RolesChangedHandler {
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsProperty static Worker searchWorker;
+    }
+
+    static final int MAX_RESULTS = 10;
+    static final double MAX_AGE = 24 * 60 * 60 * 1000;
+    static final int START_DELAY = 10_000;
+    private static final Logger logger = LoggerFactory.getLogger(ModelIndex.class);
+
+    private final Environment environment;
+    private final Settings settings;
+    private final User user;
+    private final ModelWalker walker;
+    private final Map<Integer, Pending> pending;
+    private final List<ModelChangedEvent> changesWhileWalking;
+    private Worker worker;
+    private String database;
+    private boolean ready;
+    private boolean walking;
+    private int counter;
+
+    @Inject
+    public ModelIndex(Environment environment, Settings settings, User user, EventBus eventBus, Dispatcher dispatcher) {
+        this.environment = environment;
+        this.settings = settings;
+        this.user = user;
+        this.walker = new ModelWalker(dispatcher);
+        this.pending = new HashMap<>();
+        this.changesWhileWalking = new ArrayList<>();
+
+        eventBus.addHandler(ApplicationReadyEvent.getType(), this);
+        eventBus.addHandler(ModelChangedEvent.getType(), this);
+        eventBus.addHandler(UserChangedEvent.getType(), this);
+        eventBus.addHandler(RolesChangedEvent.getType(), this);
+    }
+
+    @Override
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        worker = WorkerProvider.searchWorker;
+        if (worker == null) {
+            logger.warn("No search worker available. Model search is disabled.");
+            return;
+        }
+        worker.onmessage = e -> {
+            JsPropertyMap<Object> data = Js.asPropertyMap(e.data);
+            Pending callbacks = pending.remove(Js.asInt(data.get("id")));
+            if (callbacks != null) {
+                if (data.has("error")) {
+                    callbacks.reject.onInvoke(data.get("error"));
+                } else {
+                    callbacks.resolve.onInvoke(data);
+                }
+            }
+        };
+        load();
+    }
+
+    private void load() {
+        String loaded = database();
+        database = loaded;
+        post(command("load", loaded, "version", version(), "maxAge", MAX_AGE)) // NON-NLS
+                .then(data -> {
+                    int count = Js.asInt(data.get("count"));
+                    if (!loaded.equals(database)) {
+                        // the user or roles changed in the meantime
+                        return null;
+                    } else if (count < 0) {
+                        setTimeout(__ -> walk(), START_DELAY);
+                    } else {
+                        ready = true;
+                        logger.info("Use stored model index with {} resources", count);
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.error("Unable to load model index {}: {}", loaded, error);
+                    if (loaded.equals(database)) {
+                        setTimeout(__ -> walk(), START_DELAY);
+                    }
+                    return null;
+                });
+    }
+
+    /** Walks the model again and replaces the index. */
+    public void refresh() {
+        if (worker != null && !walking) {
+            walk();
+        }
+    }
+
+    private void walk() {
+        if (walking) {
+            return;
+        }
+        walking = true;
+        // the walk sees the resources of the current user and roles: store them in the matching database
+        String walked = database;
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        walker.walk()
+                .then(addresses -> {
+                    logger.info("Walked model in {} ms and found {} resources", stopwatch.elapsed(MILLISECONDS),
+                            addresses.size());
+                    return post(command("index", walked, "version", version(), "addresses", // NON-NLS
+                            strings(addresses)));
+                })
+                .then(data -> {
+                    walking = false;
+                    if (walked.equals(database())) {
+                        ready = true;
+                        changesWhileWalking.forEach(this::onModelChanged);
+                        changesWhileWalking.clear();
+                    } else {
+                        changesWhileWalking.clear();
+                        load();
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.error("Unable to index model: {}", error);
+                    walking = false;
+                    changesWhileWalking.clear();
+                    return null;
+                });
+    }
+
+    // ------------------------------------------------------ user & roles
+
+    @Override
+    public void onUserChanged(UserChangedEvent event) {
+        rekey();
+    }
+
+    @Override
+    public void onRolesChanged(RolesChangedEvent event) {
+        rekey();
+    }
+
+    /** Switches to the index of the current user and roles if they changed since the index was loaded. */
+    private void rekey() {
+        if (worker != null && database != null && !database.equals(database())) {
+            logger.info("User or roles changed. Switch model index to {}", database());
+            ready = false;
+            if (!walking) {
+                // a running walk switches to the new database when it's done
+                load();
+            }
+        }
+    }
+
+    // ------------------------------------------------------ changes
+
+    @Override
+    public void onModelChanged(ModelChangedEvent event) {
+        if (worker == null) {
+            return;
+        }
+        if (walking) {
+            // the walk might have read the parent before the change
+            changesWhileWalking.add(event);
+            return;
+        }
+        if (!ready) {
+            // the pending walk sees the change, and there's no index yet the change could be applied to
+            return;
+        }
+
+        List<ResourceAddress> added = new ArrayList<>();
+        List<ResourceAddress> removed = new ArrayList<>();
+        for (Operation operation : event.getOperations()) {
+            ResourceAddress address = operation.getAddress();
+            if (!address.isEmpty() && ModelWalker.indexable(address)) {
+                if (ADD.equals(operation.getName())) {
+                    added.add(address);
+                } else if (REMOVE.equals(operation.getName())) {
+                    removed.add(address);
+                }
+            }
+        }
+        if (!removed.isEmpty()) {
+            post(command("remove", database, "addresses", strings(removed))) // NON-NLS
+                    .catch_(error -> {
+                        logger.error("Unable to remove {} from model index: {}", removed, error);
+                        return null;
+                    });
+        }
+        if (!added.isEmpty()) {
+            post(command("add", database, "addresses", strings(added))) // NON-NLS
+                    .catch_(error -> {
+                        logger.error("Unable to add {} to model index: {}", added, error);
+                        return null;
+                    });
+        }
+    }
+
+    // ------------------------------------------------------ search
+
+    /** @return a promise which resolves to the addresses matching the query, best matches first */
+    public Promise<List<ResourceAddress>> search(String query) {
+        rekey();
+        if (!ready || query == null || query.trim().isEmpty()) {
+            return Promise.resolve(emptyList());
+        }
+        return post(command("search", database, "query", query, "limit", MAX_RESULTS)) // NON-NLS
+                .then(data -> {
+                    List<ResourceAddress> addresses = new ArrayList<>();
+                    JsArray<String> strings = Js.uncheckedCast(data.get("addresses"));
+                    for (int i = 0; i < strings.length; i++) {
+                        addresses.add(ResourceAddress.from(strings.getAt(i)));
+                    }
+                    return Promise.resolve(addresses);
+                });
+    }
+
+    /** @return whether the index has been loaded or built */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ------------------------------------------------------ worker
+
+    /** @param parameters the names and values of the parameters */
+    private JsPropertyMap<Object> command(String command, String database, Object... parameters) {
+        JsPropertyMap<Object> message = JsPropertyMap.of("command", command, "database", database); // NON-NLS
+        for (int i = 0; i < parameters.length; i += 2) {
+            message.set((String) parameters[i], parameters[i + 1]);
+        }
+        return message;
+    }
+
+    private Promise<JsPropertyMap<Object>> post(JsPropertyMap<Object> message) {
+        int id = ++counter;
+        message.set("id", id);
+        return new Promise<>((resolve, reject) -> {
+            pending.put(id, new Pending(resolve, reject));
+            worker.postMessage(message);
+        });
+    }
+
+    private String database() {
+        Set<String> roles = settings.get(RUN_AS).asSet();
+        if (roles.isEmpty()) {
+            roles = user.getRoles().stream().map(Role::getName).collect(toSet());
+        }
+        return database(environment.getName(), user.getName(), roles);
+    }
+
+    /** @return the name of the database which stores the index of the given user and effective roles */
+    static String database(String environment, String user, Set<String> roles) {
+        return Ids.build("hal-db-model-index", environment) + "/" + user + "/" // NON-NLS
+                + String.join(",", new TreeSet<>(roles));
+    }
+
+    private String version() {
+        return environment.getOperationMode().name() + "-" + environment.getManagementVersion();
+    }
+
+    private static JsArray<String> strings(List<ResourceAddress> addresses) {
+        JsArray<String> strings = new JsArray<>();
+        for (ResourceAddress address : addresses) {
+            strings.push(address.toString());
+        }
+        return strings;
+    }
+
+    private static class Pending {
+
+        final ResolveCallbackFn<JsPropertyMap<Object>> resolve;
+        final RejectCallbackFn reject;
+
+        Pending(ResolveCallbackFn<JsPropertyMap<Object>> resolve, RejectCallbackFn reject) {
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+}
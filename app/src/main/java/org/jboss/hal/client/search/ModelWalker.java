@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Sets;
+
+import elemental2.promise.Promise;
+
+import static java.util.Arrays.asList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+
+/**
+ * Walks the management model level by level and collects the addresses of all named resources. Each level takes two round-trips
+ * per batch of {@value #BATCH_SIZE} operations: One composite reads the child types, another one the child names. The batches
+ * are executed one after another, so that the walk doesn't compete with the requests of the console.
+ * <p>
+ * The walk stops after {@value #MAX_DEPTH} levels or {@value #MAX_RESOURCES} resources. Child types which contain internal or
+ * runtime only resources (like the servers of a host) are skipped.
+ */
+class ModelWalker {
+
+    static final int BATCH_SIZE = 100;
+    static final int MAX_DEPTH = 4;
+    static final int MAX_RESOURCES = 10_000;
+    private static final Set<String> SKIPPED_TYPES = Sets.newHashSet(CORE_SERVICE, EXTENSION,
+            "management-client-content"); // NON-NLS
+    private static final Logger logger = LoggerFactory.getLogger(ModelWalker.class);
+
+    private final Dispatcher dispatcher;
+
+    ModelWalker(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /** @return a promise which resolves to the addresses of all resources found below the root resource */
+    Promise<List<ResourceAddress>> walk() {
+        List<ResourceAddress> addresses = new ArrayList<>();
+        return level(asList(ResourceAddress.root()), 0, addresses).then(nil -> Promise.resolve(addresses));
+    }
+
+    private Promise<Void> level(List<ResourceAddress> parents, int depth, List<ResourceAddress> addresses) {
+        if (done(parents, depth, addresses.size())) {
+            return Promise.resolve((Void) null);
+        }
+
+        List<Operation> readTypes = new ArrayList<>();
+        for (ResourceAddress parent : parents) {
+            readTypes.add(new Operation.Builder(parent, READ_CHILDREN_TYPES_OPERATION).build());
+        }
+        return execute(readTypes).then(types -> {
+            List<Operation> readNames = readNames(parents, types);
+            return execute(readNames).then(names -> {
+                List<ResourceAddress> children = children(readNames, names, addresses.size());
+                addresses.addAll(children);
+                logger.debug("Found {} resources on level {}", children.size(), depth + 1);
+                return level(children, depth + 1, addresses);
+            });
+        });
+    }
+
+    /** @return whether the walk stops before reading the children of the given parents */
+    static boolean done(List<ResourceAddress> parents, int depth, int found) {
+        return parents.isEmpty() || depth >= MAX_DEPTH || found >= MAX_RESOURCES;
+    }
+
+    /** @return the operations to read the child names of all child types which are not skipped */
+    static List<Operation> readNames(List<ResourceAddress> parents, List<ModelNode> types) {
+        List<Operation> readNames = new ArrayList<>();
+        for (int i = 0; i < parents.size(); i++) {
+            ResourceAddress parent = parents.get(i);
+            if (types.get(i).isDefined()) {
+                for (ModelNode type : types.get(i).asList()) {
+                    if (!skip(parent, type.asString())) {
+                        readNames.add(new Operation.Builder(parent, READ_CHILDREN_NAMES_OPERATION)
+                                .param(CHILD_TYPE, type.asString())
+                                .build());
+                    }
+                }
+            }
+        }
+        return readNames;
+    }
+
+    /**
+     * Expands the child names into addresses. Singleton and wildcard types are treated alike: Each name becomes one address.
+     * Failed reads are ignored. Stops when {@value #MAX_RESOURCES} resources have been found.
+     */
+    static List<ResourceAddress> children(List<Operation> readNames, List<ModelNode> names, int found) {
+        List<ResourceAddress> children = new ArrayList<>();
+        for (int i = 0; i < readNames.size() && found + children.size() < MAX_RESOURCES; i++) {
+            Operation operation = readNames.get(i);
+            if (names.get(i).isDefined()) {
+                List<ModelNode> list = names.get(i).asList();
+                for (int j = 0; j < list.size() && found + children.size() < MAX_RESOURCES; j++) {
+                    ResourceAddress child = new ResourceAddress()
+                            .add(operation.getAddress())
+                            .add(operation.get(CHILD_TYPE).asString(), list.get(j).asString());
+                    if (indexable(child)) {
+                        children.add(child);
+                    }
+                }
+            }
+        }
+        return children;
+    }
+
+    static boolean skip(ResourceAddress parent, String type) {
+        // the servers of a host are runtime resources which repeat the model of the server
+        return SKIPPED_TYPES.contains(type) || (SERVER.equals(type) && parent.size() == 1 && HOST.equals(parent.lastName()));
+    }
+
+    /** Addresses with values containing '/' or '=' don't survive the string representation used in the index. */
+    static boolean indexable(ResourceAddress address) {
+        for (Property segment : address.asPropertyList()) {
+            String value = segment.getValue().asString();
+            if (value.indexOf('/') != -1 || value.indexOf('=') != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------ batches
+
+    /** Executes the operations in batches and returns the results in the same order. Failed steps are undefined. */
+    private Promise<List<ModelNode>> execute(List<Operation> operations) {
+        List<ModelNode> results = new ArrayList<>();
+        Promise<Void> chain = Promise.resolve((Void) null);
+        for (int start = 0; start < operations.size(); start += BATCH_SIZE) {
+            List<Operation> batch = operations.subList(start, Math.min(start + BATCH_SIZE, operations.size()));
+            chain = chain.then(nil -> executeBatch(batch).then(batchResults -> {
+                results.addAll(batchResults);
+                return Promise.resolve((Void) null);
+            }));
+        }
+        return chain.then(nil -> Promise.resolve(results));
+    }
+
+    private Promise<List<ModelNode>> executeBatch(List<Operation> operations) {
+        return dispatcher.execute(new Composite(operations))
+                .then(result -> {
+                    List<ModelNode> results = new ArrayList<>();
+                    for (int i = 0; i < operations.size(); i++) {
+                        results.add(result.step(i).get(RESULT));
+                    }
+                    return Promise.resolve(results);
+                })
+                .catch_(error -> {
+                    // one failed step fails the whole composite: fall back to single operations
+                    logger.debug("Composite failed: {}. Execute {} operations one by one", error, operations.size());
+                    List<ModelNode> results = new ArrayList<>();
+                    Promise<Void> chain = Promise.resolve((Void) null);
+                    for (Operation operation : operations) {
+                        chain = chain.then(nil -> dispatcher.execute(operation)
+                                .catch_(e -> Promise.resolve(new ModelNode()))
+                                .then(result -> {
+                                    results.add(result);
+                                    return Promise.resolve((Void) null);
+                                }));
+                    }
+                    return chain.then(nil -> Promise.resolve(results));
+                });
+    }
+}
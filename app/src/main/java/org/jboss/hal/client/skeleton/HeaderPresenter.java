@@ -15,12 +15,15 @@
  */
 package org.jboss.hal.client.skeleton;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
 import org.jboss.elemento.IsElement;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.client.bootstrap.endpoint.EndpointManager;
+import org.jboss.hal.client.search.ModelIndex;
 import org.jboss.hal.config.Endpoints;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.RolesChangedEvent;
@@ -30,6 +33,7 @@ import org.jboss.hal.config.User;
 import org.jboss.hal.config.UserChangedEvent;
 import org.jboss.hal.config.UserChangedEvent.UserChangedHandler;
 import org.jboss.hal.config.keycloak.KeycloakSingleton;
+import org.jboss.hal.core.ModelChanges;
 import org.jboss.hal.core.finder.FinderContext;
 import org.jboss.hal.core.finder.FinderContextEvent;
 import org.jboss.hal.core.finder.FinderContextEvent.FinderContextHandler;
@@ -75,6 +79,8 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.dom.HTMLElement;
 
+import static java.util.Collections.emptyList;
+
 import static elemental2.dom.DomGlobal.location;
 import static elemental2.dom.DomGlobal.window;
 import static org.jboss.elemento.Elements.p;
@@ -83,7 +89,7 @@ import static org.jboss.hal.config.Settings.Key.RUN_AS;
 /**
  * Presenter which controls the header. The header is a central UI element in HAL showing global state such as reload state,
  * notifications or the current user. Additionally it contains the navigation which is either the top level categories (tlc) or
- * the breadcrumb.
+ * the breadcrumb and a search box to find resources in the {@linkplain ModelIndex management model}.
  * <p>
  * The breadcrumb shows path like information such as the selected finder path or the selected address in the model browser. The
  * breadcrumb consists of these parts:
@@ -131,6 +137,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     private final Settings settings;
     private final User user;
     private final ServerActions serverActions;
+    private final ModelChanges modelChanges;
+    private final ModelIndex modelIndex;
     private final Resources resources;
 
     private PresenterType presenterType;
@@ -150,6 +158,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
             Settings settings,
             User user,
             ServerActions serverActions,
+            ModelChanges modelChanges,
+            ModelIndex modelIndex,
             Resources resources) {
         super(eventBus, view);
         this.placeManager = placeManager;
@@ -159,6 +169,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         this.settings = settings;
         this.user = user;
         this.serverActions = serverActions;
+        this.modelChanges = modelChanges;
+        this.modelIndex = modelIndex;
         this.resources = resources;
     }
 
@@ -422,9 +434,29 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     }
 
     void refresh() {
+        // make sure the presenter reloads its data
+        modelChanges.invalidate();
         placeManager.revealPlace(placeManager.getCurrentPlaceRequest());
     }
 
+    // ------------------------------------------------------ model search
+
+    void search(String query) {
+        if (!modelIndex.isReady()) {
+            getView().showSearchResults(query, emptyList(), false);
+        } else {
+            modelIndex.search(query)
+                    .then(addresses -> {
+                        getView().showSearchResults(query, addresses, true);
+                        return null;
+                    })
+                    .catch_(error -> {
+                        getView().showSearchResults(query, emptyList(), true);
+                        return null;
+                    });
+        }
+    }
+
     // ------------------------------------------------------ inner classes
 
     // @formatter:off
@@ -474,6 +506,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         void showRefresh();
 
         void hideRefresh();
+
+        void showSearchResults(String query, List<ResourceAddress> addresses, boolean ready);
     }
     // @formatter:on
 }
@@ -61,6 +61,7 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
 import elemental2.dom.HTMLLIElement;
 
 import static java.util.Arrays.asList;
@@ -73,6 +74,7 @@ import static org.jboss.elemento.Elements.button;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.i;
+import static org.jboss.elemento.Elements.input;
 import static org.jboss.elemento.Elements.li;
 import static org.jboss.elemento.Elements.nav;
 import static org.jboss.elemento.Elements.ol;
@@ -80,7 +82,14 @@ import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.Elements.ul;
 import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.blur;
 import static org.jboss.elemento.EventType.click;
+import static org.jboss.elemento.EventType.input;
+import static org.jboss.elemento.EventType.keydown;
+import static org.jboss.elemento.EventType.mousedown;
+import static org.jboss.elemento.InputType.search;
+import static org.jboss.elemento.Key.Enter;
+import static org.jboss.elemento.Key.Escape;
 import static org.jboss.hal.client.skeleton.HeaderPresenter.MAX_BREADCRUMB_VALUE_LENGTH;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
@@ -100,6 +109,7 @@ import static org.jboss.hal.resources.CSS.dropdown;
 import static org.jboss.hal.resources.CSS.dropdownMenu;
 import static org.jboss.hal.resources.CSS.dropdownToggle;
 import static org.jboss.hal.resources.CSS.fontAwesome;
+import static org.jboss.hal.resources.CSS.formControl;
 import static org.jboss.hal.resources.CSS.halBreadcrumb;
 import static org.jboss.hal.resources.CSS.halHeaderCollapse;
 import static org.jboss.hal.resources.CSS.iconBar;
@@ -121,9 +131,11 @@ import static org.jboss.hal.resources.CSS.navbarPf;
 import static org.jboss.hal.resources.CSS.navbarPrimary;
 import static org.jboss.hal.resources.CSS.navbarToggle;
 import static org.jboss.hal.resources.CSS.navbarUtility;
+import static org.jboss.hal.resources.CSS.open;
 import static org.jboss.hal.resources.CSS.pfIcon;
 import static org.jboss.hal.resources.CSS.srOnly;
 import static org.jboss.hal.resources.CSS.static_;
+import static org.jboss.hal.resources.CSS.subtitle;
 import static org.jboss.hal.resources.CSS.valueDropdown;
 import static org.jboss.hal.resources.CSS.warningTriangleO;
 import static org.jboss.hal.resources.FontAwesomeSize.large;
@@ -167,6 +179,9 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private final HTMLElement switchModeIcon;
     private final HTMLElement externalLink;
     private final HTMLElement refreshLink;
+    private final HTMLElement searchContainer;
+    private final HTMLInputElement searchInput;
+    private final HTMLElement searchResults;
 
     private final Map<String, PlaceRequest> tlcPlaceRequests;
     private final Map<String, HTMLElement> tlc;
@@ -178,6 +193,7 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private PlaceRequest backPlaceRequest;
     private HandlerRegistration switchModeHandler;
     private HandlerRegistration refreshHandler;
+    private ResourceAddress firstSearchResult;
 
     @Inject
     public HeaderView(Environment environment, Places places, AccessControl ac, Resources resources) {
@@ -215,6 +231,14 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                                 .element()))
                 .add(div().css(collapse, navbarCollapse, halHeaderCollapse)
                         .add(ul().css(nav, navbarNav, navbarUtility)
+                                .add(searchContainer = li().css(dropdown, CSS.modelSearch)
+                                        .add(searchInput = input(search).css(formControl)
+                                                .id(Ids.HEADER_SEARCH)
+                                                .attr(UIConstants.PLACEHOLDER, resources.constants().searchResources())
+                                                .element())
+                                        .add(searchResults = ul().css(dropdownMenu, CSS.dropdownMenuRight)
+                                                .element())
+                                        .element())
                                 .add(nonProgressingOperationContainer = li()
                                         .add(nonProgressingOperationLink = a().css(clickable)
                                                 .id(Ids.NONE_PROGRESSING_LINK)
@@ -390,7 +414,17 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                 bind(reloadLink, click, event -> presenter.reload()),
                 bind(messages, click, event -> notificationDrawer.toggle()),
                 bind(logout, click, event -> presenter.logout()),
-                bind(reconnect, click, event -> presenter.reconnect())));
+                bind(reconnect, click, event -> presenter.reconnect()),
+                bind(searchInput, input, event -> search()),
+                bind(searchInput, keydown, event -> {
+                    if (Escape.match(event)) {
+                        searchInput.value = "";
+                        hideSearchResults();
+                    } else if (Enter.match(event) && firstSearchResult != null) {
+                        openSearchResult(firstSearchResult);
+                    }
+                }),
+                bind(searchInput, blur, event -> hideSearchResults())));
     }
 
     private void initTlc(HTMLElement root, String[] tokens, String[] ids) {
@@ -825,4 +859,55 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     public void hideRefresh() {
         setVisible(refreshLink, false);
     }
+
+    // ------------------------------------------------------ model search
+
+    private void search() {
+        if (Strings.isNullOrEmpty(searchInput.value.trim())) {
+            hideSearchResults();
+        } else {
+            presenter.search(searchInput.value);
+        }
+    }
+
+    @Override
+    public void showSearchResults(String query, List<ResourceAddress> addresses, boolean ready) {
+        if (!query.equals(searchInput.value)) {
+            return; // results of an outdated query
+        }
+        Elements.removeChildrenFrom(searchResults);
+        firstSearchResult = addresses.isEmpty() ? null : addresses.get(0);
+        if (!ready) {
+            searchResults.appendChild(li().css(CSS.empty)
+                    .textContent(resources.constants().searchIndexNotReady())
+                    .element());
+        } else if (addresses.isEmpty()) {
+            searchResults.appendChild(li().css(CSS.empty)
+                    .textContent(resources.constants().noMatchingItems())
+                    .element());
+        } else {
+            for (ResourceAddress address : addresses) {
+                // mousedown instead of click, since the results are hidden when the search box loses the focus
+                searchResults.appendChild(li()
+                        .add(a().css(clickable)
+                                .on(mousedown, event -> openSearchResult(address))
+                                .add(span().textContent(address.lastName() + "=" + address.lastValue()))
+                                .add(span().css(subtitle).textContent(address.getParent().toString())))
+                        .element());
+            }
+        }
+        searchContainer.classList.add(open);
+    }
+
+    private void openSearchResult(ResourceAddress address) {
+        searchInput.value = "";
+        hideSearchResults();
+        presenter.switchToExpertMode(address);
+    }
+
+    private void hideSearchResults() {
+        searchContainer.classList.remove(open);
+        Elements.removeChildrenFrom(searchResults);
+        firstSearchResult = null;
+    }
 }
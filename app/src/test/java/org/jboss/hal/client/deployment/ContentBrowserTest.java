@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.ballroom.tree.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.jboss.hal.client.deployment.ContentParserTest.directory;
+import static org.jboss.hal.client.deployment.ContentParserTest.file;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ContentBrowserTest {
+
+    private List<String> errors;
+    private List<Node<ContentEntry>[]> results;
+    private ContentBrowser contentBrowser;
+
+    @Before
+    public void setUp() {
+        errors = new ArrayList<>();
+        results = new ArrayList<>();
+        contentBrowser = new ContentBrowser(null, "test.war", errors::add);
+    }
+
+    @Test
+    public void loaded() {
+        contentBrowser.loaded("WEB-INF/", asList(file("web.xml", 1), directory("lib/")), results::add);
+
+        assertEquals(1, results.size());
+        assertEquals(2, results.get(0).length);
+        assertEquals("WEB-INF/lib/", results.get(0)[0].data.path);
+        assertEquals("WEB-INF/web.xml", results.get(0)[1].data.path);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void failed() {
+        contentBrowser.failed("WFLYCTL0216: Management resource not found", results::add);
+
+        // the callback must be called to remove the loading indicator
+        assertEquals(1, results.size());
+        assertNotNull(results.get(0));
+        assertEquals(0, results.get(0).length);
+        assertEquals(asList("WFLYCTL0216: Management resource not found"), errors);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ContentHasherTest {
+
+    private static final String HASH = "a9993e364706816aba3e25717850c26c9cd0d89d";
+
+    @Test
+    public void hex() {
+        assertEquals("", ContentHasher.hex(new byte[0]));
+        assertEquals("00ff7f80", ContentHasher.hex(new byte[] { 0, -1, 127, -128 }));
+    }
+
+    @Test
+    public void bytes() {
+        assertArrayEquals(new byte[] { 0, -1, 127, -128 }, ContentHasher.bytes("00ff7f80"));
+        assertEquals(20, ContentHasher.bytes(HASH).length);
+    }
+
+    @Test
+    public void roundTrip() {
+        assertEquals(HASH, ContentHasher.hex(ContentHasher.bytes(HASH)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.List;
+
+import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.jboss.hal.client.deployment.ContentParser.NODE_ID;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ContentParserTest {
+
+    private final ContentParser parser = new ContentParser();
+
+    @Test
+    public void rootLevel() {
+        Node<ContentEntry>[] nodes = parser.level("", asList(file("index.html", 42), directory("WEB-INF/")));
+
+        assertEquals(2, nodes.length);
+        assertEquals("WEB-INF", nodes[0].text);
+        assertEquals("WEB-INF/", nodes[0].data.path);
+        assertTrue(nodes[0].children);
+        assertEquals("index.html", nodes[1].text);
+        assertEquals("index.html", nodes[1].data.path);
+        assertEquals(42, nodes[1].data.fileSize);
+        assertFalse(nodes[1].children);
+    }
+
+    @Test
+    public void nestedLevel() {
+        Node<ContentEntry>[] nodes = parser.level("WEB-INF/",
+                asList(file("web.xml", 1), directory("lib/"), directory("classes/")));
+
+        assertEquals(3, nodes.length);
+        assertEquals("WEB-INF/classes/", nodes[0].data.path);
+        assertEquals(NODE_ID.apply("WEB-INF/classes/"), nodes[0].id);
+        assertEquals("WEB-INF/lib/", nodes[1].data.path);
+        assertEquals("WEB-INF/web.xml", nodes[2].data.path);
+        assertEquals("web.xml", nodes[2].text);
+        assertEquals(2, nodes[2].data.depth);
+    }
+
+    @Test
+    public void nestedLevelWithDirectoryName() {
+        // paths are relative to the directory, even if they start with the name of the directory
+        Node<ContentEntry>[] nodes = parser.level("lib/", asList(file("lib/foo.jar", 1)));
+
+        assertEquals(1, nodes.length);
+        assertEquals("lib/lib/foo.jar", nodes[0].data.path);
+        assertEquals("foo.jar", nodes[0].text);
+    }
+
+    @Test
+    public void escape() {
+        Node<ContentEntry>[] nodes = parser.level("", asList(file("<script>.html", 1)));
+
+        assertEquals("&lt;script&gt;.html", nodes[0].data.path);
+    }
+
+    @Test
+    public void searchResult() {
+        Node<ContentEntry> root = new Node.Builder<>("root", "test.war", new ContentEntry()).root().build();
+        ContentEntry webXml = parser.contentEntry(file("WEB-INF/web.xml", 1), "");
+        ContentEntry classes = parser.contentEntry(directory("WEB-INF/classes/"), "");
+        ContentEntry index = parser.contentEntry(file("index.html", 1), "");
+
+        List<Node<ContentEntry>> nodes = parser.searchNodes(root, asList(webXml, index, classes));
+
+        assertEquals(3, nodes.size());
+        assertEquals("WEB-INF/classes/", nodes.get(0).text);
+        assertEquals("WEB-INF/web.xml", nodes.get(1).text);
+        assertEquals("index.html", nodes.get(2).text);
+        for (Node<ContentEntry> node : nodes) {
+            assertEquals("root", node.parent);
+            assertFalse(node.children);
+        }
+    }
+
+    static ModelNode file(String path, long size) {
+        ModelNode node = new ModelNode();
+        node.get(PATH).set(path);
+        node.get("directory").set(false);
+        node.get("file-size").set(size);
+        return node;
+    }
+
+    static ModelNode directory(String path) {
+        ModelNode node = new ModelNode();
+        node.get(PATH).set(path);
+        node.get("directory").set(true);
+        return node;
+    }
+}
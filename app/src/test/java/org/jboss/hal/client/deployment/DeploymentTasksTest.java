@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static java.util.Collections.singleton;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class DeploymentTasksTest {
+
+    private static final String HASH_VALUE = "a9993e364706816aba3e25717850c26c9cd0d89d";
+
+    @Test
+    public void knownHashes() {
+        Map<String, String> hashes = new HashMap<>();
+        hashes.put("managed.war", HASH_VALUE);
+        hashes.put("unmanaged.war", "");
+
+        assertEquals(singleton(HASH_VALUE), DeploymentTasks.knownHashes(hashes));
+    }
+
+    @Test
+    public void noKnownHashes() {
+        Map<String, String> hashes = new HashMap<>();
+        hashes.put("unmanaged.war", "");
+
+        // nothing to compare with: files are uploaded without hashing them
+        assertTrue(DeploymentTasks.knownHashes(hashes).isEmpty());
+        assertTrue(DeploymentTasks.knownHashes(null).isEmpty());
+    }
+
+    @Test
+    public void skipUpload() {
+        Operation operation = add();
+
+        assertTrue(DeploymentTasks.content(operation, HASH_VALUE, singleton(HASH_VALUE)));
+        ModelNode content = operation.get(CONTENT).get(0);
+        assertArrayEquals(ContentHasher.bytes(HASH_VALUE), content.get(HASH).asBytes());
+        assertFalse(content.has(INPUT_STREAM_INDEX));
+    }
+
+    @Test
+    public void uploadUnknownContent() {
+        Operation operation = add();
+        Set<String> knownHashes = singleton("0000000000000000000000000000000000000000");
+
+        assertFalse(DeploymentTasks.content(operation, HASH_VALUE, knownHashes));
+        assertUpload(operation);
+    }
+
+    @Test
+    public void uploadWithoutHash() {
+        Operation operation = add();
+
+        assertFalse(DeploymentTasks.content(operation, null, singleton(HASH_VALUE)));
+        assertUpload(operation);
+    }
+
+    @Test
+    public void replaceContent() {
+        Operation operation = add();
+
+        assertTrue(DeploymentTasks.content(operation, HASH_VALUE, singleton(HASH_VALUE)));
+        assertFalse(DeploymentTasks.content(operation, null, singleton(HASH_VALUE)));
+        assertUpload(operation);
+    }
+
+    @Test
+    public void missingContent() {
+        String failure = "No deployment content with hash " + HASH_VALUE
+                + " is available in the deployment content repository.";
+
+        assertTrue(DeploymentTasks.missingContent(failure, HASH_VALUE));
+        assertTrue(DeploymentTasks.missingContent(failure.toUpperCase(), HASH_VALUE));
+        assertFalse(DeploymentTasks.missingContent("Duplicate resource", HASH_VALUE));
+        assertFalse(DeploymentTasks.missingContent(failure, null));
+        assertFalse(DeploymentTasks.missingContent(null, HASH_VALUE));
+    }
+
+    private Operation add() {
+        return new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, "test.war"), ADD).build();
+    }
+
+    private void assertUpload(Operation operation) {
+        assertEquals(1, operation.get(CONTENT).asList().size());
+        ModelNode content = operation.get(CONTENT).get(0);
+        assertEquals(0, content.get(INPUT_STREAM_INDEX).asInt());
+        assertFalse(content.has(HASH));
+    }
+}
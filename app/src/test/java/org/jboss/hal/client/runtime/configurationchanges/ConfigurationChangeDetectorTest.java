@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.configurationchanges;
+
+import java.util.List;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.core.ModelChanges;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.junit.Test;
+
+import com.google.gwt.junit.GWTMockUtilities;
+import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.SimpleEventBus;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION_DATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STEPS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ConfigurationChangeDetectorTest {
+
+    @Test
+    public void newChanges() {
+        List<ModelNode> history = asList(change("3", "success"), change("2", "success"), change("1", "success"));
+
+        assertEquals(2, ConfigurationChangeDetector.newChanges(history, "1").size());
+        assertEquals(0, ConfigurationChangeDetector.newChanges(history, "3").size());
+        assertEquals(3, ConfigurationChangeDetector.newChanges(history, null).size());
+        assertNull(ConfigurationChangeDetector.newChanges(history, "0"));
+        assertEquals(0, ConfigurationChangeDetector.newChanges(emptyList(), null).size());
+    }
+
+    @Test
+    public void operations() {
+        ModelNode composite = new ModelNode();
+        composite.get(OPERATION).set(COMPOSITE);
+        composite.get(STEPS).add(step("logging"));
+        composite.get(STEPS).add(step("datasources"));
+        ModelNode compositeChange = change("2", "success");
+        compositeChange.get(OPERATIONS).set(new ModelNode().add(composite));
+
+        List<Operation> operations = ConfigurationChangeDetector.operations(
+                asList(compositeChange, change("1", "failed"), change("0", "success")));
+
+        assertEquals(3, operations.size());
+        assertEquals(new ResourceAddress().add("subsystem", "logging"), operations.get(0).getAddress());
+        assertEquals(new ResourceAddress().add("subsystem", "datasources"), operations.get(1).getAddress());
+        assertEquals(WRITE_ATTRIBUTE_OPERATION, operations.get(2).getName());
+    }
+
+    @Test
+    public void pollWithoutChanges() {
+        GWTMockUtilities.disarm();
+        EventBus eventBus = new SimpleEventBus();
+        ModelChanges modelChanges = new ModelChanges(eventBus);
+        ConfigurationChangeDetector detector = new ConfigurationChangeDetector(mock(Environment.class), eventBus,
+                mock(Dispatcher.class), mock(Settings.class), modelChanges);
+        ModelNode history = new ModelNode().add(change("1", "success"));
+
+        detector.polled(history);
+        assertTrue(modelChanges.isTracking());
+        long version = modelChanges.version();
+
+        // successful polls without new entries don't change the model
+        for (int i = 0; i < 300; i++) {
+            detector.polled(history);
+        }
+        assertEquals(version, modelChanges.version());
+
+        ModelNode newHistory = new ModelNode().add(change("2", "success")).add(change("1", "success"));
+        detector.polled(newHistory);
+        assertEquals(version + 1, modelChanges.version());
+    }
+
+    private ModelNode change(String date, String outcome) {
+        ModelNode change = new ModelNode();
+        change.get(OPERATION_DATE).set(date);
+        change.get(OUTCOME).set(outcome);
+        change.get(OPERATIONS).add(step("mail"));
+        return change;
+    }
+
+    private ModelNode step(String subsystem) {
+        ModelNode step = new ModelNode();
+        step.get(OPERATION).set(WRITE_ATTRIBUTE_OPERATION);
+        step.get(ADDRESS).set(new ResourceAddress().add("subsystem", subsystem));
+        return step;
+    }
+}
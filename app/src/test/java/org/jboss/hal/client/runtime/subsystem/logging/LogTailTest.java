@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class LogTailTest {
+
+    private LogTail logTail;
+
+    @Before
+    public void setUp() {
+        logTail = new LogTail(5);
+        logTail.reset(asList("a", "b", "c"), 10);
+    }
+
+    @Test
+    public void changed() {
+        assertFalse(logTail.changed(10));
+        assertTrue(logTail.changed(11));
+        assertTrue(logTail.changed(LogTail.UNKNOWN_SIZE));
+    }
+
+    @Test
+    public void linesToRead() {
+        assertEquals(4, logTail.linesToRead(12, 200));
+        assertEquals(22, logTail.linesToRead(30, 200));
+        assertEquals(10, logTail.linesToRead(30, 10));
+        assertEquals(200, logTail.linesToRead(4, 200));
+        assertEquals(200, logTail.linesToRead(LogTail.UNKNOWN_SIZE, 200));
+    }
+
+    @Test
+    public void anchors() {
+        assertTrue(logTail.anchors(asList("c", "d"), 12));
+        assertTrue(logTail.anchors(asList("b", "c", "d"), 12));
+        assertFalse(logTail.anchors(asList("d", "e"), 14));
+        assertFalse(logTail.anchors(asList("a", "b", "c"), 4));
+    }
+
+    @Test
+    public void unchanged() {
+        LogTail.Delta delta = logTail.merge(asList("b", "c"), 12);
+
+        assertFalse(delta.replaced);
+        assertTrue(delta.lines.isEmpty());
+        assertEquals(0, delta.removed);
+        assertFalse(logTail.changed(12));
+    }
+
+    @Test
+    public void append() {
+        LogTail.Delta delta = logTail.merge(asList("b", "c", "d"), 12);
+
+        assertFalse(delta.replaced);
+        assertEquals(asList("d"), delta.lines);
+        assertEquals(0, delta.removed);
+        assertEquals(asList("a", "b", "c", "d"), logTail.lines());
+    }
+
+    @Test
+    public void repeatedLines() {
+        logTail.reset(asList("x", "x"), 10);
+        LogTail.Delta delta = logTail.merge(asList("x", "x", "x"), 12);
+
+        assertEquals(asList("x"), delta.lines);
+        assertEquals(3, logTail.size());
+    }
+
+    @Test
+    public void repeatedLinesOfSameLength() {
+        logTail.reset(asList("x", "x", "x"), 10);
+        LogTail.Delta delta = logTail.merge(asList("x", "x", "x"), 12);
+
+        assertFalse(delta.replaced);
+        assertEquals(asList("x"), delta.lines);
+        assertEquals(asList("x", "x", "x", "x"), logTail.lines());
+    }
+
+    @Test
+    public void repeatedLinesWithWindowsSeparators() {
+        logTail.reset(asList("x", "x", "x"), 10);
+        LogTail.Delta delta = logTail.merge(asList("x", "x", "x"), 16);
+
+        assertEquals(asList("x", "x"), delta.lines);
+        assertEquals(5, logTail.size());
+    }
+
+    @Test
+    public void repeatedMultiByteLines() {
+        logTail.reset(asList("\u00fc", "\u00fc"), 10);
+        LogTail.Delta delta = logTail.merge(asList("\u00fc", "\u00fc"), 13);
+
+        assertEquals(asList("\u00fc"), delta.lines);
+        assertEquals(3, logTail.size());
+    }
+
+    @Test
+    public void cap() {
+        LogTail.Delta delta = logTail.merge(asList("c", "d", "e", "f", "g"), 20);
+
+        assertFalse(delta.replaced);
+        assertEquals(asList("d", "e", "f", "g"), delta.lines);
+        assertEquals(2, delta.removed);
+        assertEquals(asList("c", "d", "e", "f", "g"), logTail.lines());
+    }
+
+    @Test
+    public void noOverlap() {
+        LogTail.Delta delta = logTail.merge(asList("x", "y"), 20);
+
+        assertTrue(delta.replaced);
+        assertEquals(asList("x", "y"), delta.lines);
+    }
+
+    @Test
+    public void rotated() {
+        LogTail.Delta delta = logTail.merge(asList("a", "b", "c", "d"), 4);
+
+        assertTrue(delta.replaced);
+        assertEquals(4, logTail.size());
+    }
+
+    @Test
+    public void empty() {
+        logTail.reset(emptyList(), 0);
+        LogTail.Delta delta = logTail.merge(asList("a"), 2);
+
+        assertTrue(delta.replaced);
+        List<String> lines = logTail.lines();
+        assertEquals(asList("a"), lines);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.search;
+
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ModelIndexTest {
+
+    @Test
+    public void databasePerUserAndRoles() {
+        String database = ModelIndex.database("local", "admin", Sets.newHashSet("Monitor", "Deployer"));
+        assertEquals(database, ModelIndex.database("local", "admin", Sets.newHashSet("Deployer", "Monitor")));
+        assertNotEquals(database, ModelIndex.database("local", "other", Sets.newHashSet("Deployer", "Monitor")));
+        assertNotEquals(database, ModelIndex.database("local", "admin", Sets.newHashSet("Monitor")));
+        assertNotEquals(database, ModelIndex.database("remote", "admin", Sets.newHashSet("Deployer", "Monitor")));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.search;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import static org.jboss.hal.client.search.ModelWalker.MAX_DEPTH;
+import static org.jboss.hal.client.search.ModelWalker.MAX_RESOURCES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ModelWalkerTest {
+
+    @Test
+    public void skip() {
+        assertTrue(ModelWalker.skip(ResourceAddress.root(), "core-service"));
+        assertTrue(ModelWalker.skip(ResourceAddress.root(), "extension"));
+        assertTrue(ModelWalker.skip(ResourceAddress.from("host=primary"), "server"));
+        assertFalse(ModelWalker.skip(ResourceAddress.from("host=primary"), "server-config"));
+        assertFalse(ModelWalker.skip(ResourceAddress.from("subsystem=messaging-activemq"), "server"));
+        assertFalse(ModelWalker.skip(ResourceAddress.root(), "subsystem"));
+    }
+
+    @Test
+    public void indexable() {
+        assertTrue(ModelWalker.indexable(ResourceAddress.from("subsystem=datasources/data-source=ExampleDS")));
+        assertFalse(ModelWalker.indexable(new ResourceAddress()
+                .add("subsystem", "naming")
+                .add("binding", "java:global/foo")));
+        assertFalse(ModelWalker.indexable(new ResourceAddress().add("system-property", "a=b")));
+    }
+
+    @Test
+    public void depth() {
+        List<ResourceAddress> parents = singletonList(ResourceAddress.root());
+        assertFalse(ModelWalker.done(parents, 0, 0));
+        assertFalse(ModelWalker.done(parents, MAX_DEPTH - 1, 0));
+        assertTrue(ModelWalker.done(parents, MAX_DEPTH, 0));
+        assertTrue(ModelWalker.done(emptyList(), 0, 0));
+        assertTrue(ModelWalker.done(parents, 0, MAX_RESOURCES));
+    }
+
+    @Test
+    public void readNames() {
+        List<ResourceAddress> parents = asList(ResourceAddress.root(), ResourceAddress.from("host=primary"),
+                ResourceAddress.from("subsystem=undertow"));
+        List<ModelNode> types = asList(
+                list("core-service", "extension", "subsystem"),
+                list("server", "server-config"),
+                new ModelNode()); // failed read
+
+        List<Operation> operations = ModelWalker.readNames(parents, types);
+        assertEquals(2, operations.size());
+        assertOperation(ResourceAddress.root(), "subsystem", operations.get(0));
+        assertOperation(ResourceAddress.from("host=primary"), "server-config", operations.get(1));
+    }
+
+    @Test
+    public void children() {
+        List<Operation> operations = asList(
+                readNames("subsystem=undertow", "server"), // wildcard
+                readNames("subsystem=undertow/server=default-server", "setting"), // singletons
+                readNames("subsystem=naming", "binding"),
+                readNames("subsystem=datasources", "data-source"));
+        List<ModelNode> names = asList(
+                list("default-server", "other-server"),
+                list("http2"),
+                list("java:global/foo"), // not indexable
+                new ModelNode()); // failed read
+
+        List<ResourceAddress> children = ModelWalker.children(operations, names, 0);
+        assertEquals(asList(
+                ResourceAddress.from("subsystem=undertow/server=default-server"),
+                ResourceAddress.from("subsystem=undertow/server=other-server"),
+                ResourceAddress.from("subsystem=undertow/server=default-server/setting=http2")), children);
+    }
+
+    @Test
+    public void childrenLimit() {
+        List<Operation> operations = asList(readNames("subsystem=undertow", "server"),
+                readNames("subsystem=undertow", "servlet-container"));
+        List<ModelNode> names = asList(list("a", "b", "c"), list("d"));
+
+        List<ResourceAddress> children = ModelWalker.children(operations, names, MAX_RESOURCES - 2);
+        assertEquals(asList(ResourceAddress.from("subsystem=undertow/server=a"),
+                ResourceAddress.from("subsystem=undertow/server=b")), children);
+        assertTrue(ModelWalker.children(operations, names, MAX_RESOURCES).isEmpty());
+    }
+
+    private static Operation readNames(String parent, String type) {
+        return new Operation.Builder(ResourceAddress.from(parent), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, type)
+                .build();
+    }
+
+    private static ModelNode list(String... values) {
+        ModelNode node = new ModelNode();
+        for (String value : values) {
+            node.add(value);
+        }
+        return node;
+    }
+
+    private static void assertOperation(ResourceAddress parent, String type, Operation operation) {
+        assertEquals(READ_CHILDREN_NAMES_OPERATION, operation.getName());
+        assertEquals(parent, operation.getAddress());
+        assertEquals(type, operation.get(CHILD_TYPE).asString());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jboss.hal.dmr.ExternalModelNode;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.processor.MetadataSnapshotBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_CONTROL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Writes a snapshot of the fixtures in {@code src/snapshot} using {@link MetadataSnapshotBuilder} and reads it using
+ * {@link ResourceDescriptionSnapshot}.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class MetadataSnapshotRoundTripTest {
+
+    private static final Path FIXTURES = Paths.get("src/snapshot");
+
+    // output of /subsystem=*:read-resource-description(operations=true,recursive=true) as printed by the CLI
+    private static final String ACCESS_CONTROL_FIXTURE = "{\n" +
+            "    \"outcome\" => \"success\",\n" +
+            "    \"result\" => [{\n" +
+            "        \"address\" => [(\"subsystem\" => \"mail\")],\n" +
+            "        \"outcome\" => \"success\",\n" +
+            "        \"result\" => {\n" +
+            "            \"description\" => \"The mail subsystem\",\n" +
+            "            \"access-control\" => {\"default\" => {\"read\" => true, \"write\" => true}},\n" +
+            "            \"attributes\" => {},\n" +
+            "            \"operations\" => {},\n" +
+            "            \"children\" => {\"mail-session\" => {\n" +
+            "                \"description\" => \"Mail sessions\",\n" +
+            "                \"model-description\" => {\"*\" => {\n" +
+            "                    \"description\" => \"A mail session\",\n" +
+            "                    \"access-control\" => {\"default\" => {\"read\" => true, \"write\" => false}},\n" +
+            "                    \"attributes\" => {},\n" +
+            "                    \"operations\" => {},\n" +
+            "                    \"children\" => {}\n" +
+            "                }}\n" +
+            "            }}\n" +
+            "        }\n" +
+            "    }]\n" +
+            "}";
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void roundTrip() throws IOException {
+        Path output = folder.getRoot().toPath().resolve("metadata/resource-descriptions.dmr");
+
+        MetadataSnapshotBuilder.main(new String[] { FIXTURES.toString(), output.toString(), "22.0.0", "en", "COMMUNITY" });
+        ResourceDescriptionSnapshot snapshot = new ResourceDescriptionSnapshot(read(output));
+
+        assertTrue(snapshot.matches("22.0.0", "en", "COMMUNITY"));
+        assertFalse(snapshot.matches("22.0.0", "de", "COMMUNITY"));
+        assertEquals(3, snapshot.size());
+
+        ResourceDescription smtp = snapshot.get(server("smtp"));
+        assertNotNull(smtp);
+        assertEquals("Mail session server", smtp.getDescription());
+        assertNotNull(smtp.attributes().get("outbound-socket-binding-ref"));
+        assertNotNull(smtp.operations().get("add"));
+        assertNotNull(snapshot.get(server("pop3")));
+        assertNotNull(snapshot.get(server("imap")));
+
+        assertNull(snapshot.get(new ResourceAddress().add("subsystem", "mail").add("mail-session", "*")));
+    }
+
+    @Test
+    public void accessControl() throws IOException {
+        Path fixtures = folder.newFolder("fixtures").toPath();
+        Files.write(fixtures.resolve("subsystem.dmr"), ACCESS_CONTROL_FIXTURE.getBytes(StandardCharsets.UTF_8));
+        Path output = folder.getRoot().toPath().resolve("resource-descriptions.dmr");
+
+        MetadataSnapshotBuilder.main(new String[] { fixtures.toString(), output.toString(), "22.0.0" });
+        ResourceDescriptionSnapshot snapshot = new ResourceDescriptionSnapshot(read(output));
+
+        ResourceDescription mail = snapshot.get(new ResourceAddress().add("subsystem", "mail"));
+        assertNotNull(mail);
+        assertFalse(mail.has(ACCESS_CONTROL));
+        ResourceDescription mailSession = snapshot.get(new ResourceAddress()
+                .add("subsystem", "mail")
+                .add("mail-session", "*"));
+        assertNotNull(mailSession);
+        assertFalse(mailSession.has(ACCESS_CONTROL));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingFixtures() throws IOException {
+        Path output = folder.getRoot().toPath().resolve("resource-descriptions.dmr");
+        MetadataSnapshotBuilder.main(new String[] { folder.getRoot().toPath().resolve("missing").toString(),
+                output.toString(), "22.0.0" });
+    }
+
+    private ResourceAddress server(String name) {
+        return new ResourceAddress().add("subsystem", "mail").add("mail-session", "*").add("server", name);
+    }
+
+    /** Reads the base64 encoded snapshot like the console, but without the native base64 decoder of the browser. */
+    private ModelNode read(Path output) throws IOException {
+        try (InputStream in = Files.newInputStream(output)) {
+            org.jboss.dmr.ModelNode node = org.jboss.dmr.ModelNode.fromBase64(in);
+            return ExternalModelNode.read(new ByteArrayInputStream(node.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Computes the SHA-1 hash of files. That's the hash the content repository of the server uses.
+// Expects messages with this structure:
+// {
+//     id: number,
+//     file: File
+// }
+// Answers with {id: number, hash: string (hex encoded)} or {id: number, error: string}
+self.addEventListener("message", function (e) {
+    let id = e.data.id;
+    e.data.file.arrayBuffer()
+        .then(buffer => crypto.subtle.digest("SHA-1", buffer))
+        .then(function (digest) {
+            let hash = Array.from(new Uint8Array(digest), b => b.toString(16).padStart(2, "0")).join("");
+            self.postMessage({id: id, hash: hash});
+        })
+        .catch(function (err) {
+            // crypto.subtle is only available in secure contexts
+            self.postMessage({id: id, error: String(err)});
+        });
+}, false);
@@ -72,6 +72,8 @@ window.ClipboardJS = require("clipboard");
 
 // TODO Web worker
 window.metadataChannel = new Worker(new URL("./worker.js", import.meta.url), {type: "module"});
+window.hashWorker = new Worker(new URL("./hash-worker.js", import.meta.url), {type: "module"});
+window.searchWorker = new Worker(new URL("./search-worker.js", import.meta.url), {type: "module"});
 
 window.keycloakReady = import("keycloak-js/lib/keycloak").then(
   (module) => (window.KeycloakInstance = module.default)
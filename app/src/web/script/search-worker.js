@@ -0,0 +1,323 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+self.importScripts("pouchdb.min.js");
+
+// Keeps an inverted index of resource addresses and answers search queries. Expects messages with this structure:
+// {
+//     id: number,
+//     command: "load" | "index" | "add" | "remove" | "search",
+//     database: string (load, index, add, remove),
+//     version: string (load, index),
+//     maxAge: number (load, ms),
+//     addresses: [string] (index, add, remove),
+//     query: string (search),
+//     limit: number (search)
+// }
+// Answers with {id: number, count: number} (size of the index) or {id: number, addresses: [string]} (search, ranked) or
+// {id: number, error: string}. "load" answers with count -1 if there's no stored index or the stored index is outdated.
+// Addresses are stored as strings like "/subsystem=datasources/data-source=ExampleDS". "remove" removes the children, too.
+
+const INDEX_ID = "index";
+const SAVE_DELAY = 1000; // ms
+
+let entries = [];               // id -> {address: string, last: string, tokens: [string]} or null if removed
+let ids = new Map();            // address -> id
+let postings = new Map();       // token -> [id]
+let tokens = [];                // sorted tokens for prefix lookups
+let sorted = true;
+let database = null;
+let version = null;
+let loading = null;             // name of the database requested by the last "load"
+let saveTimeout = null;
+let saveName = null;            // name of the database with pending changes
+
+self.addEventListener("message", function (e) {
+    let id = e.data.id;
+    let answer;
+    try {
+        if (saveName !== null && e.data.database !== undefined && e.data.database !== saveName) {
+            // the pending changes belong to the index of another database: store them before the index is replaced
+            flush();
+        }
+        switch (e.data.command) {
+            case "load":
+                answer = load(e.data.database, e.data.version, e.data.maxAge);
+                break;
+            case "index":
+                clear();
+                e.data.addresses.forEach(add);
+                version = e.data.version;
+                save(e.data.database);
+                answer = Promise.resolve({count: ids.size});
+                break;
+            case "add":
+                e.data.addresses.forEach(add);
+                save(e.data.database);
+                answer = Promise.resolve({count: ids.size});
+                break;
+            case "remove":
+                e.data.addresses.forEach(remove);
+                save(e.data.database);
+                answer = Promise.resolve({count: ids.size});
+                break;
+            case "search":
+                answer = Promise.resolve({addresses: search(e.data.query, e.data.limit)});
+                break;
+            default:
+                answer = Promise.reject("Unknown command " + e.data.command);
+        }
+    } catch (err) {
+        answer = Promise.reject(err);
+    }
+    answer
+        .then(result => self.postMessage(Object.assign({id: id}, result)))
+        .catch(err => self.postMessage({id: id, error: String(err)}));
+}, false);
+
+// ------------------------------------------------------ storage
+
+function load(name, expectedVersion, maxAge) {
+    loading = name;
+    return db(name).get(INDEX_ID)
+        .then(function (document) {
+            if (name !== loading) {
+                // superseded by a load of another database
+                return {count: -1};
+            }
+            if (document.version !== expectedVersion || Date.now() - document.timestamp > maxAge) {
+                // don't keep the index of another database
+                clear();
+                version = null;
+                return {count: -1};
+            }
+            clear();
+            document.addresses.forEach(add);
+            version = document.version;
+            info("Loaded " + ids.size + " addresses from " + name);
+            return {count: ids.size};
+        })
+        .catch(function (err) {
+            if (err.status === 404) {
+                if (name === loading) {
+                    clear();
+                    version = null;
+                }
+                return {count: -1};
+            }
+            throw err;
+        });
+}
+
+// saves are delayed, so that a series of changes is stored at once
+function save(name) {
+    clearTimeout(saveTimeout);
+    saveName = name;
+    saveTimeout = setTimeout(flush, SAVE_DELAY);
+}
+
+function flush() {
+    if (saveName === null) {
+        return;
+    }
+    clearTimeout(saveTimeout);
+    let name = saveName;
+    let savedVersion = version;
+    let addresses = entries.filter(entry => entry !== null).map(entry => entry.address);
+    saveName = null;
+    saveTimeout = null;
+
+    let documents = db(name);
+    documents.get(INDEX_ID)
+        .catch(() => ({_id: INDEX_ID}))
+        .then(function (document) {
+            document.version = savedVersion;
+            document.timestamp = Date.now();
+            document.addresses = addresses;
+            return documents.put(document);
+        })
+        .then(() => info("Saved " + addresses.length + " addresses in " + name))
+        .catch(err => error("Unable to save index in " + name + ": " + err));
+}
+
+function db(name) {
+    if (database === null || database.name !== name) {
+        database = new PouchDB(name);
+    }
+    return database;
+}
+
+// ------------------------------------------------------ index
+
+function clear() {
+    entries = [];
+    ids = new Map();
+    postings = new Map();
+    tokens = [];
+    sorted = true;
+}
+
+function add(address) {
+    if (ids.has(address)) {
+        return;
+    }
+    let segments = address.split("/").filter(segment => segment.length !== 0);
+    if (segments.length === 0) {
+        return;
+    }
+    let last = value(segments[segments.length - 1]);
+    let entry = {address: address, last: last, tokens: tokenize(segments)};
+    let id = entries.length;
+    entries.push(entry);
+    ids.set(address, id);
+    entry.tokens.forEach(function (token) {
+        let list = postings.get(token);
+        if (list === undefined) {
+            postings.set(token, [id]);
+            tokens.push(token);
+            sorted = false;
+        } else {
+            list.push(id);
+        }
+    });
+}
+
+// removed entries are only marked as removed, the postings are filtered on search
+function remove(address) {
+    let prefix = address + "/";
+    ids.forEach(function (id, key) {
+        if (key === address || key.startsWith(prefix)) {
+            entries[id] = null;
+            ids.delete(key);
+        }
+    });
+}
+
+// the value of the segment and its parts (e.g. "ExampleDS", "jms-queue", "jms", "queue") in lower case
+function tokenize(segments) {
+    let result = new Set();
+    segments.forEach(function (segment) {
+        let index = segment.indexOf("=");
+        [segment.substring(0, index), segment.substring(index + 1)].forEach(function (part) {
+            let lower = part.toLowerCase();
+            result.add(lower);
+            lower.split(/[^a-z0-9]+/).forEach(function (word) {
+                if (word.length !== 0) {
+                    result.add(word);
+                }
+            });
+        });
+    });
+    return Array.from(result);
+}
+
+function value(segment) {
+    return segment.substring(segment.indexOf("=") + 1).toLowerCase();
+}
+
+// ------------------------------------------------------ search
+
+// All words of the query must match the start of a token. Matches in the name of the resource rank before matches in the
+// names of the parents, exact matches before prefix matches and shorter addresses before longer ones.
+function search(query, limit) {
+    let words = query.toLowerCase().split(/\s+/).filter(word => word.length !== 0);
+    if (words.length === 0) {
+        return [];
+    }
+    let candidates = null;
+    words.forEach(function (word) {
+        let matches = new Set();
+        prefixed(word).forEach(function (token) {
+            postings.get(token).forEach(function (id) {
+                if (entries[id] !== null && (candidates === null || candidates.has(id))) {
+                    matches.add(id);
+                }
+            });
+        });
+        candidates = matches;
+    });
+
+    return Array.from(candidates)
+        .map(id => ({entry: entries[id], score: score(entries[id], words, query.trim().toLowerCase())}))
+        .sort(function (a, b) {
+            return b.score - a.score ||
+                a.entry.address.length - b.entry.address.length ||
+                (a.entry.address < b.entry.address ? -1 : a.entry.address > b.entry.address ? 1 : 0);
+        })
+        .slice(0, limit)
+        .map(result => result.entry.address);
+}
+
+function score(entry, words, query) {
+    let result = 0;
+    if (entry.last === query) {
+        result += 100;
+    } else if (entry.last.startsWith(query)) {
+        result += 50;
+    }
+    words.forEach(function (word) {
+        if (entry.last === word) {
+            result += 20;
+        } else if (entry.last.indexOf(word) !== -1) {
+            result += 10;
+        } else if (entry.tokens.indexOf(word) !== -1) {
+            result += 2;
+        }
+    });
+    return result;
+}
+
+// binary search for the first token with the prefix
+function prefixed(prefix) {
+    if (!sorted) {
+        tokens.sort();
+        sorted = true;
+    }
+    let low = 0;
+    let high = tokens.length;
+    while (low < high) {
+        let middle = (low + high) >>> 1;
+        if (tokens[middle] < prefix) {
+            low = middle + 1;
+        } else {
+            high = middle;
+        }
+    }
+    let result = [];
+    for (let i = low; i < tokens.length && tokens[i].startsWith(prefix); i++) {
+        result.push(tokens[i]);
+    }
+    return result;
+}
+
+// ------------------------------------------------------ logging
+
+function info(message) {
+    // use the same log format as HAL
+    console.info(timestamp() + " INFO  search-worker.js                         " + message);
+}
+
+function error(message) {
+    // use the same log format as HAL
+    console.error(timestamp() + " ERROR search-worker.js                         " + message);
+}
+
+function timestamp() {
+    let d = new Date();
+    return d.getHours().toString().padStart(2, "0") + ":" +
+        d.getMinutes().toString().padStart(2, "0") + ":" +
+        d.getSeconds().toString().padStart(2, "0") + "." +
+        d.getMilliseconds().toString().padStart(3, "0");
+}
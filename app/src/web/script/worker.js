@@ -15,32 +15,67 @@
  */
 self.importScripts("pouchdb.min.js");
 
+// Expects messages with this structure:
+// {
+//     database: string,
+//     documents: [{_id: string, version: string, payload: ArrayBuffer (base64 encoded bytes)}]
+// }
 self.addEventListener("message", function (e) {
     let db = new PouchDB(e.data.database);
-    db.get(e.data.document._id)
-        .then(function (doc) {
-            // update existing document
-            e.data.document._rev = doc._rev;
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Update " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
+    let decoder = new TextDecoder();
+    let updates = e.data.documents.map(function (document) {
+        let bytes = new Uint8Array(document.payload);
+        return {
+            _id: document._id,
+            version: document.version,
+            hash: hash(bytes),
+            payload: decoder.decode(bytes)
+        };
+    });
+    db.allDocs({keys: updates.map(update => update._id), include_docs: true})
+        .then(function (response) {
+            let changed = [];
+            response.rows.forEach(function (row, index) {
+                let update = updates[index];
+                if (row.doc) {
+                    if (row.doc.hash === update.hash && row.doc.version === update.version) {
+                        return;
+                    }
+                    update._rev = row.doc._rev;
+                } else if (row.value && row.value.rev) {
+                    update._rev = row.value.rev;
+                }
+                changed.push(update);
+            });
+            let skipped = updates.length - changed.length;
+            if (changed.length === 0) {
+                info("Skip " + skipped + " unchanged documents in " + e.data.database);
+                return;
+            }
+            return db.bulkDocs(changed).then(function (results) {
+                let failed = results.filter(result => result.error);
+                failed.forEach(function (result) {
+                    error("Unable to put " + e.data.database + result.id + ": " + result.message);
                 });
+                info("Put " + (changed.length - failed.length) + " and skip " + skipped + " unchanged documents in " +
+                    e.data.database);
+            });
         })
-        .catch(function () {
-            // put new document
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Insert " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+        .catch(function (err) {
+            error("Unable to update " + e.data.database + ": " + err);
         });
 }, false);
 
+// 32-bit FNV-1a hash of the payload together with its length
+self.hash = function (bytes) {
+    let h = 0x811c9dc5;
+    for (let i = 0; i < bytes.length; i++) {
+        h ^= bytes[i];
+        h = Math.imul(h, 0x01000193);
+    }
+    return (h >>> 0).toString(16) + "-" + bytes.length;
+};
+
 self.info = function (message) {
     // use the same log format as HAL
     console.info(timestamp() + " INFO  worker.js                                " + message);
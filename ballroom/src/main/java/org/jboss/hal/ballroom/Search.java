@@ -54,7 +54,8 @@ public class Search implements IsElement<HTMLElement> {
                                 .add(searchBox = input(search)
                                         .id(builder.id)
                                         .css(formControl)
-                                        .attr(UIConstants.PLACEHOLDER, CONSTANTS.search())
+                                        .attr(UIConstants.PLACEHOLDER,
+                                                builder.placeholder != null ? builder.placeholder : CONSTANTS.search())
                                         .on(keyup, event -> {
                                             setVisible(clearSearch, !Strings.isNullOrEmpty(searchBox.value));
                                             if (Enter.match(event)) {
@@ -115,6 +116,7 @@ public class Search implements IsElement<HTMLElement> {
 
         private final String id;
         private final SearchHandler onSearch;
+        private String placeholder;
         private Callback onClear;
         private SearchHandler onPrevious;
         private SearchHandler onNext;
@@ -124,6 +126,11 @@ public class Search implements IsElement<HTMLElement> {
             this.onSearch = onSearch;
         }
 
+        public Builder placeholder(String placeholder) {
+            this.placeholder = placeholder;
+            return this;
+        }
+
         public Builder onClear(Callback onClear) {
             this.onClear = onClear;
             return this;
@@ -15,34 +15,35 @@
  */
 package org.jboss.hal.ballroom.autocomplete;
 
-import java.util.Comparator;
 import java.util.List;
 
-import org.jboss.hal.ballroom.form.SuggestHandler;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.js.JsonObject;
 
 import static java.util.stream.Collectors.toList;
 
-import static com.google.common.base.Strings.isNullOrEmpty;
-
 /**
- * Processes the result of a single READ_CHILDREN_NAMES operation.
+ * Processes the result of a single READ_CHILDREN_NAMES operation. Names starting with the query come first, followed by names
+ * containing the query.
  */
 public class NamesResultProcessor extends ReadChildrenProcessor implements ResultProcessor {
 
     @Override
     protected List<ReadChildrenResult> processToModel(final String query, final ModelNode nodes) {
-        return nodes.asList().stream()
-                .map(node -> new ReadChildrenResult(node.asString()))
-                .filter(result -> !isNullOrEmpty(query) &&
-                        (SuggestHandler.SHOW_ALL_VALUE.equals(query) || result.name.contains(query)))
-                .sorted(Comparator.comparing(result -> result.name))
-                .collect(toList());
+        return processToModel(query, new SuggestionIndex(nodes.asList().stream().map(ModelNode::asString).collect(toList())));
     }
 
     @Override
     protected List<ReadChildrenResult> processToModel(final String query, final CompositeResult compositeResult) {
         throw new UnsupportedOperationException();
     }
+
+    JsonObject[] process(String query, SuggestionIndex index) {
+        return asJson(processToModel(query, index));
+    }
+
+    private List<ReadChildrenResult> processToModel(String query, SuggestionIndex index) {
+        return index.match(query).stream().map(ReadChildrenResult::new).collect(toList());
+    }
 }
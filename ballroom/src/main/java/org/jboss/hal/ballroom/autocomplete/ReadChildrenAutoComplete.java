@@ -18,7 +18,6 @@ package org.jboss.hal.ballroom.autocomplete;
 import java.util.List;
 
 import org.jboss.hal.dmr.Composite;
-import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -30,6 +29,8 @@ import org.jboss.hal.meta.StatementContext;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 
+import elemental2.promise.Promise;
+
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
@@ -78,28 +79,39 @@ public class ReadChildrenAutoComplete extends AutoComplete {
             itemRenderer = new ReadChildrenRenderer();
         }
 
+        Suggestions suggestions = Suggestions.INSTANCE;
         Options options = new OptionsBuilder<JsonObject>((query, response) -> {
-            List<Operation> operations = stream(templates.spliterator(), false)
+            List<ResourceAddress> addresses = stream(templates.spliterator(), false)
                     .map(template -> template.resolve(statementContext))
+                    .collect(toList());
+            List<Operation> operations = addresses.stream()
                     .map(address -> operation(address, numberOfTemplates))
                     .collect(toList());
+            Promise<JsonObject[]> suggestion;
             if (operations.size() == 1) {
-                dispatcher.execute(operations.get(0),
-                        result -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
-                            logger.error(ERROR_MESSAGE, templates, error);
-                            response.response(new JsonObject[0]);
-
-                        });
+                Operation operation = operations.get(0);
+                ResourceAddress scope = scope(addresses.get(0));
+                if (resultProcessor instanceof NamesResultProcessor) {
+                    suggestion = suggestions.index(dispatcher, operation, scope)
+                            .then(index -> Promise.resolve(((NamesResultProcessor) resultProcessor).process(query, index)));
+                } else {
+                    suggestion = suggestions.execute(dispatcher, operation, scope)
+                            .then(result -> Promise.resolve(resultProcessor.process(query, result)));
+                }
             } else {
-                dispatcher.execute(new Composite(operations),
-                        (CompositeResult result) -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
-                            logger.error(ERROR_MESSAGE, templates, error);
-                            response.response(new JsonObject[0]);
-
-                        });
+                suggestion = suggestions.execute(dispatcher, new Composite(operations), addresses)
+                        .then(result -> Promise.resolve(resultProcessor.process(query, result)));
             }
+            suggestion
+                    .then(items -> {
+                        response.response(items);
+                        return null;
+                    })
+                    .catch_(error -> {
+                        logger.error(ERROR_MESSAGE, templates, error);
+                        response.response(new JsonObject[0]);
+                        return null;
+                    });
         }).renderItem(itemRenderer).build();
         init(options);
     }
@@ -110,6 +122,14 @@ public class ReadChildrenAutoComplete extends AutoComplete {
         }
     }
 
+    /** @return the address of the suggested resources, used to invalidate the suggestions */
+    private ResourceAddress scope(ResourceAddress address) {
+        if (address.isEmpty() || "*".equals(address.lastValue())) {
+            return address;
+        }
+        return new ResourceAddress().add(address.getParent()).add(address.lastName(), "*");
+    }
+
     private Operation operation(ResourceAddress address, int numberOfTemplates) {
         Operation operation;
 
@@ -15,17 +15,20 @@
  */
 package org.jboss.hal.ballroom.autocomplete;
 
-import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 
+import static org.jboss.hal.ballroom.form.SuggestHandler.SHOW_ALL_VALUE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPENDENT_ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUGGEST_CAPABILITIES;
 import static org.jboss.hal.meta.StatementContext.Expression.DOMAIN_CONTROLLER;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
+
 public class SuggestCapabilitiesAutoComplete extends AutoComplete {
 
     private static final AddressTemplate CAPABILITY_REGISTRY = AddressTemplate.of(DOMAIN_CONTROLLER,
@@ -39,23 +42,19 @@ public class SuggestCapabilitiesAutoComplete extends AutoComplete {
                 .param(NAME, capability)
                 .param(DEPENDENT_ADDRESS, template.resolve(statementContext))
                 .build();
-        Options options = new OptionsBuilder<String>((query, response) -> dispatcher.execute(operation,
-                result -> {
-                    if (result.isDefined()) {
-                        String[] items = result.asList().stream()
-                                .map(ModelNode::asString)
-                                .filter(value -> SHOW_ALL_VALUE.equals(query) ||
-                                        value.toLowerCase().contains(query.toLowerCase()))
-                                .sorted()
-                                .toArray(String[]::new);
-                        response.response(items);
-                    } else {
-                        response.response(new String[0]);
-                    }
-                },
-                (op, error) -> {
+        Options options = new OptionsBuilder<String>((query, response) -> Suggestions.INSTANCE
+                // capabilities are registered by resources anywhere in the model
+                .index(dispatcher, operation, ResourceAddress.root())
+                .then(index -> {
+                    // an empty query lists all capabilities
+                    String match = isNullOrEmpty(query) ? SHOW_ALL_VALUE : query;
+                    response.response(index.match(match).toArray(new String[0]));
+                    return null;
+                })
+                .catch_(error -> {
                     logger.error(ERROR_MESSAGE, capability, template, error);
                     response.response(new String[0]);
+                    return null;
                 })).build();
 
         init(options);
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.hal.ballroom.form.SuggestHandler;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Sorted index of suggestion values used to match the user input locally. Values are sorted and lowercased once, so that prefix
+ * matches can be found by a binary search. Matches are returned in two groups: first the values starting with the query, then
+ * the values containing the query. Both groups are sorted.
+ */
+class SuggestionIndex {
+
+    private final String[] values;
+    private final String[] keys;
+
+    SuggestionIndex(Collection<String> values) {
+        this.values = values.toArray(new String[0]);
+        Arrays.sort(this.values, comparing((String value) -> value.toLowerCase()).thenComparing(naturalOrder()));
+        this.keys = new String[this.values.length];
+        for (int i = 0; i < this.values.length; i++) {
+            this.keys[i] = this.values[i].toLowerCase();
+        }
+    }
+
+    List<String> match(String query) {
+        if (isNullOrEmpty(query)) {
+            return Collections.emptyList();
+        } else if (SuggestHandler.SHOW_ALL_VALUE.equals(query)) {
+            return Arrays.asList(values);
+        }
+
+        String key = query.toLowerCase();
+        int from = lowerBound(key);
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(key)) {
+            to++;
+        }
+
+        List<String> matches = new ArrayList<>();
+        matches.addAll(Arrays.asList(values).subList(from, to));
+        for (int i = 0; i < keys.length; i++) {
+            if ((i < from || i >= to) && keys[i].contains(key)) {
+                matches.add(values[i]);
+            }
+        }
+        return matches;
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Suggestion service shared by all auto complete instances. The operations which read the suggestions are executed once and
+ * their results are kept, so that the user input can be matched locally instead of sending one request per keystroke.
+ * Concurrent requests for the same operation share one request.
+ * <p>
+ * Each result is registered with a scope (the addresses of the suggested resources). Results are dropped if a
+ * {@link ModelChangedEvent} reports an {@code add} or {@code remove} operation within the scope and expire after
+ * {@link #MAX_AGE} to pick up changes made by other clients. Expired results are purged whenever a new result is registered.
+ * <p>
+ * The service is bound as singleton. Auto complete instances are not created by GIN and use {@link #INSTANCE}. The
+ * operations are executed by the dispatcher of the calling auto complete.
+ */
+public class Suggestions {
+
+    @Inject public static Suggestions INSTANCE; // use only if no DI is available!
+    static final long MAX_AGE = 60_000; // ms
+    private static final Logger logger = LoggerFactory.getLogger(Suggestions.class);
+
+    private final Map<String, Entry> entries;
+
+    @Inject
+    public Suggestions(EventBus eventBus) {
+        this.entries = new HashMap<>();
+        eventBus.addHandler(ModelChangedEvent.getType(), this::onModelChanged);
+    }
+
+    /** @return the result of the operation */
+    Promise<ModelNode> execute(Dispatcher dispatcher, Operation operation, ResourceAddress scope) {
+        return entry(dispatcher, operation, singletonList(scope)).payload
+                .then(payload -> Promise.resolve(payload.get(RESULT)));
+    }
+
+    /** @return the result of the composite operation */
+    Promise<CompositeResult> execute(Dispatcher dispatcher, Composite composite, List<ResourceAddress> scopes) {
+        return entry(dispatcher, composite, scopes).payload
+                .then(payload -> Promise.resolve(new CompositeResult(payload.get(RESULT))));
+    }
+
+    /** @return an index for an operation which returns a list of strings */
+    Promise<SuggestionIndex> index(Dispatcher dispatcher, Operation operation, ResourceAddress scope) {
+        Entry entry = entry(dispatcher, operation, singletonList(scope));
+        if (entry.index == null) {
+            entry.index = entry.payload.then(payload -> {
+                ModelNode result = payload.get(RESULT);
+                List<String> values = result.isDefined()
+                        ? result.asList().stream().map(ModelNode::asString).collect(toList())
+                        : emptyList();
+                return Promise.resolve(new SuggestionIndex(values));
+            });
+        }
+        return entry.index;
+    }
+
+    private Entry entry(Dispatcher dispatcher, Operation operation, List<ResourceAddress> scopes) {
+        String key = operation.toBase64String();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expired()) {
+            Entry created = new Entry(scopes, dispatcher.dmr(operation));
+            created.payload.catch_(error -> {
+                if (entries.get(key) == created) {
+                    entries.remove(key);
+                }
+                return null;
+            });
+            entries.values().removeIf(Entry::expired);
+            entries.put(key, created);
+            entry = created;
+        }
+        return entry;
+    }
+
+    private void onModelChanged(ModelChangedEvent event) {
+        for (Operation operation : event.getOperations()) {
+            if (ADD.equals(operation.getName()) || REMOVE.equals(operation.getName())) {
+                ResourceAddress address = operation.getAddress();
+                if (entries.values().removeIf(entry -> entry.overlaps(address))) {
+                    logger.debug("Invalidated suggestions for {}", address);
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+
+        final List<ResourceAddress> scopes;
+        final Promise<ModelNode> payload;
+        final long created;
+        Promise<SuggestionIndex> index;
+
+        Entry(List<ResourceAddress> scopes, Promise<ModelNode> payload) {
+            this.scopes = scopes;
+            this.payload = payload;
+            this.created = System.currentTimeMillis();
+        }
+
+        boolean expired() {
+            return System.currentTimeMillis() - created > MAX_AGE;
+        }
+
+        boolean overlaps(ResourceAddress address) {
+            for (ResourceAddress scope : scopes) {
+                if (scope.overlaps(address)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -33,7 +33,10 @@ import org.jboss.hal.resources.Constants;
 import org.jboss.hal.resources.Icons;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -50,6 +53,7 @@ import elemental2.dom.HTMLLegendElement;
 import elemental2.dom.HTMLUListElement;
 import jsinterop.base.Js;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 
 import static elemental2.dom.DomGlobal.setTimeout;
@@ -113,9 +117,14 @@ import static org.jboss.hal.resources.UIConstants.MEDIUM_TIMEOUT;
  * <li>read-only</li>
  * <li>editing</li>
  * </ul>
+ * <p>
+ * Forms can be {@linkplain #lazy(boolean) lazy}: In that case the editing section is rendered and its appearances and suggest
+ * handlers are attached on the first switch to edit. The times needed to build and render a form are available as
+ * {@linkplain #getMetrics() metrics}.
  */
 public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(AbstractForm.class);
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Messages MESSAGES = GWT.create(Messages.class);
     private static final String MODEL_MUST_NOT_BE_NULL = "Model must not be null in ";
@@ -132,6 +141,10 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
     private final LinkedHashMap<String, SafeHtml> helpTexts;
     private final List<FormValidation> formValidations;
     private boolean separateOptionalFields;
+    private boolean lazy;
+    private boolean attached;
+    private boolean editingRendered;
+    private final FormMetrics metrics;
 
     private T model;
     private final EmptyState emptyState;
@@ -164,6 +177,7 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
         this.unboundItems = new HashSet<>();
         this.helpTexts = new LinkedHashMap<>();
         this.formValidations = new ArrayList<>();
+        this.metrics = new FormMetrics(id);
     }
 
     protected void addFormItem(FormItem formItem, FormItem... formItems) {
@@ -172,10 +186,32 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
             item.setId(Ids.build(id, item.getName()));
             if (item instanceof AbstractFormItem) {
                 ((AbstractFormItem) item).setForm(this);
+                if (lazy) {
+                    ((AbstractFormItem) item).deferEditing();
+                }
             }
         }
     }
 
+    /**
+     * Renders the editing section on the first switch to edit. Has no effect if the form doesn't support both the read-only and
+     * the editing state. Must be called before the form element is created.
+     */
+    protected void lazy(boolean lazy) {
+        this.lazy = lazy && stateMachine.supports(READONLY) && stateMachine.supports(EDITING);
+        if (this.lazy) {
+            for (FormItem formItem : getFormItems()) {
+                if (formItem instanceof AbstractFormItem) {
+                    ((AbstractFormItem) formItem).deferEditing();
+                }
+            }
+        }
+    }
+
+    protected boolean isLazy() {
+        return lazy;
+    }
+
     protected void separateOptionalFields(boolean separateOptionalFields) {
         this.separateOptionalFields = separateOptionalFields;
     }
@@ -197,6 +233,7 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
 
     @Override
     protected HTMLElement createElement() {
+        Stopwatch stopwatch = Stopwatch.createStarted();
         HTMLElement section = section().id(id).css(formSection).element();
 
         formLinks = new FormLinks<>(this, stateMachine, helpTexts,
@@ -230,7 +267,13 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
             panels.put(READONLY, viewPanel());
         }
         if (stateMachine.supports(EDITING)) {
-            panels.put(EDITING, editPanel());
+            HTMLElement editPanel = div()
+                    .id(Ids.build(id, EDITING.name().toLowerCase()))
+                    .css(form, formHorizontal, editing).element();
+            if (!lazy) {
+                renderEditPanel(editPanel);
+            }
+            panels.put(EDITING, editPanel);
         }
         for (HTMLElement element : panels.values()) {
             section.appendChild(element);
@@ -254,6 +297,11 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
         } else {
             flip(panels.keySet().iterator().next());
         }
+
+        metrics.setItems(formItems.size());
+        metrics.setLazy(lazy);
+        metrics.setRenderTime(stopwatch.elapsed(MILLISECONDS));
+        logger.debug("Rendered {}", metrics);
         return section;
     }
 
@@ -272,10 +320,7 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
         return viewPanel;
     }
 
-    private HTMLElement editPanel() {
-        HTMLElement editPanel = div()
-                .id(Ids.build(id, EDITING.name().toLowerCase()))
-                .css(form, formHorizontal, editing).element();
+    private void renderEditPanel(HTMLElement editPanel) {
         editPanel.appendChild(errorPanel);
         boolean hasRequiredField = false;
         boolean hasOptionalField = false;
@@ -336,17 +381,41 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
                                         .on(click, event -> save()))))
                 .element();
         editPanel.appendChild(buttons);
+    }
+
+    /** Renders the editing section of a lazy form, if it hasn't been rendered yet. */
+    private void renderEditing() {
+        if (lazy && !editingRendered) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            editingRendered = true;
+            beforeFirstEdit();
+            renderEditPanel(panels.get(EDITING));
+            for (FormItem formItem : getFormItems()) {
+                if (formItem instanceof AbstractFormItem) {
+                    ((AbstractFormItem) formItem).attachEditing(attached);
+                }
+            }
+            metrics.setEditingTime(stopwatch.elapsed(MILLISECONDS));
+            logger.debug("Rendered editing state of {}", metrics);
+        }
+    }
 
-        return editPanel;
+    /**
+     * Gives lazy forms a way to set up things which are only needed in the editing state like validations. Called once before
+     * the editing section is rendered.
+     */
+    protected void beforeFirstEdit() {
     }
 
     @Override
     public void attach() {
+        attached = true;
         getFormItems().forEach(Attachable::attach);
     }
 
     @Override
     public void detach() {
+        attached = false;
         stateMachine.reset();
         getFormItems().forEach(Attachable::detach);
     }
@@ -545,6 +614,7 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
                 break;
             case EDITING:
                 formLinks.setVisible(false, false, false, true);
+                renderEditing();
                 prepareEditState();
                 break;
             default:
@@ -609,6 +679,10 @@ public abstract class AbstractForm<T> extends LazyElement implements Form<T> {
         return id;
     }
 
+    public FormMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public T getModel() {
         return model;
@@ -86,6 +86,7 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
     private boolean enabled;
     private boolean expressionAllowed;
     private Deprecation deprecation;
+    private boolean editingDeferred;
 
     private Form form;
     private SuggestHandler suggestHandler;
@@ -111,6 +112,7 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
         this.enabled = true;
         this.expressionAllowed = true;
         this.deprecation = null;
+        this.editingDeferred = false;
 
         this.suggestHandler = null;
         this.eventBus = new SimpleEventBus();
@@ -149,6 +151,9 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
     /**
      * Calls {@code SuggestHandler.attach()} in case there was one registered. If you override this method, please call
      * {@code super.attach()} to keep this behaviour.
+     * <p>
+     * If the editing state is {@linkplain #deferEditing() deferred}, neither the editing appearance nor the suggest handler are
+     * attached. They're attached in {@link #attachEditing(boolean)} instead.
      */
     @Override
     public void attach() {
@@ -156,12 +161,13 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
             // if there's a back reference use it to attach only the appearances which are supported by the form
             for (Map.Entry<State, Appearance<T>> entry : appearances.entrySet()) {
                 State state = entry.getKey();
-                if (form.getStateMachine().supports(state)) {
+                if (form.getStateMachine().supports(state) && !(state == State.EDITING && editingDeferred)) {
                     Appearance<T> appearance = entry.getValue();
                     appearance.attach();
                 }
             }
-            if (form.getStateMachine().supports(State.EDITING) && suggestHandler instanceof Attachable) {
+            if (form.getStateMachine().supports(State.EDITING) && !editingDeferred
+                    && suggestHandler instanceof Attachable) {
                 ((Attachable) suggestHandler).attach();
             }
 
@@ -173,6 +179,33 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
         }
     }
 
+    /**
+     * Defers the attachment of the editing appearance and the suggest handler until {@link #attachEditing(boolean)} is called.
+     * Used by forms which render the editing state on the first switch to edit.
+     */
+    void deferEditing() {
+        editingDeferred = true;
+    }
+
+    /**
+     * Ends the deferral of the editing state. If the form item has already been attached, the editing appearance and the
+     * suggest handler are attached now. Otherwise they're attached together with the other appearances in {@link #attach()}.
+     */
+    void attachEditing(boolean attached) {
+        if (editingDeferred) {
+            editingDeferred = false;
+            if (attached) {
+                Appearance<T> appearance = appearance(State.EDITING);
+                if (appearance != null) {
+                    appearance.attach();
+                }
+                if (suggestHandler instanceof Attachable) {
+                    ((Attachable) suggestHandler).attach();
+                }
+            }
+        }
+    }
+
     @Override
     public void detach() {
         if (suggestHandler instanceof Attachable) {
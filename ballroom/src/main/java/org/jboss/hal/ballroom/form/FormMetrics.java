@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.form;
+
+/**
+ * Render-time metrics of a form. All times are in milliseconds. Times which haven't been measured yet are -1.
+ */
+public class FormMetrics {
+
+    private final String id;
+    private int items;
+    private boolean lazy;
+    private long buildTime;
+    private long renderTime;
+    private long editingTime;
+
+    FormMetrics(String id) {
+        this.id = id;
+        this.buildTime = -1;
+        this.renderTime = -1;
+        this.editingTime = -1;
+    }
+
+    @Override
+    public String toString() {
+        return "FormMetrics(" + id + ", items: " + items + ", lazy: " + lazy + ", build: " + buildTime + " ms, render: "
+                + renderTime + " ms, editing: " + editingTime + " ms)";
+    }
+
+    /** @return the number of form items */
+    public int getItems() {
+        return items;
+    }
+
+    void setItems(int items) {
+        this.items = items;
+    }
+
+    /** @return whether the editing state is rendered on the first switch to edit */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /** @return the time to create the form and its form items */
+    public long getBuildTime() {
+        return buildTime;
+    }
+
+    public void setBuildTime(long buildTime) {
+        this.buildTime = buildTime;
+    }
+
+    /** @return the time to create the form element including the initial panels */
+    public long getRenderTime() {
+        return renderTime;
+    }
+
+    void setRenderTime(long renderTime) {
+        this.renderTime = renderTime;
+    }
+
+    /**
+     * @return the time to render the editing state on the first switch to edit. Only measured if the form is
+     *         {@linkplain #isLazy() lazy}.
+     */
+    public long getEditingTime() {
+        return editingTime;
+    }
+
+    void setEditingTime(long editingTime) {
+        this.editingTime = editingTime;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class SuggestionIndexTest {
+
+    private SuggestionIndex index;
+
+    @Before
+    public void setUp() {
+        index = new SuggestionIndex(Arrays.asList("public", "ExampleDS", "management", "private", "unsecure"));
+    }
+
+    @Test
+    public void empty() {
+        assertTrue(index.match(null).isEmpty());
+        assertTrue(index.match("").isEmpty());
+        assertTrue(new SuggestionIndex(emptyList()).match("foo").isEmpty());
+    }
+
+    @Test
+    public void showAll() {
+        assertEquals(Arrays.asList("ExampleDS", "management", "private", "public", "unsecure"), index.match("*"));
+    }
+
+    @Test
+    public void prefixFirst() {
+        assertEquals(Arrays.asList("management", "ExampleDS"), index.match("m"));
+        assertEquals(Arrays.asList("private", "public", "ExampleDS"), index.match("p"));
+    }
+
+    @Test
+    public void ignoreCase() {
+        assertEquals(Arrays.asList("ExampleDS"), index.match("exa"));
+        assertEquals(Arrays.asList("ExampleDS"), index.match("DS"));
+    }
+
+    @Test
+    public void noMatch() {
+        assertTrue(index.match("foo").isEmpty());
+        assertTrue(index.match("zzz").isEmpty());
+    }
+}
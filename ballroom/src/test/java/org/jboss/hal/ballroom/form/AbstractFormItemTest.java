@@ -129,6 +129,28 @@ public class AbstractFormItemTest {
         verify(editingAppearance).attach();
     }
 
+    @Test
+    public void attachDeferred() {
+        AbstractFormItem<String> formItem = deferredFormItem();
+        formItem.attach();
+        verify(readOnlyAppearance).attach();
+        verify(editingAppearance, never()).attach();
+
+        formItem.attachEditing(true);
+        verify(editingAppearance).attach();
+    }
+
+    @Test
+    public void attachDeferredBeforeAttach() {
+        AbstractFormItem<String> formItem = deferredFormItem();
+        formItem.attachEditing(false);
+        verify(editingAppearance, never()).attach();
+
+        formItem.attach();
+        verify(readOnlyAppearance).attach();
+        verify(editingAppearance).attach();
+    }
+
     @Test
     public void detach() {
         AbstractFormItem<String> formItem = formItem(false);
@@ -508,6 +530,15 @@ public class AbstractFormItemTest {
 
     // ------------------------------------------------------ helper methods
 
+    private AbstractFormItem<String> deferredFormItem() {
+        Form<?> form = mock(Form.class);
+        when(form.getStateMachine()).thenReturn(new ExistingStateMachine(false));
+        AbstractFormItem<String> formItem = formItem(false);
+        formItem.setForm(form);
+        formItem.deferEditing();
+        return formItem;
+    }
+
     private AbstractFormItem<String> formItem(boolean expression) {
         return formItem(expression, null);
     }
@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.config;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.hal.config.rebind.EnvironmentGenerator;
 
@@ -39,6 +41,7 @@ public abstract class AbstractEnvironment implements Environment {
     private final Roles roles;
     private final boolean devMode;
     private final boolean productionMode;
+    private final Map<String, Version> subsystemVersions;
     private String name;
     private String organization;
     private OperationMode operationMode;
@@ -65,6 +68,7 @@ public abstract class AbstractEnvironment implements Environment {
         this.primarySecondary = true;
         this.domainController = null;
         this.managementVersion = Version.EMPTY_VERSION;
+        this.subsystemVersions = new HashMap<>();
         this.accessControlProvider = AccessControlProvider.SIMPLE;
         this.stabilityLevel = COMMUNITY;
         this.stabilityLevels = StabilityLevel.values();
@@ -160,6 +164,17 @@ public abstract class AbstractEnvironment implements Environment {
         managementVersion = version;
     }
 
+    @Override
+    public Version getSubsystemVersion(String subsystem) {
+        return subsystemVersions.getOrDefault(subsystem, Version.EMPTY_VERSION);
+    }
+
+    @Override
+    public void setSubsystemVersions(Map<String, Version> versions) {
+        subsystemVersions.clear();
+        subsystemVersions.putAll(versions);
+    }
+
     @Override
     public AccessControlProvider getAccessControlProvider() {
         return accessControlProvider;
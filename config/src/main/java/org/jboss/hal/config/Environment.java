@@ -16,6 +16,7 @@
 package org.jboss.hal.config;
 
 import java.util.List;
+import java.util.Map;
 
 /** Instance holding information about the console and its environment. */
 public interface Environment {
@@ -66,6 +67,14 @@ public interface Environment {
 
     void setManagementVersion(Version version);
 
+    /**
+     * @return the management model version of the specified subsystem or {@link Version#EMPTY_VERSION} if the version is
+     *         unknown.
+     */
+    Version getSubsystemVersion(String subsystem);
+
+    void setSubsystemVersions(Map<String, Version> versions);
+
     AccessControlProvider getAccessControlProvider();
 
     void setAccessControlProvider(AccessControlProvider accessControlProvider);
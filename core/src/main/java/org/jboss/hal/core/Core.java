@@ -20,6 +20,7 @@ import javax.inject.Inject;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.accesscontrol.AccessControl;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
+import org.jboss.hal.core.runtime.PollingCoalescer;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.StatementContext;
 
@@ -37,6 +38,8 @@ public class Core {
     private final StatementContext statementContext;
     private final AccessControl accessControl;
     private final TableButtonFactory tableButtonFactory;
+    private final ModelChanges modelChanges;
+    private final PollingCoalescer pollingCoalescer;
 
     @Inject
     public Core(Dispatcher dispatcher,
@@ -44,13 +47,17 @@ public class Core {
             EventBus eventBus,
             StatementContext statementContext,
             AccessControl accessControl,
-            TableButtonFactory tableButtonFactory) {
+            TableButtonFactory tableButtonFactory,
+            ModelChanges modelChanges,
+            PollingCoalescer pollingCoalescer) {
         this.dispatcher = dispatcher;
         this.environment = environment;
         this.eventBus = eventBus;
         this.statementContext = statementContext;
         this.accessControl = accessControl;
         this.tableButtonFactory = tableButtonFactory;
+        this.modelChanges = modelChanges;
+        this.pollingCoalescer = pollingCoalescer;
     }
 
     /**
@@ -85,4 +92,12 @@ public class Core {
     public TableButtonFactory tableButtonFactory() {
         return tableButtonFactory;
     }
+
+    public ModelChanges modelChanges() {
+        return modelChanges;
+    }
+
+    public PollingCoalescer pollingCoalescer() {
+        return pollingCoalescer;
+    }
 }
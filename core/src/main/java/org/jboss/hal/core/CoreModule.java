@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.core;
 
+import org.jboss.hal.ballroom.autocomplete.Suggestions;
 import org.jboss.hal.core.accesscontrol.AccessControl;
 import org.jboss.hal.core.deployment.DeploymentResources;
 import org.jboss.hal.core.elytron.CredentialReference;
@@ -30,6 +31,8 @@ import org.jboss.hal.core.mbui.MbuiContext;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
 import org.jboss.hal.core.modelbrowser.ModelBrowser;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.PollingCoalescer;
+import org.jboss.hal.core.runtime.TopologyLoader;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -65,18 +68,23 @@ public class CoreModule extends AbstractGinModule {
         bind(ItemActionFactory.class).in(Singleton.class);
         bind(ItemMonitor.class).in(Singleton.class);
         bind(ModelBrowser.class);
+        bind(ModelChanges.class).asEagerSingleton(); // to register the event handler
         bind(Core.class).in(Singleton.class);
         bind(Places.class).in(Singleton.class);
+        bind(PollingCoalescer.class).in(Singleton.class);
         bind(ServerActions.class).in(Singleton.class);
         bind(ServerGroupActions.class).in(Singleton.class);
         bind(ServerUrlStorage.class).in(Singleton.class);
         bind(StatementContext.class).to(CoreStatementContext.class).asEagerSingleton(); // to register the event handler
         bind(Subsystems.class).in(Singleton.class);
+        bind(Suggestions.class).in(Singleton.class);
         bind(TableButtonFactory.class).in(Singleton.class);
+        bind(TopologyLoader.class).asEagerSingleton(); // to register the event handlers
         bind(MbuiContext.class).in(Singleton.class);
         bind(UIRegistry.class).in(Singleton.class);
 
         requestStaticInjection(Core.class);
+        requestStaticInjection(Suggestions.class);
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Keeps track of the changes of the management model. Each {@link ModelChangedEvent} increases the {@linkplain #version()
+ * version} and records the changed addresses. Clients remember the version when they read data and use
+ * {@link #changedSince(long, ResourceAddress)} to find out whether the data needs to be read again.
+ * <p>
+ * Changes made by other clients are only known while they're {@linkplain #setTracking(boolean) tracked}. If they're not
+ * tracked, everything is considered to be changed. Only the last {@value #CAPACITY} changes are recorded. Older versions are
+ * considered to be changed as well.
+ */
+public class ModelChanges {
+
+    static final int CAPACITY = 256;
+    private static final Logger logger = LoggerFactory.getLogger(ModelChanges.class);
+
+    private final Deque<Change> changes;
+    private long version;
+    private boolean tracking;
+
+    @Inject
+    public ModelChanges(EventBus eventBus) {
+        this.changes = new ArrayDeque<>();
+        this.version = 0;
+        this.tracking = false;
+        eventBus.addHandler(ModelChangedEvent.getType(), event -> record(event.getAddresses()));
+    }
+
+    /** @return the current version of the management model */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return {@code true} if a resource at, below or above the specified address has been changed after the specified version
+     *         or if that's unknown
+     */
+    public boolean changedSince(long version, ResourceAddress address) {
+        if (!tracking || version < oldest()) {
+            return true;
+        }
+        for (Change change : changes) {
+            if (change.version > version && change.overlaps(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Specifies whether changes made by other clients are tracked. When tracking starts, all versions up to now are considered
+     * to be changed, since changes made by other clients might have been missed.
+     */
+    public void setTracking(boolean tracking) {
+        if (tracking && !this.tracking) {
+            record(singletonList(ResourceAddress.root()));
+        }
+        if (tracking != this.tracking) {
+            logger.debug("Tracking of external model changes: {}", tracking ? "on" : "off");
+        }
+        this.tracking = tracking;
+    }
+
+    /** Considers everything as changed, e.g. to make sure data is read again. */
+    public void invalidate() {
+        record(singletonList(ResourceAddress.root()));
+    }
+
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    void record(List<ResourceAddress> addresses) {
+        version++;
+        changes.addLast(new Change(version, addresses));
+        while (changes.size() > CAPACITY) {
+            changes.removeFirst();
+        }
+    }
+
+    /** @return the oldest version which can be answered by the recorded changes */
+    private long oldest() {
+        return changes.isEmpty() ? version : changes.peekFirst().version - 1;
+    }
+
+    private static class Change {
+
+        final long version;
+        final List<ResourceAddress> addresses;
+
+        Change(long version, List<ResourceAddress> addresses) {
+            this.version = version;
+            this.addresses = addresses;
+        }
+
+        boolean overlaps(ResourceAddress address) {
+            for (ResourceAddress changed : addresses) {
+                if (changed.overlaps(address)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -16,12 +16,15 @@
 package org.jboss.hal.core.finder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -34,6 +37,7 @@ import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.processing.MetadataPrefetcher;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.spi.Footer;
@@ -85,6 +89,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     private final PlaceManager placeManager;
     private final ColumnRegistry columnRegistry;
     private final SecurityContextRegistry securityContextRegistry;
+    private final MetadataPrefetcher metadataPrefetcher;
     private final Provider<Progress> progress;
     private final FinderContext context;
     private final LinkedHashMap<String, FinderColumn<?>> columns;
@@ -102,6 +107,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
             PlaceManager placeManager,
             ColumnRegistry columnRegistry,
             SecurityContextRegistry securityContextRegistry,
+            MetadataPrefetcher metadataPrefetcher,
             @Footer Provider<Progress> progress) {
 
         this.environment = environment;
@@ -109,6 +115,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         this.placeManager = placeManager;
         this.columnRegistry = columnRegistry;
         this.securityContextRegistry = securityContextRegistry;
+        this.metadataPrefetcher = metadataPrefetcher;
         this.progress = progress;
 
         this.context = new FinderContext();
@@ -254,6 +261,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     void updateContext() {
         context.getPath().clear();
 
+        FinderColumn<?> lastColumn = null;
         for (HTMLElement columnElement : Elements.children(root)) {
             if (columnElement == previewColumn) {
                 break;
@@ -261,8 +269,32 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
             String key = columnElement.id;
             FinderColumn<?> column = columns.get(key);
             context.getPath().append(column);
+            lastColumn = column;
         }
         eventBus.fireEvent(new FinderContextEvent(context));
+
+        // the user navigated: forget about the old candidates and prefer the places of the selected item
+        metadataPrefetcher.cancel();
+        if (lastColumn != null && lastColumn.selectedRow() != null) {
+            metadataPrefetcher.prefetch(lastColumn.selectedRow().getNameTokens(), MetadataPrefetcher.Priority.HIGH);
+        }
+    }
+
+    /**
+     * Prefetches the metadata for the next columns and the places referenced by the given rows. Since most rows of a column
+     * share the same next column and places, this usually boils down to a few ids.
+     */
+    void prefetch(Collection<? extends FinderRow<?>> rows) {
+        Set<String> nextColumns = new LinkedHashSet<>();
+        Set<String> nameTokens = new LinkedHashSet<>();
+        for (FinderRow<?> row : rows) {
+            if (row.getNextColumn() != null) {
+                nextColumns.add(row.getNextColumn());
+            }
+            nameTokens.addAll(row.getNameTokens());
+        }
+        metadataPrefetcher.prefetch(nextColumns, MetadataPrefetcher.Priority.NORMAL);
+        metadataPrefetcher.prefetch(nameTokens, MetadataPrefetcher.Priority.LOW);
     }
 
     void updateHistory() {
@@ -352,6 +384,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     public void reset(String token, String initialColumn, PreviewContent<?> initialPreview) {
         initialColumnsByToken.put(token, initialColumn);
         initialPreviewsByToken.put(token, initialPreview);
+        metadataPrefetcher.cancel();
 
         for (FinderColumn<?> column : columns.values()) {
             column.detach();
@@ -58,6 +58,7 @@ import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 import elemental2.dom.KeyboardEvent;
+import elemental2.dom.Node;
 import elemental2.dom.NodeList;
 import elemental2.promise.Promise;
 
@@ -76,6 +77,7 @@ import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
 import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.EventType.scroll;
 import static org.jboss.elemento.InputType.text;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Escape;
@@ -118,12 +120,20 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
  * Please do not use constants from {@code ModelDescriptionConstants} for the column ids (it makes refactoring harder). Instead
  * add an id to {@link Ids}.
  * <p>
+ * Columns with more than {@value #WINDOW_THRESHOLD} items switch to a windowed mode: The items are kept in memory, but only the
+ * rows in the visible part of the column are added to the DOM.
+ * <p>
  * TODO This class is huge! Try to refactor and break into smaller pieces.
  *
  * @param <T> The column and items type.
  */
 public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
+    /** Number of items after which only the visible rows are rendered. */
+    static final int WINDOW_THRESHOLD = 250;
+    private static final int ROW_HEIGHT = 50; // px, see finder.less
+    private static final int OVERSCAN = 10; // rows rendered above and below the visible part
+    private static final int DEFAULT_VIEWPORT = 1_000; // px, used as long as the column has no height
     private static final String DOT = ".";
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Logger logger = LoggerFactory.getLogger(FinderColumn.class);
@@ -156,6 +166,15 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
     private final BreadcrumbItemHandler<T> breadcrumbItemHandler;
 
+    // windowed mode
+    private final HTMLElement topSpacer;
+    private final HTMLElement bottomSpacer;
+    private FinderItems<T> windowedItems;
+    private String selectedId;
+    private int rowHeight;
+    private int windowStart;
+    private int windowEnd;
+
     // ------------------------------------------------------ ui
 
     protected FinderColumn(Builder<T> builder) {
@@ -243,6 +262,18 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         noItems = li().css(empty)
                 .add(span().css(itemText).textContent(CONSTANTS.noItems()))
                 .element();
+
+        // placeholders for the rows outside the window
+        topSpacer = spacer();
+        bottomSpacer = spacer();
+        rowHeight = ROW_HEIGHT;
+    }
+
+    private HTMLElement spacer() {
+        HTMLElement spacer = li().element();
+        spacer.style.setProperty("min-height", "0");
+        spacer.style.setProperty("padding", "0");
+        return spacer;
     }
 
     private HTMLElement newColumnButton(ColumnAction<T> action) {
@@ -315,10 +346,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private void updateHeader(int matched) {
         if (showCount) {
             String titleWithSize;
-            if (matched == rows.size()) {
-                titleWithSize = title + " (" + rows.size() + ")";
+            int size = windowed() ? windowedItems.size() : rows.size();
+            if (matched == size) {
+                titleWithSize = title + " (" + size + ")";
             } else {
-                titleWithSize = title + " (" + matched + " / " + rows.size() + ")";
+                titleWithSize = title + " (" + matched + " / " + size + ")";
             }
             headerElement.textContent = titleWithSize;
             headerElement.title = titleWithSize;
@@ -329,6 +361,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     public void attach() {
         handlers.add(bind(root, keydown, this::onNavigation));
         handlers.add(bind(hiddenColumns, click, event -> finder.revealHiddenColumns(FinderColumn.this)));
+        handlers.add(bind(ulElement, scroll, event -> {
+            if (windowed()) {
+                renderWindow(false);
+            }
+        }));
         if (filterElement != null) {
             handlers.add(bind(filterElement, keydown, this::onNavigation));
             handlers.add(bind(filterElement, keyup, this::onFilter));
@@ -357,18 +394,25 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
         int matched = 0;
         String filter = filterElement.value;
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Object filterData = li.dataset.get(DATA_FILTER);
-            boolean match = filter == null
-                    || filter.trim().length() == 0
-                    || filterData == null
-                    || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
-            Elements.setVisible(li, match);
-            if (match) {
-                matched++;
+        if (windowed()) {
+            matched = windowedItems.filter(filter);
+            ulElement.scrollTop = 0;
+            renderWindow(true);
+        } else {
+            String lowerCaseFilter = filter != null ? filter.toLowerCase() : null;
+            for (HTMLElement li : Elements.children(ulElement)) {
+                if (li == noItems) {
+                    continue;
+                }
+                Object filterData = li.dataset.get(DATA_FILTER);
+                boolean match = filter == null
+                        || filter.trim().length() == 0
+                        || filterData == null
+                        || String.valueOf(filterData).toLowerCase().contains(lowerCaseFilter);
+                Elements.setVisible(li, match);
+                if (match) {
+                    matched++;
+                }
             }
         }
         updateHeader(matched);
@@ -385,6 +429,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private void clearFilter() {
         filterElement.value = "";
+        if (windowed()) {
+            updateHeader(windowedItems.filter(null));
+            renderWindow(true);
+        }
         for (HTMLElement li : Elements.children(ulElement)) {
             if (li == noItems) {
                 continue;
@@ -402,6 +450,23 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                 case ArrowUp:
                 case ArrowDown: {
+                    if (windowed()) {
+                        int index = windowedItems.visibleIndexOf(selectedId);
+                        int size = windowedItems.visibleSize();
+                        int next;
+                        if (key == ArrowUp) {
+                            next = index < 0 ? size - 1 : index - 1;
+                        } else {
+                            next = index < 0 ? 0 : index + 1;
+                        }
+                        if (next >= 0 && next < size) {
+                            event.preventDefault();
+                            event.stopPropagation();
+
+                            row(windowedItems.visible(next).id).click();
+                        }
+                        break;
+                    }
                     HTMLElement activeElement = activeElement();
                     if (!Elements.isVisible(activeElement)) {
                         activeElement = null;
@@ -443,19 +508,19 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case ArrowRight: {
-                    HTMLElement activeElement = activeElement();
-                    String nextColumn = row(activeElement).getNextColumn();
-                    if (Elements.isVisible(activeElement) && nextColumn != null) {
+                    FinderRow<T> activeRow = activeRow();
+                    String nextColumn = activeRow != null ? activeRow.getNextColumn() : null;
+                    if (nextColumn != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
                         finder.reduceTo(this);
                         finder.appendColumn(nextColumn)
                                 .then(column -> {
-                                    if (column.activeElement() == null && column.hasVisibleElements()) {
-                                        HTMLElement firstElement = column.nextVisibleElement(null);
-                                        column.markSelected(firstElement.id);
-                                        column.row(firstElement).updatePreview();
+                                    if (column.selectedRow() == null && column.hasVisibleElements()) {
+                                        FinderRow<?> firstRow = column.firstVisibleRow();
+                                        column.markSelected(firstRow.getId());
+                                        firstRow.updatePreview();
                                     }
                                     finder.updateContext();
                                     finder.updateHistory();
@@ -472,14 +537,14 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case Enter: {
-                    HTMLElement activeItem = activeElement();
-                    T item = row(activeItem).getItem();
-                    ItemActionHandler<T> primaryAction = row(activeItem).getPrimaryAction();
-                    if (Elements.isVisible(activeItem) && item != null && primaryAction != null) {
+                    FinderRow<T> activeRow = activeRow();
+                    T item = activeRow != null ? activeRow.getItem() : null;
+                    ItemActionHandler<T> primaryAction = activeRow != null ? activeRow.getPrimaryAction() : null;
+                    if (item != null && primaryAction != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        row(activeItem).click();
+                        activeRow.click();
                         primaryAction.execute(item);
                     }
                     break;
@@ -505,7 +570,26 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         return (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
     }
 
+    /** @return the selected row if it matches the filter, {@code null} otherwise */
+    private FinderRow<T> activeRow() {
+        if (windowed()) {
+            return windowedItems.visibleIndexOf(selectedId) >= 0 ? rows.get(selectedId) : null;
+        }
+        HTMLElement activeElement = activeElement();
+        return activeElement != null && Elements.isVisible(activeElement) ? row(activeElement) : null;
+    }
+
+    private FinderRow<T> firstVisibleRow() {
+        if (windowed()) {
+            return windowedItems.visibleSize() != 0 ? row(windowedItems.visible(0).id) : null;
+        }
+        return row(nextVisibleElement(null));
+    }
+
     private boolean hasVisibleElements() {
+        if (windowed()) {
+            return windowedItems.visibleSize() != 0;
+        }
         for (HTMLElement element : Elements.children(ulElement)) {
             if (Elements.isVisible(element) && element != noItems) {
                 return true;
@@ -530,7 +614,22 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         return element;
     }
 
+    /**
+     * Returns the row for the specified item. In windowed mode the row is created if necessary and the column is scrolled so
+     * that the row becomes part of the window.
+     */
     FinderRow<T> row(String itemId) {
+        if (windowed()) {
+            FinderItems.Entry<T> entry = windowedItems.get(itemId);
+            if (entry == null) {
+                return null;
+            }
+            int index = windowedItems.visibleIndexOf(itemId);
+            if (index >= 0) {
+                scrollIntoWindow(index);
+            }
+            return materialize(entry);
+        }
         return rows.get(itemId);
     }
 
@@ -542,6 +641,9 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     FinderRow<T> selectedRow() {
+        if (windowed()) {
+            return selectedId != null ? rows.get(selectedId) : null;
+        }
         HTMLElement activeItem = (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
         if (activeItem != null && rows.containsKey(activeItem.id)) {
             return rows.get(activeItem.id);
@@ -550,10 +652,24 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     boolean contains(String itemId) {
-        return rows.containsKey(itemId);
+        return windowed() ? windowedItems.contains(itemId) : rows.containsKey(itemId);
     }
 
     void markSelected(String itemId) {
+        if (windowed()) {
+            FinderItems.Entry<T> entry = windowedItems.get(itemId);
+            selectedId = entry != null ? itemId : null;
+            if (entry != null) {
+                materialize(entry); // the selected row is always materialized
+            }
+            for (Map.Entry<String, FinderRow<T>> e : rows.entrySet()) {
+                e.getValue().markSelected(itemId.equals(e.getKey()));
+            }
+            if (entry != null && selectionHandler != null) {
+                selectionHandler.onSelect(entry.item);
+            }
+            return;
+        }
         for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
             boolean select = itemId.equals(entry.getKey());
             entry.getValue().markSelected(select);
@@ -564,6 +680,17 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void resetSelection() {
+        if (windowed() && selectedId != null) {
+            // the selected row might be outside the window and detached from the DOM
+            FinderRow<T> row = rows.get(selectedId);
+            if (row != null) {
+                row.element().classList.remove(active);
+                if (row.element().parentNode != ulElement) {
+                    rows.remove(selectedId);
+                }
+            }
+        }
+        selectedId = null;
         HTMLElement element = activeElement();
         if (element != null) {
             element.classList.remove(active);
@@ -577,6 +704,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     void unpin(FinderRow<T> row) {
         row.element().classList.remove(pinned);
         row.element().classList.add(unpinned);
+        if (windowed()) {
+            row.element().classList.remove(last);
+            windowedItems.unpin(row.getId());
+            renderWindow(true);
+            storage.unpinItem(row.getId());
+            return;
+        }
 
         // move row to unpinned section
         ulElement.removeChild(row.element());
@@ -599,6 +733,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     void pin(FinderRow<T> row) {
         row.element().classList.remove(unpinned);
         row.element().classList.add(pinned);
+        if (windowed()) {
+            windowedItems.pin(row.getId());
+            row(row.getId()); // scroll to the pinned row
+            renderWindow(true);
+            storage.pinItem(row.getId());
+            return;
+        }
 
         // move row to pinned section
         ulElement.removeChild(row.element());
@@ -669,48 +810,178 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private void setItems(List<T> items) {
         rows.clear();
         currentItems = items;
+        selectedId = null;
+        windowedItems = null;
         Elements.removeChildrenFrom(ulElement);
         if (filterElement != null) {
             filterElement.value = "";
         }
 
-        List<T> pinnedItems = new ArrayList<>();
-        List<T> unpinnedItems = new ArrayList<>();
-        Set<String> pinnedItemIds = storage.pinnedItems();
-        if (pinnable && !pinnedItemIds.isEmpty()) {
+        if (items.size() > WINDOW_THRESHOLD) {
+            windowedItems = new FinderItems<>(items, itemRenderer, storage.pinnedItems(), pinnable);
+            ulElement.scrollTop = 0;
+            renderWindow(true);
+
+        } else {
+            List<FinderRow<T>> pinnedRows = new ArrayList<>();
+            List<FinderRow<T>> unpinnedRows = new ArrayList<>();
+            Set<String> pinnedItemIds = storage.pinnedItems();
             for (T item : items) {
-                String id = itemRenderer.render(item).getId();
-                if (pinnedItemIds.contains(id)) {
-                    pinnedItems.add(item);
+                ItemDisplay<T> display = itemRenderer.render(item);
+                boolean pinnedItem = pinnable && pinnedItemIds.contains(display.getId());
+                FinderRow<T> row = new FinderRow<>(finder, this, item, pinnedItem, display, previewCallback);
+                rows.put(row.getId(), row);
+                if (pinnedItem) {
+                    pinnedRows.add(row);
                 } else {
-                    unpinnedItems.add(item);
+                    unpinnedRows.add(row);
+                }
+            }
+            for (Iterator<FinderRow<T>> iterator = pinnedRows.iterator(); iterator.hasNext();) {
+                FinderRow<T> row = iterator.next();
+                ulElement.appendChild(row.element());
+                if (!iterator.hasNext()) {
+                    row.element().classList.add(last);
                 }
             }
+            for (FinderRow<T> row : unpinnedRows) {
+                ulElement.appendChild(row.element());
+            }
+            Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
+            if (items.isEmpty()) {
+                ulElement.appendChild(noItems);
+            }
+        }
+        updateHeader(items.size());
+        finder.prefetch(rows.values());
+    }
+
+    // ------------------------------------------------------ windowed mode
+
+    private boolean windowed() {
+        return windowedItems != null;
+    }
+
+    /**
+     * Renders the rows which are visible in the current scroll position (plus some rows above and below). The rows outside the
+     * window are replaced by two spacers. Rows which left the window are discarded, except for the selected row.
+     * <p>
+     * If the window has only been shifted, just the rows which left the window are removed and the rows which entered the
+     * window are added. The window is rebuilt from scratch if {@code force} is {@code true} (the visible items have changed)
+     * or if the old and the new window don't overlap.
+     */
+    private void renderWindow(boolean force) {
+        int size = windowedItems.visibleSize();
+        int viewport = ulElement.clientHeight > 0 ? ulElement.clientHeight : DEFAULT_VIEWPORT;
+        int start = Math.min(size, Math.max(0, (int) (ulElement.scrollTop / rowHeight) - OVERSCAN));
+        int end = Math.min(size, start + viewport / rowHeight + 2 * OVERSCAN);
+        if (!force && start == windowStart && end == windowEnd) {
+            return;
+        }
+
+        double scrollTop = ulElement.scrollTop;
+        List<FinderRow<T>> added = new ArrayList<>();
+        if (force || start >= windowEnd || end <= windowStart) {
+            Set<String> window = new HashSet<>();
+            Elements.removeChildrenFrom(ulElement);
+            ulElement.appendChild(topSpacer);
+            for (int i = start; i < end; i++) {
+                FinderRow<T> row = windowRow(i);
+                ulElement.appendChild(row.element());
+                window.add(row.getId());
+                added.add(row);
+            }
+            ulElement.appendChild(bottomSpacer);
+            if (size == 0) {
+                ulElement.appendChild(noItems);
+            }
+            rows.keySet().removeIf(itemId -> !window.contains(itemId) && !itemId.equals(selectedId));
+
         } else {
-            unpinnedItems.addAll(items);
+            for (int i = windowStart; i < start; i++) {
+                discardRow(i);
+            }
+            for (int i = Math.max(end, windowStart); i < windowEnd; i++) {
+                discardRow(i);
+            }
+            Node first = topSpacer.nextSibling;
+            for (int i = start; i < windowStart; i++) {
+                FinderRow<T> row = windowRow(i);
+                ulElement.insertBefore(row.element(), first);
+                added.add(row);
+            }
+            for (int i = Math.max(windowEnd, start); i < end; i++) {
+                FinderRow<T> row = windowRow(i);
+                ulElement.insertBefore(row.element(), bottomSpacer);
+                added.add(row);
+            }
         }
-        for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext();) {
-            T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-            if (!iterator.hasNext()) {
+        windowStart = start;
+        windowEnd = end;
+        topSpacer.style.setProperty("height", start * rowHeight + "px");
+        bottomSpacer.style.setProperty("height", (size - end) * rowHeight + "px");
+        ulElement.scrollTop = scrollTop;
+
+        if (end > start) {
+            int height = (int) rows.get(windowedItems.visible(start).id).element().offsetHeight;
+            if (height > 0) {
+                rowHeight = height;
+            }
+        }
+        for (FinderRow<T> row : added) {
+            NodeList<Element> tooltips = row.element()
+                    .querySelectorAll("[data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]"); // NON-NLS
+            for (int i = 0; i < tooltips.getLength(); i++) {
+                Tooltip.element((HTMLElement) tooltips.item(i)).init();
+            }
+        }
+    }
+
+    /** @return the materialized row of the visible item at the specified index with an up-to-date pin separator */
+    private FinderRow<T> windowRow(int index) {
+        FinderRow<T> row = materialize(windowedItems.visible(index));
+        if (pinnable) {
+            if (windowedItems.isLastPinned(index)) {
                 row.element().classList.add(last);
+            } else {
+                row.element().classList.remove(last);
             }
         }
-        for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
+        return row;
+    }
+
+    /** Removes the row of the visible item at the specified index from the DOM and discards it unless it's selected. */
+    private void discardRow(int index) {
+        String itemId = windowedItems.visible(index).id;
+        FinderRow<T> row = rows.get(itemId);
+        if (row != null) {
+            Elements.failSafeRemove(ulElement, row.element());
+            if (!itemId.equals(selectedId)) {
+                rows.remove(itemId);
+            }
         }
-        updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
+    }
 
-        if (items.isEmpty()) {
-            ulElement.appendChild(noItems);
+    private void scrollIntoWindow(int index) {
+        int top = index * rowHeight;
+        if (top < ulElement.scrollTop) {
+            ulElement.scrollTop = top;
+        } else if (top + rowHeight > ulElement.scrollTop + ulElement.clientHeight) {
+            ulElement.scrollTop = top + rowHeight - ulElement.clientHeight;
+        }
+        renderWindow(false);
+    }
+
+    private FinderRow<T> materialize(FinderItems.Entry<T> entry) {
+        FinderRow<T> row = rows.get(entry.id);
+        if (row == null) {
+            row = new FinderRow<>(finder, this, entry.item, entry.pinned, entry.display, previewCallback);
+            rows.put(entry.id, row);
+            if (entry.id.equals(selectedId)) {
+                row.markSelected(true);
+            }
         }
+        return row;
     }
 
     /**
@@ -879,7 +1150,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 FinderRow<T> oldRow = selectedRow();
                 refresh(() -> {
                     if (oldRow != null) {
-                        FinderRow<T> updatedRow = rows.get(oldRow.getId());
+                        FinderRow<T> updatedRow = row(oldRow.getId());
                         if (updatedRow != null) {
                             updatedRow.click();
                             updatedRow.element().scrollIntoView(false);
@@ -901,7 +1172,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
      */
     public void refresh(String selectItemId) {
         refresh(() -> {
-            FinderRow<T> row = rows.get(selectItemId);
+            FinderRow<T> row = row(selectItemId);
             if (row != null) {
                 row.click();
             } else {
@@ -0,0 +1,165 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.resources.Strings;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * The items of a finder column in windowed mode. Keeps the items in display order (pinned items first) together with a
+ * lowercase filter index, so that filtering doesn't need to touch the DOM. Only used internally in the finder.
+ */
+class FinderItems<T> {
+
+    private final List<Entry<T>> entries;
+    private final Map<String, Entry<T>> entriesById;
+    private final Map<String, Integer> visibleIndexes;
+    private List<Entry<T>> visible;
+    private String filter;
+
+    FinderItems(List<T> items, ItemRenderer<T> itemRenderer, Set<String> pinnedIds, boolean pinnable) {
+        this.entries = new ArrayList<>(items.size());
+        this.entriesById = new HashMap<>();
+        this.visibleIndexes = new HashMap<>();
+        int position = 0;
+        for (T item : items) {
+            ItemDisplay<T> display = itemRenderer.render(item);
+            String id = Strings.sanitize(display.getId());
+            boolean pinned = pinnable && pinnedIds.contains(display.getId());
+            Entry<T> entry = new Entry<>(item, display, id, position++, pinned);
+            entries.add(entry);
+            entriesById.put(id, entry);
+        }
+        sort();
+        this.filter = null;
+        this.visible = entries;
+        indexVisible();
+    }
+
+    private void sort() {
+        entries.sort(comparing((Entry<T> entry) -> !entry.pinned).thenComparingInt(entry -> entry.position));
+    }
+
+    // ------------------------------------------------------ filter
+
+    /** @return the number of items matching the filter */
+    int filter(String filter) {
+        String normalized = filter == null || filter.trim().length() == 0 ? null : filter.toLowerCase();
+        if (normalized == null) {
+            visible = entries;
+        } else {
+            List<Entry<T>> matches = new ArrayList<>();
+            for (Entry<T> entry : entries) {
+                if (entry.filterData == null || entry.filterData.contains(normalized)) {
+                    matches.add(entry);
+                }
+            }
+            visible = matches;
+        }
+        this.filter = normalized;
+        indexVisible();
+        return visible.size();
+    }
+
+    private void indexVisible() {
+        visibleIndexes.clear();
+        for (int i = 0; i < visible.size(); i++) {
+            visibleIndexes.put(visible.get(i).id, i);
+        }
+    }
+
+    // ------------------------------------------------------ pin / unpin
+
+    void pin(String id) {
+        setPinned(id, true);
+    }
+
+    void unpin(String id) {
+        setPinned(id, false);
+    }
+
+    private void setPinned(String id, boolean pinned) {
+        Entry<T> entry = entriesById.get(id);
+        if (entry != null && entry.pinned != pinned) {
+            entry.pinned = pinned;
+            sort();
+            filter(filter);
+        }
+    }
+
+    /** @return whether the entry at the specified visible index is the last pinned entry */
+    boolean isLastPinned(int index) {
+        Entry<T> entry = visible.get(index);
+        return entry.pinned && (index == visible.size() - 1 || !visible.get(index + 1).pinned);
+    }
+
+    // ------------------------------------------------------ access
+
+    /** @return the number of all items regardless of the filter */
+    int size() {
+        return entries.size();
+    }
+
+    /** @return the number of items matching the filter */
+    int visibleSize() {
+        return visible.size();
+    }
+
+    Entry<T> visible(int index) {
+        return visible.get(index);
+    }
+
+    /** @return the index of the item in the list of items matching the filter or -1 */
+    int visibleIndexOf(String id) {
+        Integer index = id != null ? visibleIndexes.get(id) : null;
+        return index != null ? index : -1;
+    }
+
+    Entry<T> get(String id) {
+        return entriesById.get(id);
+    }
+
+    boolean contains(String id) {
+        return entriesById.containsKey(id);
+    }
+
+    static class Entry<T> {
+
+        final T item;
+        final ItemDisplay<T> display;
+        final String id;
+        final String filterData;
+        final int position;
+        boolean pinned;
+
+        private Entry(T item, ItemDisplay<T> display, String id, int position, boolean pinned) {
+            this.item = item;
+            this.display = display;
+            this.id = id;
+            this.position = position;
+            this.pinned = pinned;
+            String data = display.getFilterData();
+            this.filterData = data != null ? data.toLowerCase() : null;
+        }
+    }
+}
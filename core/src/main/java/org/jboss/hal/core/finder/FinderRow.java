@@ -16,6 +16,7 @@
 package org.jboss.hal.core.finder;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.HtmlContentBuilder;
@@ -326,6 +327,11 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         return nextColumn;
     }
 
+    /** @return the name tokens of the places revealed by the actions of this row */
+    List<String> getNameTokens() {
+        return actions.stream().map(action -> action.nameToken).filter(Objects::nonNull).collect(toList());
+    }
+
     ItemActionHandler<T> getPrimaryAction() {
         return primaryAction;
     }
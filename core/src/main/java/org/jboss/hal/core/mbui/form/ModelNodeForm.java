@@ -62,6 +62,7 @@ import org.jboss.hal.spi.EsReturn;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -69,6 +70,7 @@ import com.google.gwt.core.client.GWT;
 import com.google.gwt.safehtml.shared.SafeHtml;
 
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
@@ -93,6 +95,8 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
 
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Messages MESSAGES = GWT.create(Messages.class);
+    /** Forms with more attributes are lazy unless specified otherwise. */
+    static final int LAZY_THRESHOLD = 30;
     private static final Logger logger = LoggerFactory.getLogger(ModelNodeForm.class);
 
     private final boolean addOnly;
@@ -103,11 +107,13 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
     private final ResourceDescription resourceDescription;
     private final boolean isFromRequestProperties;
     private final Metadata metadata;
+    private final boolean requiredOnly;
 
     protected ModelNodeForm(Builder<T> builder) {
         super(builder.id, builder.stateMachine(),
                 new ModelNodeMapping<>(getAttributes(builder.metadata.getDescription(), builder.isFromRequestProperties)),
                 builder.emptyState);
+        Stopwatch stopwatch = Stopwatch.createStarted();
 
         this.addOnly = builder.addOnly;
         this.singleton = builder.singleton;
@@ -120,6 +126,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         this.resourceDescription = builder.metadata.getDescription();
         this.isFromRequestProperties = builder.isFromRequestProperties;
         this.metadata = builder.metadata;
+        this.requiredOnly = builder.requiredOnly;
 
         List<Property> properties = new ArrayList<>();
         List<Property> filteredProperties = getAttributes(resourceDescription, isFromRequestProperties)
@@ -149,6 +156,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             properties.sort(Comparator.comparing(Property::getName));
         }
         this.attributeDescriptions = properties.stream().collect(toMap(Property::getName, Property::getValue));
+        lazy(builder.lazy != null ? builder.lazy : properties.size() > LAZY_THRESHOLD);
 
         int index = 0;
         LabelBuilder labelBuilder = new LabelBuilder();
@@ -223,7 +231,20 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             }
         }
 
-        // create form validations from requires and alternatives
+        // lazy forms create the validations on the first switch to edit
+        if (!isLazy()) {
+            createValidations();
+        }
+        getMetrics().setBuildTime(stopwatch.elapsed(MILLISECONDS));
+    }
+
+    @Override
+    protected void beforeFirstEdit() {
+        createValidations();
+    }
+
+    /** Creates form validations from requires and alternatives. */
+    private void createValidations() {
         HashMultimap<String, String> requires = HashMultimap.create();
         Set<String> processedAlternatives = new HashSet<>();
         for (FormItem formItem : getBoundFormItems()) {
@@ -264,7 +285,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
                     addFormValidation(new ExactlyOneAlternativeValidation<>(requiredAlternatives, CONSTANTS, MESSAGES));
                 }
 
-                if (builder.requiredOnly && requiredAlternatives.size() == 1) {
+                if (requiredOnly && requiredAlternatives.size() == 1) {
                     // if the form displays only one required alternative then display it as required
                     getFormItem(name).setRequired(true);
                 }
@@ -445,6 +466,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         PrepareRemove<T> prepareRemove;
         boolean panelForOptionalAttributes;
         SortOrder sortOrder;
+        Boolean lazy;
 
         // ------------------------------------------------------ configure required and optional settings
 
@@ -663,6 +685,17 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             return this;
         }
 
+        /**
+         * Controls whether the editing state is rendered on the first switch to edit. Lazy forms render only the read-only
+         * state at build time and create validations, editing appearances and suggest handlers when the form is edited for the
+         * first time. By default forms with more than {@value ModelNodeForm#LAZY_THRESHOLD} attributes are lazy. Has no effect
+         * for read-only and add-only forms.
+         */
+        public Builder<T> lazy(boolean lazy) {
+            this.lazy = lazy;
+            return this;
+        }
+
         // ------------------------------------------------------ build
 
         /**
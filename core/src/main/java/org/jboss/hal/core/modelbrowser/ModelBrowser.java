@@ -50,6 +50,7 @@ import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.MetadataRegistry;
 import org.jboss.hal.meta.processing.MetadataProcessor;
 import org.jboss.hal.meta.processing.SuccessfulMetadataCallback;
 import org.jboss.hal.resources.CSS;
@@ -133,6 +134,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     private final HTMLElement content;
     private final ResourcePanel resourcePanel;
     private final ChildrenPanel childrenPanel;
+    private final NodeLoader nodeLoader;
     Tree<Context> tree;
 
     private boolean updateBreadcrumb;
@@ -143,6 +145,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     @Inject
     public ModelBrowser(CrudOperations crud,
             MetadataProcessor metadataProcessor,
+            MetadataRegistry metadataRegistry,
             @Footer Provider<Progress> progress,
             Dispatcher dispatcher,
             Environment environment,
@@ -155,6 +158,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         this.eventBus = eventBus;
         this.resources = resources;
         this.filterStack = new Stack<>();
+        this.nodeLoader = new NodeLoader(dispatcher, metadataProcessor, metadataRegistry);
         this.updateBreadcrumb = false;
         this.surroundingHeight = 0;
 
@@ -210,7 +214,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         Node<Context> rootNode = new Node.Builder<>(MODEL_BROWSER_ROOT, text, context)
                 .asyncFolder()
                 .build();
-        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher));
+        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher, nodeLoader));
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -296,6 +300,10 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     private void refresh(Node<Context> node) {
         if (node != null) {
+            nodeLoader.invalidate(node.data.getAddress());
+            if (!node.data.isFullyQualified()) {
+                nodeLoader.invalidate(node.data.getAddress().getParent());
+            }
             updateNode(node);
             tree.refreshNode(node.id);
         }
@@ -351,13 +359,26 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     private void showResourceView(Node<Context> node, ResourceAddress address) {
         Node<Context> parent = tree.getNode(node.parent);
         AddressTemplate template = asGenericTemplate(parent, address);
-        metadataProcessor.lookup(template, progress.get(), new SuccessfulMetadataCallback(eventBus, resources) {
-            @Override
-            public void onMetadata(Metadata metadata) {
-                resourcePanel.update(node, node.data.getAddress(), metadata);
-                resourcePanel.show();
-            }
-        });
+        nodeLoader.load(address, template, progress.get())
+                .then(data -> {
+                    resourcePanel.update(node, address, data.metadata, data.resource);
+                    resourcePanel.show();
+                    nodeLoader.prefetch(node);
+                    return null;
+                })
+                .catch_(error -> {
+                    // fall back to separate requests which report errors as usual
+                    logger.debug("Unable to load {} in one round-trip: {}", address, error);
+                    metadataProcessor.lookup(template, progress.get(),
+                            new SuccessfulMetadataCallback(eventBus, resources) {
+                                @Override
+                                public void onMetadata(Metadata metadata) {
+                                    resourcePanel.update(node, address, metadata);
+                                    resourcePanel.show();
+                                }
+                            });
+                    return null;
+                });
     }
 
     void add(Node<Context> parent, List<String> children) {
@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.MetadataRegistry;
+import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static java.lang.System.currentTimeMillis;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Loads the data of the resources shown in the model browser. The missing metadata, the resource itself and its child types are
+ * read in one composite operation. Since {@code read-resource} contains the names of the children, opening the resource and its
+ * child types doesn't need another round-trip.
+ * <p>
+ * The data is kept for {@link #MAX_AGE} milliseconds. Refreshing a node {@linkplain #invalidate(ResourceAddress) invalidates}
+ * its data. The following siblings of a resource can be {@linkplain #prefetch(Node) prefetched} in the background.
+ */
+class NodeLoader {
+
+    static final long MAX_AGE = 30_000; // ms
+    static final int PREFETCH_SIZE = 3;
+    private static final Logger logger = LoggerFactory.getLogger(NodeLoader.class);
+
+    private final Dispatcher dispatcher;
+    private final MetadataProcessor metadataProcessor;
+    private final MetadataRegistry metadataRegistry;
+    private final Map<String, Entry> entries;
+    private final Map<String, List<ResourceAddress>> children;
+
+    NodeLoader(Dispatcher dispatcher, MetadataProcessor metadataProcessor, MetadataRegistry metadataRegistry) {
+        this.dispatcher = dispatcher;
+        this.metadataProcessor = metadataProcessor;
+        this.metadataRegistry = metadataRegistry;
+        this.entries = new HashMap<>();
+        this.children = new HashMap<>();
+    }
+
+    // ------------------------------------------------------ load
+
+    /** Loads the metadata and the data of a fully qualified resource. */
+    Promise<NodeData> load(ResourceAddress address, AddressTemplate template, Progress progress) {
+        Entry entry = entry(address);
+        if (entry != null && metadataRegistry.contains(template)) {
+            logger.debug("Use loaded data for {}", address);
+            return entry.data.then(data -> Promise.resolve(data.withMetadata(metadataRegistry.lookup(template))));
+        }
+
+        Composite composite = new Composite(operations(address));
+        Promise<NodeData> data = metadataProcessor.lookup(template, progress, composite)
+                .then(result -> Promise.resolve(new NodeData(metadataRegistry.lookup(template), result, 0)));
+        put(address, data);
+        return data;
+    }
+
+    /**
+     * Reads the following siblings of the specified resource, unless they're already loaded. Metadata is not part of the
+     * prefetch, so this does nothing if the siblings need a different metadata than the specified resource.
+     */
+    void prefetch(Node<Context> node) {
+        List<ResourceAddress> siblings = children.get(node.parent);
+        if (siblings != null && !node.data.hasSingletons()) {
+            List<ResourceAddress> addresses = new ArrayList<>();
+            int index = siblings.indexOf(node.data.getAddress());
+            for (int i = index + 1; index != -1 && i < siblings.size() && addresses.size() < PREFETCH_SIZE; i++) {
+                if (entry(siblings.get(i)) == null) {
+                    addresses.add(siblings.get(i));
+                }
+            }
+
+            if (!addresses.isEmpty()) {
+                logger.debug("Prefetch {}", addresses);
+                Composite composite = new Composite();
+                addresses.forEach(address -> operations(address).forEach(composite::add));
+                Promise<CompositeResult> result = dispatcher.execute(composite);
+                for (int i = 0; i < addresses.size(); i++) {
+                    int step = 2 * i;
+                    put(addresses.get(i), result.then(r -> Promise.resolve(new NodeData(null, r, step))));
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------ access
+
+    /** @return the loaded or pending data of the specified resource or {@code null} */
+    Promise<NodeData> loaded(ResourceAddress address) {
+        Entry entry = entry(address);
+        return entry != null ? entry.data : null;
+    }
+
+    /** Remembers the children of a node, so that they can be prefetched. */
+    void children(Node<Context> node, List<ResourceAddress> addresses) {
+        children.put(node.id, addresses);
+    }
+
+    void invalidate(ResourceAddress address) {
+        entries.remove(address.toString());
+    }
+
+    private List<Operation> operations(ResourceAddress address) {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build());
+        operations.add(new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION)
+                .param(INCLUDE_SINGLETONS, true)
+                .build());
+        return operations;
+    }
+
+    private Entry entry(ResourceAddress address) {
+        Entry entry = entries.get(address.toString());
+        if (entry != null && currentTimeMillis() - entry.timestamp > MAX_AGE) {
+            entries.remove(address.toString());
+            return null;
+        }
+        return entry;
+    }
+
+    private void put(ResourceAddress address, Promise<NodeData> data) {
+        String key = address.toString();
+        Entry entry = new Entry(data);
+        entries.values().removeIf(e -> currentTimeMillis() - e.timestamp > MAX_AGE);
+        entries.put(key, entry);
+        data.catch_(error -> {
+            if (entries.get(key) == entry) {
+                entries.remove(key);
+            }
+            return null;
+        });
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    static class NodeData {
+
+        final Metadata metadata;
+        final ModelNode resource;
+        final List<ModelNode> childTypes;
+
+        private NodeData(Metadata metadata, CompositeResult result, int step) {
+            this(metadata, result.step(step).get(RESULT), result.step(step + 1).get(RESULT).asList());
+        }
+
+        private NodeData(Metadata metadata, ModelNode resource, List<ModelNode> childTypes) {
+            this.metadata = metadata;
+            this.resource = resource;
+            this.childTypes = childTypes;
+        }
+
+        NodeData withMetadata(Metadata metadata) {
+            return new NodeData(metadata, resource, childTypes);
+        }
+
+        /** @return the names of the children of the specified type or {@code null} if the type is unknown */
+        List<String> childNames(String type) {
+            if (resource.has(type)) {
+                ModelNode names = resource.get(type);
+                return names.isDefined() ? new ArrayList<>(names.keys()) : new ArrayList<>();
+            }
+            return null;
+        }
+    }
+
+    private static class Entry {
+
+        final Promise<NodeData> data;
+        final long timestamp;
+
+        Entry(Promise<NodeData> data) {
+            this.data = data;
+            this.timestamp = currentTimeMillis();
+        }
+    }
+}
@@ -38,6 +38,10 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 
+import elemental2.promise.Promise;
+
+import static java.util.stream.Collectors.toList;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DATA_SOURCE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
@@ -78,87 +82,134 @@ final class ReadChildren implements DataFunction<Context> {
     }
 
     private final Dispatcher dispatcher;
+    private final NodeLoader nodeLoader;
 
-    ReadChildren(final Dispatcher dispatcher) {
+    ReadChildren(final Dispatcher dispatcher, final NodeLoader nodeLoader) {
         this.dispatcher = dispatcher;
+        this.nodeLoader = nodeLoader;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void load(final Node<Context> node, final ResultCallback<Context> callback) {
         if (node.data.isFullyQualified()) {
-            Operation operation = new Operation.Builder(node.data.getAddress(), READ_CHILDREN_TYPES_OPERATION)
-                    .param(INCLUDE_SINGLETONS, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
-                Multimap<String, String> resources = HashMultimap.create();
-                for (ModelNode modelNode : modelNodes) {
-                    String name = modelNode.asString();
-                    if (name.contains("=")) {
-                        List<String> parts = Splitter.on('=').limit(2).splitToList(name);
-                        resources.put(parts.get(0), parts.get(1));
+            // use the child types which have been loaded together with the resource
+            Promise<NodeLoader.NodeData> loaded = nodeLoader.loaded(node.data.getAddress());
+            if (loaded != null) {
+                loaded.then(data -> {
+                    childTypes(node, data.childTypes, callback);
+                    return null;
+                }).catch_(error -> {
+                    readChildTypes(node, callback);
+                    return null;
+                });
+            } else {
+                readChildTypes(node, callback);
+            }
+
+        } else {
+            // use the child names which are part of the parent resource
+            Promise<NodeLoader.NodeData> loaded = nodeLoader.loaded(node.data.getAddress().getParent());
+            if (loaded != null) {
+                loaded.then(data -> {
+                    List<String> names = data.childNames(node.text);
+                    if (names != null) {
+                        childResources(node, names, callback);
                     } else {
-                        resources.put(name, NO_SINGLETON);
-                    }
-                }
-
-                List<Node<Context>> children = new ArrayList<>();
-                for (Map.Entry<String, Collection<String>> entry : resources.asMap().entrySet()) {
-                    String name = entry.getKey();
-                    Set<String> singletons = new HashSet<>(entry.getValue());
-                    if ((singletons.size() == 1 && singletons.contains(NO_SINGLETON)) || falseSingletons.contains(name)) {
-                        singletons = Collections.emptySet();
+                        readChildNames(node, callback);
                     }
-                    ResourceAddress address = new ResourceAddress(node.data.getAddress()).add(name, "*");
-                    Context context = new Context(address, singletons);
-                    // ids need to be unique!
-                    Node.Builder<Context> builder = new Node.Builder<>(uniqueId(node, name), name, context)
-                            .asyncFolder();
-                    if (!singletons.isEmpty()) {
-                        builder.icon(fontAwesome("list-ul"));
-                    }
-                    children.add(builder.build());
-                }
-                callback.result(children.toArray(new Node[children.size()]));
-            });
+                    return null;
+                }).catch_(error -> {
+                    readChildNames(node, callback);
+                    return null;
+                });
+            } else {
+                readChildNames(node, callback);
+            }
+        }
+    }
 
-        } else {
-            ResourceAddress parentAddress = node.data.getAddress().getParent();
-            Operation operation = new Operation.Builder(parentAddress, READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, node.text)
+    private void readChildTypes(Node<Context> node, ResultCallback<Context> callback) {
+        Operation operation = new Operation.Builder(node.data.getAddress(), READ_CHILDREN_TYPES_OPERATION)
+                .param(INCLUDE_SINGLETONS, true)
+                .build();
+        dispatcher.execute(operation, result -> childTypes(node, result.asList(), callback));
+    }
+
+    private void readChildNames(Node<Context> node, ResultCallback<Context> callback) {
+        Operation operation = new Operation.Builder(node.data.getAddress().getParent(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, node.text)
+                .build();
+        dispatcher.execute(operation, result -> childResources(node, result.asList().stream()
+                .map(ModelNode::asString)
+                .collect(toList()), callback));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void childTypes(Node<Context> node, List<ModelNode> modelNodes, ResultCallback<Context> callback) {
+        Multimap<String, String> resources = HashMultimap.create();
+        for (ModelNode modelNode : modelNodes) {
+            String name = modelNode.asString();
+            if (name.contains("=")) {
+                List<String> parts = Splitter.on('=').limit(2).splitToList(name);
+                resources.put(parts.get(0), parts.get(1));
+            } else {
+                resources.put(name, NO_SINGLETON);
+            }
+        }
+
+        List<Node<Context>> children = new ArrayList<>();
+        for (Map.Entry<String, Collection<String>> entry : resources.asMap().entrySet()) {
+            String name = entry.getKey();
+            Set<String> singletons = new HashSet<>(entry.getValue());
+            if ((singletons.size() == 1 && singletons.contains(NO_SINGLETON)) || falseSingletons.contains(name)) {
+                singletons = Collections.emptySet();
+            }
+            ResourceAddress address = new ResourceAddress(node.data.getAddress()).add(name, "*");
+            Context context = new Context(address, singletons);
+            // ids need to be unique!
+            Node.Builder<Context> builder = new Node.Builder<>(uniqueId(node, name), name, context)
+                    .asyncFolder();
+            if (!singletons.isEmpty()) {
+                builder.icon(fontAwesome("list-ul"));
+            }
+            children.add(builder.build());
+        }
+        callback.result(children.toArray(new Node[children.size()]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void childResources(Node<Context> node, List<String> names, ResultCallback<Context> callback) {
+        ResourceAddress parentAddress = node.data.getAddress().getParent();
+        List<Node<Context>> children = new ArrayList<>();
+        List<ResourceAddress> addresses = new ArrayList<>();
+        SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
+
+        // Add existing children
+        for (String childName : names) {
+            String name = SafeHtmlUtils.fromString(childName).asString();
+            singletons.remove(name);
+            ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, name);
+            Context context = new Context(address, Collections.emptySet());
+            Node<Context> child = new Node.Builder<>(uniqueId(node, name), name, context)
+                    .asyncFolder()
+                    .icon(fontAwesome("file-text-o"))
                     .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
-                List<Node<Context>> children = new ArrayList<>();
-                SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
-
-                // Add existing children
-                for (ModelNode modelNode : modelNodes) {
-                    String name = SafeHtmlUtils.fromString(modelNode.asString()).asString();
-                    singletons.remove(name);
-                    ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, name);
-                    Context context = new Context(address, Collections.emptySet());
-                    Node<Context> child = new Node.Builder<>(uniqueId(node, name), name, context)
-                            .asyncFolder()
-                            .icon(fontAwesome("file-text-o"))
-                            .build();
-                    children.add(child);
-                }
-
-                // Add non-existing singletons
-                for (String singleton : singletons) {
-                    ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, singleton);
-                    Context context = new Context(address, Collections.emptySet());
-                    Node<Context> child = new Node.Builder<>(uniqueId(node, singleton), singleton, context)
-                            .icon(fontAwesome("file-o"))
-                            .disabled()
-                            .build();
-                    children.add(child);
-                }
-
-                callback.result(children.toArray(new Node[children.size()]));
-            });
+            children.add(child);
+            addresses.add(address);
         }
+        nodeLoader.children(node, addresses);
+
+        // Add non-existing singletons
+        for (String singleton : singletons) {
+            ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, singleton);
+            Context context = new Context(address, Collections.emptySet());
+            Node<Context> child = new Node.Builder<>(uniqueId(node, singleton), singleton, context)
+                    .icon(fontAwesome("file-o"))
+                    .disabled()
+                    .build();
+            children.add(child);
+        }
+
+        callback.result(children.toArray(new Node[children.size()]));
     }
 }
@@ -98,6 +98,11 @@ class ResourcePanel implements Iterable<HTMLElement> {
     }
 
     void update(Node<Context> node, ResourceAddress address, Metadata metadata) {
+        update(node, address, metadata, null);
+    }
+
+    /** Updates the panel using the specified resource. If the resource is {@code null}, it's read from the server. */
+    void update(Node<Context> node, ResourceAddress address, Metadata metadata, ModelNode resource) {
         StabilityLevel stabilityLevel = metadata.getDescription().getStability();
 
         SafeHtml safeHtml = SafeHtmlUtils.fromSafeConstant(metadata.getDescription().getDescription());
@@ -117,23 +122,14 @@ class ResourcePanel implements Iterable<HTMLElement> {
         Elements.setVisible(empty, !description.hasAttributes());
 
         if (description.hasAttributes()) {
-            Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                    .param(INCLUDE_RUNTIME, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                flattenModel(metadata.getDescription().get(ATTRIBUTES).asPropertyList(), result);
-                ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(
-                        Ids.build(Ids.MODEL_BROWSER, node.id, Ids.FORM), metadata)
-                        .includeRuntime()
-                        .showDeprecated()
-                        .onSave((f, changedValues) -> modelBrowser.save(address, changedValues, metadata))
-                        .prepareReset(f -> modelBrowser.reset(address, f, metadata))
+            if (resource != null) {
+                showData(node, address, metadata, resource.clone());
+            } else {
+                Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
                         .build();
-                tabs.setContent(dataId, form.element());
-                PatternFly.initComponents();
-                form.attach();
-                form.view(result);
-            });
+                dispatcher.execute(operation, result -> showData(node, address, metadata, result));
+            }
 
             tabs.setContent(attributesId,
                     new AttributesTable(metadata.getDescription().attributes(), environment, resources).element());
@@ -144,6 +140,21 @@ class ResourcePanel implements Iterable<HTMLElement> {
         }
     }
 
+    private void showData(Node<Context> node, ResourceAddress address, Metadata metadata, ModelNode model) {
+        flattenModel(metadata.getDescription().get(ATTRIBUTES).asPropertyList(), model);
+        ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(
+                Ids.build(Ids.MODEL_BROWSER, node.id, Ids.FORM), metadata)
+                .includeRuntime()
+                .showDeprecated()
+                .onSave((f, changedValues) -> modelBrowser.save(address, changedValues, metadata))
+                .prepareReset(f -> modelBrowser.reset(address, f, metadata))
+                .build();
+        tabs.setContent(dataId, form.element());
+        PatternFly.initComponents();
+        form.attach();
+        form.view(model);
+    }
+
     void show() {
         Elements.setVisible(description, true); // the remaining elements are managed in update()
     }
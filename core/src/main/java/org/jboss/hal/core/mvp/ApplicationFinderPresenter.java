@@ -15,11 +15,14 @@
  */
 package org.jboss.hal.core.mvp;
 
+import org.jboss.hal.core.Core;
+import org.jboss.hal.core.ModelChanges;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderColumn;
 import org.jboss.hal.core.finder.FinderContextEvent;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderSegment;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +32,10 @@ import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 /**
  * Base class for all application presenters which interact with the finder. The presenter updates the breadcrumb by taking the
  * information from {@link #finderPath()} and fires a {@link FinderContextEvent} in {@link #onReset()}.
+ * <p>
+ * Presenters which specify a {@linkplain #changeScope() change scope} skip {@link #reload()} in {@link #onReset()} as long as
+ * the management model didn't change within that scope. These presenters have to call {@link #loaded()} once the data has
+ * been loaded successfully.
  */
 public abstract class ApplicationFinderPresenter<V extends HalView, Proxy_ extends ProxyPlace<?>>
         extends ApplicationPresenter<V, Proxy_> implements HasFinderPath, SupportsExternalMode, Refreshable {
@@ -36,6 +43,10 @@ public abstract class ApplicationFinderPresenter<V extends HalView, Proxy_ exten
     private static final Logger logger = LoggerFactory.getLogger(ApplicationFinderPresenter.class);
 
     private final Finder finder;
+    private ResourceAddress reloadScope;
+    private long reloadVersion;
+    private ResourceAddress loadedScope;
+    private long loadedVersion;
 
     protected ApplicationFinderPresenter(EventBus eventBus, V view, Proxy_ proxy, Finder finder) {
         super(eventBus, view, proxy);
@@ -44,13 +55,34 @@ public abstract class ApplicationFinderPresenter<V extends HalView, Proxy_ exten
 
     /**
      * Updates the breadcrumb by taking the information from {@link #finderPath()} and fires a {@link FinderContextEvent}.
-     * Finally calls {@code reload()}.
+     * Finally calls {@code reload()} unless nothing changed within the {@linkplain #changeScope() change scope}.
      */
     @Override
     protected void onReset() {
         super.onReset();
         updateBreadcrumb();
-        reload();
+
+        ResourceAddress scope = changeScope();
+        ModelChanges modelChanges = Core.INSTANCE.modelChanges();
+        if (scope != null && scope.equals(loadedScope) && !modelChanges.changedSince(loadedVersion, scope)) {
+            logger.debug("Skip reload of {}: No changes in {}", getProxy().getNameToken(), scope);
+        } else {
+            // remember the version before reloading: changes made while reloading must not be skipped next time
+            loadedScope = null;
+            reloadScope = scope;
+            reloadVersion = modelChanges.version();
+            reload();
+        }
+    }
+
+    /**
+     * Must be called by presenters which specify a {@linkplain #changeScope() change scope} when {@link #reload()} finished
+     * successfully. Until then, every {@link #onReset()} calls {@link #reload()}, so that a failed or interrupted reload is
+     * retried.
+     */
+    protected void loaded() {
+        loadedScope = reloadScope;
+        loadedVersion = reloadVersion;
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -82,4 +114,16 @@ public abstract class ApplicationFinderPresenter<V extends HalView, Proxy_ exten
      * It's called as part of the {@link #onReset()} method.
      */
     protected abstract void reload();
+
+    /**
+     * Returns the address of the data shown by this presenter. As long as the management model didn't change at, above or below
+     * this address, {@link #onReset()} doesn't call {@link #reload()}. Only specify a scope if the presenter shows
+     * configuration data: Changes of runtime data are not tracked. Presenters which specify a scope must call
+     * {@link #loaded()} after they loaded the data.
+     *
+     * @return the address of the data shown by this presenter or {@code null} to reload in every {@link #onReset()} (default)
+     */
+    protected ResourceAddress changeScope() {
+        return null;
+    }
 }
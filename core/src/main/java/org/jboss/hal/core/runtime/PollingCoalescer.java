@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+/**
+ * Shares pending polling operations across concurrent actions. If an identical operation is already in flight, callers get the
+ * pending promise instead of sending another request. This keeps the number of requests down if many servers are restarted or
+ * reloaded at once.
+ * <p>
+ * Operations are identified by their CLI representation. Headers are not part of the key, which is fine for the read-only
+ * operations used for polling.
+ */
+public class PollingCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollingCoalescer.class);
+
+    private final Map<String, Promise<?>> pending;
+
+    @Inject
+    public PollingCoalescer() {
+        this.pending = new HashMap<>();
+    }
+
+    /**
+     * Returns the pending promise of the operation identified by {@code key} or starts the execution if there's no pending
+     * promise.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Promise<R> execute(String key, Supplier<Promise<R>> execution) {
+        Promise<R> promise = (Promise<R>) pending.get(key);
+        if (promise == null) {
+            Promise<R> started = execution.get();
+            pending.put(key, started);
+            whenSettled(started, () -> {
+                if (pending.get(key) == started) {
+                    pending.remove(key);
+                }
+            });
+            promise = started;
+        } else {
+            logger.debug("Join pending polling operation {}", key);
+        }
+        return promise;
+    }
+
+    /** Runs the callback once the promise has been resolved or rejected. */
+    <R> void whenSettled(Promise<R> promise, Runnable callback) {
+        promise.then(result -> {
+            callback.run();
+            return null;
+        }, error -> {
+            callback.run();
+            return null;
+        });
+    }
+}
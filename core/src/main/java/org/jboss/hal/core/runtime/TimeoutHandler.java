@@ -17,6 +17,7 @@ package org.jboss.hal.core.runtime;
 
 import java.util.function.Predicate;
 
+import org.jboss.hal.core.Core;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -33,9 +34,16 @@ import elemental2.promise.Promise;
 
 import static org.jboss.hal.flow.FlowStatus.SUCCESS;
 
-/** Executes a DMR operation until a specific condition is met or a timeout occurs. */
+/**
+ * Executes a DMR operation until a specific condition is met or a timeout occurs.
+ * <p>
+ * The next iteration starts only after the previous operation has returned. The interval between the iterations grows up to
+ * {@value #MAX_INTERVAL} ms. Identical operations of concurrent actions share one request.
+ */
 public class TimeoutHandler {
 
+    private static final double BACKOFF = 1.5;
+    private static final long MAX_INTERVAL = 5_000; // ms
     private static final Logger logger = LoggerFactory.getLogger(TimeoutHandler.class);
 
     /** Executes the operation until it successfully returns. */
@@ -51,10 +59,13 @@ public class TimeoutHandler {
         logger.debug("Repeat {} while the predicate evaluates to true with {} seconds timeout", operation.asCli(),
                 timeout);
         // repeat until the predicate returns true
+        PollingCoalescer coalescer = Core.INSTANCE.pollingCoalescer();
         return Flow.repeat(new FlowContext(),
-                c -> dispatcher.execute(operation).then(result -> c.resolve(!until.test(result)))) // until = !while
+                c -> coalescer.execute(operation.asCli(), () -> dispatcher.execute(operation))
+                        .then(result -> c.resolve(!until.test(result)))) // until = !while
                 .while_(c -> c.pop(true))
                 .failFast(false)
+                .backoff(BACKOFF, MAX_INTERVAL)
                 .timeout(timeout * 1000L)
                 .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)));
     }
@@ -72,10 +83,13 @@ public class TimeoutHandler {
         logger.debug("Repeat {} while the predicate evaluates to true with {} seconds timeout", composite.asCli(),
                 timeout);
         // repeat until the predicate returns true
+        PollingCoalescer coalescer = Core.INSTANCE.pollingCoalescer();
         return Flow.repeat(new FlowContext(Progress.NOOP),
-                c -> dispatcher.execute(composite).then(cr -> c.resolve(!until.test(cr)))) // until = !while
+                c -> coalescer.execute(composite.asCli(), () -> dispatcher.execute(composite))
+                        .then(cr -> c.resolve(!until.test(cr)))) // until = !while
                 .while_(c -> c.pop(true))
                 .failFast(false)
+                .backoff(BACKOFF, MAX_INTERVAL)
                 .timeout(timeout * 1000L)
                 .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)));
     }
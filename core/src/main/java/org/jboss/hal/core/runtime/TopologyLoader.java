@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
+import org.jboss.hal.core.runtime.group.ServerGroupResultEvent;
+import org.jboss.hal.core.runtime.host.HostActionEvent;
+import org.jboss.hal.core.runtime.host.HostResultEvent;
+import org.jboss.hal.core.runtime.server.ServerActionEvent;
+import org.jboss.hal.core.runtime.server.ServerResultEvent;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+
+import elemental2.promise.Promise;
+
+/**
+ * Loads and shares {@linkplain TopologySnapshot snapshots} of the domain topology. Concurrent requests are coalesced into one
+ * load. Snapshots which are younger than {@link #MAX_AGE} are shared, so that the topology preview, the host column and the
+ * server column don't read the same data one after another. Each caller gets its own copy of the snapshot.
+ * <p>
+ * The snapshot is invalidated whenever a host, server group or server action starts or finishes. Code which changes the
+ * topology otherwise (e.g. adding, copying or removing servers) must call {@link #invalidate()} before it reads the topology
+ * again. The host, server group and server columns do so whenever they're refreshed.
+ */
+public class TopologyLoader {
+
+    static final long MAX_AGE = 2_000; // ms
+    private static final Logger logger = LoggerFactory.getLogger(TopologyLoader.class);
+
+    private final Environment environment;
+    private final Dispatcher dispatcher;
+    private TopologySnapshot snapshot;
+    private Promise<TopologySnapshot> pending;
+    private int generation;
+
+    @Inject
+    public TopologyLoader(Environment environment, Dispatcher dispatcher, EventBus eventBus) {
+        this.environment = environment;
+        this.dispatcher = dispatcher;
+
+        eventBus.addHandler(HostActionEvent.getType(), event -> invalidate());
+        eventBus.addHandler(HostResultEvent.getType(), event -> invalidate());
+        eventBus.addHandler(ServerGroupActionEvent.getType(), event -> invalidate());
+        eventBus.addHandler(ServerGroupResultEvent.getType(), event -> invalidate());
+        eventBus.addHandler(ServerActionEvent.getType(), event -> invalidate());
+        eventBus.addHandler(ServerResultEvent.getType(), event -> invalidate());
+    }
+
+    /** Returns a copy of the current snapshot if it's younger than {@link #MAX_AGE} or loads a new one. */
+    public Promise<TopologySnapshot> snapshot() {
+        if (pending == null && snapshot != null && snapshot.age() < MAX_AGE) {
+            return Promise.resolve(snapshot.copy());
+        }
+        return load();
+    }
+
+    /** Loads a new snapshot unless there's already a load in progress and returns a copy of it. */
+    public Promise<TopologySnapshot> load() {
+        return shared().then(s -> Promise.resolve(s.copy()));
+    }
+
+    private Promise<TopologySnapshot> shared() {
+        if (pending == null) {
+            int loadGeneration = generation;
+            pending = TopologyTasks.snapshot(environment, dispatcher)
+                    .then(s -> {
+                        // don't keep snapshots which were invalidated while loading
+                        if (loadGeneration == generation) {
+                            snapshot = s;
+                            pending = null;
+                        }
+                        return Promise.resolve(s);
+                    })
+                    .catch_(error -> {
+                        logger.error("Unable to load topology: {}", error);
+                        if (loadGeneration == generation) {
+                            pending = null;
+                        }
+                        return Promise.reject(error);
+                    });
+        }
+        return pending;
+    }
+
+    public void invalidate() {
+        generation++;
+        snapshot = null;
+        pending = null;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.core.runtime.group.ServerGroup;
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.server.Server;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The domain topology at a specific point in time: The hosts (including disconnected hosts) with the domain controller as first
+ * element, the server groups and the server configs. Hosts and server groups contain their servers.
+ * <p>
+ * Consumers modify the hosts, server groups and servers, e.g. by adding runtime attributes. So {@link TopologyLoader} hands out
+ * {@linkplain #copy() copies} of the shared snapshot.
+ *
+ * @see TopologyLoader
+ */
+public class TopologySnapshot {
+
+    private final List<Host> hosts;
+    private final List<ServerGroup> serverGroups;
+    private final List<Server> servers;
+    private final long timestamp;
+
+    TopologySnapshot(List<Host> hosts, List<ServerGroup> serverGroups, List<Server> servers) {
+        this(hosts, serverGroups, servers, currentTimeMillis());
+    }
+
+    private TopologySnapshot(List<Host> hosts, List<ServerGroup> serverGroups, List<Server> servers, long timestamp) {
+        this.hosts = hosts;
+        this.serverGroups = serverGroups;
+        this.servers = servers;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * @return a deep copy of this snapshot with the same age. Hosts and server groups of the copy contain the same server
+     *         instances as the list of servers.
+     */
+    TopologySnapshot copy() {
+        Map<String, Server> serverCopies = new HashMap<>();
+        List<Server> serversCopy = servers.stream().map(server -> copy(serverCopies, server)).collect(toList());
+        List<Host> hostsCopy = new ArrayList<>();
+        for (Host host : hosts) {
+            Host hostCopy = new Host(host);
+            host.getServers().forEach(server -> hostCopy.addServer(copy(serverCopies, server)));
+            hostsCopy.add(hostCopy);
+        }
+        List<ServerGroup> serverGroupsCopy = new ArrayList<>();
+        for (ServerGroup serverGroup : serverGroups) {
+            ServerGroup serverGroupCopy = new ServerGroup(serverGroup);
+            serverGroup.getServers().forEach(server -> serverGroupCopy.addServer(copy(serverCopies, server)));
+            serverGroupsCopy.add(serverGroupCopy);
+        }
+        return new TopologySnapshot(hostsCopy, serverGroupsCopy, serversCopy, timestamp);
+    }
+
+    private Server copy(Map<String, Server> copies, Server server) {
+        Server copy = copies.get(server.getId());
+        if (copy == null) {
+            copy = new Server(server);
+            copies.put(server.getId(), copy);
+        }
+        return copy;
+    }
+
+    /** @return a copy of the hosts */
+    public List<Host> getHosts() {
+        return new ArrayList<>(hosts);
+    }
+
+    /** @return a copy of the server groups */
+    public List<ServerGroup> getServerGroups() {
+        return new ArrayList<>(serverGroups);
+    }
+
+    /** @return a copy of all server configs */
+    public List<Server> getServers() {
+        return new ArrayList<>(servers);
+    }
+
+    public List<Server> getServersOfHost(String host) {
+        return servers.stream().filter(server -> host.equals(server.getHost())).collect(toList());
+    }
+
+    public List<Server> getServersOfServerGroup(String serverGroup) {
+        return servers.stream().filter(server -> serverGroup.equals(server.getServerGroup())).collect(toList());
+    }
+
+    /** @return the age of this snapshot in milliseconds */
+    public long age() {
+        return currentTimeMillis() - timestamp;
+    }
+}
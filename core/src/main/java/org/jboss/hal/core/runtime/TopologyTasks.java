@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,7 @@ import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ModelDescriptionConstants;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Flow;
@@ -152,7 +154,6 @@ public final class TopologyTasks {
      */
     public static List<Task<FlowContext>> hosts(Environment environment, Dispatcher dispatcher) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        tasks.add(new HostsNames(environment, dispatcher));
         tasks.add(new HostsAndServerConfigs(environment, dispatcher));
         tasks.add(new DisconnectedHosts(environment, dispatcher));
         tasks.add(new Topology(environment));
@@ -171,7 +172,6 @@ public final class TopologyTasks {
      */
     public static List<Task<FlowContext>> serverGroups(Environment environment, Dispatcher dispatcher) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        tasks.add(new HostsNames(environment, dispatcher));
         tasks.add(new HostsAndServerConfigs(environment, dispatcher));
         tasks.add(new ServerGroups(environment, dispatcher));
         tasks.add(new Topology(environment));
@@ -222,7 +222,6 @@ public final class TopologyTasks {
     public static List<Task<FlowContext>> serversOfServerGroup(Environment environment, Dispatcher dispatcher,
             String serverGroup) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        tasks.add(new HostsNames(environment, dispatcher));
         tasks.add(new ServerConfigsOfServerGroup(environment, dispatcher, serverGroup));
         tasks.add(new StartedServers(environment, dispatcher));
         return tasks;
@@ -241,11 +240,112 @@ public final class TopologyTasks {
     public static List<Task<FlowContext>> runningServers(Environment environment, Dispatcher dispatcher,
             ModelNode query) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        tasks.add(new HostsNames(environment, dispatcher));
         tasks.add(new RunningServers(environment, dispatcher, query));
         return tasks;
     }
 
+    /**
+     * Returns a list of tasks to read the complete topology using the specified topology snapshot. Unlike
+     * {@link #topology(Environment, Dispatcher)} this includes the server configs.
+     *
+     * <p>
+     * The context is populated with the following keys:
+     * <ul>
+     * <li>{@link #HOSTS}: The ordered list of hosts with the domain controller as first element. Each host contains its
+     * servers.</li>
+     * <li>{@link #SERVER_GROUPS}: The ordered list of server groups. Each server group contains its servers.</li>
+     * <li>{@link #SERVERS}: The list of all server configs.</li>
+     * </ul>
+     */
+    public static List<Task<FlowContext>> topology(TopologyLoader topologyLoader) {
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        tasks.add(context -> topologyLoader.snapshot().then(snapshot -> {
+            context.set(HOSTS, snapshot.getHosts());
+            context.set(SERVER_GROUPS, snapshot.getServerGroups());
+            context.set(SERVERS, snapshot.getServers());
+            return Promise.resolve(context);
+        }));
+        return tasks;
+    }
+
+    /**
+     * Returns a list of tasks to read all hosts (connected and disconnected) and its servers using the specified topology
+     * snapshot.
+     *
+     * <p>
+     * The context is populated with the following keys:
+     * <ul>
+     * <li>{@link #HOSTS}: The ordered list of hosts with the domain controller as first element. Each host contains its
+     * servers.</li>
+     * </ul>
+     */
+    public static List<Task<FlowContext>> hosts(TopologyLoader topologyLoader) {
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        tasks.add(context -> topologyLoader.snapshot().then(snapshot -> {
+            context.set(HOSTS, snapshot.getHosts());
+            return Promise.resolve(context);
+        }));
+        return tasks;
+    }
+
+    /**
+     * Returns a list of tasks to read the servers of one host using the specified topology snapshot.
+     *
+     * <p>
+     * The context is populated with the following keys:
+     * <ul>
+     * <li>{@link #SERVERS}: The list of server configs of one host.</li>
+     * </ul>
+     * Started servers contain additional attributes and optional server boot errors.
+     */
+    public static List<Task<FlowContext>> serversOfHost(Environment environment, Dispatcher dispatcher,
+            TopologyLoader topologyLoader, String host) {
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        tasks.add(context -> topologyLoader.snapshot().then(snapshot -> {
+            context.set(SERVERS, snapshot.getServersOfHost(host));
+            return Promise.resolve(context);
+        }));
+        tasks.add(new StartedServers(environment, dispatcher));
+        return tasks;
+    }
+
+    /**
+     * Returns a list of tasks to read the servers of one server group using the specified topology snapshot.
+     *
+     * <p>
+     * The context is populated with the following keys:
+     * <ul>
+     * <li>{@link #SERVERS}: The list of servers of one server group.</li>
+     * </ul>
+     * Started servers contain additional attributes and optional server boot errors.
+     */
+    public static List<Task<FlowContext>> serversOfServerGroup(Environment environment, Dispatcher dispatcher,
+            TopologyLoader topologyLoader, String serverGroup) {
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        tasks.add(context -> topologyLoader.snapshot().then(snapshot -> {
+            context.set(SERVERS, snapshot.getServersOfServerGroup(serverGroup));
+            return Promise.resolve(context);
+        }));
+        tasks.add(new StartedServers(environment, dispatcher));
+        return tasks;
+    }
+
+    /**
+     * Reads the complete topology: Hosts (connected and disconnected), server groups and server configs. The hosts, server
+     * groups and server configs are read in parallel using wildcard operations. Use {@link TopologyLoader} to share the
+     * snapshot.
+     */
+    static Promise<TopologySnapshot> snapshot(Environment environment, Dispatcher dispatcher) {
+        FlowContext context = new FlowContext(Progress.NOOP);
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        tasks.add(new HostsAndServerConfigs(environment, dispatcher)); // must be first: creates the list of hosts
+        tasks.add(new DisconnectedHosts(environment, dispatcher));
+        tasks.add(new ServerGroups(environment, dispatcher));
+        return Flow.parallel(context, tasks).promise()
+                .then(c -> new Topology(environment).apply(c))
+                .then(c -> Promise.resolve(new TopologySnapshot(c.get(HOSTS), c.get(SERVER_GROUPS), c.get(SERVERS))));
+    }
+
     /**
      * Returns a map of composite operations to read the runtime attributes of started servers.
      */
@@ -312,6 +412,9 @@ public final class TopologyTasks {
 
         @Override
         public Promise<FlowContext> apply(final FlowContext context) {
+            if (context.get(HOST_NAMES) != null) {
+                return Promise.resolve(context);
+            }
             List<String> hostNames = new ArrayList<>();
             context.set(HOST_NAMES, hostNames);
 
@@ -374,6 +477,10 @@ public final class TopologyTasks {
         }
     }
 
+    /**
+     * Reads the hosts and server configs using one composite with wildcard operations. Falls back to one composite per host if
+     * the wildcard operations fail.
+     */
     private static final class HostsAndServerConfigs implements Task<FlowContext> {
 
         private final Environment environment;
@@ -394,52 +501,108 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
-                List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress hostAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host);
-                            Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            ResourceAddress serverConfigAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
-                                    READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            Composite composite = new Composite(hostOperation, serverConfigOperation);
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(composite)
-                                    .then(result -> {
-                                        Host h = new Host(result.step(0).get(RESULT));
-                                        hosts.add(h);
-
-                                        List<ModelNode> nodes = result.step(1).get(RESULT).asList();
-                                        nodes.stream()
-                                                .filter(node -> !node.isFailure())
-                                                .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
-                                                .forEach(server -> {
-                                                    h.addServer(server);
-                                                    servers.add(server);
-                                                });
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.HostsAndServerConfigs failed: {}", error);
-                                        Host h = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
-                                                ? Host.booting(host)
-                                                : Host.failed(host);
-                                        hosts.add(h);
-                                        return context.reject(String.valueOf(error));
-                                    });
+                Operation hostNamesOperation = new Operation.Builder(ResourceAddress.root(),
+                        READ_CHILDREN_NAMES_OPERATION)
+                        .param(CHILD_TYPE, ModelDescriptionConstants.HOST)
+                        .build();
+                ResourceAddress hostAddress = new ResourceAddress().add(ModelDescriptionConstants.HOST, WILDCARD);
+                Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build();
+                ResourceAddress serverConfigAddress = new ResourceAddress()
+                        .add(ModelDescriptionConstants.HOST, WILDCARD)
+                        .add(SERVER_CONFIG, WILDCARD);
+                Operation serverConfigOperation = new Operation.Builder(serverConfigAddress, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build();
+                Composite composite = new Composite(hostNamesOperation, hostOperation, serverConfigOperation);
+                return dispatcher.execute(composite)
+                        .then(result -> {
+                            Map<String, Host> hostsByName = new LinkedHashMap<>();
+                            for (ModelNode node : result.step(1).get(RESULT).asList()) {
+                                String name = new ResourceAddress(node.get(ADDRESS)).lastValue();
+                                if (node.isFailure()) {
+                                    logger.error("TopologyTasks.HostsAndServerConfigs failed for host {}: {}", name,
+                                            node.getFailureDescription());
+                                    hostsByName.put(name, String.valueOf(node.getFailureDescription())
+                                            .contains(ERROR_WFY_CTL_0379) ? Host.booting(name) : Host.failed(name));
+                                } else {
+                                    hostsByName.put(name, new Host(new Property(name, node.get(RESULT))));
+                                }
+                            }
+                            // hosts which are registered, but didn't make it into the wildcard result
+                            for (ModelNode name : result.step(0).get(RESULT).asList()) {
+                                hostsByName.computeIfAbsent(name.asString(), Host::failed);
+                            }
+                            for (ModelNode node : result.step(2).get(RESULT).asList()) {
+                                if (!node.isFailure()) {
+                                    String name = new ResourceAddress(node.get(ADDRESS)).getParent().lastValue();
+                                    Host host = hostsByName.get(name);
+                                    if (host != null) {
+                                        Server server = new Server(host.getAddressName(), node.get(RESULT));
+                                        host.addServer(server);
+                                        servers.add(server);
+                                    }
+                                }
+                            }
+                            hosts.addAll(hostsByName.values());
+                            return Promise.resolve(context);
                         })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                        .catch_(error -> {
+                            logger.warn("Unable to read hosts and server configs using wildcard operations: {}. " +
+                                    "Fall back to read hosts one by one.", error);
+                            return new HostsNames(environment, dispatcher).apply(context)
+                                    .then(c -> perHost(context, hosts, servers));
+                        });
             }
         }
+
+        private Promise<FlowContext> perHost(FlowContext context, List<Host> hosts, List<Server> servers) {
+            List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
+            List<Task<FlowContext>> tasks = hostNames.stream()
+                    .map(host -> {
+                        ResourceAddress hostAddress = new ResourceAddress()
+                                .add(ModelDescriptionConstants.HOST, host);
+                        Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                                .param(INCLUDE_RUNTIME, true)
+                                .build();
+                        ResourceAddress serverConfigAddress = new ResourceAddress()
+                                .add(ModelDescriptionConstants.HOST, host)
+                                .add(SERVER_CONFIG, WILDCARD);
+                        Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
+                                READ_RESOURCE_OPERATION)
+                                .param(INCLUDE_RUNTIME, true)
+                                .build();
+                        Composite composite = new Composite(hostOperation, serverConfigOperation);
+                        return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(composite)
+                                .then(result -> {
+                                    Host h = new Host(result.step(0).get(RESULT));
+                                    hosts.add(h);
+
+                                    List<ModelNode> nodes = result.step(1).get(RESULT).asList();
+                                    nodes.stream()
+                                            .filter(node -> !node.isFailure())
+                                            .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
+                                            .forEach(server -> {
+                                                h.addServer(server);
+                                                servers.add(server);
+                                            });
+                                    return Promise.resolve(c);
+                                })
+                                .catch_(error -> {
+                                    logger.error("TopologyTasks.HostsAndServerConfigs failed: {}", error);
+                                    Host h = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
+                                            ? Host.booting(host)
+                                            : Host.failed(host);
+                                    hosts.add(h);
+                                    return context.reject(String.valueOf(error));
+                                });
+                    })
+                    .collect(toList());
+            return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
+                    .failFast(false)
+                    .promise();
+        }
     }
 
     private static final class DisconnectedHosts implements Task<FlowContext> {
@@ -601,39 +764,51 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
-                List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation operation = new Operation.Builder(address, QUERY)
-                                    .param(WHERE, new ModelNode().set(GROUP, serverGroup))
-                                    .build();
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
-                                    .then(result -> {
-                                        result.asList().stream()
-                                                .filter(modelNode -> !modelNode.isFailure())
-                                                .map(modelNode -> {
-                                                    ResourceAddress adr = new ResourceAddress(
-                                                            modelNode.get(ADDRESS));
-                                                    String h = adr.getParent().lastValue();
-                                                    return new Server(h, modelNode.get(RESULT));
-                                                })
-                                                .forEach(servers::add);
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.ServersOfServerGroup failed: {}", error);
-                                        return Promise.resolve(c);
-                                    });
+                ResourceAddress address = new ResourceAddress()
+                        .add(ModelDescriptionConstants.HOST, WILDCARD)
+                        .add(SERVER_CONFIG, WILDCARD);
+                Operation operation = new Operation.Builder(address, QUERY)
+                        .param(WHERE, new ModelNode().set(GROUP, serverGroup))
+                        .build();
+                return dispatcher.execute(operation)
+                        .then(result -> {
+                            servers.addAll(servers(result));
+                            return Promise.resolve(context);
                         })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                        .catch_(error -> {
+                            logger.warn("Unable to read servers of server group {} using wildcard operations: {}. " +
+                                    "Fall back to read servers host by host.", serverGroup, error);
+                            return new HostsNames(environment, dispatcher).apply(context)
+                                    .then(c -> perHost(context, servers));
+                        });
             }
         }
+
+        private Promise<FlowContext> perHost(FlowContext context, List<Server> servers) {
+            List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
+            List<Task<FlowContext>> tasks = hostNames.stream()
+                    .map(host -> {
+                        ResourceAddress address = new ResourceAddress()
+                                .add(ModelDescriptionConstants.HOST, host)
+                                .add(SERVER_CONFIG, WILDCARD);
+                        Operation operation = new Operation.Builder(address, QUERY)
+                                .param(WHERE, new ModelNode().set(GROUP, serverGroup))
+                                .build();
+                        return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
+                                .then(result -> {
+                                    servers.addAll(servers(result));
+                                    return Promise.resolve(c);
+                                })
+                                .catch_(error -> {
+                                    logger.error("TopologyTasks.ServersOfServerGroup failed: {}", error);
+                                    return Promise.resolve(c);
+                                });
+                    })
+                    .collect(toList());
+            return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
+                    .failFast(false)
+                    .promise();
+        }
     }
 
     private static final class RunningServers implements Task<FlowContext> {
@@ -657,52 +832,59 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
-                List<String> hostNames = context.get(HOST_NAMES);
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(ModelDescriptionConstants.SERVER, WILDCARD);
-                            // Note for mixed domains with servers w/o support for SUSPEND_STATE attribute:
-                            // The query operation won't fail, instead the unsupported attributes just won't be
-                            // part of the response payload (kudos to the guy who implemented the query operation!)
-                            Operation operation = new Operation.Builder(address, QUERY)
-                                    .param(SELECT, new ModelNode()
-                                            .add(ModelDescriptionConstants.HOST)
-                                            .add(LAUNCH_TYPE)
-                                            .add(NAME)
-                                            .add(PROFILE_NAME)
-                                            .add(RUNNING_MODE)
-                                            .add(ModelDescriptionConstants.SERVER_GROUP)
-                                            .add(SERVER_STATE)
-                                            .add(SUSPEND_STATE)
-                                            .add("uuid")) // NON-NLS
-                                    .param(WHERE, query)
-                                    .build();
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
-                                    .then(result -> {
-                                        result.asList().stream()
-                                                .filter(modelNode -> !modelNode.isFailure())
-                                                .map(modelNode -> {
-                                                    ResourceAddress adr = new ResourceAddress(
-                                                            modelNode.get(ADDRESS));
-                                                    String h = adr.getParent().lastValue();
-                                                    return new Server(h, modelNode.get(RESULT));
-                                                })
-                                                .forEach(servers::add);
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.RunningServers failed: {}", error);
-                                        return Promise.resolve(c);
-                                    });
+                return dispatcher.execute(operation(WILDCARD))
+                        .then(result -> {
+                            servers.addAll(servers(result));
+                            return Promise.resolve(context);
                         })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                        .catch_(error -> {
+                            logger.warn("Unable to read running servers using wildcard operations: {}. " +
+                                    "Fall back to read servers host by host.", error);
+                            return new HostsNames(environment, dispatcher).apply(context)
+                                    .then(c -> perHost(context, servers));
+                        });
             }
         }
+
+        private Promise<FlowContext> perHost(FlowContext context, List<Server> servers) {
+            List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
+            List<Task<FlowContext>> tasks = hostNames.stream()
+                    .map(host -> (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation(host))
+                            .then(result -> {
+                                servers.addAll(servers(result));
+                                return Promise.resolve(c);
+                            })
+                            .catch_(error -> {
+                                logger.error("TopologyTasks.RunningServers failed: {}", error);
+                                return Promise.resolve(c);
+                            }))
+                    .collect(toList());
+            return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
+                    .failFast(false)
+                    .promise();
+        }
+
+        private Operation operation(String host) {
+            ResourceAddress address = new ResourceAddress()
+                    .add(ModelDescriptionConstants.HOST, host)
+                    .add(ModelDescriptionConstants.SERVER, WILDCARD);
+            // Note for mixed domains with servers w/o support for SUSPEND_STATE attribute:
+            // The query operation won't fail, instead the unsupported attributes just won't be
+            // part of the response payload (kudos to the guy who implemented the query operation!)
+            return new Operation.Builder(address, QUERY)
+                    .param(SELECT, new ModelNode()
+                            .add(ModelDescriptionConstants.HOST)
+                            .add(LAUNCH_TYPE)
+                            .add(NAME)
+                            .add(PROFILE_NAME)
+                            .add(RUNNING_MODE)
+                            .add(ModelDescriptionConstants.SERVER_GROUP)
+                            .add(SERVER_STATE)
+                            .add(SUSPEND_STATE)
+                            .add("uuid")) // NON-NLS
+                    .param(WHERE, query)
+                    .build();
+        }
     }
 
     private static final class StartedServers implements Task<FlowContext> {
@@ -770,6 +952,18 @@ public final class TopologyTasks {
         }
     }
 
+    /** Turns the result of a query operation against {@code /host=<host>/server[-config]=*} into a list of servers. */
+    private static List<Server> servers(ModelNode result) {
+        return result.asList().stream()
+                .filter(modelNode -> !modelNode.isFailure())
+                .map(modelNode -> {
+                    ResourceAddress address = new ResourceAddress(modelNode.get(ADDRESS));
+                    String host = address.getParent().lastValue();
+                    return new Server(host, modelNode.get(RESULT));
+                })
+                .collect(toList());
+    }
+
     private TopologyTasks() {
     }
 }
@@ -52,6 +52,11 @@ public class ServerGroup extends HasServersNode {
         super(property);
     }
 
+    /** Creates a copy of the specified server group without its servers. */
+    public ServerGroup(final ServerGroup serverGroup) {
+        super(serverGroup.getName(), serverGroup.clone());
+    }
+
     public String getProfile() {
         return get(PROFILE).asString();
     }
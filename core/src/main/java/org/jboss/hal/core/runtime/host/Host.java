@@ -149,6 +149,18 @@ public class Host extends HasServersNode {
         this.managementVersion = ManagementModel.parseVersion(property.getValue());
     }
 
+    /** Creates a copy of the specified host without its servers. */
+    public Host(Host host) {
+        super(host.getName(), host.clone());
+        this.booting = host.booting;
+        this.connected = host.connected;
+        this.failed = host.failed;
+        this.disconnected = host.disconnected;
+        this.lastConnected = host.lastConnected;
+        this.addressName = host.addressName;
+        this.managementVersion = host.managementVersion;
+    }
+
     public String getAddressName() {
         return addressName;
     }
@@ -60,6 +60,14 @@ public class Server extends NamedNode {
         this(host, property.getName(), property.getValue(), false);
     }
 
+    /** Creates a copy of the specified server without copying its relations. */
+    public Server(Server server) {
+        this(server.getHost(), server.getName(), server.clone(), server.standalone);
+        this.managementVersion = server.managementVersion;
+        this.bootErrors = server.bootErrors;
+        this.operationFailure = server.operationFailure;
+    }
+
     private Server(String host, String server, ModelNode modelNode, boolean standalone) {
         super(server, modelNode);
         this.standalone = standalone;
@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.SimpleEventBus;
+
+import static java.util.Collections.singletonList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ModelChangesTest {
+
+    private EventBus eventBus;
+    private ModelChanges modelChanges;
+
+    @Before
+    public void setUp() {
+        eventBus = new SimpleEventBus();
+        modelChanges = new ModelChanges(eventBus);
+        modelChanges.setTracking(true);
+    }
+
+    @Test
+    public void notTracking() {
+        long version = modelChanges.version();
+        modelChanges.setTracking(false);
+        assertTrue(modelChanges.changedSince(version, address("subsystem", "logging")));
+    }
+
+    @Test
+    public void noChanges() {
+        long version = modelChanges.version();
+        assertFalse(modelChanges.changedSince(version, address("subsystem", "logging")));
+    }
+
+    @Test
+    public void overlapping() {
+        long version = modelChanges.version();
+        change(address("subsystem", "datasources").add("data-source", "ExampleDS"), false);
+
+        assertEquals(version + 1, modelChanges.version());
+        assertTrue(modelChanges.changedSince(version, address("subsystem", "datasources")));
+        assertTrue(modelChanges.changedSince(version,
+                address("subsystem", "datasources").add("data-source", "ExampleDS")));
+        assertTrue(modelChanges.changedSince(version,
+                address("subsystem", "datasources").add("data-source", "*")));
+        assertFalse(modelChanges.changedSince(version,
+                address("subsystem", "datasources").add("data-source", "Other")));
+        assertFalse(modelChanges.changedSince(version, address("subsystem", "logging")));
+        assertFalse(modelChanges.changedSince(modelChanges.version(), address("subsystem", "datasources")));
+    }
+
+    @Test
+    public void external() {
+        long version = modelChanges.version();
+        change(address("subsystem", "logging"), true);
+        assertTrue(modelChanges.changedSince(version, address("subsystem", "logging")));
+    }
+
+    @Test
+    public void startTracking() {
+        modelChanges.setTracking(false);
+        long version = modelChanges.version();
+        modelChanges.setTracking(true);
+        assertTrue(modelChanges.changedSince(version, address("subsystem", "logging")));
+        assertFalse(modelChanges.changedSince(modelChanges.version(), address("subsystem", "logging")));
+    }
+
+    @Test
+    public void invalidate() {
+        long version = modelChanges.version();
+        modelChanges.invalidate();
+        assertTrue(modelChanges.changedSince(version, address("subsystem", "logging")));
+    }
+
+    @Test
+    public void capacity() {
+        long version = modelChanges.version();
+        for (int i = 0; i <= ModelChanges.CAPACITY; i++) {
+            change(address("subsystem", "datasources"), false);
+        }
+        // older changes are not recorded anymore
+        assertTrue(modelChanges.changedSince(version, address("subsystem", "logging")));
+        assertFalse(modelChanges.changedSince(version + 2, address("subsystem", "logging")));
+    }
+
+    private void change(ResourceAddress address, boolean external) {
+        Operation operation = new Operation.Builder(address, WRITE_ATTRIBUTE_OPERATION).build();
+        eventBus.fireEvent(external
+                ? new ModelChangedEvent(singletonList(operation), true)
+                : new ModelChangedEvent(operation));
+    }
+
+    private ResourceAddress address(String name, String value) {
+        return new ResourceAddress().add(name, value);
+    }
+}
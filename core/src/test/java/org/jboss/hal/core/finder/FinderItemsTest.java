@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.emptySet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class FinderItemsTest {
+
+    private ItemRenderer<String> renderer;
+
+    @Before
+    public void setUp() {
+        renderer = item -> new ItemDisplay<String>() {
+            @Override
+            public String getId() {
+                return item;
+            }
+
+            @Override
+            public String getTitle() {
+                return item.toUpperCase();
+            }
+        };
+    }
+
+    @Test
+    public void order() {
+        FinderItems<String> items = new FinderItems<>(Arrays.asList("a", "b", "c", "d"), renderer,
+                new HashSet<>(Arrays.asList("c", "b")), true);
+
+        assertEquals(Arrays.asList("b", "c", "a", "d"), visibleIds(items));
+        assertFalse(items.isLastPinned(0));
+        assertTrue(items.isLastPinned(1));
+        assertFalse(items.isLastPinned(2));
+    }
+
+    @Test
+    public void notPinnable() {
+        FinderItems<String> items = new FinderItems<>(Arrays.asList("a", "b", "c"), renderer,
+                new HashSet<>(Arrays.asList("c")), false);
+
+        assertEquals(Arrays.asList("a", "b", "c"), visibleIds(items));
+    }
+
+    @Test
+    public void filter() {
+        FinderItems<String> items = new FinderItems<>(Arrays.asList("foo", "bar", "baz"), renderer, emptySet(), true);
+
+        assertEquals(2, items.filter("BA"));
+        assertEquals(Arrays.asList("bar", "baz"), visibleIds(items));
+        assertEquals(3, items.size());
+        assertEquals(-1, items.visibleIndexOf("foo"));
+        assertEquals(1, items.visibleIndexOf("baz"));
+        assertTrue(items.contains("foo"));
+
+        assertEquals(0, items.filter("qux"));
+        assertEquals(3, items.filter("  "));
+        assertEquals(3, items.filter(null));
+    }
+
+    @Test
+    public void pinKeepsFilter() {
+        FinderItems<String> items = new FinderItems<>(Arrays.asList("foo", "bar", "baz"), renderer, emptySet(), true);
+        items.filter("ba");
+        items.pin("baz");
+
+        assertEquals(Arrays.asList("baz", "bar"), visibleIds(items));
+        assertTrue(items.isLastPinned(0));
+
+        items.unpin("baz");
+        assertEquals(Arrays.asList("bar", "baz"), visibleIds(items));
+    }
+
+    @Test
+    public void visibleIndex() {
+        FinderItems<String> items = new FinderItems<>(Arrays.asList("foo", "bar", "baz"), renderer, emptySet(), true);
+        assertEquals(1, items.visibleIndexOf("baz"));
+
+        items.pin("baz");
+        assertEquals(0, items.visibleIndexOf("baz"));
+        assertEquals(1, items.visibleIndexOf("bar"));
+
+        items.filter("fo");
+        assertEquals(0, items.visibleIndexOf("foo"));
+        assertEquals(-1, items.visibleIndexOf("baz"));
+
+        items.filter(null);
+        assertEquals(2, items.visibleIndexOf("foo"));
+        assertEquals(-1, items.visibleIndexOf("unknown"));
+        assertEquals(-1, items.visibleIndexOf(null));
+    }
+
+    private List<String> visibleIds(FinderItems<String> items) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < items.visibleSize(); i++) {
+            ids.add(items.visible(i).id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.mvp;
+
+import org.jboss.hal.core.Core;
+import org.jboss.hal.core.ModelChanges;
+import org.jboss.hal.core.finder.Finder;
+import org.jboss.hal.core.finder.FinderPath;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gwt.junit.GWTMockUtilities;
+import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.SimpleEventBus;
+import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ApplicationFinderPresenterTest {
+
+    private static final ResourceAddress SCOPE = new ResourceAddress()
+            .add("subsystem", "datasources")
+            .add("data-source", "ExampleDS");
+
+    private static class TestPresenter extends ApplicationFinderPresenter<HalView, ProxyPlace<?>> {
+
+        int reloads;
+        boolean succeed = true;
+
+        @SuppressWarnings("unchecked")
+        TestPresenter(EventBus eventBus) {
+            super(eventBus, mock(HalView.class), mock(ProxyPlace.class), mock(Finder.class));
+        }
+
+        @Override
+        protected void reload() {
+            reloads++;
+            if (succeed) {
+                loaded();
+            }
+        }
+
+        @Override
+        protected ResourceAddress changeScope() {
+            return SCOPE;
+        }
+
+        @Override
+        public FinderPath finderPath() {
+            return null;
+        }
+    }
+
+    private EventBus eventBus;
+    private ModelChanges modelChanges;
+    private TestPresenter presenter;
+
+    @Before
+    public void setUp() {
+        GWTMockUtilities.disarm();
+        eventBus = new SimpleEventBus();
+        modelChanges = new ModelChanges(eventBus);
+        modelChanges.setTracking(true);
+        Core.INSTANCE = mock(Core.class);
+        when(Core.INSTANCE.modelChanges()).thenReturn(modelChanges);
+        presenter = new TestPresenter(eventBus);
+    }
+
+    @Test
+    public void skipUnchanged() {
+        presenter.onReset();
+        presenter.onReset();
+
+        assertEquals(1, presenter.reloads);
+    }
+
+    @Test
+    public void reloadChanged() {
+        presenter.onReset();
+        eventBus.fireEvent(new ModelChangedEvent(new Operation.Builder(SCOPE, WRITE_ATTRIBUTE_OPERATION).build()));
+        presenter.onReset();
+
+        assertEquals(2, presenter.reloads);
+    }
+
+    @Test
+    public void retryFailed() {
+        presenter.succeed = false;
+        presenter.onReset();
+        presenter.onReset();
+        assertEquals(2, presenter.reloads);
+
+        presenter.succeed = true;
+        presenter.onReset();
+        presenter.onReset();
+        assertEquals(3, presenter.reloads);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import elemental2.promise.Promise;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class PollingCoalescerTest {
+
+    private Map<Promise<?>, Runnable> settle;
+    private PollingCoalescer coalescer;
+    private int executions;
+
+    @Before
+    public void setUp() {
+        settle = new HashMap<>();
+        executions = 0;
+        coalescer = new PollingCoalescer() {
+            @Override
+            <R> void whenSettled(Promise<R> promise, Runnable callback) {
+                // settled by the tests
+                settle.put(promise, callback);
+            }
+        };
+    }
+
+    @Test
+    public void shareInFlight() {
+        Promise<String> first = coalescer.execute("ping", this::execute);
+        Promise<String> second = coalescer.execute("ping", this::execute);
+
+        assertSame(first, second);
+        assertEquals(1, executions);
+    }
+
+    @Test
+    public void differentKeys() {
+        Promise<String> ping = coalescer.execute("ping", this::execute);
+        Promise<String> status = coalescer.execute("status", this::execute);
+
+        assertNotSame(ping, status);
+        assertEquals(2, executions);
+    }
+
+    @Test
+    public void executeAgainWhenSettled() {
+        Promise<String> first = coalescer.execute("ping", this::execute);
+        settle.get(first).run();
+        Promise<String> second = coalescer.execute("ping", this::execute);
+
+        assertNotSame(first, second);
+        assertEquals(2, executions);
+    }
+
+    @Test
+    public void staleSettlementKeepsNewerExecution() {
+        Promise<String> first = coalescer.execute("ping", this::execute);
+        Runnable settleFirst = settle.get(first);
+        settleFirst.run();
+        Promise<String> second = coalescer.execute("ping", this::execute);
+        settleFirst.run();
+
+        assertSame(second, coalescer.execute("ping", this::execute));
+        assertEquals(2, executions);
+    }
+
+    private Promise<String> execute() {
+        executions++;
+        // never settles on its own, the tests settle the promises using the callbacks registered in whenSettled()
+        return new Promise<>((resolve, reject) -> {
+        });
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
+
+/**
+ * Data input which reads directly from a typed array. Unlike {@link DataInput} there's no need to copy the bytes into a
+ * {@code byte[]} first.
+ */
+class ArrayBufferDataInput extends DataInput {
+
+    private final Octets octets;
+    private final int length;
+    private int pos = 0;
+
+    ArrayBufferDataInput(ArrayBuffer buffer) {
+        this(new Uint8Array(buffer));
+    }
+
+    ArrayBufferDataInput(Uint8Array array) {
+        this(Octets.wrap(array));
+    }
+
+    ArrayBufferDataInput(Octets octets) {
+        this.octets = octets;
+        this.length = octets.length();
+    }
+
+    @Override
+    int position() {
+        return pos;
+    }
+
+    @Override
+    void seek(int position) {
+        pos = position;
+    }
+
+    @Override
+    void skip(int count) {
+        ensure(count);
+        pos += count;
+    }
+
+    @Override
+    int length() {
+        return length;
+    }
+
+    @Override
+    DataInput slice(int start, int end) {
+        return new ArrayBufferDataInput(octets.copy(start, end));
+    }
+
+    @Override
+    int read() {
+        if (pos >= length) {
+            return -1;
+        }
+        return octets.get(pos++);
+    }
+
+    @Override
+    void readFully(byte[] b) {
+        ensure(b.length);
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) octets.get(pos++);
+        }
+    }
+
+    @Override
+    double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    int readInt() {
+        ensure(4);
+        int value = octets.get(pos) << 24 | octets.get(pos + 1) << 16 | octets.get(pos + 2) << 8 | octets.get(pos + 3);
+        pos += 4;
+        return value;
+    }
+
+    private void ensure(int count) {
+        if (pos + count > length) {
+            throw new RuntimeException("EOF");
+        }
+    }
+}
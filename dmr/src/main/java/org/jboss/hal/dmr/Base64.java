@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.dmr;
 
+import elemental2.core.Uint8Array;
 import jsinterop.annotations.JsMethod;
 
 import static jsinterop.annotations.JsPackage.GLOBAL;
@@ -22,12 +23,89 @@ import static jsinterop.annotations.JsPackage.GLOBAL;
 /** Encodes and decodes to and from Base64 notation. */
 public class Base64 {
 
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    private static final byte PADDING = '=';
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        for (int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = -1;
+        }
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            DECODE_TABLE[ALPHABET.charAt(i)] = i;
+        }
+    }
+
     @JsMethod(namespace = GLOBAL, name = "btoa")
     public static native String encode(String decoded);
 
     @JsMethod(namespace = GLOBAL, name = "atob")
     public static native String decode(String encoded);
 
+    /**
+     * Encodes the given bytes into base64 encoded ASCII bytes. Other than {@link #encode(String)} no intermediate string is
+     * created.
+     */
+    public static Uint8Array encode(Uint8Array decoded) {
+        return encode(Octets.wrap(decoded)).toUint8Array();
+    }
+
+    /**
+     * Decodes the given base64 encoded ASCII bytes in a single pass. Whitespace is skipped and decoding stops at the first
+     * padding character. Other than {@link #decode(String)} no intermediate string is created.
+     *
+     * @throws IllegalArgumentException if the input contains characters outside the base64 alphabet
+     */
+    public static Uint8Array decode(Uint8Array encoded) {
+        return decode(Octets.wrap(encoded)).toUint8Array();
+    }
+
+    static Octets encode(Octets decoded) {
+        int length = decoded.length();
+        Octets encoded = decoded.create(((length + 2) / 3) * 4);
+        int o = 0;
+        for (int i = 0; i < length; i += 3) {
+            int remaining = length - i;
+            int b0 = decoded.get(i);
+            int b1 = remaining > 1 ? decoded.get(i + 1) : 0;
+            int b2 = remaining > 2 ? decoded.get(i + 2) : 0;
+            int bits = (b0 << 16) | (b1 << 8) | b2;
+            encoded.set(o++, ALPHABET.charAt((bits >> 18) & 0x3f));
+            encoded.set(o++, ALPHABET.charAt((bits >> 12) & 0x3f));
+            encoded.set(o++, remaining > 1 ? ALPHABET.charAt((bits >> 6) & 0x3f) : PADDING);
+            encoded.set(o++, remaining > 2 ? ALPHABET.charAt(bits & 0x3f) : PADDING);
+        }
+        return encoded;
+    }
+
+    static Octets decode(Octets encoded) {
+        int length = encoded.length();
+        Octets decoded = encoded.create((length / 4) * 3 + 3);
+        int o = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < length; i++) {
+            int c = encoded.get(i);
+            if (c == PADDING) {
+                break;
+            }
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                continue;
+            }
+            int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (value == -1) {
+                throw new IllegalArgumentException("Invalid base64 character at position " + i);
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                decoded.set(o++, (buffer >> bits) & 0xff);
+            }
+        }
+        return decoded.view(0, o);
+    }
+
     /** Defeats instantiation. */
     private Base64() {
     }
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.dmr;
 
+import java.util.Arrays;
+
 import elemental2.core.ArrayBuffer;
 import elemental2.core.DataView;
 import elemental2.core.Int8Array;
@@ -28,9 +30,46 @@ class DataInput {
         this.bytes = bytes;
     }
 
+    /** Used by subclasses which provide their own storage by overriding {@link #read()} and {@link #readFully(byte[])}. */
+    DataInput() {
+        this.bytes = new byte[0];
+    }
+
+    // ------------------------------------------------------ position
+
+    /** @return the current read position. Used to decode nodes {@linkplain LazyModelValue lazily}. */
+    int position() {
+        return pos;
+    }
+
+    /** Moves the read position to the specified offset. */
+    void seek(int position) {
+        pos = position;
+    }
+
+    void skip(int count) {
+        if (pos + count > bytes.length) {
+            throw new RuntimeException("EOF");
+        }
+        pos += count;
+    }
+
+    /** @return the number of bytes of this input */
+    int length() {
+        return bytes.length;
+    }
+
+    /**
+     * @return a new input which contains a copy of the bytes between {@code start} (inclusive) and {@code end} (exclusive).
+     *         Used by {@linkplain LazyModelValue lazy values} which must not keep the whole input.
+     */
+    DataInput slice(int start, int end) {
+        return new DataInput(Arrays.copyOfRange(bytes, start, end));
+    }
+
     // ------------------------------------------------------ read a-z
 
-    private int read() {
+    int read() {
         if (pos >= bytes.length) {
             return -1;
         }
@@ -103,7 +142,7 @@ class DataInput {
         return (short) ((a << 8) | b);
     }
 
-    private int readUnsignedByte() {
+    int readUnsignedByte() {
         int i = read();
         if (i == -1) {
             throw new RuntimeException("EOF");
@@ -111,7 +150,7 @@ class DataInput {
         return i;
     }
 
-    private int readUnsignedShort() {
+    int readUnsignedShort() {
         int a = readUnsignedByte();
         int b = readUnsignedByte();
         return ((a << 8) | b);
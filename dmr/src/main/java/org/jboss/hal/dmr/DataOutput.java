@@ -17,87 +17,99 @@ package org.jboss.hal.dmr;
 
 import com.google.common.base.Charsets;
 
-import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
-import elemental2.core.Int8Array;
-import elemental2.core.JsArray;
+import elemental2.core.Uint8Array;
 
+/** Writes the binary DMR representation straight into a growing typed array. */
 class DataOutput {
 
-    private final JsArray<Byte> bytes;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private Octets bytes;
+    private int length;
 
     DataOutput() {
-        bytes = new JsArray<>();
+        this(Octets.allocate(INITIAL_CAPACITY));
+    }
+
+    /** Writes into the specified octets, which are replaced by larger ones of the same kind if necessary. */
+    DataOutput(Octets bytes) {
+        this.bytes = bytes;
+        this.length = 0;
     }
 
     @Override
     public String toString() {
-        int length = bytes.getLength();
         byte[] array = new byte[length];
         for (int i = 0; i < length; i++) {
-            array[i] = bytes.getAt(i);
+            array[i] = (byte) bytes.get(i);
         }
         return new String(array, Charsets.ISO_8859_1);
     }
 
+    /** Returns a view of the written bytes. The bytes are neither boxed nor copied. */
+    Uint8Array toUint8Array() {
+        return bytes.view(0, length).toUint8Array();
+    }
+
+    private void ensure(int count) {
+        int capacity = bytes.length();
+        if (length + count > capacity) {
+            bytes = bytes.grow(Math.max(capacity * 2, length + count), length);
+        }
+    }
+
+    private void push(int b) {
+        bytes.set(length++, b);
+    }
+
     // ------------------------------------------------------ write a-z
 
     void write(byte[] bits) {
-        for (int i = 0; i < bits.length; i++) {
-            bytes.push(bits[i]);
-        }
+        write(bits, 0, bits.length);
     }
 
     private void write(byte[] b, int off, int len) {
+        ensure(len);
         for (int i = 0; i < len; i++) {
-            bytes.push(b[off + i]);
+            push(b[off + i]);
         }
     }
 
     void writeBoolean(boolean v) {
-        bytes.push(v ? (byte) 1 : (byte) 0);
+        ensure(1);
+        push(v ? 1 : 0);
     }
 
     void writeByte(int v) {
-        bytes.push((byte) v);
+        ensure(1);
+        push(v);
     }
 
     void writeChar(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        writeShort(v);
     }
 
     void writeDouble(double v) {
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        view.setFloat64(0, v);
-        for (int i = 0; i < array.getLength(); i++) {
-            bytes.push(array.getAt(i).byteValue());
-        }
+        writeLong(Double.doubleToLongBits(v));
     }
 
     void writeInt(int v) {
-        bytes.push((byte) (v >>> 24));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        ensure(4);
+        push(v >>> 24);
+        push(v >>> 16);
+        push(v >>> 8);
+        push(v);
     }
 
     void writeLong(long v) {
-        bytes.push((byte) (v >>> 56));
-        bytes.push((byte) ((v >>> 48) & 0xFF));
-        bytes.push((byte) ((v >>> 40) & 0xFF));
-        bytes.push((byte) ((v >>> 32) & 0xFF));
-        bytes.push((byte) ((v >>> 24) & 0xFF));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
     }
 
     private void writeShort(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        ensure(2);
+        push(v >>> 8);
+        push(v);
     }
 
     void writeUTF(String s) {
@@ -0,0 +1,375 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An object, list or property value which is decoded from a {@link DataInput} on first access. Until then the value only knows
+ * its type and the offset of its content in the input.
+ * <p>
+ * Decoding a lazy value reads one level only: The keys of an object, the elements of a list or the name of a property. Simple
+ * children are decoded right away, while nested objects, lists and properties are skipped and become lazy values themselves. So
+ * a large payload is only decoded as far as its nodes are actually accessed.
+ * <p>
+ * The input must not change as long as there are lazy values referring to it. Since the input is never modified, undecoded lazy
+ * values can be copied and protected without decoding them. If such a value uses less than half of the input, the copy refers
+ * to a {@linkplain DataInput#slice(int, int) slice} of the input. Otherwise a small copy, e.g. a single attribute description
+ * kept in a cache, would keep the whole response alive.
+ */
+class LazyModelValue extends ModelValue {
+
+    /**
+     * Reads the node at the current position of the input. Objects, lists and properties are read lazily, all other types are
+     * read eagerly. Afterwards the position of the input is right after the node.
+     */
+    static ModelNode read(DataInput in) {
+        return read(in, false);
+    }
+
+    private static ModelNode read(DataInput in, boolean protect) {
+        int start = in.position();
+        ModelType type = ModelType.forChar((char) (in.readByte() & 0xff));
+        if (lazy(type)) {
+            int offset = in.position();
+            skip(type, in);
+            return new ModelNode(new LazyModelValue(type, in, offset, in.position(), protect));
+        } else {
+            in.seek(start);
+            ModelNode node = new ModelNode();
+            node.readExternal(in);
+            return node;
+        }
+    }
+
+    /**
+     * Reads the root node of the input lazily. The structure of the whole input is validated up front by skipping over the
+     * nested nodes, so a malformed or truncated input fails right here and not when a nested node is accessed later on.
+     */
+    static ModelNode readRoot(DataInput in) {
+        return read(in);
+    }
+
+    /** @return the decoded value if the specified value is a lazy value, the value itself otherwise */
+    static ModelValue decoded(ModelValue value) {
+        return value instanceof LazyModelValue ? ((LazyModelValue) value).decoded() : value;
+    }
+
+    private static boolean lazy(ModelType type) {
+        return type == ModelType.OBJECT || type == ModelType.LIST || type == ModelType.PROPERTY;
+    }
+
+    private static void skip(DataInput in) {
+        skip(ModelType.forChar((char) (in.readByte() & 0xff)), in);
+    }
+
+    private static void skip(ModelType type, DataInput in) {
+        int count;
+        switch (type) {
+            case UNDEFINED:
+                break;
+            case BOOLEAN:
+            case TYPE:
+                in.skip(1);
+                break;
+            case INT:
+                in.skip(4);
+                break;
+            case DOUBLE:
+            case LONG:
+                in.skip(8);
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                in.skip(in.readUnsignedShort());
+                break;
+            case BIG_INTEGER:
+            case BYTES:
+                in.skip(in.readInt());
+                break;
+            case LIST:
+                count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    skip(in);
+                }
+                break;
+            case OBJECT:
+                count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    in.skip(in.readUnsignedShort());
+                    skip(in);
+                }
+                break;
+            case PROPERTY:
+                in.skip(in.readUnsignedShort());
+                skip(in);
+                break;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
+
+    private final DataInput in;
+    private final int offset;
+    private final int end;
+    private final boolean protect;
+    private ModelValue decoded;
+
+    private LazyModelValue(ModelType type, DataInput in, int offset, int end, boolean protect) {
+        super(type);
+        this.in = in;
+        this.offset = offset;
+        this.end = end;
+        this.protect = protect;
+    }
+
+    private ModelValue decoded() {
+        if (decoded == null) {
+            ModelValue value = decode();
+            decoded = protect ? value.protect() : value;
+        }
+        return decoded;
+    }
+
+    private ModelValue decode() {
+        in.seek(offset);
+        int count;
+        switch (getType()) {
+            case LIST:
+                count = in.readInt();
+                List<ModelNode> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(read(in, protect));
+                }
+                return new ListModelValue(list);
+            case OBJECT:
+                count = in.readInt();
+                LinkedHashMap<String, ModelNode> map = new LinkedHashMap<>();
+                for (int i = 0; i < count; i++) {
+                    String key = in.readUTF();
+                    map.put(key, read(in, protect));
+                }
+                return new ObjectModelValue(map);
+            case PROPERTY:
+                String name = in.readUTF();
+                return new PropertyModelValue(name, read(in, protect));
+            default:
+                throw new IllegalStateException("Unexpected lazy type: " + getType());
+        }
+    }
+
+    // ------------------------------------------------------ copy & protect
+
+    @Override
+    ModelValue protect() {
+        if (decoded == null) {
+            return protect ? this : detached(true);
+        }
+        return decoded.protect();
+    }
+
+    @Override
+    ModelValue copy() {
+        if (decoded == null) {
+            // the input is never modified: a copy can decode the same bytes again
+            return detached(false);
+        }
+        return decoded.copy();
+    }
+
+    /** @return an undecoded copy which refers to a slice of the input if this value uses less than half of the input */
+    private LazyModelValue detached(boolean protect) {
+        int length = end - offset;
+        if (length < in.length() / 2) {
+            return new LazyModelValue(getType(), in.slice(offset, end), 0, length, protect);
+        }
+        return new LazyModelValue(getType(), in, offset, end, protect);
+    }
+
+    @Override
+    ModelValue thaw() {
+        return decoded().thaw();
+    }
+
+    @Override
+    ModelValue resolve() {
+        return decoded().resolve();
+    }
+
+    // ------------------------------------------------------ delegates
+
+    @Override
+    long asLong() {
+        return decoded().asLong();
+    }
+
+    @Override
+    long asLong(long defVal) {
+        return decoded().asLong(defVal);
+    }
+
+    @Override
+    int asInt() {
+        return decoded().asInt();
+    }
+
+    @Override
+    int asInt(int defVal) {
+        return decoded().asInt(defVal);
+    }
+
+    @Override
+    boolean asBoolean() {
+        return decoded().asBoolean();
+    }
+
+    @Override
+    boolean asBoolean(boolean defVal) {
+        return decoded().asBoolean(defVal);
+    }
+
+    @Override
+    double asDouble() {
+        return decoded().asDouble();
+    }
+
+    @Override
+    double asDouble(double defVal) {
+        return decoded().asDouble(defVal);
+    }
+
+    @Override
+    byte[] asBytes() {
+        return decoded().asBytes();
+    }
+
+    @Override
+    BigDecimal asBigDecimal() {
+        return decoded().asBigDecimal();
+    }
+
+    @Override
+    BigInteger asBigInteger() {
+        return decoded().asBigInteger();
+    }
+
+    @Override
+    String asString() {
+        return decoded().asString();
+    }
+
+    @Override
+    Property asProperty() {
+        return decoded().asProperty();
+    }
+
+    @Override
+    List<Property> asPropertyList() {
+        return decoded().asPropertyList();
+    }
+
+    @Override
+    ModelNode asObject() {
+        return decoded().asObject();
+    }
+
+    @Override
+    ModelNode getChild(String name) {
+        return decoded().getChild(name);
+    }
+
+    @Override
+    ModelNode removeChild(String name) {
+        return decoded().removeChild(name);
+    }
+
+    @Override
+    ModelNode getChild(int index) {
+        return decoded().getChild(index);
+    }
+
+    @Override
+    ModelNode addChild() {
+        return decoded().addChild();
+    }
+
+    @Override
+    Set<String> getKeys() {
+        return decoded().getKeys();
+    }
+
+    @Override
+    List<ModelNode> asList() {
+        return decoded().asList();
+    }
+
+    @Override
+    ModelType asType() {
+        return decoded().asType();
+    }
+
+    @Override
+    void format(StringBuilder builder, int indent, boolean multiLine) {
+        decoded().format(builder, indent, multiLine);
+    }
+
+    @Override
+    void formatAsJSON(StringBuilder builder, int indent, boolean multiLine) {
+        decoded().formatAsJSON(builder, indent, multiLine);
+    }
+
+    @Override
+    void writeExternal(DataOutput out) {
+        decoded().writeExternal(out);
+    }
+
+    @Override
+    boolean has(int index) {
+        return decoded().has(index);
+    }
+
+    @Override
+    boolean has(String key) {
+        return decoded().has(key);
+    }
+
+    @Override
+    ModelNode requireChild(String name) throws NoSuchElementException {
+        return decoded().requireChild(name);
+    }
+
+    @Override
+    ModelNode requireChild(int index) throws NoSuchElementException {
+        return decoded().requireChild(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return decoded().equals(other instanceof LazyModelValue ? ((LazyModelValue) other).decoded() : other);
+    }
+
+    @Override
+    public int hashCode() {
+        return decoded().hashCode();
+    }
+}
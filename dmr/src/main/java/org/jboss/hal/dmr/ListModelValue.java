@@ -176,6 +176,15 @@ class ListModelValue extends ModelValue {
         return new ListModelValue(this);
     }
 
+    @Override
+    ModelValue thaw() {
+        ArrayList<ModelNode> copy = new ArrayList<>(list.size());
+        for (ModelNode node : list) {
+            copy.add(node.share());
+        }
+        return new ListModelValue(copy);
+    }
+
     @Override
     ModelValue resolve() {
         ArrayList<ModelNode> copy = new ArrayList<>(list.size());
@@ -273,6 +273,7 @@ public interface ModelDescriptionConstants {
     String DEPLOYMENT_PERMISSIONS = "deployment-permissions";
     String DEPLOYMENT_SCANNER = "deployment-scanner";
     String DEPRECATED = "deprecated";
+    String DEPTH = "depth";
     String DESCRIPTION = "description";
     String DESTINATION = "destination";
     String DESTINATION_ADDRESS = "destination-address";
@@ -347,6 +348,7 @@ public interface ModelDescriptionConstants {
     String EXPOSED_SUBSYSTEMS = "exposed-subsystems";
     String EXPRESSION = "expression";
     String EXPRESSIONS_ALLOWED = "expressions-allowed";
+    String EXTENSION = "extension";
     String EXTERNAL_JMS_QUEUE = "external-jms-queue";
     String EXTERNAL_JMS_TOPIC = "external-jms-topic";
     String EXTRA_PROPS = "extra-props";
@@ -19,12 +19,16 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
 import com.google.common.base.CharMatcher;
 
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
@@ -52,6 +56,64 @@ public class ModelNode implements Cloneable {
         return node;
     }
 
+    /**
+     * Creates a new node from base64 encoded ASCII bytes as returned by {@code Response.arrayBuffer()}. The bytes are decoded
+     * in a single pass and read directly from the typed array without any intermediate strings.
+     *
+     * @param encoded The base64 encoded bytes.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBase64(ArrayBuffer encoded) {
+        return fromBase64(encoded, false);
+    }
+
+    /**
+     * Creates a new node from base64 encoded ASCII bytes as returned by {@code Response.arrayBuffer()}.
+     * <p>
+     * If {@code lazy} is {@code true}, objects, lists and properties are decoded level by level when they're accessed for the
+     * first time. This saves time and memory if only parts of a large payload are used. The structure of the payload is
+     * validated up front, so a malformed or truncated payload fails right away.
+     *
+     * @param encoded The base64 encoded bytes.
+     * @param lazy whether to decode nested nodes on first access
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBase64(ArrayBuffer encoded, boolean lazy) {
+        DataInput in = new ArrayBufferDataInput(Base64.decode(new Uint8Array(encoded)));
+        return lazy ? LazyModelValue.readRoot(in) : read(in);
+    }
+
+    /**
+     * Creates a new node from the binary DMR representation.
+     *
+     * @param bytes The binary representation.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBinary(ArrayBuffer bytes) {
+        return read(new ArrayBufferDataInput(bytes));
+    }
+
+    /**
+     * Creates a new node from the binary DMR representation. Only the bytes of the view are read, which don't need to start at
+     * the beginning of the underlying buffer.
+     *
+     * @param bytes The binary representation.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBinary(Uint8Array bytes) {
+        return read(new ArrayBufferDataInput(bytes));
+    }
+
+    private static ModelNode read(DataInput in) {
+        ModelNode node = new ModelNode();
+        node.readExternal(in);
+        return node;
+    }
+
     private static native byte[] toBytes(String str) /*-{
         var bytes = [];
         for (var i = 0; i < str.length; ++i) {
@@ -63,6 +125,7 @@ public class ModelNode implements Cloneable {
     private static final String NEW_VALUE_IS_NULL = "newValue is null";
 
     private boolean protect = false;
+    private boolean shared = false;
     private ModelValue value;
 
     public ModelNode() {
@@ -76,14 +139,24 @@ public class ModelNode implements Cloneable {
     /**
      * Prevent further modifications to this node and its sub-nodes. Note that copies of this node made after this method call
      * will not be protected.
+     * <p>
+     * Copies of a protected node share its structure (copy-on-write): Instead of copying the whole tree, a copy refers to the
+     * protected value and copies it level by level only when the copy is modified or its children are accessed. So protect
+     * nodes which are copied several times, like cached payloads or resource descriptions.
      */
     public void protect() {
         if (!protect) {
             protect = true;
+            shared = false;
             value = value.protect();
         }
     }
 
+    /** @return whether this node has been {@linkplain #protect() protected} */
+    public boolean isProtected() {
+        return protect;
+    }
+
     /**
      * Get the value of this node as a {@code long}. Collection types will return the size of the collection for this value.
      * Other types may attempt a string conversion.
@@ -248,6 +321,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public Property asProperty() throws IllegalArgumentException {
+        thaw();
         return value.asProperty();
     }
 
@@ -261,6 +335,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if no conversion is possible
      */
     public List<Property> asPropertyList() throws IllegalArgumentException {
+        thaw();
         return value.asPropertyList();
     }
 
@@ -503,7 +578,26 @@ public class ModelNode implements Cloneable {
             throw new IllegalArgumentException(NEW_VALUE_IS_NULL);
         }
         checkProtect();
-        value = newValue.value.copy();
+        copyFrom(newValue);
+        return this;
+    }
+
+    /**
+     * Change this node's value to the value of the given node <em>without</em> copying it. Both nodes share the same value
+     * afterwards, so changes made through one node are visible in the other. Only use this method for nodes which are treated
+     * as read-only afterwards.
+     *
+     * @param newValue the new value
+     *
+     * @return this node
+     */
+    public ModelNode setShared(ModelNode newValue) {
+        if (newValue == null) {
+            throw new IllegalArgumentException(NEW_VALUE_IS_NULL);
+        }
+        checkProtect();
+        value = newValue.value;
+        shared = newValue.protect || newValue.shared;
         return this;
     }
 
@@ -801,6 +895,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if this node does not support getting a child with the given name
      */
     public ModelNode get(String name) {
+        thaw();
         ModelValue value = this.value;
         if (value == ModelValue.UNDEFINED) {
             checkProtect();
@@ -823,6 +918,7 @@ public class ModelNode implements Cloneable {
      * @throws NoSuchElementException if the element does not exist
      */
     public ModelNode require(String name) throws NoSuchElementException {
+        thaw();
         return value.requireChild(name);
     }
 
@@ -838,6 +934,7 @@ public class ModelNode implements Cloneable {
      * @throws NoSuchElementException if the element does not exist
      */
     public ModelNode remove(String name) throws NoSuchElementException {
+        thaw();
         return value.removeChild(name);
     }
 
@@ -854,6 +951,7 @@ public class ModelNode implements Cloneable {
      * @throws IllegalArgumentException if this node does not support getting a child with the given index
      */
     public ModelNode get(int index) {
+        thaw();
         ModelValue value = this.value;
         if (value == ModelValue.UNDEFINED) {
             checkProtect();
@@ -875,6 +973,7 @@ public class ModelNode implements Cloneable {
      * @throws NoSuchElementException if the element does not exist
      */
     public ModelNode require(int index) {
+        thaw();
         return value.requireChild(index);
     }
 
@@ -1219,7 +1318,8 @@ public class ModelNode implements Cloneable {
      * @return true if there is a node at the given index and its type is not undefined
      */
     public boolean hasDefined(String key) {
-        return value.has(key) && get(key).isDefined();
+        // don't use get(key): it would copy a shared value
+        return value.has(key) && value.requireChild(key).isDefined();
     }
 
     /**
@@ -1240,6 +1340,7 @@ public class ModelNode implements Cloneable {
      * @return the entry list
      */
     public List<ModelNode> asList() {
+        thaw();
         return value.asList();
     }
 
@@ -1293,6 +1394,27 @@ public class ModelNode implements Cloneable {
         return Base64.encode(out.toString());
     }
 
+    /** @return the base64 encoded ASCII bytes of this node. Can be used as request body without creating any strings. */
+    public Uint8Array toBase64Bytes() {
+        return Base64.encode(toBinary());
+    }
+
+    /**
+     * @return the binary DMR representation of this node. The returned array is a view which might be backed by a larger
+     *         buffer. Use {@link #toBinaryCopy()} to keep the bytes for a longer time.
+     */
+    public Uint8Array toBinary() {
+        DataOutput out = new DataOutput();
+        writeExternal(out);
+        return out.toUint8Array();
+    }
+
+    /** @return the binary DMR representation of this node in a buffer of the exact size. */
+    public Uint8Array toBinaryCopy() {
+        Uint8Array view = toBinary();
+        return new Uint8Array(view.buffer.slice(view.byteOffset, view.byteOffset + view.byteLength));
+    }
+
     /**
      * Return a copy of this model node, with all system property expressions locally resolved. The caller must have permission
      * to access all of the system properties named in the node tree.
@@ -1325,7 +1447,8 @@ public class ModelNode implements Cloneable {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ModelNode other) {
-        return this == other || other != null && other.value.equals(value);
+        return this == other || other != null
+                && LazyModelValue.decoded(other.value).equals(LazyModelValue.decoded(value));
     }
 
     /**
@@ -1346,7 +1469,7 @@ public class ModelNode implements Cloneable {
      */
     public ModelNode clone() {
         ModelNode clone = new ModelNode();
-        clone.value = value.copy();
+        clone.copyFrom(this);
         return clone;
     }
 
@@ -1443,6 +1566,73 @@ public class ModelNode implements Cloneable {
         if (protect) {
             throw new UnsupportedOperationException();
         }
+        thaw();
+    }
+
+    // ------------------------------------------------------ copy-on-write
+
+    /** Shares the value of the given node if it can't be modified anymore or copies it otherwise. */
+    private void copyFrom(ModelNode node) {
+        if (node.protect || node.shared) {
+            value = node.value;
+            shared = true;
+        } else {
+            value = node.value.copy();
+            shared = false;
+        }
+    }
+
+    /**
+     * Replaces a shared value with a modifiable copy of its first level. Must be called before this node is modified or its
+     * children are handed out. The children of the copy still share their values.
+     */
+    private void thaw() {
+        if (shared) {
+            shared = false;
+            value = value.thaw();
+        }
+    }
+
+    /**
+     * Returns the child with the given name without copying a shared value. Unlike {@link #get(String)} this method neither
+     * creates nor copies children. Use it for read-only traversals, e.g. to estimate the size of a node. The returned node must
+     * not be modified.
+     *
+     * @param name the child name
+     *
+     * @return the child or {@code null} if there's no such child
+     */
+    public ModelNode peek(String name) {
+        return value.has(name) ? value.requireChild(name) : null;
+    }
+
+    /**
+     * Returns the elements of this list node without copying a shared value. Use it for read-only traversals. The returned
+     * nodes must not be modified.
+     *
+     * @return the elements of this list or an empty list if this node is not a list
+     */
+    public List<ModelNode> peekList() {
+        return getType() == ModelType.LIST ? value.asList() : Collections.emptyList();
+    }
+
+    /**
+     * Returns the value of this property node without copying a shared value. Use it for read-only traversals. The returned
+     * property must not be modified.
+     *
+     * @return the property
+     *
+     * @throws IllegalArgumentException if this node is no property
+     */
+    public Property peekProperty() throws IllegalArgumentException {
+        return value.asProperty();
+    }
+
+    /** @return a new node which shares the value of this protected node */
+    ModelNode share() {
+        ModelNode node = new ModelNode(value);
+        node.shared = true;
+        return node;
     }
 
     /** @return {@code true} if this node has an outcome and the outcome does not equal "success" */
@@ -263,6 +263,14 @@ abstract class ModelValue implements Cloneable {
         return this;
     }
 
+    /**
+     * Returns a modifiable copy of this protected value whose children {@linkplain ModelNode#share() share} the values of the
+     * original children. Simple values are immutable and return themselves.
+     */
+    ModelValue thaw() {
+        return this;
+    }
+
     @Override
     public abstract boolean equals(Object other);
 
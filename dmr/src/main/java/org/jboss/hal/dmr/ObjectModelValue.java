@@ -36,7 +36,7 @@ class ObjectModelValue extends ModelValue {
         map = new LinkedHashMap<>();
     }
 
-    private ObjectModelValue(Map<String, ModelNode> map) {
+    ObjectModelValue(Map<String, ModelNode> map) {
         super(ModelType.OBJECT);
         this.map = map;
     }
@@ -167,6 +167,15 @@ class ObjectModelValue extends ModelValue {
         return new ObjectModelValue(newMap);
     }
 
+    @Override
+    ModelValue thaw() {
+        LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
+        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+            newMap.put(entry.getKey(), entry.getValue().share());
+        }
+        return new ObjectModelValue(newMap);
+    }
+
     @Override
     List<ModelNode> asList() {
         ArrayList<ModelNode> nodes = new ArrayList<>();
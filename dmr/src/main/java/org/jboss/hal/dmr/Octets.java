@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import elemental2.core.Uint8Array;
+
+/**
+ * Fixed size sequence of unsigned bytes used by the binary codecs ({@link DataOutput}, {@link ArrayBufferDataInput} and
+ * {@link Base64}).
+ * <p>
+ * The octets are backed by a {@link Uint8Array}, so there are neither boxed values nor intermediate strings. The class is
+ * abstract, so that unit tests can run the codecs on the JVM using octets backed by a {@code byte[]}.
+ */
+abstract class Octets {
+
+    static Octets allocate(int length) {
+        return new TypedOctets(new Uint8Array(length));
+    }
+
+    static Octets wrap(Uint8Array array) {
+        return new TypedOctets(array);
+    }
+
+    abstract int length();
+
+    /** @return the unsigned byte at the specified index */
+    abstract int get(int index);
+
+    /** Sets the lower eight bits of {@code value} at the specified index. */
+    abstract void set(int index, int value);
+
+    /** @return new octets of the same kind with the specified length */
+    abstract Octets create(int length);
+
+    /**
+     * @return new octets of the same kind with the specified capacity, which contain a copy of the first {@code length} bytes
+     *         of these octets
+     */
+    abstract Octets grow(int capacity, int length);
+
+    /** @return octets which share the bytes between {@code start} (inclusive) and {@code end} (exclusive) */
+    abstract Octets view(int start, int end);
+
+    /** @return octets which contain a copy of the bytes between {@code start} (inclusive) and {@code end} (exclusive) */
+    abstract Octets copy(int start, int end);
+
+    abstract Uint8Array toUint8Array();
+
+
+    private static class TypedOctets extends Octets {
+
+        private final Uint8Array array;
+
+        private TypedOctets(Uint8Array array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int get(int index) {
+            return array.getAt(index).intValue();
+        }
+
+        @Override
+        void set(int index, int value) {
+            array.setAt(index, (double) (value & 0xFF));
+        }
+
+        @Override
+        Octets create(int length) {
+            return allocate(length);
+        }
+
+        @Override
+        Octets grow(int capacity, int length) {
+            Uint8Array grown = new Uint8Array(capacity);
+            grown.set(new Uint8Array(array.buffer, array.byteOffset, length));
+            return new TypedOctets(grown);
+        }
+
+        @Override
+        Octets view(int start, int end) {
+            return new TypedOctets(new Uint8Array(array.buffer, array.byteOffset + start, end - start));
+        }
+
+        @Override
+        Octets copy(int start, int end) {
+            return new TypedOctets(new Uint8Array(array.buffer.slice(array.byteOffset + start, array.byteOffset + end)));
+        }
+
+        @Override
+        Uint8Array toUint8Array() {
+            return array;
+        }
+    }
+}
@@ -49,6 +49,7 @@ public class Operation extends ModelNode {
         this.parameter.remove(OP);
         this.parameter.remove(ADDRESS);
         this.parameter.remove(OPERATION_HEADERS);
+        this.parameter.protect();
         this.header = modelNode.hasDefined(OPERATION_HEADERS) ? modelNode.get(OPERATION_HEADERS) : new ModelNode();
         ModelNode roles = ModelNodeHelper.failSafeGet(modelNode, OPERATION_HEADERS + "/" + ROLES);
         if (roles.isDefined()) {
@@ -70,11 +71,12 @@ public class Operation extends ModelNode {
     Operation(String name, ResourceAddress address, ModelNode parameter, ModelNode header, Set<String> roles) {
         this.name = name;
         this.address = address;
-        this.parameter = parameter == null ? new ModelNode() : parameter;
+        this.parameter = protectedCopy(parameter);
         this.header = header;
         this.roles = roles;
 
-        set(this.parameter.clone());
+        // the parameters are protected: operations share them with copies, run-as operations and composites
+        set(this.parameter);
         get(OP).set(name);
         get(ADDRESS).set(address);
         if (header.isDefined()) {
@@ -83,6 +85,15 @@ public class Operation extends ModelNode {
         addRolesAsHeaders();
     }
 
+    private static ModelNode protectedCopy(ModelNode parameter) {
+        if (parameter != null && parameter.isProtected()) {
+            return parameter;
+        }
+        ModelNode copy = parameter == null ? new ModelNode() : parameter.clone();
+        copy.protect();
+        return copy;
+    }
+
     private void addRolesAsHeaders() {
         if (roles != null && !roles.isEmpty() && !name.equals(WHOAMI)) {
             // roles are headers!
@@ -110,7 +121,7 @@ public class Operation extends ModelNode {
     }
 
     /**
-     * @return the parameters of the operation
+     * @return the parameters of the operation. The parameters are protected and cannot be modified.
      */
     public ModelNode getParameter() {
         return parameter;
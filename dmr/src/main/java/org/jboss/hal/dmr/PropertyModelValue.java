@@ -108,6 +108,11 @@ class PropertyModelValue extends ModelValue {
         return new PropertyModelValue(property.getName(), property.getValue());
     }
 
+    @Override
+    ModelValue thaw() {
+        return new PropertyModelValue(property.getName(), property.getValue().share());
+    }
+
     @Override
     ModelValue resolve() {
         return new PropertyModelValue(property.getName(), property.getValue().resolve());
@@ -25,6 +25,8 @@ import java.util.List;
  */
 public class ResourceAddress extends ModelNode {
 
+    private static final String WILDCARD = "*";
+
     /** @return the empty (root) address */
     public static ResourceAddress root() {
         // Do not replace this with a static constant! In most cases the returned address is modified somehow.
@@ -171,6 +173,32 @@ public class ResourceAddress extends ModelNode {
         return true;
     }
 
+    /**
+     * Checks if this address and the specified address overlap: Both addresses are equal or one address is a parent of the
+     * other. The wildcard {@code *} matches any value.
+     *
+     * @param address The address to check
+     * @return true if the addresses overlap, false otherwise
+     */
+    public boolean overlaps(ResourceAddress address) {
+        List<Property> segments = asPropertyList();
+        List<Property> otherSegments = address.asPropertyList();
+        int size = Math.min(segments.size(), otherSegments.size());
+        for (int i = 0; i < size; i++) {
+            Property segment = segments.get(i);
+            Property otherSegment = otherSegments.get(i);
+            if (!segment.getName().equals(otherSegment.getName())) {
+                return false;
+            }
+            String value = segment.getValue().asString();
+            String otherValue = otherSegment.getValue().asString();
+            if (!WILDCARD.equals(value) && !WILDCARD.equals(otherValue) && !value.equals(otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Replaces the value in the specified segment
      *
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -37,6 +38,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent.ModelChangedHandler;
 import org.jboss.hal.dmr.dispatch.ResponseHeadersProcessor.Header;
 import org.jboss.hal.dmr.macro.Action;
 import org.jboss.hal.dmr.macro.Macro;
@@ -53,7 +55,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 
+import elemental2.core.ArrayBuffer;
 import elemental2.dom.Blob;
 import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
 import elemental2.dom.BlobPropertyBag;
@@ -62,12 +66,15 @@ import elemental2.dom.FileList;
 import elemental2.dom.FormData;
 import elemental2.dom.FormData.AppendValueUnionType;
 import elemental2.dom.Headers;
+import elemental2.dom.ProgressEvent;
 import elemental2.dom.Request;
 import elemental2.dom.RequestInit;
 import elemental2.dom.Response;
+import elemental2.dom.XMLHttpRequest;
 import elemental2.promise.IThenable.ThenOnFulfilledCallbackFn;
 import elemental2.promise.Promise;
 import elemental2.promise.Promise.CatchOnRejectedCallbackFn;
+import jsinterop.base.Js;
 
 import static java.util.stream.Collectors.joining;
 
@@ -80,19 +87,24 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INSTALLED_DRIVER_LIST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_CHANGES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE_HEADERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUPS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.POST;
 import static org.jboss.hal.dmr.dispatch.PayloadProcessor.PARSE_ERROR;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.ACCEPT;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.CONTENT_TYPE;
+import static org.jboss.hal.dmr.dispatch.RequestHeader.IF_NONE_MATCH;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.X_MANAGEMENT_CLIENT_NAME;
+import static org.jboss.hal.dmr.dispatch.ResponseHeader.ETAG;
 
 /** Executes operations against the management endpoint. */
 public class Dispatcher implements RecordingHandler {
@@ -101,8 +113,9 @@ public class Dispatcher implements RecordingHandler {
     static final String APPLICATION_JSON = "application/json";
 
     private static final String HEADER_MANAGEMENT_CLIENT_VALUE = "HAL";
+    private static final int NOT_MODIFIED = 304;
     private static final Set<String> READ_ONLY_OPERATIONS = new HashSet<>(Arrays.asList(QUERY, FIND_NON_PROGRESSING_OPERATION,
-            INSTALLED_DRIVER_LIST));
+            INSTALLED_DRIVER_LIST, LIST_CHANGES_OPERATION));
     private static final Predicate<Operation> READ_ONLY = operation -> operation.getName().startsWith("read")
             || READ_ONLY_OPERATIONS.contains(operation.getName());
 
@@ -115,6 +128,10 @@ public class Dispatcher implements RecordingHandler {
     private final ResponseHeadersProcessors responseHeadersProcessors;
     private final Macros macros;
     private final ErrorCallback errorCallback;
+    private final ReadCache<Promise<ModelNode>> readCache;
+    private final EntityTags<ModelNode> entityTags;
+    private Transport transport;
+    private boolean httpGet;
 
     @Inject
     public Dispatcher(Environment environment, Endpoints endpoints, Settings settings,
@@ -126,8 +143,18 @@ public class Dispatcher implements RecordingHandler {
         this.eventBus = eventBus;
         this.responseHeadersProcessors = responseHeadersProcessors;
         this.macros = macros;
+        this.transport = Transport.TEXT;
+        this.readCache = new ReadCache<>(0, System::currentTimeMillis);
+        this.entityTags = new EntityTags<>(EntityTags.DEFAULT_CAPACITY);
+        this.httpGet = false;
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
+        this.eventBus.addHandler(ModelChangedEvent.getType(), event -> {
+            // own changes have already been invalidated in dmr()
+            if (event.isExternal()) {
+                readCache.invalidate(event.getAddresses());
+            }
+        });
         this.errorCallback = (operation, error) -> {
             logger.error("Dispatcher error: {}, operation {}", error, operation.asCli());
             eventBus.fireEvent(new MessageEvent(Message.error(resources.messages().lastOperationException(), error)));
@@ -211,21 +238,184 @@ public class Dispatcher implements RecordingHandler {
      * Executes the operation and upon successful result, returns the response results, but doesn't retrieve the "result"
      * payload as the other execute methods does. You should use this method if the response node you want is not in the
      * "result" attribute.
+     * <p>
+     * If enabled (see {@link #setReadCacheTtl(long)}), identical read-only operations share one request while they're in
+     * flight and their result for a short time afterwards. Write operations invalidate the shared results of overlapping
+     * addresses and fire a {@link ModelChangedEvent} when they were successful.
      */
     public Promise<ModelNode> dmr(Operation operation) {
+        List<ResourceAddress> addresses = addresses(operation);
+        if (readOnlyOperation(operation)) {
+            if (!readCache.isEnabled() || macros.current() != null) {
+                // bypass the cache while recording macros: cached operations would not be recorded
+                return send(operation);
+            }
+            String key = runAs(operation).toBase64String();
+            Promise<ModelNode> promise = readCache.get(key);
+            if (promise == null) {
+                Promise<ModelNode> pending = send(operation);
+                readCache.put(key, addresses, pending);
+                pending.then(payload -> {
+                    // protected payloads are cheap to copy: the copies share the structure until they're modified
+                    payload.protect();
+                    readCache.settled(key, pending, true);
+                    return null;
+                }, error -> {
+                    readCache.settled(key, pending, false);
+                    return null;
+                });
+                promise = pending;
+            } else {
+                logger.trace("Share result of {}", operation);
+            }
+            // callers are free to modify the payload
+            return promise.then(payload -> Promise.resolve(payload.clone()));
+
+        } else {
+            readCache.invalidate(addresses);
+            Promise<ModelNode> promise = send(operation);
+            // invalidate again to drop reads which were sent while the write operation was in flight
+            promise.then(payload -> {
+                readCache.invalidate(addresses);
+                eventBus.fireEvent(new ModelChangedEvent(operation));
+                return null;
+            }, error -> {
+                readCache.invalidate(addresses);
+                return null;
+            });
+            return promise;
+        }
+    }
+
+    private Promise<ModelNode> send(Operation operation) {
+        if (httpGet && runAs(operation) == operation) {
+            Operation getOperation = GetOperation.httpGet(operation);
+            if (getOperation == operation) {
+                return get(operation);
+            } else if (getOperation != null) {
+                // composite with one step like the read-resource-description operations of the metadata processor
+                return get(getOperation).then(payload -> {
+                    ModelNode composite = new ModelNode();
+                    composite.get(OUTCOME).set(SUCCESS);
+                    composite.get(RESULT).get("step-1").set(payload); // NON-NLS
+                    return Promise.resolve(composite);
+                });
+            }
+        }
+        return post(operation);
+    }
+
+    private Promise<ModelNode> post(Operation operation) {
         RequestInit init = requestInit(POST, true);
-        init.setBody(runAs(operation).toBase64String());
-        Request request = new Request(endpoints.dmr(), init);
+        if (transport == Transport.BINARY) {
+            init.setBody(runAs(operation).toBase64Bytes());
+            Request request = new Request(endpoints.dmr(), init);
+
+            return fetch(request)
+                    .then(processResponseBuffer())
+                    .then(processBuffer(operation, new DmrPayloadProcessor()))
+                    .catch_(rejectWithError());
+        } else {
+            init.setBody(runAs(operation).toBase64String());
+            Request request = new Request(endpoints.dmr(), init);
+
+            return fetch(request)
+                    .then(processResponse())
+                    .then(processText(operation, new DmrPayloadProcessor(), true))
+                    .catch_(rejectWithError());
+        }
+    }
+
+    /** Registers a handler which is called after a write operation has been executed successfully. */
+    public HandlerRegistration addModelChangedHandler(ModelChangedHandler handler) {
+        return eventBus.addHandler(ModelChangedEvent.getType(), handler);
+    }
+
+    /**
+     * Sets the time in milliseconds the results of read-only operations are shared. Use 0 to send each operation to the server.
+     * The read cache is off by default.
+     */
+    public void setReadCacheTtl(long ttl) {
+        readCache.setTtl(ttl);
+    }
+
+    public boolean isHttpGet() {
+        return httpGet;
+    }
+
+    /**
+     * Sends simple read operations like {@code read-resource} or {@code read-attribute} as conditional HTTP GET requests
+     * instead of POST requests. This allows the browser and proxies to cache the responses and the server to answer with "304
+     * Not Modified" if the payload didn't change. Composites with one step qualify as well.
+     * <p>
+     * The mode is off by default: Responses of the HTTP GET API contain the result only, but no response headers. So callers
+     * which enable it don't get notified about pending reloads or restarts by read operations.
+     */
+    public void setHttpGet(boolean httpGet) {
+        this.httpGet = httpGet;
+        if (!httpGet) {
+            entityTags.clear();
+        }
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Switches the way DMR operations are encoded and decoded. Uploads and downloads are not affected. The default is
+     * {@link Transport#TEXT}. Since the dispatcher is not a singleton, the transport only applies to the instance of the caller.
+     */
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    // ------------------------------------------------------ get
+
+    private Promise<ModelNode> get(Operation operation) {
+        String url = operationUrl(operation);
+        String etag = entityTags.etag(url);
+        Request request = new Request(url, requestInit(GET, true));
+        if (etag != null) {
+            request.headers.set(IF_NONE_MATCH.header(), etag);
+        }
 
         return fetch(request)
-                .then(processResponse())
-                .then(processText(operation, new DmrPayloadProcessor(), true))
+                .then(response -> {
+                    if (response.status == NOT_MODIFIED) {
+                        ModelNode payload = entityTags.payload(url, etag);
+                        if (payload != null) {
+                            logger.trace("Not modified: {}", url);
+                            return processPayload(operation, true, payload::clone);
+                        }
+                        entityTags.remove(url);
+                        return post(operation);
+                    }
+                    String error = responseError(response);
+                    if (error != null) {
+                        return Promise.reject(error);
+                    }
+                    String responseEtag = response.headers.get(ETAG.header());
+                    return response.arrayBuffer().then(buffer -> processPayload(operation, true, () -> {
+                        ModelNode payload = new DmrPayloadProcessor().processPayload(GET, APPLICATION_DMR_ENCODED,
+                                buffer);
+                        if (payload.isFailure()) {
+                            entityTags.remove(url);
+                        } else {
+                            ModelNode stored = payload.clone();
+                            stored.protect();
+                            entityTags.put(url, responseEtag, stored);
+                        }
+                        return payload;
+                    }));
+                })
                 .catch_(rejectWithError());
     }
 
     // ------------------------------------------------------ upload
 
     public Promise<ModelNode> upload(FileList files, Operation operation) {
+        readCache.invalidate(addresses(operation));
         Operation uploadOperation = runAs(operation);
         ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
                 uploadOperation.toBase64String());
@@ -242,11 +432,73 @@ public class Dispatcher implements RecordingHandler {
         return fetch(uploadRequest(formData))
                 .then(processResponse())
                 .then(processText(operation, new UploadPayloadProcessor(), false))
-                .then(payload -> Promise.resolve(operationResult(payload)))
+                .then(payload -> {
+                    eventBus.fireEvent(new ModelChangedEvent(operation));
+                    return Promise.resolve(operationResult(payload));
+                })
                 .catch_(rejectWithError());
     }
 
     public Promise<ModelNode> upload(File file, Operation operation) {
+        readCache.invalidate(addresses(operation));
+        FormData formData = uploadFormData(file, operation);
+
+        return fetch(uploadRequest(formData))
+                .then(processResponse())
+                .then(processText(operation, new UploadPayloadProcessor(), false))
+                .then(payload -> {
+                    eventBus.fireEvent(new ModelChangedEvent(operation));
+                    return Promise.resolve(operationResult(payload));
+                })
+                .catch_(rejectWithError());
+    }
+
+    /**
+     * Uploads the file like {@link #upload(File, Operation)} and reports the number of bytes sent so far. Uses an
+     * {@code XMLHttpRequest}, since {@code fetch()} doesn't report the progress of uploads.
+     */
+    public Promise<ModelNode> upload(File file, Operation operation, UploadProgress progress) {
+        readCache.invalidate(addresses(operation));
+        FormData formData = uploadFormData(file, operation);
+
+        return new Promise<String>((resolve, reject) -> {
+            XMLHttpRequest xhr = new XMLHttpRequest();
+            xhr.open(POST.name(), endpoints.upload());
+            xhr.withCredentials = true;
+            xhr.setRequestHeader(X_MANAGEMENT_CLIENT_NAME.header(), HEADER_MANAGEMENT_CLIENT_VALUE);
+            String bearerToken = token();
+            if (bearerToken != null) {
+                xhr.setRequestHeader("Authorization", "Bearer " + bearerToken);
+            }
+            xhr.upload.addEventListener("progress", event -> { // NON-NLS
+                ProgressEvent<?> progressEvent = Js.uncheckedCast(event);
+                progress.onProgress(progressEvent.loaded, progressEvent.lengthComputable ? progressEvent.total : file.size);
+            });
+            xhr.onload = event -> {
+                String contentType = xhr.getResponseHeader(CONTENT_TYPE.header());
+                if (xhr.status != 200 && xhr.status != 500) {
+                    reject.onInvoke(ResponseStatus.fromStatusCode(xhr.status).statusText());
+                } else if (contentType == null || !contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+                    reject.onInvoke(PARSE_ERROR + contentType);
+                } else {
+                    resolve.onInvoke(xhr.responseText);
+                }
+            };
+            xhr.onerror = event -> {
+                reject.onInvoke(ResponseStatus.fromStatusCode(xhr.status).statusText());
+                return null;
+            };
+            xhr.send(formData);
+        })
+                .then(processText(operation, new UploadPayloadProcessor(), false))
+                .then(payload -> {
+                    eventBus.fireEvent(new ModelChangedEvent(operation));
+                    return Promise.resolve(operationResult(payload));
+                })
+                .catch_(rejectWithError());
+    }
+
+    private FormData uploadFormData(File file, Operation operation) {
         Operation uploadOperation = runAs(operation);
         ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
                 uploadOperation.toBase64String());
@@ -256,12 +508,7 @@ public class Dispatcher implements RecordingHandler {
         FormData formData = new FormData();
         appendFile(formData, file);
         formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[] { blob }, options));
-
-        return fetch(uploadRequest(formData))
-                .then(processResponse())
-                .then(processText(operation, new UploadPayloadProcessor(), false))
-                .then(payload -> Promise.resolve(operationResult(payload)))
-                .catch_(rejectWithError());
+        return formData;
     }
 
     private Request uploadRequest(FormData formData) {
@@ -389,48 +636,75 @@ public class Dispatcher implements RecordingHandler {
 
     ThenOnFulfilledCallbackFn<Response, String> processResponse() {
         return response -> {
-            if (!response.ok && response.status != 500) {
-                return Promise.reject(ResponseStatus.fromStatusCode(response.status).statusText());
-            }
-            String contentType = response.headers.get(CONTENT_TYPE.header());
-            if (!contentType.startsWith(APPLICATION_DMR_ENCODED)) {
-                return Promise.reject(PARSE_ERROR + contentType);
+            String error = responseError(response);
+            if (error != null) {
+                return Promise.reject(error);
             }
             return response.text();
         };
     }
 
+    ThenOnFulfilledCallbackFn<Response, ArrayBuffer> processResponseBuffer() {
+        return response -> {
+            String error = responseError(response);
+            if (error != null) {
+                return Promise.reject(error);
+            }
+            return response.arrayBuffer();
+        };
+    }
+
+    private String responseError(Response response) {
+        if (!response.ok && response.status != 500) {
+            return ResponseStatus.fromStatusCode(response.status).statusText();
+        }
+        String contentType = response.headers.get(CONTENT_TYPE.header());
+        if (!contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+            return PARSE_ERROR + contentType;
+        }
+        return null;
+    }
+
     ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, PayloadProcessor payloadProcessor,
             boolean recordOperation) {
-        return text -> {
-            if (recordOperation) {
-                recordOperation(operation);
-            }
-            logger.trace("DMR operation: {}", operation);
-            ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
-            if (!payload.isFailure()) {
-                if (environment.isStandalone()) {
-                    if (payload.hasDefined(RESPONSE_HEADERS)) {
-                        Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+        return text -> processPayload(operation, recordOperation,
+                () -> payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text));
+    }
+
+    ThenOnFulfilledCallbackFn<ArrayBuffer, ModelNode> processBuffer(Operation operation,
+            DmrPayloadProcessor payloadProcessor) {
+        return buffer -> processPayload(operation, true,
+                () -> payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, buffer));
+    }
+
+    private Promise<ModelNode> processPayload(Operation operation, boolean recordOperation, Supplier<ModelNode> decoder) {
+        if (recordOperation) {
+            recordOperation(operation);
+        }
+        logger.trace("DMR operation: {}", operation);
+        ModelNode payload = decoder.get();
+        if (!payload.isFailure()) {
+            if (environment.isStandalone()) {
+                if (payload.hasDefined(RESPONSE_HEADERS)) {
+                    Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+                    for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                        processor.process(headers);
+                    }
+                }
+            } else {
+                if (payload.hasDefined(SERVER_GROUPS)) {
+                    Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
+                    if (headers.length != 0) {
                         for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
                             processor.process(headers);
                         }
                     }
-                } else {
-                    if (payload.hasDefined(SERVER_GROUPS)) {
-                        Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
-                        if (headers.length != 0) {
-                            for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                processor.process(headers);
-                            }
-                        }
-                    }
                 }
-                return Promise.resolve(payload);
-            } else {
-                return Promise.reject(payload.getFailureDescription());
             }
-        };
+            return Promise.resolve(payload);
+        } else {
+            return Promise.reject(payload.getFailureDescription());
+        }
     }
 
     private Header[] collectHeaders(ModelNode serverGroups) {
@@ -496,7 +770,23 @@ public class Dispatcher implements RecordingHandler {
         }
     }
 
-    private boolean readOnlyOperation(Operation operation) {
+    private List<ResourceAddress> addresses(Operation operation) {
+        List<ResourceAddress> addresses = new ArrayList<>();
+        if (operation instanceof Composite) {
+            for (Operation op : (Composite) operation) {
+                addresses.add(op.getAddress());
+            }
+        } else {
+            addresses.add(operation.getAddress());
+        }
+        return addresses;
+    }
+
+    /**
+     * @return whether the operation doesn't modify the management model. Only other operations invalidate cached reads and
+     *         fire a {@link ModelChangedEvent}.
+     */
+    static boolean readOnlyOperation(Operation operation) {
         if (operation instanceof Composite) {
             Composite composite = (Composite) operation;
             for (Operation op : composite) {
@@ -528,10 +818,30 @@ public class Dispatcher implements RecordingHandler {
         void onError(Operation operation, String error);
     }
 
+    @FunctionalInterface
+    public interface UploadProgress {
+
+        /** Called while a file is uploaded with the number of bytes sent so far and the total number of bytes. */
+        void onProgress(double loaded, double total);
+    }
+
     public enum HttpMethod {
         GET, POST
     }
 
+    /** Defines how DMR operations are encoded and decoded. */
+    public enum Transport {
+
+        /** Operations and responses are converted to and from base64 encoded strings. */
+        TEXT,
+
+        /**
+         * Operations and responses are encoded and decoded straight from typed arrays. The response bytes are base64 decoded in
+         * a single pass without any intermediate strings.
+         */
+        BINARY
+    }
+
     public enum ResponseStatus {
 
         _0(0, "The response for could not be processed."),
@@ -15,9 +15,13 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import java.util.function.Supplier;
+
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
 
+import elemental2.core.ArrayBuffer;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 
@@ -25,10 +29,23 @@ public class DmrPayloadProcessor implements PayloadProcessor {
 
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
+        return processPayload(method, contentType, () -> ModelNode.fromBase64(payload));
+    }
+
+    /**
+     * Processes the raw bytes of a response without converting them to a string first. Nested nodes are decoded lazily when
+     * they're accessed for the first time. The structure of the payload is validated right away, so a malformed or truncated
+     * payload is turned into a failed response here.
+     */
+    public ModelNode processPayload(final HttpMethod method, final String contentType, final ArrayBuffer payload) {
+        return processPayload(method, contentType, () -> ModelNode.fromBase64(payload, true));
+    }
+
+    private ModelNode processPayload(HttpMethod method, String contentType, Supplier<ModelNode> decoder) {
         ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
             try {
-                node = ModelNode.fromBase64(payload);
+                node = decoder.get();
                 if (method == GET && !node.isFailure()) {
                     // For GET request the response is purely the model nodes result. The outcome
                     // is not send as part of the response but expressed with the HTTP status code.
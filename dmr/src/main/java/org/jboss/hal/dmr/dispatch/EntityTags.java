@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the entity tags and payloads of recent GET requests, so that they can be sent as conditional requests. If the
+ * server answers with "304 Not Modified", the remembered payload is used. The number of remembered responses is limited; the
+ * least recently used responses are dropped first.
+ *
+ * @param <V> the type of the remembered payloads
+ */
+class EntityTags<V> {
+
+    static final int DEFAULT_CAPACITY = 100;
+
+    private final Map<String, Entry<V>> entries;
+
+    EntityTags(int capacity) {
+        this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** @return the entity tag of the remembered response for the specified URL or {@code null} */
+    String etag(String url) {
+        Entry<V> entry = entries.get(url);
+        return entry != null ? entry.etag : null;
+    }
+
+    /** @return the remembered payload for the specified URL and entity tag or {@code null} */
+    V payload(String url, String etag) {
+        Entry<V> entry = entries.get(url);
+        return entry != null && entry.etag.equals(etag) ? entry.payload : null;
+    }
+
+    /** Remembers the payload or forgets any previous payload if {@code etag} is {@code null}. */
+    void put(String url, String etag, V payload) {
+        if (etag == null || etag.isEmpty()) {
+            entries.remove(url);
+        } else {
+            entries.put(url, new Entry<>(etag, payload));
+        }
+    }
+
+    void remove(String url) {
+        entries.remove(url);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+
+        final String etag;
+        final V payload;
+
+        Entry(String etag, V payload) {
+            this.etag = etag;
+            this.payload = payload;
+        }
+    }
+}
@@ -18,7 +18,14 @@ package org.jboss.hal.dmr.dispatch;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ModelDescriptionConstants;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION_HEADERS;
 
 @SuppressWarnings("HardCodedStringLiteral")
 enum GetOperation {
@@ -53,6 +60,48 @@ enum GetOperation {
         return lookup.get(operation);
     }
 
+    /**
+     * Returns the operation which can be sent as HTTP GET request instead of the specified operation. That's the operation
+     * itself or the only step of a composite with one step. Only plain operations supported by the HTTP GET API qualify: No
+     * operation headers (they cannot be encoded in the URL), no run-as roles and only simple parameter values.
+     *
+     * @return the operation to send as HTTP GET request or {@code null} if the operation has to be sent as POST request
+     */
+    static Operation httpGet(Operation operation) {
+        if (operation instanceof Composite) {
+            Composite composite = (Composite) operation;
+            if (composite.size() == 1 && plain(composite)) {
+                Operation step = composite.iterator().next();
+                return httpGet(step) == step ? step : null;
+            }
+            return null;
+        }
+        GetOperation getOperation = get(operation.getName());
+        if (getOperation == null || getOperation == READ_CONTENT || !plain(operation)) {
+            return null;
+        }
+        if (operation.hasParameter()) {
+            for (Property property : operation.getParameter().asPropertyList()) {
+                ModelType type = property.getValue().getType();
+                if (type == ModelType.OBJECT || type == ModelType.LIST || type == ModelType.PROPERTY) {
+                    return null;
+                }
+            }
+        }
+        return operation;
+    }
+
+    private static boolean plain(Operation operation) {
+        // composites keep their headers in the model node only
+        return empty(operation.getHeader())
+                && (!operation.hasDefined(OPERATION_HEADERS) || empty(operation.get(OPERATION_HEADERS)))
+                && operation.getRoles().isEmpty();
+    }
+
+    private static boolean empty(ModelNode header) {
+        return !header.isDefined() || header.asList().isEmpty();
+    }
+
     private final String dmrOperation;
     private final String httpGetOperation;
 
@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+
+/**
+ * Fired by the {@link Dispatcher} after a write operation has been executed successfully. Use this event to invalidate data
+ * which was read from the management model.
+ * <p>
+ * The event is also fired for {@linkplain #isExternal() external} changes made by other clients like other consoles or the CLI,
+ * as far as they're detected.
+ */
+public class ModelChangedEvent extends GwtEvent<ModelChangedEvent.ModelChangedHandler> {
+
+    private static final Type<ModelChangedHandler> TYPE = new Type<>();
+
+    public static Type<ModelChangedHandler> getType() {
+        return TYPE;
+    }
+
+    private final List<Operation> operations;
+    private final boolean external;
+
+    /** @param operation the write operation; composites are split into their steps */
+    public ModelChangedEvent(Operation operation) {
+        this.operations = new ArrayList<>();
+        this.external = false;
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                operations.add(step);
+            }
+        } else {
+            operations.add(operation);
+        }
+    }
+
+    /**
+     * @param operations the write operations (no composites)
+     * @param external whether the operations were executed by another client
+     */
+    public ModelChangedEvent(List<Operation> operations, boolean external) {
+        this.operations = new ArrayList<>(operations);
+        this.external = external;
+    }
+
+    /** @return the executed operations (never a composite) */
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    /** @return whether the operations were executed by another client */
+    public boolean isExternal() {
+        return external;
+    }
+
+    /** @return the addresses of the executed operations */
+    public List<ResourceAddress> getAddresses() {
+        List<ResourceAddress> addresses = new ArrayList<>();
+        for (Operation operation : operations) {
+            addresses.add(operation.getAddress());
+        }
+        return addresses;
+    }
+
+    @Override
+    protected void dispatch(ModelChangedHandler handler) {
+        handler.onModelChanged(this);
+    }
+
+    @Override
+    public Type<ModelChangedHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    public interface ModelChangedHandler extends EventHandler {
+
+        void onModelChanged(ModelChangedEvent event);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Short-lived cache for the results of read-only operations. An entry is added as soon as the operation is sent (pending) and
+ * expires {@code ttl} milliseconds after it has been {@linkplain #settled(String, Object, boolean) settled} successfully. So
+ * the cache serves both identical operations which are in flight and recently finished operations.
+ * <p>
+ * Entries are removed if a write operation touches an overlapping address: One of the addresses is a parent of the other or
+ * both are equal. Wildcards match any value.
+ *
+ * @param <V> the type of the cached values
+ */
+class ReadCache<V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadCache.class);
+
+    private final Map<String, Entry<V>> entries;
+    private final LongSupplier clock;
+    private long ttl;
+
+    ReadCache(long ttl, LongSupplier clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new HashMap<>();
+    }
+
+    /** @return the pending or cached value or {@code null} if there's no such value or the value has expired */
+    V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expires < clock.getAsLong()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+        return null;
+    }
+
+    /** Adds a pending value for an operation which reads the specified addresses. */
+    void put(String key, List<ResourceAddress> addresses, V value) {
+        if (isEnabled()) {
+            removeExpired();
+            entries.put(key, new Entry<>(addresses, value));
+        }
+    }
+
+    /** Starts the TTL of a pending value or removes the value if the operation failed. */
+    void settled(String key, V value, boolean successful) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.value == value) {
+            if (successful) {
+                entry.expires = clock.getAsLong() + ttl;
+            } else {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /** Removes all values which read an address overlapping with one of the specified addresses. */
+    void invalidate(List<ResourceAddress> addresses) {
+        for (Iterator<Map.Entry<String, Entry<V>>> iterator = entries.entrySet().iterator(); iterator.hasNext();) {
+            Entry<V> entry = iterator.next().getValue();
+            if (entry.overlaps(addresses)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEnabled() {
+        return ttl > 0;
+    }
+
+    void setTtl(long ttl) {
+        this.ttl = ttl;
+        if (ttl <= 0) {
+            clear();
+        }
+        logger.debug("Set TTL of read cache to {} ms", ttl);
+    }
+
+    private void removeExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expires < now);
+    }
+
+    private static class Entry<V> {
+
+        final List<ResourceAddress> addresses;
+        final V value;
+        long expires;
+
+        Entry(List<ResourceAddress> addresses, V value) {
+            this.addresses = addresses;
+            this.value = value;
+            this.expires = Long.MAX_VALUE; // pending
+        }
+
+        boolean overlaps(List<ResourceAddress> other) {
+            for (ResourceAddress address : addresses) {
+                for (ResourceAddress otherAddress : other) {
+                    if (address.overlaps(otherAddress)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
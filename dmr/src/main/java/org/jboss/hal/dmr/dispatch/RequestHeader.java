@@ -22,6 +22,8 @@ public enum RequestHeader {
 
     CONTENT_TYPE("Content-Type"),
 
+    IF_NONE_MATCH("If-None-Match"),
+
     X_MANAGEMENT_CLIENT_NAME("X-Management-Client-Name");
 
     private final String header;
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ArrayBufferDataInputTest {
+
+    private static final String DMR = "{" +
+            "\"outcome\" => \"success\"," +
+            "\"result\" => {" +
+            "\"name\" => \"föö\", \"port\" => 8080, \"timeout\" => -42L, \"enabled\" => true," +
+            "\"ratio\" => 0.75, \"negative\" => -1.5e300," +
+            "\"big\" => big integer -12345678901234567890, \"decimal\" => big decimal 1.5," +
+            "\"type\" => STRING, \"expression\" => expression \"${foo:bar}\", \"bytes\" => bytes {0x01, 0xff}," +
+            "\"undefined\" => undefined," +
+            "\"list\" => [\"a\", {\"b\" => \"c\"}, [1, 2]]," +
+            "\"property\" => (\"key\" => {\"nested\" => \"value\"})" +
+            "}" +
+            "}";
+
+    private byte[] bytes;
+
+    @Before
+    public void setUp() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        org.jboss.dmr.ModelNode.fromString(DMR).writeExternal(new DataOutputStream(out));
+        bytes = out.toByteArray();
+    }
+
+    @Test
+    public void read() {
+        ModelNode result = read(bytes).get("result");
+
+        assertEquals("föö", result.get("name").asString());
+        assertEquals(8080, result.get("port").asInt());
+        assertEquals(-42L, result.get("timeout").asLong());
+        assertTrue(result.get("enabled").asBoolean());
+        assertEquals(0.75, result.get("ratio").asDouble(), 0);
+        assertEquals(-1.5e300, result.get("negative").asDouble(), 0);
+        assertEquals("-12345678901234567890", result.get("big").asString());
+        assertEquals(ModelType.EXPRESSION, result.get("expression").getType());
+        assertArrayEquals(new byte[] { 0x01, (byte) 0xff }, result.get("bytes").asBytes());
+        assertEquals("c", result.get("list").get(1).get("b").asString());
+        assertEquals("value", result.get("property").asProperty().getValue().get("nested").asString());
+    }
+
+    @Test
+    public void roundTrip() {
+        assertArrayEquals(bytes, write(read(bytes)));
+    }
+
+    @Test
+    public void base64RoundTrip() {
+        ModelNode node = read(bytes);
+        Octets encoded = Base64.encode(ByteArrayOctets.wrap(write(node)));
+        ModelNode decoded = new ModelNode();
+        decoded.readExternal(new ArrayBufferDataInput(Base64.decode(encoded)));
+
+        assertEquals(node, decoded);
+    }
+
+    @Test
+    public void lazy() {
+        ModelNode lazy = LazyModelValue.readRoot(new ArrayBufferDataInput(ByteArrayOctets.wrap(bytes)));
+        ModelNode list = lazy.get("result").get("list").clone();
+
+        assertEquals(read(bytes), lazy);
+        assertEquals(2, list.get(2).get(1).asInt());
+        assertArrayEquals(bytes, write(lazy));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void eof() {
+        read(Arrays.copyOf(bytes, bytes.length - 1));
+    }
+
+    private static ModelNode read(byte[] bytes) {
+        ModelNode node = new ModelNode();
+        node.readExternal(new ArrayBufferDataInput(ByteArrayOctets.wrap(bytes)));
+        return node;
+    }
+
+    private static byte[] write(ModelNode node) {
+        // start small to exercise the growth of the output
+        DataOutput out = new DataOutput(ByteArrayOctets.wrap(new byte[1]));
+        node.writeExternal(out);
+        return out.toString().getBytes(ISO_8859_1);
+    }
+}
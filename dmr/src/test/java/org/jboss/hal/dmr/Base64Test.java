@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class Base64Test {
+
+    @Test
+    public void encode() {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+
+            assertEquals(java.util.Base64.getEncoder().encodeToString(bytes),
+                    ascii(Base64.encode(ByteArrayOctets.wrap(bytes))));
+        }
+    }
+
+    @Test
+    public void decode() {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String encoded = java.util.Base64.getEncoder().encodeToString(bytes);
+
+            assertArrayEquals(bytes, bytes(Base64.decode(ByteArrayOctets.wrap(encoded.getBytes(US_ASCII)))));
+        }
+    }
+
+    @Test
+    public void roundTrip() {
+        byte[] bytes = new byte[4096];
+        new Random(42).nextBytes(bytes);
+
+        assertArrayEquals(bytes, bytes(Base64.decode(Base64.encode(ByteArrayOctets.wrap(bytes)))));
+    }
+
+    @Test
+    public void decodeSkipsWhitespace() {
+        byte[] bytes = new byte[256];
+        new Random(42).nextBytes(bytes);
+        String encoded = java.util.Base64.getMimeEncoder().encodeToString(bytes) + "\n";
+
+        assertArrayEquals(bytes, bytes(Base64.decode(ByteArrayOctets.wrap(encoded.getBytes(US_ASCII)))));
+    }
+
+    @Test
+    public void decodeStopsAtPadding() {
+        assertEquals("foo", ascii(Base64.decode(ByteArrayOctets.wrap("Zm9v=Zm9v".getBytes(US_ASCII)))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeInvalid() {
+        Base64.decode(ByteArrayOctets.wrap("Zm9v*".getBytes(US_ASCII)));
+    }
+
+    private static byte[] bytes(Octets octets) {
+        byte[] bytes = new byte[octets.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) octets.get(i);
+        }
+        return bytes;
+    }
+
+    private static String ascii(Octets octets) {
+        return new String(bytes(octets), US_ASCII);
+    }
+}
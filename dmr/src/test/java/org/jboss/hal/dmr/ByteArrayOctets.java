@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.Arrays;
+
+import elemental2.core.Uint8Array;
+
+/** Octets backed by a {@code byte[]} to run the binary codecs on the JVM. */
+class ByteArrayOctets extends Octets {
+
+    static Octets wrap(byte[] bytes) {
+        return new ByteArrayOctets(bytes, 0, bytes.length);
+    }
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private ByteArrayOctets(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    int length() {
+        return length;
+    }
+
+    @Override
+    int get(int index) {
+        return bytes[offset + index] & 0xFF;
+    }
+
+    @Override
+    void set(int index, int value) {
+        bytes[offset + index] = (byte) value;
+    }
+
+    @Override
+    Octets create(int length) {
+        return wrap(new byte[length]);
+    }
+
+    @Override
+    Octets grow(int capacity, int length) {
+        byte[] grown = new byte[capacity];
+        System.arraycopy(bytes, offset, grown, 0, length);
+        return wrap(grown);
+    }
+
+    @Override
+    Octets view(int start, int end) {
+        return new ByteArrayOctets(bytes, offset + start, end - start);
+    }
+
+    @Override
+    Octets copy(int start, int end) {
+        return wrap(Arrays.copyOfRange(bytes, offset + start, offset + end));
+    }
+
+    @Override
+    Uint8Array toUint8Array() {
+        throw new UnsupportedOperationException("Typed arrays are only available in the browser");
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class LazyModelValueTest {
+
+    private static final String DMR = "{" +
+            "\"outcome\" => \"success\"," +
+            "\"result\" => {" +
+            "\"step-1\" => {\"outcome\" => \"success\", \"result\" => {" +
+            "\"name\" => \"foo\", \"port\" => 8080, \"timeout\" => 42L, \"enabled\" => true," +
+            "\"big\" => big integer 12345678901234567890, \"decimal\" => big decimal 1.5," +
+            "\"type\" => STRING, \"expression\" => expression \"${foo:bar}\", \"bytes\" => bytes {0x01, 0x02}," +
+            "\"undefined\" => undefined," +
+            "\"list\" => [\"a\", {\"b\" => \"c\"}, [1, 2]]," +
+            "\"property\" => (\"key\" => {\"nested\" => \"value\"})" +
+            "}}," +
+            "\"step-2\" => {\"outcome\" => \"success\", \"result\" => [\"x\", \"y\"]}" +
+            "}," +
+            "\"response-headers\" => {\"process-state\" => \"reload-required\"}" +
+            "}";
+
+    private byte[] bytes;
+    private ModelNode eager;
+
+    @Before
+    public void setUp() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        org.jboss.dmr.ModelNode.fromString(DMR).writeExternal(new DataOutputStream(out));
+        bytes = out.toByteArray();
+        eager = new ModelNode();
+        eager.readExternal(new DataInput(bytes));
+    }
+
+    @Test
+    public void equalsEager() {
+        ModelNode lazy = lazy();
+
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(eager.toString(), lazy().toString());
+        assertEquals(eager.toJSONString(true), lazy().toJSONString(true));
+    }
+
+    @Test
+    public void partialAccess() {
+        ModelNode lazy = lazy();
+
+        assertEquals(ModelType.OBJECT, lazy.getType());
+        assertEquals("reload-required", lazy.get("response-headers").get("process-state").asString());
+        assertEquals(ModelType.LIST, lazy.get("result").get("step-2").get("result").getType());
+        assertEquals("y", lazy.get("result").get("step-2").get("result").get(1).asString());
+        assertEquals(eager.get("result").get("step-1"), lazy.get("result").get("step-1"));
+    }
+
+    @Test
+    public void simpleTypes() {
+        ModelNode result = lazy().get("result").get("step-1").get("result");
+
+        assertEquals(8080, result.get("port").asInt());
+        assertEquals(42L, result.get("timeout").asLong());
+        assertTrue(result.get("enabled").asBoolean());
+        assertEquals(ModelType.BIG_INTEGER, result.get("big").getType());
+        assertEquals(ModelType.BIG_DECIMAL, result.get("decimal").getType());
+        assertEquals(ModelType.STRING, result.get("type").asType());
+        assertEquals(ModelType.EXPRESSION, result.get("expression").getType());
+        assertEquals(2, result.get("bytes").asBytes().length);
+        assertTrue(result.has("undefined"));
+        assertFalse(result.hasDefined("undefined"));
+    }
+
+    @Test
+    public void nested() {
+        ModelNode result = lazy().get("result").get("step-1").get("result");
+
+        assertEquals("c", result.get("list").get(1).get("b").asString());
+        assertEquals(2, result.get("list").get(2).get(1).asInt());
+        Property property = result.get("property").asProperty();
+        assertEquals("key", property.getName());
+        assertEquals("value", property.getValue().get("nested").asString());
+    }
+
+    @Test
+    public void modify() {
+        ModelNode lazy = lazy();
+        lazy.get("result").get("step-1").get("result").get("name").set("bar");
+        lazy.get("result").get("step-2").get("result").add("z");
+        lazy.get("result").remove("step-3");
+
+        assertEquals("bar", lazy.get("result").get("step-1").get("result").get("name").asString());
+        assertEquals(3, lazy.get("result").get("step-2").get("result").asList().size());
+    }
+
+    @Test
+    public void copy() {
+        ModelNode lazy = lazy();
+        ModelNode copy = lazy.clone();
+        copy.get("result").get("step-2").get("result").add("z");
+
+        assertEquals(2, lazy.get("result").get("step-2").get("result").asList().size());
+        assertEquals(3, copy.get("result").get("step-2").get("result").asList().size());
+    }
+
+    @Test
+    public void copySlicesInput() {
+        int[] slices = new int[1];
+        ModelNode lazy = LazyModelValue.readRoot(new DataInput(bytes) {
+            @Override
+            DataInput slice(int start, int end) {
+                slices[0]++;
+                return super.slice(start, end);
+            }
+        });
+
+        ModelNode root = lazy.clone();
+        assertEquals(0, slices[0]);
+
+        ModelNode step2 = lazy.get("result").get("step-2").clone();
+        assertEquals(1, slices[0]);
+        assertEquals(eager.get("result").get("step-2"), step2);
+        step2.get("result").add("z");
+        assertEquals(3, step2.get("result").asList().size());
+        assertEquals(2, lazy.get("result").get("step-2").get("result").asList().size());
+        assertEquals(eager, root);
+    }
+
+    @Test
+    public void protect() {
+        ModelNode lazy = lazy();
+        lazy.protect();
+        ModelNode copy = lazy.clone();
+        copy.get("outcome").set("failed");
+
+        assertEquals(eager, lazy);
+        assertEquals("success", lazy.get("outcome").asString());
+        assertEquals("failed", copy.get("outcome").asString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void protectNested() {
+        ModelNode lazy = lazy();
+        lazy.protect();
+        lazy.get("result").get("step-1").get("result").get("name").set("bar");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void truncated() {
+        // must fail right away, not when the missing part is accessed
+        LazyModelValue.readRoot(new DataInput(Arrays.copyOf(bytes, bytes.length - 8)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformed() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeByte('o');
+        data.writeInt(1);
+        data.writeUTF("nested");
+        data.writeByte('l');
+        data.writeInt(1);
+        data.writeByte('?'); // unknown type
+        LazyModelValue.readRoot(new DataInput(out.toByteArray()));
+    }
+
+    private ModelNode lazy() {
+        return LazyModelValue.readRoot(new DataInput(bytes));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ModelNodeTest {
+
+    private ModelNode original;
+
+    @Before
+    public void setUp() {
+        original = new ModelNode();
+        original.get("name").set("foo");
+        original.get("attributes").get("enabled").get("type").set(ModelType.BOOLEAN);
+        original.get("attributes").get("jndi-name").get("type").set(ModelType.STRING);
+        original.get("list").add("a");
+        original.get("list").add("b");
+        original.get("property").set("key", "value");
+    }
+
+    @Test
+    public void cloneUnprotected() {
+        ModelNode copy = original.clone();
+        copy.get("name").set("bar");
+        original.get("attributes").remove("enabled");
+
+        assertEquals("foo", original.get("name").asString());
+        assertTrue(copy.get("attributes").has("enabled"));
+    }
+
+    @Test
+    public void cloneProtected() {
+        ModelNode expected = original.clone();
+        original.protect();
+        ModelNode copy = original.clone();
+
+        assertEquals(expected, copy);
+        assertFalse(copy.isProtected());
+
+        copy.get("name").set("bar");
+        copy.get("attributes").get("enabled").get("type").set(ModelType.INT);
+        copy.get("attributes").get("new").get("type").set(ModelType.LONG);
+        copy.get("list").add("c");
+        copy.get("property").get("key").set("other");
+
+        assertEquals(expected, original);
+        assertNotEquals(expected, copy);
+        assertEquals("bar", copy.get("name").asString());
+        assertEquals(ModelType.INT, copy.get("attributes").get("enabled").get("type").asType());
+        assertEquals(3, copy.get("list").asList().size());
+        assertEquals("other", copy.get("property").asProperty().getValue().asString());
+    }
+
+    @Test
+    public void copiesOfCopies() {
+        original.protect();
+        ModelNode first = original.clone();
+        ModelNode second = first.clone();
+        ModelNode third = new ModelNode().set(first);
+
+        first.get("attributes").get("jndi-name").remove("type");
+        second.get("attributes").get("jndi-name").get("type").set(ModelType.INT);
+
+        assertEquals(ModelType.STRING, original.get("attributes").get("jndi-name").get("type").asType());
+        assertFalse(first.get("attributes").get("jndi-name").has("type"));
+        assertEquals(ModelType.INT, second.get("attributes").get("jndi-name").get("type").asType());
+        assertEquals(ModelType.STRING, third.get("attributes").get("jndi-name").get("type").asType());
+    }
+
+    @Test
+    public void childrenOfCopies() {
+        original.protect();
+        ModelNode copy = original.clone();
+
+        List<Property> attributes = copy.get("attributes").asPropertyList();
+        attributes.get(0).getValue().get("type").set(ModelType.INT);
+        List<ModelNode> list = copy.get("list").asList();
+        list.get(0).set("z");
+
+        assertEquals(ModelType.INT, attributes.get(0).getValue().get("type").asType());
+        assertEquals(ModelType.BOOLEAN, original.get("attributes").get("enabled").get("type").asType());
+        assertEquals(ModelType.BOOLEAN, copy.get("attributes").get("enabled").get("type").asType());
+        assertEquals("a", original.get("list").get(0).asString());
+        assertEquals("z", copy.get("list").get(0).asString());
+    }
+
+    @Test
+    public void addProtected() {
+        original.protect();
+        ModelNode list = new ModelNode();
+        list.add(original);
+        list.add(original);
+        list.get(0).get("name").set("bar");
+
+        assertEquals("foo", original.get("name").asString());
+        assertEquals("bar", list.get(0).get("name").asString());
+        assertEquals("foo", list.get(1).get("name").asString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void protectedStaysProtected() {
+        original.protect();
+        original.clone().get("name").set("bar");
+        original.get("name").set("bar");
+    }
+
+    @Test
+    public void serializeCopy() {
+        ModelNode expected = original.clone();
+        original.protect();
+        ModelNode copy = original.clone();
+
+        assertEquals(expected.toString(), copy.toString());
+        assertEquals(expected.toJSONString(true), copy.toJSONString(true));
+    }
+}
@@ -80,6 +80,18 @@ public class ResourceAddressTest {
         assertFalse(ResourceAddress.from("/subsystem=undertow").startsWith(address));
     }
 
+    @Test
+    public void overlaps() {
+        assertTrue(ResourceAddress.from("/subsystem=ee").overlaps(ResourceAddress.from("/subsystem=ee")));
+        assertTrue(ResourceAddress.root().overlaps(ResourceAddress.from("/subsystem=ee")));
+        assertTrue(ResourceAddress.from("/subsystem=ee").overlaps(ResourceAddress.from("/subsystem=ee/service=default")));
+        assertTrue(ResourceAddress.from("/subsystem=ee/service=default").overlaps(ResourceAddress.from("/subsystem=ee")));
+        assertTrue(ResourceAddress.from("/host=*/server=*").overlaps(ResourceAddress.from("/host=primary/server=one")));
+        assertFalse(ResourceAddress.from("/subsystem=ee").overlaps(ResourceAddress.from("/subsystem=ejb3")));
+        assertFalse(ResourceAddress.from("/host=*/server=a").overlaps(ResourceAddress.from("/host=primary/server=b")));
+        assertFalse(ResourceAddress.from("/host=primary").overlaps(ResourceAddress.from("/server-group=primary")));
+    }
+
     private String[] segments(ResourceAddress address) {
         List<String> segments = new ArrayList<>();
         for (Property property : address.asPropertyList()) {
@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_CHANGES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class DispatcherTest {
+
+    private static final ResourceAddress ADDRESS = new ResourceAddress()
+            .add("subsystem", "core-management")
+            .add("service", "configuration-changes");
+
+    @Test
+    public void readOnly() {
+        assertTrue(Dispatcher.readOnlyOperation(operation(READ_RESOURCE_OPERATION)));
+        assertTrue(Dispatcher.readOnlyOperation(operation(QUERY)));
+        // polled in the background: must neither invalidate cached reads nor fire model changed events
+        assertTrue(Dispatcher.readOnlyOperation(operation(LIST_CHANGES_OPERATION)));
+        assertTrue(Dispatcher.readOnlyOperation(new Composite(operation(READ_RESOURCE_OPERATION),
+                operation(LIST_CHANGES_OPERATION))));
+    }
+
+    @Test
+    public void write() {
+        assertFalse(Dispatcher.readOnlyOperation(operation(WRITE_ATTRIBUTE_OPERATION)));
+        assertFalse(Dispatcher.readOnlyOperation(new Composite(operation(LIST_CHANGES_OPERATION),
+                operation(WRITE_ATTRIBUTE_OPERATION))));
+    }
+
+    private Operation operation(String name) {
+        return new Operation.Builder(ADDRESS, name).build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class EntityTagsTest {
+
+    private EntityTags<String> entityTags;
+
+    @Before
+    public void setUp() {
+        entityTags = new EntityTags<>(2);
+    }
+
+    @Test
+    public void remember() {
+        entityTags.put("/a", "\"1\"", "a");
+        assertEquals("\"1\"", entityTags.etag("/a"));
+        assertEquals("a", entityTags.payload("/a", "\"1\""));
+        assertNull(entityTags.payload("/a", "\"2\""));
+        assertNull(entityTags.etag("/b"));
+    }
+
+    @Test
+    public void revalidate() {
+        // first response
+        entityTags.put("/a", "\"1\"", "a");
+
+        // conditional request: not modified
+        String etag = entityTags.etag("/a");
+        assertEquals("\"1\"", etag);
+        assertEquals("a", entityTags.payload("/a", etag));
+
+        // conditional request: modified
+        entityTags.put("/a", "\"2\"", "b");
+        assertNull(entityTags.payload("/a", etag));
+        assertEquals("b", entityTags.payload("/a", entityTags.etag("/a")));
+    }
+
+    @Test
+    public void noEtag() {
+        entityTags.put("/a", "\"1\"", "a");
+        entityTags.put("/a", null, "a");
+        assertNull(entityTags.etag("/a"));
+        assertEquals(0, entityTags.size());
+    }
+
+    @Test
+    public void leastRecentlyUsed() {
+        entityTags.put("/a", "\"1\"", "a");
+        entityTags.put("/b", "\"2\"", "b");
+        entityTags.etag("/a");
+        entityTags.put("/c", "\"3\"", "c");
+
+        assertEquals(2, entityTags.size());
+        assertEquals("\"1\"", entityTags.etag("/a"));
+        assertNull(entityTags.etag("/b"));
+        assertEquals("\"3\"", entityTags.etag("/c"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static java.util.Collections.singleton;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE_DEPTH;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class GetOperationTest {
+
+    private static final ResourceAddress ADDRESS = new ResourceAddress().add("subsystem", "logging");
+
+    private static Operation rrd() {
+        return new Operation.Builder(ADDRESS, READ_RESOURCE_DESCRIPTION_OPERATION)
+                .param(OPERATIONS, true)
+                .param(RECURSIVE_DEPTH, 2)
+                .build();
+    }
+
+    @Test
+    public void readResourceDescription() {
+        Operation operation = rrd();
+        assertSame(operation, GetOperation.httpGet(operation));
+    }
+
+    @Test
+    public void singleStepComposite() {
+        Operation operation = rrd();
+        assertSame(operation, GetOperation.httpGet(new Composite(operation)));
+    }
+
+    @Test
+    public void multiStepComposite() {
+        assertNull(GetOperation.httpGet(new Composite(rrd(), rrd())));
+    }
+
+    @Test
+    public void compositeWithHeader() {
+        Composite composite = new Composite(rrd());
+        composite.addHeader("rollback-on-runtime-failure", false);
+        assertNull(GetOperation.httpGet(composite));
+    }
+
+    @Test
+    public void runAs() {
+        assertNull(GetOperation.httpGet(rrd().runAs(singleton("Monitor"))));
+        assertNull(GetOperation.httpGet(new Composite(rrd()).runAs(singleton("Monitor"))));
+    }
+
+    @Test
+    public void complexParameter() {
+        Operation operation = new Operation.Builder(ADDRESS, READ_RESOURCE_OPERATION)
+                .param("foo", new ModelNode().add("bar"))
+                .build();
+        assertNull(GetOperation.httpGet(operation));
+    }
+
+    @Test
+    public void unsupported() {
+        assertNull(GetOperation.httpGet(new Operation.Builder(ADDRESS, ADD).build()));
+        assertNull(GetOperation.httpGet(new Operation.Builder(ADDRESS, READ_CONTENT).build()));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ReadCacheTest {
+
+    private static final long TTL = 500;
+
+    private long now;
+    private ReadCache<String> cache;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        cache = new ReadCache<>(TTL, () -> now);
+    }
+
+    @Test
+    public void pending() {
+        cache.put("key", addresses("/subsystem=ee"), "pending");
+        now += 10 * TTL;
+        assertEquals("pending", cache.get("key"));
+    }
+
+    @Test
+    public void expires() {
+        cache.put("key", addresses("/subsystem=ee"), "value");
+        cache.settled("key", "value", true);
+        now += TTL;
+        assertEquals("value", cache.get("key"));
+        now++;
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void failed() {
+        cache.put("key", addresses("/subsystem=ee"), "value");
+        cache.settled("key", "value", false);
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void settledReplaced() {
+        cache.put("key", addresses("/subsystem=ee"), "first");
+        cache.put("key", addresses("/subsystem=ee"), "second");
+        cache.settled("key", "first", false);
+        assertEquals("second", cache.get("key"));
+    }
+
+    @Test
+    public void invalidate() {
+        cache.put("ee", addresses("/subsystem=ee"), "ee");
+        cache.put("ejb3", addresses("/subsystem=ejb3"), "ejb3");
+        cache.put("servers", addresses("/host=*/server=*"), "servers");
+
+        cache.invalidate(addresses("/subsystem=ee/service=default"));
+        assertNull(cache.get("ee"));
+        assertEquals("ejb3", cache.get("ejb3"));
+        assertEquals("servers", cache.get("servers"));
+
+        cache.invalidate(addresses("/host=primary/server=server-one"));
+        assertNull(cache.get("servers"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void disabled() {
+        cache.put("key", addresses("/subsystem=ee"), "value");
+        cache.setTtl(0);
+        assertFalse(cache.isEnabled());
+        assertEquals(0, cache.size());
+
+        cache.put("key", addresses("/subsystem=ee"), "value");
+        assertNull(cache.get("key"));
+    }
+
+    private ResourceAddress address(String address) {
+        return ResourceAddress.from(address);
+    }
+
+    private List<ResourceAddress> addresses(String address) {
+        return singletonList(address(address));
+    }
+}
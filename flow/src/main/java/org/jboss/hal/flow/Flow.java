@@ -25,6 +25,9 @@ import static org.jboss.hal.flow.SequenceImpl.Mode.SEQUENTIAL;
  * {@linkplain Task task} {@linkplain #repeat(FlowContext, Task) repeatedly} as long as certain conditions are met.
  * <p>
  * The {@linkplain Task tasks} share a {@linkplain FlowContext context} that can be used to store data in a map or on a stack.
+ * <p>
+ * Tasks which depend on each other can be executed as a {@linkplain #graph(FlowContext, List) graph}: Each task declares the
+ * context keys it requires and provides, and all tasks whose requirements are met run concurrently.
  */
 public interface Flow {
 
@@ -40,6 +43,20 @@ public interface Flow {
         return new SequenceImpl<>(PARALLEL, context, tasks);
     }
 
+    /**
+     * Executes a list of {@linkplain Task asynchronous tasks} in parallel, but with at most {@code concurrency} tasks in flight
+     * at the same time. As soon as a task has finished, the next one is started.
+     *
+     * @param context the context shared between tasks
+     * @param tasks the list of tasks to execute in parallel
+     * @param concurrency the maximal number of tasks executed at the same time. A value &lt;= 0 means no limit.
+     * @param <C> the type of the shared context
+     * @return an interface to control whether the execution of the tasks should fail fast or fail last
+     */
+    static <C extends FlowContext> Sequence<C> parallel(C context, List<Task<C>> tasks, int concurrency) {
+        return new SequenceImpl<>(PARALLEL, context, tasks, concurrency);
+    }
+
     /**
      * Executes a list of {@linkplain Task asynchronous tasks} in sequence (one after the other).
      *
@@ -52,6 +69,23 @@ public interface Flow {
         return new SequenceImpl<>(SEQUENTIAL, context, tasks);
     }
 
+    /**
+     * Executes a list of {@linkplain GraphTask asynchronous tasks} as soon as the {@linkplain GraphTask#requires() keys they
+     * require} have been {@linkplain GraphTask#provides() provided} by other tasks or are already part of the context. Tasks
+     * which don't depend on each other are executed concurrently. The order of the list doesn't matter.
+     * <p>
+     * The execution is rejected if a task requires a key which is not provided at all or if the tasks depend on each other in a
+     * cycle.
+     *
+     * @param context the context shared between tasks
+     * @param tasks the list of tasks to execute
+     * @param <C> the type of the shared context
+     * @return an interface to control whether the execution of the tasks should fail fast or fail last and to get the timings
+     */
+    static <C extends FlowContext> Graph<C> graph(C context, List<GraphTask<C>> tasks) {
+        return new GraphImpl<>(context, tasks);
+    }
+
     /**
      * Executes the given {@linkplain Task task} repeatedly as long as the conditions defined by {@link Repeat} are met.
      *
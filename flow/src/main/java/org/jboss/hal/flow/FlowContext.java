@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.flow;
 
+import java.util.ArrayList;
 import java.util.EmptyStackException;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +48,7 @@ public class FlowContext {
 
     private final Stack<Object> stack;
     private final Map<String, Object> data;
+    final List<Object> errors;
     final Progress progress;
     FlowStatus status;
     String failure;
@@ -67,6 +69,7 @@ public class FlowContext {
         this.progress = progress;
         this.stack = new Stack<>();
         this.data = new HashMap<>();
+        this.errors = new ArrayList<>();
         this.status = FlowStatus.NOT_STARTED;
     }
 
@@ -225,6 +228,14 @@ public class FlowContext {
         return failure;
     }
 
+    /**
+     * @return the errors of the tasks which failed in an execution which doesn't fail fast. The list is empty if all tasks have
+     *         been executed successfully.
+     */
+    public List<Object> errors() {
+        return errors;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder().append("FlowContext {");
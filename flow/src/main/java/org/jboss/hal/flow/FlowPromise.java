@@ -17,6 +17,7 @@ package org.jboss.hal.flow;
 
 import elemental2.promise.IThenable;
 import elemental2.promise.Promise;
+import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsType;
 
 // We redefine parts of the promise API
@@ -25,5 +26,18 @@ class FlowPromise {
 
     static native <V> Promise<Object[]> all(IThenable<? extends V>[] promises);
 
-    static native <V> Promise<Object[]> allSettled(IThenable<? extends V>[] promises);
+    static native <V> Promise<SettledResult[]> allSettled(IThenable<? extends V>[] promises);
+
+    /** The outcome of a promise passed to {@link #allSettled(IThenable[])} */
+    @JsType(isNative = true, name = "Object", namespace = "<global>")
+    static class SettledResult {
+
+        String status;
+        Object reason;
+
+        @JsOverlay
+        final boolean rejected() {
+            return "rejected".equals(status);
+        }
+    }
 }
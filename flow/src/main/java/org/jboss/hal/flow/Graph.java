@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An interface to control the {@linkplain Flow#graph(FlowContext, List) dependency-aware} execution of {@linkplain GraphTask
+ * asynchronous tasks}.
+ *
+ * @param <C> the type of the {@linkplain FlowContext context} shared between tasks
+ */
+public interface Graph<C extends FlowContext> extends Promisable<C>, Subscription<C> {
+
+    /**
+     * By default, the execution of {@linkplain GraphTask tasks} fail fast.
+     */
+    boolean DEFAULT_FAIL_FAST = true;
+
+    /**
+     * Whether the execution of {@linkplain GraphTask tasks} should fail fast or fail last. Defaults to
+     * {@value DEFAULT_FAIL_FAST}.
+     * <p>
+     * If the execution fails last, the keys of a failed task never become available. The tasks which depend directly or
+     * indirectly on the failed task are skipped, and an error is added to the context for each of them. All other tasks are
+     * executed nevertheless.
+     */
+    Graph<C> failFast(boolean failFast);
+
+    /**
+     * Returns the time in milliseconds each {@linkplain GraphTask#name() task} took to finish, in the order the tasks have been
+     * finished. The map is empty until the execution has been started.
+     */
+    Map<String, Long> timings();
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static java.util.Collections.unmodifiableMap;
+
+class GraphImpl<C extends FlowContext> extends FlowRunner<C> implements Graph<C> {
+
+    private final List<GraphTask<C>> tasks;
+    private final Map<String, Long> timings;
+    private GraphPlan<C> plan;
+    private boolean failFast;
+    private int running;
+    private boolean rejected;
+
+    GraphImpl(final C context, final List<GraphTask<C>> tasks) {
+        super(context, tasks.size());
+        this.tasks = tasks;
+        this.timings = new LinkedHashMap<>();
+        this.failFast = DEFAULT_FAIL_FAST;
+        this.running = 0;
+        this.rejected = false;
+    }
+
+    // ------------------------------------------------------ graph API
+
+    @Override
+    public Graph<C> failFast(final boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    @Override
+    public Map<String, Long> timings() {
+        return unmodifiableMap(timings);
+    }
+
+    // ------------------------------------------------------ run
+
+    @Override
+    Promise<C> run() {
+        if (tasks.isEmpty()) {
+            return Promise.resolve(context);
+        } else {
+            plan = new GraphPlan<>(context.keys(), tasks);
+            String unsatisfied = plan.unsatisfied();
+            if (unsatisfied != null) {
+                return Promise.reject(unsatisfied);
+            }
+            return new Promise<C>(this::startReady).then(c -> {
+                context.progress.finish();
+                return Promise.resolve(context);
+            });
+        }
+    }
+
+    private void startReady(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
+        for (GraphTask<C> task : plan.ready()) {
+            start(task, resolve, reject);
+        }
+        if (running == 0) {
+            if (plan.isEmpty()) {
+                resolve.onInvoke(context);
+            } else {
+                // nothing is running, but there are still tasks left: must be a cycle
+                rejected = true;
+                reject.onInvoke("Cyclic dependencies between tasks " + plan.pendingNames());
+            }
+        }
+    }
+
+    private void start(GraphTask<C> task, ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
+        running++;
+        long start = System.currentTimeMillis();
+        // use the two-argument version of then(), so that settled() is called exactly once per task
+        task.apply(context).then(
+                c -> {
+                    settled(task, start, resolve, reject, false, null);
+                    return null;
+                },
+                error -> {
+                    settled(task, start, resolve, reject, true, error);
+                    return null;
+                });
+    }
+
+    private void settled(GraphTask<C> task, long start, ResolveCallbackFn<C> resolve, RejectCallbackFn reject,
+            boolean failed, Object error) {
+        running--;
+        timings.put(task.name(), System.currentTimeMillis() - start);
+        if (rejected) {
+            return;
+        }
+        if (failed && failFast) {
+            rejected = true;
+            reject.onInvoke(error);
+        } else {
+            context.progress.tick();
+            if (failed) {
+                // don't publish the keys of the failed task and skip the tasks which depend on it
+                context.errors.add(error);
+                for (GraphTask<C> skipped : plan.failed(task)) {
+                    context.errors.add("Task " + skipped.name() + " skipped, because task " + task.name() + " failed");
+                    context.progress.tick();
+                }
+            } else {
+                plan.succeeded(task);
+            }
+            startReady(resolve, reject);
+        }
+    }
+}
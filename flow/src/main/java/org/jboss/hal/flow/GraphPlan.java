@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps track of the pending tasks of a {@link Graph} and the keys which are available. The plan decides which tasks are ready
+ * and which tasks have to be skipped because a task they depend on has failed. It doesn't execute any tasks.
+ */
+class GraphPlan<C extends FlowContext> {
+
+    private final List<GraphTask<C>> pending;
+    private final Set<String> available;
+    private final Set<String> failed;
+
+    GraphPlan(Collection<String> available, List<GraphTask<C>> tasks) {
+        this.pending = new ArrayList<>(tasks);
+        this.available = new HashSet<>(available);
+        this.failed = new HashSet<>();
+    }
+
+    /** @return an error message if a task requires a key which is neither provided by a task nor initially available */
+    String unsatisfied() {
+        Set<String> provided = new HashSet<>(available);
+        for (GraphTask<C> task : pending) {
+            provided.addAll(task.provides());
+        }
+        for (GraphTask<C> task : pending) {
+            for (String key : task.requires()) {
+                if (!provided.contains(key)) {
+                    return "Task " + task.name() + " requires '" + key + "' which is not provided by any task";
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Removes and returns the pending tasks whose requirements are available, in the order the tasks were added. */
+    List<GraphTask<C>> ready() {
+        List<GraphTask<C>> ready = new ArrayList<>();
+        for (Iterator<GraphTask<C>> iterator = pending.iterator(); iterator.hasNext();) {
+            GraphTask<C> task = iterator.next();
+            if (available.containsAll(task.requires())) {
+                ready.add(task);
+                iterator.remove();
+            }
+        }
+        return ready;
+    }
+
+    /** Makes the keys of the specified task available. */
+    void succeeded(GraphTask<C> task) {
+        available.addAll(task.provides());
+    }
+
+    /**
+     * Marks the keys of the specified task as failed. Removes and returns the pending tasks which depend directly or
+     * indirectly on the failed task. These tasks must not be executed.
+     */
+    List<GraphTask<C>> failed(GraphTask<C> task) {
+        markFailed(task);
+        List<GraphTask<C>> skipped = new ArrayList<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Iterator<GraphTask<C>> iterator = pending.iterator(); iterator.hasNext();) {
+                GraphTask<C> dependent = iterator.next();
+                if (dependsOnFailed(dependent)) {
+                    skipped.add(dependent);
+                    iterator.remove();
+                    markFailed(dependent);
+                    changed = true;
+                }
+            }
+        }
+        return skipped;
+    }
+
+    /** @return whether there are no pending tasks */
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /** @return the names of the pending tasks */
+    List<String> pendingNames() {
+        List<String> names = new ArrayList<>();
+        for (GraphTask<C> task : pending) {
+            names.add(task.name());
+        }
+        return names;
+    }
+
+    private void markFailed(GraphTask<C> task) {
+        for (String key : task.provides()) {
+            if (!available.contains(key)) {
+                failed.add(key);
+            }
+        }
+    }
+
+    private boolean dependsOnFailed(GraphTask<C> task) {
+        for (String key : task.requires()) {
+            if (failed.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * An {@linkplain Task asynchronous task} which declares the keys of the {@linkplain FlowContext context} it reads and writes.
+ * Used by {@link Flow#graph(FlowContext, java.util.List)} to find out which tasks depend on each other and which tasks can be
+ * executed concurrently.
+ * <p>
+ * A key is available as soon as the task which provides it has finished. Tasks don't need to actually store a value under a key
+ * they provide: Keys may also stand for state which is kept outside the context.
+ *
+ * @param <C> the type of the {@linkplain FlowContext context} shared between tasks
+ */
+public interface GraphTask<C extends FlowContext> extends Task<C> {
+
+    /**
+     * @return the name of the task used to record the timings
+     */
+    String name();
+
+    /**
+     * @return the keys which have to be available before this task is executed. Defaults to an empty set.
+     */
+    default Set<String> requires() {
+        return emptySet();
+    }
+
+    /**
+     * @return the keys which are available after this task has been executed. Defaults to an empty set.
+     */
+    default Set<String> provides() {
+        return emptySet();
+    }
+}
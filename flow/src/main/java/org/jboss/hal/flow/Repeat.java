@@ -45,6 +45,16 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
      */
     int DEFAULT_ITERATIONS = -1;
 
+    /**
+     * By default, the interval between the iterations is constant.
+     */
+    double DEFAULT_BACKOFF = 1.0;
+
+    /**
+     * The maximal deviation of the interval when using a {@linkplain #backoff(double, long) backoff}: +/- 20%.
+     */
+    double JITTER = 0.2;
+
     /**
      * The task is executed as long as the given predicate evaluates to {@code true}. Defaults to a precondition which always
      * returns {@code true}.
@@ -59,9 +69,20 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
 
     /**
      * The interval in milliseconds between the iterations. Defaults to {@value Repeat#DEFAULT_INTERVAL} milliseconds.
+     * <p>
+     * The interval is measured from the end of one iteration to the start of the next one. Iterations never overlap, even if
+     * the {@linkplain Task task} takes longer than the interval.
      */
     Repeat<C> interval(long interval);
 
+    /**
+     * Multiplies the interval by the given factor after each iteration until the interval reaches {@code maxInterval}. A random
+     * jitter of up to {@value Repeat#JITTER} is applied to the resulting interval, so that concurrent loops don't execute in
+     * lockstep. The resulting interval stays between the initial interval and {@code maxInterval}. Defaults to a constant
+     * interval ({@value Repeat#DEFAULT_BACKOFF}) without jitter.
+     */
+    Repeat<C> backoff(double factor, long maxInterval);
+
     /**
      * The timeout in milliseconds for the while loop. Defaults to {@value Repeat#DEFAULT_TIMEOUT} milliseconds.
      */
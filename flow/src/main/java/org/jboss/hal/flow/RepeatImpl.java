@@ -21,9 +21,7 @@ import elemental2.promise.Promise;
 import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
 import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
 
 class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<C> {
@@ -32,10 +30,13 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
     private Predicate<C> predicate;
     private boolean failFast;
     private long interval;
+    private double backoff;
+    private long maxInterval;
     private long timeout;
     private int iterations;
     private int index;
     private String lastFailure;
+    private boolean done;
     private double timeoutHandle;
     private double intervalHandle;
 
@@ -45,10 +46,13 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         this.predicate = __ -> true;
         this.failFast = DEFAULT_FAIL_FAST;
         this.interval = DEFAULT_INTERVAL;
+        this.backoff = DEFAULT_BACKOFF;
+        this.maxInterval = DEFAULT_INTERVAL;
         this.timeout = DEFAULT_TIMEOUT;
         this.iterations = DEFAULT_ITERATIONS;
         this.index = 0;
         this.lastFailure = null;
+        this.done = false;
         this.timeoutHandle = 0;
         this.intervalHandle = 0;
     }
@@ -73,6 +77,13 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         return this;
     }
 
+    @Override
+    public Repeat<C> backoff(final double factor, final long maxInterval) {
+        this.backoff = factor;
+        this.maxInterval = maxInterval;
+        return this;
+    }
+
     @Override
     public Repeat<C> timeout(final long timeout) {
         this.timeout = timeout;
@@ -93,13 +104,18 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
             timeoutHandle = setTimeout(__ -> cancel(reject, TIMEOUT_ERROR), timeout);
             if (!predicate.test(context)) {
                 finish(resolve, context);
+            } else {
+                until(resolve, reject, interval);
             }
-            until(resolve, reject);
         });
     }
 
-    private void until(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
-        intervalHandle = setInterval(__ -> {
+    private void until(ResolveCallbackFn<C> resolve, RejectCallbackFn reject, long delay) {
+        // schedule the next iteration only after the current one has been settled
+        intervalHandle = setTimeout(__ -> {
+            if (done) {
+                return;
+            }
             if (failFast && lastFailure != null) {
                 cancel(reject, lastFailure);
             } else {
@@ -109,6 +125,8 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
                             c.progress.tick();
                             if (areWeDone(c)) {
                                 finish(resolve, c);
+                            } else {
+                                next(resolve, reject, delay);
                             }
                             return null;
                         })
@@ -116,11 +134,33 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
                             lastFailure = String.valueOf(error);
                             if (failFast) {
                                 cancel(reject, lastFailure);
+                            } else {
+                                next(resolve, reject, delay);
                             }
                             return null;
                         });
             }
-        }, interval);
+        }, delay);
+    }
+
+    private void next(ResolveCallbackFn<C> resolve, RejectCallbackFn reject, long delay) {
+        if (!done) {
+            until(resolve, reject, nextDelay(delay, Math.random()));
+        }
+    }
+
+    /**
+     * @param delay the delay before the last iteration
+     * @param random a random value in [0, 1) which determines the jitter
+     * @return the delay before the next iteration, which is between the interval and the maximal interval
+     */
+    long nextDelay(long delay, double random) {
+        if (backoff == DEFAULT_BACKOFF) {
+            return interval;
+        }
+        double next = Math.min(delay * backoff, maxInterval);
+        double jitter = next * JITTER * (2 * random - 1);
+        return Math.min(maxInterval, Math.max(interval, Math.round(next + jitter)));
     }
 
     // ------------------------------------------------------ helper methods
@@ -145,7 +185,8 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
     }
 
     private void cleanup() {
-        clearInterval(intervalHandle);
+        done = true;
+        clearTimeout(intervalHandle);
         clearTimeout(timeoutHandle);
     }
 }
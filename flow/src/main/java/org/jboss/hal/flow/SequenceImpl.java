@@ -34,20 +34,30 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
     private final Mode mode;
     private final List<Task<C>> tasks;
     private final Iterator<Task<C>> iterator;
+    private final int concurrency;
     private boolean failFast;
     private long timeout;
     private double timeoutHandle;
     private boolean timedOut;
+    private int running;
+    private boolean rejected;
 
     SequenceImpl(final Mode mode, final C context, final List<Task<C>> tasks) {
+        this(mode, context, tasks, -1);
+    }
+
+    SequenceImpl(final Mode mode, final C context, final List<Task<C>> tasks, final int concurrency) {
         super(context, tasks.size());
         this.mode = mode;
         this.tasks = tasks;
         this.iterator = tasks.iterator();
+        this.concurrency = concurrency;
         this.failFast = DEFAULT_FAIL_FAST;
         this.timeout = DEFAULT_TIMEOUT;
         this.timeoutHandle = 0;
         this.timedOut = false;
+        this.running = 0;
+        this.rejected = false;
     }
 
     // ------------------------------------------------------ sequence API
@@ -73,7 +83,7 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
         } else {
             switch (mode) {
                 case PARALLEL:
-                    return parallel();
+                    return concurrency > 0 && concurrency < tasks.size() ? boundedParallel() : parallel();
                 case SEQUENTIAL:
                     return sequential();
                 default:
@@ -98,13 +108,66 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
                 return Promise.resolve(context);
             });
         } else {
-            return FlowPromise.allSettled(promises).then(__ -> {
+            return FlowPromise.allSettled(promises).then(results -> {
+                for (FlowPromise.SettledResult result : results) {
+                    if (result.rejected()) {
+                        context.errors.add(result.reason);
+                    }
+                }
                 context.progress.finish();
                 return Promise.resolve(context);
             });
         }
     }
 
+    // ------------------------------------------------------ run parallel with limited concurrency
+
+    private Promise<C> boundedParallel() {
+        return new Promise<C>((resolve, reject) -> {
+            for (int i = 0; i < concurrency && iterator.hasNext(); i++) {
+                start(resolve, reject);
+            }
+        }).then(c -> {
+            context.progress.finish();
+            return Promise.resolve(context);
+        });
+    }
+
+    private void start(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
+        running++;
+        // use the two-argument version of then(), so that settled() is called exactly once per task
+        iterator.next().apply(context).then(
+                c -> {
+                    settled(resolve, reject, false, null);
+                    return null;
+                },
+                error -> {
+                    settled(resolve, reject, true, error);
+                    return null;
+                });
+    }
+
+    private void settled(ResolveCallbackFn<C> resolve, RejectCallbackFn reject, boolean failed, Object error) {
+        running--;
+        if (rejected) {
+            return;
+        }
+        if (failed && failFast) {
+            rejected = true;
+            reject.onInvoke(error);
+        } else {
+            if (failed) {
+                context.errors.add(error);
+            }
+            context.progress.tick();
+            if (iterator.hasNext()) {
+                start(resolve, reject);
+            } else if (running == 0) {
+                resolve.onInvoke(context);
+            }
+        }
+    }
+
     // ------------------------------------------------------ run sequential
 
     private Promise<C> sequential() {
@@ -141,6 +204,7 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
                         if (failFast) {
                             reject.onInvoke(error);
                         } else {
+                            context.errors.add(error);
                             if (iterator.hasNext()) {
                                 context.progress.tick();
                                 next(resolve, reject);
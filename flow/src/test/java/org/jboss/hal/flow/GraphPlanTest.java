@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class GraphPlanTest {
+
+    @Test
+    public void order() {
+        GraphPlan<FlowContext> plan = plan(emptyList(),
+                task("c", "b", "c"),
+                task("a", null, "a"),
+                task("b", "a", "b"),
+                task("d", null, "d"));
+
+        assertEquals(Arrays.asList("a", "d"), names(plan.ready()));
+        assertTrue(plan.ready().isEmpty());
+
+        plan.succeeded(task("a", null, "a"));
+        assertEquals(singletonList("b"), names(plan.ready()));
+        plan.succeeded(task("b", "a", "b"));
+        assertEquals(singletonList("c"), names(plan.ready()));
+        assertTrue(plan.isEmpty());
+    }
+
+    @Test
+    public void multipleRequirements() {
+        GraphTask<FlowContext> a = task("a", null, "a");
+        GraphTask<FlowContext> b = task("b", null, "b");
+        GraphPlan<FlowContext> plan = plan(emptyList(), a, b, task("c", "a,b", null));
+
+        assertEquals(Arrays.asList("a", "b"), names(plan.ready()));
+        plan.succeeded(a);
+        assertTrue(plan.ready().isEmpty());
+        plan.succeeded(b);
+        assertEquals(singletonList("c"), names(plan.ready()));
+    }
+
+    @Test
+    public void availableFromContext() {
+        GraphPlan<FlowContext> plan = plan(singletonList("a"), task("b", "a", null));
+
+        assertNull(plan.unsatisfied());
+        assertEquals(singletonList("b"), names(plan.ready()));
+    }
+
+    @Test
+    public void unsatisfied() {
+        GraphPlan<FlowContext> plan = plan(emptyList(), task("a", null, "a"), task("b", "x", null));
+
+        String unsatisfied = plan.unsatisfied();
+        assertNotNull(unsatisfied);
+        assertTrue(unsatisfied.contains("b"));
+        assertTrue(unsatisfied.contains("'x'"));
+    }
+
+    @Test
+    public void cycle() {
+        GraphPlan<FlowContext> plan = plan(emptyList(),
+                task("a", "b", "a"),
+                task("b", "a", "b"),
+                task("c", null, null));
+
+        assertNull(plan.unsatisfied());
+        assertEquals(singletonList("c"), names(plan.ready()));
+        // nothing is ready although tasks are pending: the graph rejects this as cycle
+        assertTrue(plan.ready().isEmpty());
+        assertEquals(Arrays.asList("a", "b"), plan.pendingNames());
+    }
+
+    @Test
+    public void failureSkipsDependents() {
+        GraphTask<FlowContext> a = task("a", null, "a");
+        GraphTask<FlowContext> x = task("x", null, "x");
+        GraphPlan<FlowContext> plan = plan(emptyList(),
+                a,
+                x,
+                task("b", "a", "b"),
+                task("c", "b", "c"),
+                task("y", "x", null));
+
+        assertEquals(Arrays.asList("a", "x"), names(plan.ready()));
+        assertEquals(Arrays.asList("b", "c"), names(plan.failed(a)));
+        assertTrue(plan.ready().isEmpty());
+
+        plan.succeeded(x);
+        assertEquals(singletonList("y"), names(plan.ready()));
+        assertTrue(plan.isEmpty());
+    }
+
+    @Test
+    public void failureWithoutDependents() {
+        GraphTask<FlowContext> a = task("a", null, "a");
+        GraphTask<FlowContext> b = task("b", null, "b");
+        GraphPlan<FlowContext> plan = plan(emptyList(), a, b, task("c", "b", null));
+
+        assertEquals(Arrays.asList("a", "b"), names(plan.ready()));
+        assertTrue(plan.failed(a).isEmpty());
+        plan.succeeded(b);
+        assertEquals(singletonList("c"), names(plan.ready()));
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    @SafeVarargs
+    private static GraphPlan<FlowContext> plan(Collection<String> available, GraphTask<FlowContext>... tasks) {
+        return new GraphPlan<>(available, Arrays.asList(tasks));
+    }
+
+    private static GraphTask<FlowContext> task(String name, String requires, String provides) {
+        return new GraphTask<FlowContext>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Set<String> requires() {
+                return keys(requires);
+            }
+
+            @Override
+            public Set<String> provides() {
+                return keys(provides);
+            }
+
+            @Override
+            public Promise<FlowContext> apply(FlowContext context) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static Set<String> keys(String keys) {
+        return keys == null ? new HashSet<>() : new HashSet<>(Arrays.asList(keys.split(",")));
+    }
+
+    private static List<String> names(List<GraphTask<FlowContext>> tasks) {
+        List<String> names = new ArrayList<>();
+        for (GraphTask<FlowContext> task : tasks) {
+            names.add(task.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class RepeatImplTest {
+
+    private static final double NO_JITTER = 0.5;
+
+    @Test
+    public void constantInterval() {
+        RepeatImpl<FlowContext> repeat = repeat();
+        repeat.interval(100);
+
+        assertEquals(100, repeat.nextDelay(100, 0));
+        assertEquals(100, repeat.nextDelay(100, NO_JITTER));
+        assertEquals(100, repeat.nextDelay(100, 0.99));
+    }
+
+    @Test
+    public void backoff() {
+        RepeatImpl<FlowContext> repeat = repeat();
+        repeat.interval(100).backoff(2, 1_000);
+
+        long delay = 100;
+        long[] expected = new long[] { 200, 400, 800, 1_000, 1_000 };
+        for (long next : expected) {
+            delay = repeat.nextDelay(delay, NO_JITTER);
+            assertEquals(next, delay);
+        }
+    }
+
+    @Test
+    public void jitter() {
+        RepeatImpl<FlowContext> repeat = repeat();
+        repeat.interval(100).backoff(2, 1_000);
+
+        assertEquals(320, repeat.nextDelay(200, 0));
+        assertEquals(480, repeat.nextDelay(200, 1));
+    }
+
+    @Test
+    public void bounds() {
+        RepeatImpl<FlowContext> repeat = repeat();
+        repeat.interval(100).backoff(1.1, 1_000);
+
+        // never below the initial interval ...
+        assertEquals(100, repeat.nextDelay(100, 0));
+        // ... and never above the maximal interval
+        assertEquals(1_000, repeat.nextDelay(1_000, 1));
+    }
+
+    private RepeatImpl<FlowContext> repeat() {
+        return new RepeatImpl<>(new FlowContext(), context -> context.resolve());
+    }
+}
@@ -16,6 +16,7 @@
 package org.jboss.hal.js;
 
 import elemental2.dom.DomGlobal;
+import jsinterop.base.Js;
 
 public final class Browser {
 
@@ -29,6 +30,11 @@ public final class Browser {
         return userAgent.indexOf("Edge") != -1;
     }
 
+    /** Safari does not support {@code requestIdleCallback()}. */
+    public static boolean supportsIdleCallback() {
+        return Js.asPropertyMap(DomGlobal.window).has("requestIdleCallback");
+    }
+
     private Browser() {
     }
 }
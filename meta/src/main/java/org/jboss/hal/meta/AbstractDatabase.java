@@ -18,23 +18,38 @@ package org.jboss.hal.meta;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Version;
+import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 
 import elemental2.promise.Promise;
 
+import static java.util.Collections.emptyMap;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
-/** Abstract database which uses the specified statement context to resolve address templates. */
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBSYSTEM;
+
+/**
+ * Abstract database which uses the specified statement context to resolve address templates.
+ * <p>
+ * Documents are versioned by the management model version they depend on: Metadata of subsystem resources depends on the
+ * version of the subsystem, all other metadata on the management version. That way an upgraded server invalidates only the
+ * documents which might have changed, instead of the whole database.
+ */
 public abstract class AbstractDatabase<T> implements Database<T> {
 
     private final StatementContext statementContext;
+    private final Environment environment;
     private final String type;
 
-    protected AbstractDatabase(StatementContext statementContext, String type) {
+    protected AbstractDatabase(StatementContext statementContext, Environment environment, String type) {
         this.statementContext = statementContext;
+        this.environment = environment;
         this.type = type;
     }
 
@@ -55,9 +70,9 @@ public abstract class AbstractDatabase<T> implements Database<T> {
                 .collect(toSet());
         return database().getAll(ids)
                 .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
-                            this::asMetadata));
+                    Map<ResourceAddress, T> metadata = documents.stream()
+                            .filter(this::current)
+                            .collect(toMap(document -> ResourceAddress.from(document.getId()), this::asMetadata));
                     return Promise.resolve(metadata);
                 });
     }
@@ -67,6 +82,10 @@ public abstract class AbstractDatabase<T> implements Database<T> {
         String id = template.resolve(statementContext).toString();
         return database().prefixSearch(id)
                 .then(documents -> {
+                    // a partially stale subtree must be read again as a whole
+                    if (!documents.stream().allMatch(this::current)) {
+                        return Promise.resolve(emptyMap());
+                    }
                     Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
                             document -> ResourceAddress.from(document.getId()),
                             this::asMetadata));
@@ -74,10 +93,28 @@ public abstract class AbstractDatabase<T> implements Database<T> {
                 });
     }
 
+    @Override
+    public String version(ResourceAddress address) {
+        for (Property segment : address.asPropertyList()) {
+            if (SUBSYSTEM.equals(segment.getName())) {
+                Version version = environment.getSubsystemVersion(segment.getValue().asString());
+                if (version != Version.EMPTY_VERSION) {
+                    return SUBSYSTEM + "-" + version;
+                }
+            }
+        }
+        return environment.getManagementVersion().toString();
+    }
+
     @Override
     public String type() {
         return type;
     }
 
+    private boolean current(Document document) {
+        return document.has(VERSION)
+                && version(ResourceAddress.from(document.getId())).equals(document.getAsAny(VERSION).asString());
+    }
+
     protected abstract PouchDB database();
 }
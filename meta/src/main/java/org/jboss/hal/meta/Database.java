@@ -25,7 +25,9 @@ import elemental2.promise.Promise;
 
 public interface Database<T> {
 
+    String HASH = "hash";
     String PAYLOAD = "payload";
+    String VERSION = "version";
 
     /** Turns a template into a resource addresses for later lookup. */
     ResourceAddress resolveTemplate(AddressTemplate template);
@@ -45,6 +47,12 @@ public interface Database<T> {
     /** Returns a document for a given metadata */
     Document asDocument(ResourceAddress address, T metadata);
 
+    /**
+     * Returns the management model version the metadata of the specified address depends on. Documents with a different version
+     * are considered stale and are not returned by {@link #getAll(Set)} and {@link #getRecursive(AddressTemplate)}.
+     */
+    String version(ResourceAddress address);
+
     /** The type of this database. */
     String type();
 
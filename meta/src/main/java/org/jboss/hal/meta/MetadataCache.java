@@ -0,0 +1,392 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.core.Uint8Array;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE_TYPE;
+
+/**
+ * Size-aware cache for metadata with two tiers:
+ *
+ * <ol>
+ * <li><strong>hot</strong>: Decoded metadata, ready to use. Bounded by the estimated memory footprint of the model nodes (see
+ * {@link #weigh(ModelNode)}).</li>
+ * <li><strong>warm</strong>: Compact, encoded metadata. Bounded by the size of the encoded data. Entries are decoded and
+ * promoted to the hot tier on demand.</li>
+ * </ol>
+ * <p>
+ * Both tiers evict the least recently used entries first. Metadata is only encoded when it's demoted from the hot to the warm
+ * tier (or added, but too big for the hot tier). As long as metadata fits into the hot tier, it's never encoded.
+ * <p>
+ * If enabled, structurally identical attribute descriptions are shared across addresses. The shared descriptions are
+ * {@linkplain ModelNode#protect() protected} copies: Modifying an attribute description of one entry copies the description
+ * first and doesn't affect other entries. Only attribute descriptions without a complex value type are shared, since
+ * {@link org.jboss.hal.meta.description.ResourceDescription} modifies the nested descriptions of complex attributes.
+ *
+ * @param <T> the metadata type
+ * @param <E> the type of the encoded metadata
+ */
+public class MetadataCache<T extends ModelNode, E> {
+
+    /** Creates a cache which keeps the binary DMR representation in the warm tier. */
+    public static <T extends ModelNode> MetadataCache<T, Uint8Array> binary(String type, int hotCapacity, int warmCapacity,
+            boolean shareAttributes, Function<ModelNode, T> factory) {
+        return new MetadataCache<>(type, hotCapacity, warmCapacity, shareAttributes, factory, new BinaryCodec());
+    }
+
+    private static final int MAX_SHARED_ATTRIBUTES = 2_000;
+    private static final int NODE_WEIGHT = 16;
+    private static final int ENTRY_WEIGHT = 32;
+    private static final Logger logger = LoggerFactory.getLogger(MetadataCache.class);
+
+    /**
+     * Estimates the memory footprint of the specified node. The estimate is meant to compare nodes with each other rather than
+     * to be an exact measure. The node is traversed without copying shared values.
+     */
+    static int weigh(ModelNode node) {
+        int weight = NODE_WEIGHT;
+        switch (node.getType()) {
+            case OBJECT:
+                for (String key : node.keys()) {
+                    weight += ENTRY_WEIGHT + 2 * key.length() + weigh(node.peek(key));
+                }
+                break;
+            case LIST:
+                for (ModelNode element : node.peekList()) {
+                    weight += weigh(element);
+                }
+                break;
+            case PROPERTY:
+                Property property = node.peekProperty();
+                weight += ENTRY_WEIGHT + 2 * property.getName().length() + weigh(property.getValue());
+                break;
+            case BIG_DECIMAL:
+            case BIG_INTEGER:
+            case EXPRESSION:
+            case STRING:
+                weight += 2 * node.asString().length();
+                break;
+            case BYTES:
+                weight += node.asBytes().length;
+                break;
+            default:
+                weight += 8;
+                break;
+        }
+        return weight;
+    }
+
+    private final String type;
+    private final int hotCapacity;
+    private final int warmCapacity;
+    private final Function<ModelNode, T> factory;
+    private final Codec<E> codec;
+    private final Map<ModelNode, ModelNode> sharedAttributes;
+    private final Map<ResourceAddress, Weighted<T>> hot;
+    private final Map<ResourceAddress, Weighted<E>> warm;
+    private int hotWeight;
+    private int warmWeight;
+    private long hitCount;
+    private long warmHitCount;
+    private long missCount;
+    private long evictionCount;
+    private long sharedAttributeCount;
+
+    MetadataCache(String type, int hotCapacity, int warmCapacity, boolean shareAttributes, Function<ModelNode, T> factory,
+            Codec<E> codec) {
+        this.type = type;
+        this.hotCapacity = hotCapacity;
+        this.warmCapacity = warmCapacity;
+        this.factory = factory;
+        this.codec = codec;
+        this.sharedAttributes = shareAttributes ? new LinkedHashMap<ModelNode, ModelNode>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ModelNode, ModelNode> eldest) {
+                return size() > MAX_SHARED_ATTRIBUTES;
+            }
+        } : null;
+        this.hot = new LinkedHashMap<>(16, 0.75f, true);
+        this.warm = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public void put(ResourceAddress address, T metadata) {
+        remove(address);
+        if (!promote(address, metadata)) {
+            demote(address, metadata);
+        }
+    }
+
+    /** @return the metadata for the specified address or {@code null} if there's no such metadata in any tier. */
+    public T get(ResourceAddress address) {
+        Weighted<T> decoded = hot.get(address);
+        if (decoded != null) {
+            hitCount++;
+            warm.get(address); // keep both tiers in the same LRU order
+            return decoded.value;
+        }
+        Weighted<E> encoded = warm.get(address);
+        if (encoded != null) {
+            warmHitCount++;
+            T metadata = factory.apply(codec.decode(encoded.value));
+            promote(address, metadata);
+            return metadata;
+        }
+        missCount++;
+        return null;
+    }
+
+    public void remove(ResourceAddress address) {
+        Weighted<T> decoded = hot.remove(address);
+        if (decoded != null) {
+            hotWeight -= decoded.weight;
+        }
+        Weighted<E> encoded = warm.remove(address);
+        if (encoded != null) {
+            warmWeight -= encoded.weight;
+        }
+    }
+
+    public void clear() {
+        hot.clear();
+        warm.clear();
+        hotWeight = 0;
+        warmWeight = 0;
+        if (sharedAttributes != null) {
+            sharedAttributes.clear();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hitCount, warmHitCount, missCount, evictionCount, sharedAttributeCount, hot.size(), hotWeight,
+                warm.size(), warmWeight);
+    }
+
+    /** @return whether the metadata has been added to the hot tier */
+    private boolean promote(ResourceAddress address, T metadata) {
+        if (sharedAttributes != null) {
+            shareAttributes(metadata);
+        }
+        int weight = weigh(metadata);
+        if (weight <= hotCapacity) {
+            hot.put(address, new Weighted<>(metadata, weight));
+            hotWeight += weight;
+            trimHot();
+            return true;
+        } else {
+            logger.debug("{} for {} exceeds the capacity of the hot tier", type, address);
+            return false;
+        }
+    }
+
+    private void demote(ResourceAddress address, T metadata) {
+        E encoded = codec.encode(metadata);
+        int size = codec.size(encoded);
+        if (size <= warmCapacity) {
+            warm.put(address, new Weighted<>(encoded, size));
+            warmWeight += size;
+            trimWarm();
+        } else {
+            evictionCount++;
+            logger.debug("{} for {} exceeds the capacity of the warm tier", type, address);
+        }
+    }
+
+    private void shareAttributes(ModelNode metadata) {
+        if (metadata.hasDefined(ATTRIBUTES)) {
+            // don't use asPropertyList(): the properties contain copies of the attributes
+            ModelNode attributes = metadata.get(ATTRIBUTES);
+            for (String name : attributes.keys()) {
+                ModelNode attribute = attributes.get(name);
+                if (attribute.getType() == ModelType.OBJECT && !hasComplexValueType(attribute)) {
+                    ModelNode shared = sharedAttributes.get(attribute);
+                    if (shared == null) {
+                        shared = attribute.clone();
+                        shared.protect();
+                        sharedAttributes.put(shared, shared);
+                    } else {
+                        sharedAttributeCount++;
+                    }
+                    attribute.setShared(shared);
+                }
+            }
+        }
+    }
+
+    private boolean hasComplexValueType(ModelNode attribute) {
+        return attribute.hasDefined(VALUE_TYPE) && attribute.peek(VALUE_TYPE).getType() == ModelType.OBJECT;
+    }
+
+    private void trimHot() {
+        Iterator<Map.Entry<ResourceAddress, Weighted<T>>> iterator = hot.entrySet().iterator();
+        while (hotWeight > hotCapacity && iterator.hasNext()) {
+            Map.Entry<ResourceAddress, Weighted<T>> eldest = iterator.next();
+            iterator.remove();
+            hotWeight -= eldest.getValue().weight;
+            logger.debug("Remove {} from hot tier of {} cache", eldest.getKey(), type);
+            if (!warm.containsKey(eldest.getKey())) {
+                demote(eldest.getKey(), eldest.getValue().value);
+            }
+        }
+    }
+
+    private void trimWarm() {
+        Iterator<Map.Entry<ResourceAddress, Weighted<E>>> iterator = warm.entrySet().iterator();
+        while (warmWeight > warmCapacity && iterator.hasNext()) {
+            Map.Entry<ResourceAddress, Weighted<E>> eldest = iterator.next();
+            iterator.remove();
+            warmWeight -= eldest.getValue().weight;
+            if (!hot.containsKey(eldest.getKey())) {
+                evictionCount++;
+            }
+            logger.debug("Remove {} from warm tier of {} cache", eldest.getKey(), type);
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /** Encodes metadata for the warm tier. */
+    interface Codec<E> {
+
+        E encode(ModelNode node);
+
+        ModelNode decode(E encoded);
+
+        int size(E encoded);
+    }
+
+    private static class BinaryCodec implements Codec<Uint8Array> {
+
+        @Override
+        public Uint8Array encode(ModelNode node) {
+            // toBinary() returns a view of the growth buffer, which would retain up to twice the counted size
+            return node.toBinaryCopy();
+        }
+
+        @Override
+        public ModelNode decode(Uint8Array encoded) {
+            return ModelNode.fromBinary(encoded);
+        }
+
+        @Override
+        public int size(Uint8Array encoded) {
+            return encoded.byteLength;
+        }
+    }
+
+    private static class Weighted<V> {
+
+        final V value;
+        final int weight;
+
+        Weighted(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Statistics of a metadata cache. Hits are lookups served by the hot tier, warm hits are lookups which had to decode the
+     * metadata from the warm tier. Evictions count entries which were dropped from the last tier holding them and are thus gone
+     * for good.
+     */
+    public static class Stats {
+
+        private final long hitCount;
+        private final long warmHitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long sharedAttributeCount;
+        private final int hotSize;
+        private final int hotWeight;
+        private final int warmSize;
+        private final int warmWeight;
+
+        Stats(long hitCount, long warmHitCount, long missCount, long evictionCount, long sharedAttributeCount, int hotSize,
+                int hotWeight, int warmSize, int warmWeight) {
+            this.hitCount = hitCount;
+            this.warmHitCount = warmHitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.sharedAttributeCount = sharedAttributeCount;
+            this.hotSize = hotSize;
+            this.hotWeight = hotWeight;
+            this.warmSize = warmSize;
+            this.warmWeight = warmWeight;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats(hits=" + hitCount + ", warmHits=" + warmHitCount + ", misses=" + missCount + ", evictions="
+                    + evictionCount + ", sharedAttributes=" + sharedAttributeCount + ", hot=" + hotSize + "/" + hotWeight
+                    + ", warm=" + warmSize + "/" + warmWeight + ")";
+        }
+
+        public double hitRate() {
+            long requestCount = hitCount + warmHitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) (hitCount + warmHitCount) / requestCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getWarmHitCount() {
+            return warmHitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getSharedAttributeCount() {
+            return sharedAttributeCount;
+        }
+
+        public int getHotSize() {
+            return hotSize;
+        }
+
+        public int getHotWeight() {
+            return hotWeight;
+        }
+
+        public int getWarmSize() {
+            return warmSize;
+        }
+
+        public int getWarmWeight() {
+            return warmWeight;
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
 
     @Inject
     public ResourceDescriptionDatabase(StatementContext statementContext, Environment environment, Settings settings) {
-        super(new ResourceDescriptionStatementContext(statementContext, environment), RESOURCE_DESCRIPTION_TYPE);
+        super(new ResourceDescriptionStatementContext(statementContext, environment), environment, RESOURCE_DESCRIPTION_TYPE);
         this.environment = environment;
         this.settings = settings;
     }
@@ -47,8 +47,7 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
         return Ids.build("hal-db-rd",
                 environment.getHalBuild().name(),
                 environment.getStabilityLevel().name(),
-                settings.get(Settings.Key.LOCALE).value(),
-                environment.getManagementVersion().toString());
+                settings.get(Settings.Key.LOCALE).value());
     }
 
     @Override
@@ -60,6 +59,7 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
     public Document asDocument(ResourceAddress address, ResourceDescription resourceDescription) {
         Document document = Document.of(address.toString());
         document.set(PAYLOAD, resourceDescription.toBase64String());
+        document.set(VERSION, version(address));
         return document;
     }
 
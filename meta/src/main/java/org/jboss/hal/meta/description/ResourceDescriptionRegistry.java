@@ -21,35 +21,31 @@ import org.jboss.hal.config.Environment;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.MetadataCache;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import elemental2.core.Uint8Array;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
 /** A registry for resource descriptions. */
 public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescription> {
 
-    private static final int CACHE_SIZE = 250;
+    // capacities in (estimated) bytes
+    private static final int HOT_CAPACITY = 8 * 1024 * 1024;
+    private static final int WARM_CAPACITY = 16 * 1024 * 1024;
     private static final String RESOURCE_DESCRIPTION_TYPE = "resource description";
     private static final Logger logger = LoggerFactory.getLogger(ResourceDescriptionRegistry.class);
 
-    private final Cache<ResourceAddress, ResourceDescription> cache;
+    private final MetadataCache<ResourceDescription, Uint8Array> cache;
     private final ResourceDescriptionTemplateProcessor templateProcessor;
 
     @Inject
     public ResourceDescriptionRegistry(StatementContext statementContext, Environment environment) {
         super(new ResourceDescriptionStatementContext(statementContext, environment), RESOURCE_DESCRIPTION_TYPE);
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(CACHE_SIZE)
-                .recordStats()
-                .removalListener(
-                        notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
-                                notification.getCause()))
-                .build();
+        this.cache = MetadataCache.binary(type, HOT_CAPACITY, WARM_CAPACITY, true, ResourceDescription::new);
         this.templateProcessor = new ResourceDescriptionTemplateProcessor();
     }
 
@@ -59,9 +55,14 @@ public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescri
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
+    /** @return the statistics of the underlying cache */
+    public MetadataCache.Stats stats() {
+        return cache.stats();
+    }
+
     @Override
     protected ResourceDescription lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+        return cache.get(address);
     }
 
     @Override
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static org.jboss.hal.meta.processing.LookupResult.NOTHING_PRESENT;
+import static org.jboss.hal.meta.processing.LookupResult.RESOURCE_DESCRIPTION_PRESENT;
+import static org.jboss.hal.meta.processing.LookupResult.SECURITY_CONTEXT_PRESENT;
+
+/**
+ * Task which takes missing resource descriptions from the {@linkplain ResourceDescriptionSnapshot snapshot} bundled with the
+ * console. Recursive lookups are skipped, since the snapshot cannot tell whether it contains all nested descriptions.
+ */
+final class LookupSnapshotTask implements Task<LookupContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LookupSnapshotTask.class);
+
+    private final Supplier<Promise<ResourceDescriptionSnapshot>> snapshot;
+    private final StatementContext statementContext;
+
+    /**
+     * @param snapshot supplies the snapshot or {@link ResourceDescriptionSnapshot#EMPTY} if the snapshot does not match the
+     *        current management version
+     * @param statementContext the statement context used to resolve the templates
+     */
+    LookupSnapshotTask(Supplier<Promise<ResourceDescriptionSnapshot>> snapshot, StatementContext statementContext) {
+        this.snapshot = snapshot;
+        this.statementContext = statementContext;
+    }
+
+    @Override
+    public Promise<LookupContext> apply(final LookupContext context) {
+        if (context.recursive) {
+            return Promise.resolve(context);
+        }
+        return snapshot.get()
+                .then(s -> {
+                    int found = 0;
+                    LookupResult lookupResult = context.lookupResult;
+                    for (AddressTemplate template : lookupResult.templates()) {
+                        int missingMetadata = lookupResult.missingMetadata(template);
+                        if (missingMetadata == NOTHING_PRESENT || missingMetadata == SECURITY_CONTEXT_PRESENT) {
+                            ResourceAddress address = template.resolve(statementContext);
+                            ResourceDescription resourceDescription = s.get(address);
+                            if (resourceDescription != null) {
+                                context.toResourceDescriptionRegistry.put(address, resourceDescription);
+                                lookupResult.markMetadataPresent(template, RESOURCE_DESCRIPTION_PRESENT);
+                                found++;
+                            }
+                        }
+                    }
+                    logger.debug("Snapshot lookup: Found {} resource descriptions. {}", found, lookupResult);
+                    return Promise.resolve(context);
+                })
+                .catch_(error -> Promise.resolve(context));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.js.Browser;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.resource.RequiredResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.IdleCallbackOptions;
+
+import static elemental2.dom.DomGlobal.requestIdleCallback;
+import static elemental2.dom.DomGlobal.setTimeout;
+
+/**
+ * Warms the metadata registries for presenters and columns the user is likely to visit next. The ids are the same ids used by
+ * {@link RequiredResources}, i.e. name tokens of presenters and ids of finder columns.
+ * <p>
+ * The prefetcher processes the ids by priority while the browser is idle. It never has more than {@value MAX_IN_FLIGHT}
+ * request(s) in flight and backs off as long as the {@link MetadataProcessor} processes lookups triggered by the user. Calling
+ * {@link #cancel()} removes all pending ids. Requests which are already in flight cannot be cancelled, but their results end up
+ * in the registries anyway.
+ * <p>
+ * The resources of an id are resolved against the {@link StatementContext} when the prefetch runs. Ids which were queued for
+ * another context (e.g. the user selected a different host or server in the meantime) are dropped.
+ */
+public class MetadataPrefetcher {
+
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    private static final int MAX_IN_FLIGHT = 1;
+    private static final int IDLE_TIMEOUT = 2_000;
+    private static final int BUSY_DELAY = 500;
+    private static final Logger logger = LoggerFactory.getLogger(MetadataPrefetcher.class);
+
+    private final MetadataProcessor metadataProcessor;
+    private final RequiredResources requiredResources;
+    private final StatementContext statementContext;
+    private final PriorityQueue<Entry> queue;
+    private final Set<String> queued;
+    private int sequence;
+    private int inFlight;
+    private boolean scheduled;
+
+    @Inject
+    public MetadataPrefetcher(MetadataProcessor metadataProcessor, RequiredResources requiredResources,
+            StatementContext statementContext) {
+        this.metadataProcessor = metadataProcessor;
+        this.requiredResources = requiredResources;
+        this.statementContext = statementContext;
+        this.queue = new PriorityQueue<>();
+        this.queued = new HashSet<>();
+        this.sequence = 0;
+        this.inFlight = 0;
+        this.scheduled = false;
+    }
+
+    public void prefetch(Collection<String> ids, Priority priority) {
+        for (String id : ids) {
+            prefetch(id, priority);
+        }
+    }
+
+    public void prefetch(String id, Priority priority) {
+        if (id != null && !queued.contains(id) && !requiredResources.getResources(id).isEmpty()) {
+            queued.add(id);
+            queue.add(new Entry(id, priority, sequence++, context()));
+            schedule();
+        }
+    }
+
+    /** Removes all pending ids. Should be called when the user navigates away. */
+    public void cancel() {
+        if (!queue.isEmpty()) {
+            logger.debug("Cancel prefetching of {}", queued);
+            queue.clear();
+            queued.clear();
+        }
+    }
+
+    private void schedule() {
+        if (!scheduled && !queue.isEmpty() && inFlight < MAX_IN_FLIGHT) {
+            scheduled = true;
+            if (Browser.supportsIdleCallback()) {
+                IdleCallbackOptions options = IdleCallbackOptions.create();
+                options.setTimeout(IDLE_TIMEOUT);
+                requestIdleCallback(deadline -> run(), options);
+            } else {
+                setTimeout(__ -> run(), BUSY_DELAY);
+            }
+        }
+    }
+
+    private void run() {
+        scheduled = false;
+        if (metadataProcessor.busy()) {
+            // foreground lookups first
+            scheduled = true;
+            setTimeout(__ -> {
+                scheduled = false;
+                schedule();
+            }, BUSY_DELAY);
+            return;
+        }
+
+        while (inFlight < MAX_IN_FLIGHT && !queue.isEmpty()) {
+            Entry entry = queue.poll();
+            queued.remove(entry.id);
+            if (!entry.context.equals(context())) {
+                logger.debug("Skip prefetching of '{}': Statement context has changed", entry.id);
+                continue;
+            }
+            inFlight++;
+            metadataProcessor.prefetch(entry.id).then(
+                    __ -> {
+                        logger.debug("Prefetched metadata for '{}'", entry.id);
+                        done();
+                        return null;
+                    },
+                    error -> {
+                        logger.debug("Unable to prefetch metadata for '{}': {}", entry.id, error);
+                        done();
+                        return null;
+                    });
+        }
+    }
+
+    private void done() {
+        inFlight--;
+        schedule();
+    }
+
+    private String context() {
+        return String.join("/", String.valueOf(statementContext.domainController()),
+                String.valueOf(statementContext.selectedProfile()), String.valueOf(statementContext.selectedServerGroup()),
+                String.valueOf(statementContext.selectedHost()), String.valueOf(statementContext.selectedServerConfig()),
+                String.valueOf(statementContext.selectedServer()));
+    }
+
+    private static class Entry implements Comparable<Entry> {
+
+        private final String id;
+        private final Priority priority;
+        private final int sequence;
+        private final String context;
+
+        private Entry(String id, Priority priority, int sequence, String context) {
+            this.id = id;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.context = context;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = priority.compareTo(other.priority);
+            return result != 0 ? result : Integer.compare(sequence, other.sequence);
+        }
+    }
+}
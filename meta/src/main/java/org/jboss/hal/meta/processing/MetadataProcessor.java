@@ -23,6 +23,9 @@ import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.Progress;
@@ -35,6 +38,7 @@ import org.jboss.hal.meta.MissingMetadataException;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.description.ResourceDescriptionStatementContext;
 import org.jboss.hal.meta.resource.RequiredResources;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
@@ -49,6 +53,8 @@ import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toSet;
 
+import static elemental2.dom.DomGlobal.fetch;
+
 /**
  * Reads resource {@linkplain Metadata metadata} using read-resource-description operations and stores it into the
  * {@link MetadataRegistry}. If you're sure the metadata is present, use the {@link MetadataRegistry} instead.
@@ -58,9 +64,12 @@ public class MetadataProcessor {
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
     static final int RRD_DEPTH = 3;
 
-    /** Number of r-r-d operations part of one composite operation. */
+    /** Initial number of r-r-d operations part of one composite operation. Adjusted by {@link RrdBatchSize}. */
     private static final int BATCH_SIZE = 3;
 
+    /** Maximal number of r-r-d composite operations in flight at the same time. */
+    private static final int CONCURRENCY = 4;
+
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
     private final Environment environment;
@@ -74,6 +83,9 @@ public class MetadataProcessor {
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
     private final WorkerChannel workerChannel;
+    private final RrdBatchSize rrdBatchSize;
+    private Promise<ResourceDescriptionSnapshot> snapshot;
+    private int foreground;
 
     @Inject
     public MetadataProcessor(Environment environment,
@@ -89,6 +101,8 @@ public class MetadataProcessor {
             WorkerChannel workerChannel) {
         this.environment = environment;
         this.dispatcher = dispatcher;
+        // large r-r-d payloads benefit most from decoding binary responses lazily
+        this.dispatcher.setTransport(Dispatcher.Transport.BINARY);
         this.statementContext = statementContext;
         this.metadataRegistry = metadataRegistry;
         this.requiredResources = requiredResources;
@@ -98,11 +112,13 @@ public class MetadataProcessor {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
         this.workerChannel = workerChannel;
+        this.rrdBatchSize = new RrdBatchSize(BATCH_SIZE);
+        this.foreground = 0;
     }
 
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
         logger.debug("Lookup metadata for {}", template);
-        processInternal(singleton(template), false, progress)
+        processForeground(singleton(template), false, progress)
                 .then(c -> {
                     callback.onMetadata(metadataRegistry.lookup(template));
                     return null;
@@ -115,10 +131,28 @@ public class MetadataProcessor {
 
     public Promise<Metadata> lookup(AddressTemplate template, Progress progress) {
         logger.debug("Lookup metadata for {}", template);
-        return processInternal(singleton(template), false, progress)
+        return processForeground(singleton(template), false, progress)
                 .then(__ -> Promise.resolve(metadataRegistry.lookup(template)));
     }
 
+    /**
+     * Looks up the metadata for the specified template and executes the specified composite operation. If
+     * {@code read-resource-description} operations are necessary, they're sent together with the steps of the composite
+     * operation, so that metadata and data are read in one round-trip.
+     *
+     * @return a promise which resolves to the result of the specified composite operation. Use the {@link MetadataRegistry} to
+     *         get the metadata.
+     */
+    public Promise<CompositeResult> lookup(AddressTemplate template, Progress progress, Composite composite) {
+        logger.debug("Lookup metadata for {} together with {}", template, composite.asCli());
+        PiggybackTask piggyback = new PiggybackTask(environment, dispatcher, statementContext, settings, RRD_DEPTH,
+                composite);
+        foreground++;
+        return processInternal(singleton(template), false, progress, piggyback)
+                .then(__ -> piggyback.result != null ? Promise.resolve(piggyback.result) : dispatcher.execute(composite))
+                .finally_(() -> foreground--);
+    }
+
     public Promise<Void> process(String id, Progress progress) {
         Set<String> resources = requiredResources.getResources(id);
         boolean recursive = requiredResources.isRecursive(id);
@@ -129,11 +163,40 @@ public class MetadataProcessor {
 
         } else {
             Set<AddressTemplate> templates = resources.stream().map(AddressTemplate::of).collect(toSet());
-            return processInternal(templates, recursive, progress);
+            return processForeground(templates, recursive, progress);
+        }
+    }
+
+    /**
+     * Processes the required resources in the background using one request at a time. Used by {@link MetadataPrefetcher}.
+     */
+    Promise<Void> prefetch(String id) {
+        Set<String> resources = requiredResources.getResources(id);
+        if (resources.isEmpty()) {
+            return Promise.resolve((Void) null);
+        } else {
+            logger.debug("Prefetch required resources {} for id '{}'", resources, id);
+            Set<AddressTemplate> templates = resources.stream().map(AddressTemplate::of).collect(toSet());
+            return processInternal(templates, requiredResources.isRecursive(id), Progress.NOOP, rrdTask(1));
         }
     }
 
-    private Promise<Void> processInternal(Set<AddressTemplate> templates, boolean recursive, Progress progress) {
+    /** @return whether there are lookups in progress which have been triggered by the user. */
+    boolean busy() {
+        return foreground > 0;
+    }
+
+    private Promise<Void> processForeground(Set<AddressTemplate> templates, boolean recursive, Progress progress) {
+        foreground++;
+        return processInternal(templates, recursive, progress, rrdTask(CONCURRENCY)).finally_(() -> foreground--);
+    }
+
+    private RrdTask rrdTask(int concurrency) {
+        return new RrdTask(environment, dispatcher, statementContext, settings, rrdBatchSize, concurrency, RRD_DEPTH);
+    }
+
+    private Promise<Void> processInternal(Set<AddressTemplate> templates, boolean recursive, Progress progress,
+            Task<LookupContext> rrdTask) {
         // we can skip the tasks if the metadata is already in the registries
         LookupRegistryTask lookupRegistries = new LookupRegistryTask(resourceDescriptionRegistry,
                 securityContextRegistry);
@@ -145,10 +208,14 @@ public class MetadataProcessor {
             boolean ie = Browser.isIE();
             List<Task<LookupContext>> tasks = new ArrayList<>();
             tasks.add(lookupRegistries);
+            if (ResourceDescriptionSnapshot.BUNDLED) {
+                tasks.add(new LookupSnapshotTask(this::snapshot,
+                        new ResourceDescriptionStatementContext(statementContext, environment)));
+            }
             if (!ie) {
                 tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
             }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+            tasks.add(rrdTask);
             tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
             if (!ie) {
                 tasks.add(new UpdateDatabaseTask(workerChannel));
@@ -165,6 +232,36 @@ public class MetadataProcessor {
         }
     }
 
+    /** Loads the resource description snapshot once. Resolves to an empty snapshot if there's no matching snapshot. */
+    private Promise<ResourceDescriptionSnapshot> snapshot() {
+        if (snapshot == null) {
+            String managementVersion = environment.getManagementVersion().toString();
+            String locale = settings.get(Settings.Key.LOCALE).value();
+            String stabilityLevel = environment.getStabilityLevel().name();
+            snapshot = fetch(ResourceDescriptionSnapshot.URL)
+                    .then(response -> {
+                        if (!response.ok) {
+                            return Promise.reject(response.status + " " + response.statusText);
+                        }
+                        return response.text();
+                    })
+                    .then(text -> {
+                        ResourceDescriptionSnapshot s = new ResourceDescriptionSnapshot(ModelNode.fromBase64(text));
+                        if (s.matches(managementVersion, locale, stabilityLevel)) {
+                            return Promise.resolve(s);
+                        }
+                        logger.info("Resource description snapshot does not match management version {}, locale {} " +
+                                "and stability level {}", managementVersion, locale, stabilityLevel);
+                        return Promise.resolve(ResourceDescriptionSnapshot.EMPTY);
+                    })
+                    .catch_(error -> {
+                        logger.debug("No resource description snapshot available: {}", error);
+                        return Promise.resolve(ResourceDescriptionSnapshot.EMPTY);
+                    });
+        }
+        return snapshot;
+    }
+
     public interface MetadataCallback {
 
         void onMetadata(Metadata metadata);
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+/**
+ * Executes the {@code read-resource-description} operations for the missing metadata together with the steps of another
+ * composite operation. This reads metadata and data in one round-trip. The result of the other composite operation is available
+ * in {@link #result} afterwards.
+ */
+final class PiggybackTask implements Task<LookupContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiggybackTask.class);
+
+    private final Dispatcher dispatcher;
+    private final CreateRrdOperations rrdOps;
+    private final Composite composite;
+    CompositeResult result;
+
+    PiggybackTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
+            int depth, Composite composite) {
+        this.dispatcher = dispatcher;
+        this.composite = composite;
+        this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
+                depth);
+    }
+
+    @Override
+    public Promise<LookupContext> apply(final LookupContext context) {
+        List<Operation> rrdOperations = new ArrayList<>(rrdOps.create(context, context.recursive, false));
+        rrdOperations.addAll(rrdOps.create(context, context.recursive, true));
+        if (rrdOperations.isEmpty()) {
+            logger.debug("No DMR operations necessary");
+            return dispatcher.execute(composite).then(compositeResult -> {
+                result = compositeResult;
+                return Promise.resolve(context);
+            });
+        }
+
+        List<Operation> operations = new ArrayList<>(rrdOperations);
+        composite.forEach(operations::add);
+        Composite piggyback = new Composite(operations);
+        logger.debug("Execute {} r-r-d operations together with {}", rrdOperations.size(), composite.asCli());
+        return dispatcher.execute(piggyback).then(compositeResult -> {
+            int size = rrdOperations.size();
+            ModelNode rrdSteps = new ModelNode();
+            ModelNode steps = new ModelNode();
+            for (int i = 0; i < compositeResult.size(); i++) {
+                if (i < size) {
+                    rrdSteps.get(step(i)).set(compositeResult.step(i));
+                } else {
+                    steps.get(step(i - size)).set(compositeResult.step(i));
+                }
+            }
+
+            RrdResult rrdResult = new CompositeRrdParser(new Composite(rrdOperations))
+                    .parse(new CompositeResult(rrdSteps));
+            context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
+            context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
+            context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
+            context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+            result = new CompositeResult(steps);
+            return Promise.resolve(context);
+        });
+    }
+
+    private static String step(int index) {
+        return "step-" + (index + 1); // NON-NLS
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.emptyMap;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LOCALE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Resource descriptions recorded at build time for a specific management model version, locale and stability level. The
+ * snapshot is bundled with the console as a static asset and seeds the resource description registry, so that fresh browser
+ * profiles don't need to read all resource descriptions from the server.
+ * <p>
+ * The snapshot is a base64 encoded model node created by {@code org.jboss.hal.processor.MetadataSnapshotBuilder}:
+ *
+ * <pre>
+ * {
+ *     "management-version" => "22.0.0",
+ *     "locale" => "en",
+ *     "stability-level" => "COMMUNITY",
+ *     "responses" => [
+ *         {"address" => [...], "result" => {r-r-d result}},
+ *         ...
+ *     ]
+ * }
+ * </pre>
+ *
+ * The responses are parsed lazily the first time the snapshot is used.
+ * <p>
+ * The snapshot is only requested if the console has been built with the {@code metadata-snapshot} profile, which sets the
+ * configuration property {@value #BUNDLED_PROPERTY} to {@code true}.
+ */
+class ResourceDescriptionSnapshot {
+
+    static final String BUNDLED_PROPERTY = "hal.metadata.snapshot";
+    /** Whether the snapshot has been bundled with the console */
+    static final boolean BUNDLED = Boolean.parseBoolean(System.getProperty(BUNDLED_PROPERTY, "false"));
+    /** URL of the snapshot relative to the host page */
+    static final String URL = "metadata/resource-descriptions.dmr";
+    static final String MANAGEMENT_VERSION = "management-version";
+    static final String STABILITY_LEVEL = "stability-level";
+    static final String RESPONSES = "responses";
+    static final ResourceDescriptionSnapshot EMPTY = new ResourceDescriptionSnapshot(new ModelNode());
+    private static final Logger logger = LoggerFactory.getLogger(ResourceDescriptionSnapshot.class);
+
+    private final ModelNode snapshot;
+    private Map<ResourceAddress, ResourceDescription> resourceDescriptions;
+
+    ResourceDescriptionSnapshot(ModelNode snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /** @return whether the snapshot was recorded for the specified management version, locale and stability level */
+    boolean matches(String managementVersion, String locale, String stabilityLevel) {
+        return snapshot.hasDefined(RESPONSES)
+                && snapshot.get(MANAGEMENT_VERSION).asString().equals(managementVersion)
+                && snapshot.get(LOCALE).asString().equals(locale)
+                && (!snapshot.hasDefined(STABILITY_LEVEL) || snapshot.get(STABILITY_LEVEL).asString().equals(stabilityLevel));
+    }
+
+    /**
+     * @return a copy of the resource description or {@code null} if the snapshot contains no such description. The parsed
+     *         descriptions are protected, so the copy shares their structure until it's modified.
+     */
+    ResourceDescription get(ResourceAddress address) {
+        ResourceDescription resourceDescription = resourceDescriptions().get(address);
+        return resourceDescription != null ? new ResourceDescription(resourceDescription) : null;
+    }
+
+    int size() {
+        return resourceDescriptions().size();
+    }
+
+    private Map<ResourceAddress, ResourceDescription> resourceDescriptions() {
+        if (resourceDescriptions == null) {
+            if (snapshot.hasDefined(RESPONSES)) {
+                RrdResult rrdResult = new RrdResult();
+                SingleRrdParser parser = new SingleRrdParser(rrdResult);
+                for (ModelNode response : snapshot.get(RESPONSES).asList()) {
+                    try {
+                        parser.parse(new ResourceAddress(response.get(ADDRESS)), response.get(RESULT));
+                    } catch (ParserException e) {
+                        logger.error("Unable to parse resource description snapshot for {}: {}", response.get(ADDRESS),
+                                e.getMessage());
+                    }
+                }
+                resourceDescriptions = rrdResult.resourceDescriptions;
+                resourceDescriptions.values().forEach(ModelNode::protect);
+                logger.info("Parsed {} resource descriptions from snapshot {}", resourceDescriptions.size(),
+                        snapshot.get(MANAGEMENT_VERSION).asString());
+            } else {
+                resourceDescriptions = emptyMap();
+            }
+        }
+        return resourceDescriptions;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adjusts the number of r-r-d operations which are part of one composite operation. The size is based on the observed latency
+ * and payload size of the previous composites: Fast and small responses let the batch size grow, slow or big responses let it
+ * shrink. The payload size is measured as number of parsed resource descriptions.
+ */
+class RrdBatchSize {
+
+    static final int MIN_SIZE = 1;
+    static final int MAX_SIZE = 12;
+
+    /** The latency in ms we aim for a single composite operation. */
+    private static final double TARGET_LATENCY = 1_500;
+
+    /** The number of resource descriptions we aim for a single composite operation. */
+    private static final double TARGET_PAYLOAD = 200;
+
+    private static final Logger logger = LoggerFactory.getLogger(RrdBatchSize.class);
+
+    private int size;
+
+    RrdBatchSize(int initialSize) {
+        this.size = clamp(initialSize);
+    }
+
+    int get() {
+        return size;
+    }
+
+    /**
+     * Records the metrics of an executed composite operation and adjusts the batch size.
+     *
+     * @param operations the number of operations of the composite
+     * @param latency the time in ms it took to execute the composite
+     * @param descriptions the number of resource descriptions parsed from the result
+     */
+    void observe(int operations, long latency, int descriptions) {
+        if (operations <= 0) {
+            return;
+        }
+        double latencyPerOperation = Math.max(1, (double) latency / operations);
+        double payloadPerOperation = Math.max(1, (double) descriptions / operations);
+        int byLatency = (int) (TARGET_LATENCY / latencyPerOperation);
+        int byPayload = (int) (TARGET_PAYLOAD / payloadPerOperation);
+        int target = clamp(Math.min(byLatency, byPayload));
+
+        // move halfway (but at least one step) towards the target to smooth out outliers
+        int delta = (target - size) / 2;
+        if (delta == 0) {
+            delta = Integer.signum(target - size);
+        }
+        int adjusted = clamp(size + delta);
+        if (adjusted != size) {
+            logger.debug("Adjust r-r-d batch size from {} to {} (latency {} ms, {} descriptions for {} operations)",
+                    size, adjusted, latency, descriptions, operations);
+            size = adjusted;
+        }
+    }
+
+    private int clamp(int value) {
+        return Math.max(MIN_SIZE, Math.min(MAX_SIZE, value));
+    }
+}
@@ -16,7 +16,9 @@
 package org.jboss.hal.meta.processing;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jboss.hal.config.Environment;
@@ -31,25 +33,36 @@ import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 
 import elemental2.promise.Promise;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 
-/** Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. */
+/**
+ * Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata.
+ * <p>
+ * If the concurrency is greater than one, the composites are pipelined: Up to {@code concurrency} composites are in flight at
+ * the same time. The number of operations per composite is taken from {@link RrdBatchSize} which adapts to the observed latency
+ * and payload size.
+ */
 final class RrdTask implements Task<LookupContext> {
 
+    private static final String OPERATION_STEP = "Operation step-"; // NON-NLS
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
 
     private final Dispatcher dispatcher;
-    private final int batchSize;
+    private final RrdBatchSize batchSize;
+    private final int concurrency;
     private final CreateRrdOperations rrdOps;
 
     RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
+            RrdBatchSize batchSize, int concurrency, int depth) {
         this.dispatcher = dispatcher;
         this.batchSize = batchSize;
+        this.concurrency = concurrency;
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
                 depth);
     }
@@ -61,59 +74,105 @@ final class RrdTask implements Task<LookupContext> {
 
         // create and partition non-optional operations
         List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
+        List<List<Operation>> piles = Lists.partition(operations, batchSize.get());
         List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
         for (Composite composite : composites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite).then(result -> {
-                parseRrdAction(context, composite, result);
-                return Promise.resolve(c);
-            }));
+            tasks.add((LookupContext c) -> {
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                return dispatcher.execute(composite).then(result -> {
+                    stopwatch.stop();
+                    int descriptions = parseRrdAction(context, composite, result);
+                    batchSize.observe(composite.size(), stopwatch.elapsed(MILLISECONDS), descriptions);
+                    return Promise.resolve(c);
+                });
+            });
         }
 
-        // create optional operations w/o partitioning!
+        // Optional operations are merged into one composite. If this composite fails, the failed steps are removed and
+        // the remaining operations are sent again, so that one missing optional resource does not affect the others.
         List<Operation> optionalOperations = rrdOps.create(context, recursive, true);
-        // Do not refactor to
-        // List<Composite> optionalComposites = optionalOperations.stream().map(Composite::new).collect(toList());
-        // the GWT compiler will crash with an ArrayIndexOutOfBoundsException!
-        List<Composite> optionalComposites = new ArrayList<>();
-        optionalOperations.forEach(operation -> optionalComposites.add(new Composite(operation)));
-        for (Composite composite : optionalComposites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite)
-                    .then(result -> {
-                        parseRrdAction(context, composite, result);
-                        return Promise.resolve(c);
-                    })
-                    .catch_(error -> {
-                        logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
-                        return Promise.resolve(c);
-                    }));
+        Composite optionalComposite = null;
+        if (!optionalOperations.isEmpty()) {
+            optionalComposite = new Composite(optionalOperations);
+            tasks.add((LookupContext c) -> executeOptional(c, optionalOperations));
         }
 
         if (!tasks.isEmpty()) {
             if (logger.isDebugEnabled()) {
-                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional)",
-                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size());
+                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional), {} in parallel",
+                        tasks.size(), composites.size(), optionalComposite != null ? 1 : 0, Math.max(1, concurrency));
                 String compositeOps = composites.stream().map(Composite::asCli).collect(Collectors.joining(", "));
                 logger.debug("Composite operations: {}", compositeOps);
-                if (!optionalComposites.isEmpty()) {
-                    String optionalOps = optionalComposites.stream()
-                            .map(Composite::asCli)
-                            .collect(Collectors.joining(", "));
-                    logger.debug("Optional operations: {}", optionalOps);
+                if (optionalComposite != null) {
+                    logger.debug("Optional operations: {}", optionalComposite.asCli());
                 }
             }
-            return Flow.sequential(context, tasks).promise();
+            if (concurrency > 1) {
+                return Flow.parallel(context, tasks, concurrency).promise();
+            } else {
+                return Flow.sequential(context, tasks).promise();
+            }
         } else {
             logger.debug("No DMR operations necessary");
             return Promise.resolve(context);
         }
     }
 
-    private void parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
+    private Promise<LookupContext> executeOptional(LookupContext context, List<Operation> optionalOperations) {
+        Composite composite = new Composite(optionalOperations);
+        return dispatcher.execute(composite).then(
+                result -> {
+                    parseRrdAction(context, composite, result);
+                    return Promise.resolve(context);
+                },
+                error -> {
+                    Set<Integer> failedSteps = failedSteps(String.valueOf(error));
+                    List<Operation> remaining = new ArrayList<>();
+                    for (int i = 0; i < optionalOperations.size(); i++) {
+                        if (!failedSteps.contains(i)) {
+                            remaining.add(optionalOperations.get(i));
+                        }
+                    }
+                    if (remaining.isEmpty() || remaining.size() == optionalOperations.size()) {
+                        // nothing left or unable to tell which steps failed
+                        logger.debug("Ignore errors on optional operations {}: {}", composite.asCli(), error);
+                        return Promise.resolve(context);
+                    }
+                    logger.debug("Ignore {} failed optional operation(s), execute the remaining {} operation(s) again",
+                            optionalOperations.size() - remaining.size(), remaining.size());
+                    return executeOptional(context, remaining);
+                });
+    }
+
+    /**
+     * Returns the zero-based indices of the failed steps of a composite operation. The indices are taken from the failure
+     * description which lists the failed steps as {@code "Operation step-<n>" => "<reason>"}.
+     */
+    static Set<Integer> failedSteps(String failure) {
+        Set<Integer> steps = new HashSet<>();
+        if (failure != null) {
+            int index = failure.indexOf(OPERATION_STEP);
+            while (index != -1) {
+                int start = index + OPERATION_STEP.length();
+                int end = start;
+                while (end < failure.length() && Character.isDigit(failure.charAt(end))) {
+                    end++;
+                }
+                if (end > start) {
+                    steps.add(Integer.parseInt(failure.substring(start, end)) - 1);
+                }
+                index = failure.indexOf(OPERATION_STEP, end);
+            }
+        }
+        return steps;
+    }
+
+    private int parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
         RrdResult rrdResult = new CompositeRrdParser(composite).parse(compositeResult);
         context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
         context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
         context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
         context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+        return rrdResult.resourceDescriptions.size();
     }
 }
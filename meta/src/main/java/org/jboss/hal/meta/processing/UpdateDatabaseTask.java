@@ -15,12 +15,7 @@
  */
 package org.jboss.hal.meta.processing;
 
-import java.util.Map;
-
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.flow.Task;
-import org.jboss.hal.meta.description.ResourceDescription;
-import org.jboss.hal.meta.security.SecurityContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,19 +39,8 @@ final class UpdateDatabaseTask implements Task<LookupContext> {
     public Promise<LookupContext> apply(final LookupContext context) {
         if (context.updateDatabase()) {
             Stopwatch watch = Stopwatch.createStarted();
-            for (Map.Entry<ResourceAddress, ResourceDescription> entry : context.toResourceDescriptionDatabase
-                    .entrySet()) {
-                ResourceAddress address = entry.getKey();
-                ResourceDescription resourceDescription = entry.getValue();
-                workerChannel.postResourceDescription(address, resourceDescription,
-                        context.recursive);
-            }
-            for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextDatabase
-                    .entrySet()) {
-                ResourceAddress address = entry.getKey();
-                SecurityContext securityContext = entry.getValue();
-                workerChannel.postSecurityContext(address, securityContext, context.recursive);
-            }
+            workerChannel.postResourceDescriptions(context.toResourceDescriptionDatabase, context.recursive);
+            workerChannel.postSecurityContexts(context.toSecurityContextDatabase, context.recursive);
             logger.debug(
                     "Posted {} resource descriptions and {} security contexts to the databases in {} ms",
                     context.toResourceDescriptionDatabase.size(), context.toSecurityContextDatabase.size(),
@@ -15,16 +15,22 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.Map;
+
 import javax.inject.Inject;
 
-import org.jboss.hal.db.Document;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.js.Browser;
+import org.jboss.hal.meta.Database;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 
+import elemental2.core.ArrayBuffer;
+import elemental2.core.JsArray;
+import elemental2.core.Transferable;
 import elemental2.dom.Worker;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
@@ -54,23 +60,35 @@ public class WorkerChannel {
         this.worker = Browser.isIE() ? null : WorkerProvider.metadataChannel;
     }
 
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
-        if (worker != null) {
-            resourceDescription.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
-            worker.postMessage(message);
-        }
+    void postResourceDescriptions(Map<ResourceAddress, ResourceDescription> resourceDescriptions, boolean recursive) {
+        post(resourceDescriptionDatabase, resourceDescriptions, recursive);
+    }
+
+    void postSecurityContexts(Map<ResourceAddress, SecurityContext> securityContexts, boolean recursive) {
+        post(securityContextDatabase, securityContexts, recursive);
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
-        if (worker != null) {
-            securityContext.get(HAL_RECURSIVE).set(recursive);
+    /**
+     * Posts all metadata in one message. The payloads are sent as base64 encoded bytes whose buffers are transferred to the
+     * worker without copying them. The worker computes a hash for each payload and skips documents which didn't change.
+     */
+    private <T extends ModelNode> void post(Database<T> database, Map<ResourceAddress, T> metadata, boolean recursive) {
+        if (worker != null && !metadata.isEmpty()) {
             UpdateMessage message = new UpdateMessage();
-            message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
-            worker.postMessage(message);
+            message.database = database.name();
+            message.documents = new JsArray<>();
+            JsArray<Transferable> transfer = new JsArray<>();
+            for (Map.Entry<ResourceAddress, T> entry : metadata.entrySet()) {
+                entry.getValue().get(HAL_RECURSIVE).set(recursive);
+                ArrayBuffer payload = entry.getValue().toBase64Bytes().buffer;
+                UpdateDocument document = new UpdateDocument();
+                document._id = entry.getKey().toString();
+                document.version = database.version(entry.getKey());
+                document.payload = payload;
+                message.documents.push(document);
+                transfer.push(payload);
+            }
+            worker.postMessage(message, transfer);
         }
     }
 
@@ -78,6 +96,14 @@ public class WorkerChannel {
     private static class UpdateMessage {
 
         String database;
-        Document document;
+        JsArray<UpdateDocument> documents;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class UpdateDocument {
+
+        String _id;
+        String version;
+        ArrayBuffer payload;
     }
 }
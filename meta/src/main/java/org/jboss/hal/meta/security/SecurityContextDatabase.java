@@ -47,7 +47,7 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
 
     @Inject
     public SecurityContextDatabase(StatementContext statementContext, Environment environment, Settings settings) {
-        super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
+        super(new SecurityContextStatementContext(statementContext, environment), environment, SECURITY_CONTEXT_TYPE);
         this.environment = environment;
         this.settings = settings;
     }
@@ -71,8 +71,7 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
                     provider,
                     roles,
                     environment.getHalBuild().name(),
-                    environment.getStabilityLevel().name(),
-                    environment.getManagementVersion().toString());
+                    environment.getStabilityLevel().name());
         }
         return name;
     }
@@ -86,6 +85,7 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
     public Document asDocument(ResourceAddress address, SecurityContext securityContext) {
         Document document = Document.of(address.toString());
         document.set(PAYLOAD, securityContext.toBase64String());
+        document.set(VERSION, version(address));
         return document;
 
     }
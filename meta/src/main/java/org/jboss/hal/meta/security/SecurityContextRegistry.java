@@ -20,33 +20,29 @@ import javax.inject.Inject;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
+import org.jboss.hal.meta.MetadataCache;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import elemental2.core.Uint8Array;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
 public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
 
-    private static final int CACHE_SIZE = 500;
+    // capacities in (estimated) bytes
+    private static final int HOT_CAPACITY = 2 * 1024 * 1024;
+    private static final int WARM_CAPACITY = 4 * 1024 * 1024;
     private static final String SECURITY_CONTEXT_TYPE = "security context";
     private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
 
-    private final Cache<ResourceAddress, SecurityContext> cache;
+    private final MetadataCache<SecurityContext, Uint8Array> cache;
 
     @Inject
     public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
         super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(CACHE_SIZE)
-                .recordStats()
-                .removalListener(
-                        notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
-                                notification.getCause()))
-                .build();
+        this.cache = MetadataCache.binary(type, HOT_CAPACITY, WARM_CAPACITY, false, SecurityContext::new);
     }
 
     public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
@@ -55,8 +51,13 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
+    /** @return the statistics of the underlying cache */
+    public MetadataCache.Stats stats() {
+        return cache.stats();
+    }
+
     @Override
     protected SecurityContext lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+        return cache.get(address);
     }
 }
@@ -0,0 +1,242 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE_TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class MetadataCacheTest {
+
+    /** Keeps copies in the warm tier and uses the estimated weight as size. */
+    private static class CloneCodec implements MetadataCache.Codec<ModelNode> {
+
+        int encoded;
+
+        @Override
+        public ModelNode encode(ModelNode node) {
+            encoded++;
+            return node.clone();
+        }
+
+        @Override
+        public ModelNode decode(ModelNode encoded) {
+            return encoded.clone();
+        }
+
+        @Override
+        public int size(ModelNode encoded) {
+            return MetadataCache.weigh(encoded);
+        }
+    }
+
+    private static ResourceAddress address(String name) {
+        return new ResourceAddress().add("subsystem", name);
+    }
+
+    private static ModelNode description(String text) {
+        ModelNode node = new ModelNode();
+        node.get(DESCRIPTION).set(text);
+        node.get(ATTRIBUTES, NAME, TYPE).set("STRING");
+        node.get(ATTRIBUTES, NAME, DESCRIPTION).set("The name");
+        return node;
+    }
+
+    private static MetadataCache<ModelNode, ModelNode> cache(int hotEntries, int warmEntries, boolean share) {
+        return cache(hotEntries, warmEntries, share, new CloneCodec());
+    }
+
+    private static MetadataCache<ModelNode, ModelNode> cache(int hotEntries, int warmEntries, boolean share,
+            CloneCodec codec) {
+        int weight = MetadataCache.weigh(description("foo"));
+        return new MetadataCache<>("test", hotEntries * weight, warmEntries * weight, share, node -> node, codec);
+    }
+
+    @Test
+    public void weigh() {
+        assertTrue(MetadataCache.weigh(new ModelNode().set("a longer string value")) > MetadataCache.weigh(
+                new ModelNode().set("short")));
+        assertTrue(MetadataCache.weigh(description("foo")) > MetadataCache.weigh(new ModelNode().set("foo")));
+    }
+
+    @Test
+    public void hit() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(2, 4, false);
+        ModelNode foo = description("foo");
+        cache.put(address("foo"), foo);
+
+        assertSame(foo, cache.get(address("foo")));
+        assertNull(cache.get(address("bar")));
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    public void warmHit() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(1, 4, false);
+        ModelNode foo = description("foo");
+        cache.put(address("foo"), foo);
+        cache.put(address("bar"), description("bar"));
+
+        ModelNode promoted = cache.get(address("foo"));
+        assertNotNull(promoted);
+        assertNotSame(foo, promoted);
+        assertEquals(foo, promoted);
+        assertEquals(1, cache.stats().getWarmHitCount());
+        assertEquals(0, cache.stats().getEvictionCount());
+
+        // promoted to hot tier
+        assertSame(promoted, cache.get(address("foo")));
+        assertEquals(1, cache.stats().getHitCount());
+    }
+
+    @Test
+    public void encodeOnDemotion() {
+        CloneCodec codec = new CloneCodec();
+        MetadataCache<ModelNode, ModelNode> cache = cache(2, 4, false, codec);
+        cache.put(address("foo"), description("foo"));
+        cache.put(address("bar"), description("bar"));
+        assertEquals(0, codec.encoded);
+
+        cache.put(address("baz"), description("baz"));
+        assertEquals(1, codec.encoded);
+        assertEquals(1, cache.stats().getWarmSize());
+        assertEquals("foo", cache.get(address("foo")).get(DESCRIPTION).asString());
+    }
+
+    @Test
+    public void evict() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(1, 1, false);
+        cache.put(address("foo"), description("foo"));
+        cache.put(address("bar"), description("bar"));
+        cache.put(address("baz"), description("baz"));
+
+        assertEquals(1, cache.stats().getEvictionCount());
+        assertEquals(1, cache.stats().getHotSize());
+        assertEquals(1, cache.stats().getWarmSize());
+        assertNull(cache.get(address("foo")));
+        assertNotNull(cache.get(address("bar")));
+        assertNotNull(cache.get(address("baz")));
+    }
+
+    @Test
+    public void lru() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(2, 0, false);
+        cache.put(address("foo"), description("foo"));
+        cache.put(address("bar"), description("bar"));
+        cache.get(address("foo"));
+        cache.put(address("baz"), description("baz"));
+
+        assertNotNull(cache.get(address("foo")));
+        assertNull(cache.get(address("bar")));
+    }
+
+    @Test
+    public void remove() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(2, 2, false);
+        cache.put(address("foo"), description("foo"));
+        cache.remove(address("foo"));
+
+        assertNull(cache.get(address("foo")));
+        assertEquals(0, cache.stats().getHotWeight());
+        assertEquals(0, cache.stats().getWarmWeight());
+    }
+
+    @Test
+    public void tooBig() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(1, 1, false);
+        ModelNode big = description("a description which is considerably longer than the other descriptions");
+        cache.put(address("big"), big);
+
+        assertNull(cache.get(address("big")));
+        assertEquals(0, cache.stats().getHotSize());
+        assertEquals(0, cache.stats().getWarmSize());
+    }
+
+    @Test
+    public void shareAttributes() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(4, 4, true);
+        ModelNode foo = description("foo");
+        ModelNode bar = description("bar");
+        cache.put(address("foo"), foo);
+        cache.put(address("bar"), bar);
+
+        assertEquals(1, cache.stats().getSharedAttributeCount());
+        assertEquals(foo.get(ATTRIBUTES, NAME), bar.get(ATTRIBUTES, NAME));
+    }
+
+    @Test
+    public void sharedAttributesStaySharedAfterPromote() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(4, 4, true);
+        ModelNode foo = description("foo");
+        ModelNode bar = description("bar");
+        cache.put(address("foo"), foo);
+        cache.put(address("bar"), bar);
+
+        // weighing the metadata must not copy the shared attributes
+        ModelNode fooDescription = foo.peek(ATTRIBUTES).peek(NAME).peek(DESCRIPTION);
+        ModelNode barDescription = bar.peek(ATTRIBUTES).peek(NAME).peek(DESCRIPTION);
+        assertSame(fooDescription, barDescription);
+
+        assertSame(bar, cache.get(address("bar")));
+        assertSame(fooDescription, bar.peek(ATTRIBUTES).peek(NAME).peek(DESCRIPTION));
+    }
+
+    @Test
+    public void sharedAttributesAreCopiedOnWrite() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(4, 4, true);
+        ModelNode foo = description("foo");
+        ModelNode bar = description("bar");
+        cache.put(address("foo"), foo);
+        cache.put(address("bar"), bar);
+
+        foo.get(ATTRIBUTES, NAME, DESCRIPTION).set("modified");
+        assertEquals("The name", bar.get(ATTRIBUTES, NAME, DESCRIPTION).asString());
+
+        ModelNode baz = description("baz");
+        cache.put(address("baz"), baz);
+        assertEquals(2, cache.stats().getSharedAttributeCount());
+        assertEquals("The name", baz.get(ATTRIBUTES, NAME, DESCRIPTION).asString());
+    }
+
+    @Test
+    public void dontShareComplexAttributes() {
+        MetadataCache<ModelNode, ModelNode> cache = cache(8, 8, true);
+        ModelNode foo = description("foo");
+        foo.get(ATTRIBUTES, "complex", VALUE_TYPE, NAME, TYPE).set("STRING");
+        ModelNode bar = description("bar");
+        bar.get(ATTRIBUTES, "complex", VALUE_TYPE, NAME, TYPE).set("STRING");
+        cache.put(address("foo"), foo);
+        cache.put(address("bar"), bar);
+
+        assertEquals(1, cache.stats().getSharedAttributeCount());
+        foo.get(ATTRIBUTES, "complex", VALUE_TYPE, NAME, TYPE).set("INT");
+        assertEquals("STRING", bar.get(ATTRIBUTES, "complex", VALUE_TYPE, NAME, TYPE).asString());
+    }
+}
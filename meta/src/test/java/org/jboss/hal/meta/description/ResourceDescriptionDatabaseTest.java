@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.description;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.config.Version;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.TestableStatementContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("DuplicateStringLiteralInspection")
+public class ResourceDescriptionDatabaseTest {
+
+    private ResourceDescriptionDatabase database;
+
+    @Before
+    public void setUp() throws Exception {
+        Environment environment = mock(Environment.class);
+        when(environment.getManagementVersion()).thenReturn(new Version(22, 0, 0));
+        when(environment.getSubsystemVersion(anyString())).thenReturn(Version.EMPTY_VERSION);
+        when(environment.getSubsystemVersion("logging")).thenReturn(new Version(8, 0, 0));
+        database = new ResourceDescriptionDatabase(new TestableStatementContext(), environment, mock(Settings.class));
+    }
+
+    @Test
+    public void coreVersion() throws Exception {
+        assertEquals("22.0.0", database.version(ResourceAddress.root()));
+        assertEquals("22.0.0", database.version(address("/socket-binding-group=*/socket-binding=*")));
+    }
+
+    @Test
+    public void subsystemVersion() throws Exception {
+        assertEquals("subsystem-8.0.0", database.version(address("/subsystem=logging")));
+        assertEquals("subsystem-8.0.0", database.version(address("/subsystem=logging/console-handler=*")));
+        assertEquals("subsystem-8.0.0", database.version(address("/profile=*/subsystem=logging/logger=*")));
+    }
+
+    @Test
+    public void unknownSubsystemVersion() throws Exception {
+        assertEquals("22.0.0", database.version(address("/subsystem=undertow")));
+    }
+
+    private ResourceAddress address(String template) {
+        return AddressTemplate.of(template).resolve(new TestableStatementContext());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.jboss.hal.dmr.ExternalModelNode;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LOCALE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.meta.processing.ResourceDescriptionSnapshot.MANAGEMENT_VERSION;
+import static org.jboss.hal.meta.processing.ResourceDescriptionSnapshot.RESPONSES;
+import static org.jboss.hal.meta.processing.ResourceDescriptionSnapshot.STABILITY_LEVEL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "DuplicateStringLiteralInspection", "HardCodedStringLiteral" })
+public class ResourceDescriptionSnapshotTest {
+
+    private ResourceDescriptionSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        // /subsystem=mail:read-resource-description(operations=true,recursive=true)
+        ModelNode response = new ModelNode();
+        response.get(ADDRESS).set(AddressTemplate.of("/subsystem=mail").resolve(StatementContext.NOOP));
+        response.get(RESULT).set(ExternalModelNode.read(ResourceDescriptionSnapshotTest.class
+                .getResourceAsStream("rrd_concrete_resource_description_only.dmr")));
+
+        ModelNode node = new ModelNode();
+        node.get(MANAGEMENT_VERSION).set("22.0.0");
+        node.get(LOCALE).set("en");
+        node.get(STABILITY_LEVEL).set("COMMUNITY");
+        node.get(RESPONSES).add(response);
+        snapshot = new ResourceDescriptionSnapshot(node);
+    }
+
+    @Test
+    public void matches() {
+        assertTrue(snapshot.matches("22.0.0", "en", "COMMUNITY"));
+        assertFalse(snapshot.matches("22.0.1", "en", "COMMUNITY"));
+        assertFalse(snapshot.matches("22.0.0", "de", "COMMUNITY"));
+        assertFalse(snapshot.matches("22.0.0", "en", "PREVIEW"));
+        assertFalse(ResourceDescriptionSnapshot.EMPTY.matches("22.0.0", "en", "COMMUNITY"));
+    }
+
+    @Test
+    public void get() {
+        assertEquals(6, snapshot.size());
+        assertNotNull(snapshot.get(AddressTemplate.of("/subsystem=mail").resolve(StatementContext.NOOP)));
+        assertNotNull(snapshot.get(
+                AddressTemplate.of("/subsystem=mail/mail-session=*/server=smtp").resolve(StatementContext.NOOP)));
+        assertNull(snapshot.get(AddressTemplate.of("/subsystem=ee").resolve(StatementContext.NOOP)));
+    }
+
+    @Test
+    public void copies() {
+        ResourceDescription first = snapshot.get(AddressTemplate.of("/subsystem=mail").resolve(StatementContext.NOOP));
+        first.get(HAL_RECURSIVE).set(true);
+        ResourceDescription second = snapshot.get(AddressTemplate.of("/subsystem=mail").resolve(StatementContext.NOOP));
+        assertFalse(second.hasDefined(HAL_RECURSIVE));
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(0, ResourceDescriptionSnapshot.EMPTY.size());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.junit.Test;
+
+import static org.jboss.hal.meta.processing.RrdBatchSize.MAX_SIZE;
+import static org.jboss.hal.meta.processing.RrdBatchSize.MIN_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RrdBatchSizeTest {
+
+    @Test
+    public void initialSize() {
+        assertEquals(3, new RrdBatchSize(3).get());
+        assertEquals(MIN_SIZE, new RrdBatchSize(0).get());
+        assertEquals(MAX_SIZE, new RrdBatchSize(100).get());
+    }
+
+    @Test
+    public void growOnFastAndSmallResponses() {
+        RrdBatchSize batchSize = new RrdBatchSize(3);
+        batchSize.observe(3, 30, 3);
+        assertTrue(batchSize.get() > 3);
+        for (int i = 0; i < 10; i++) {
+            batchSize.observe(batchSize.get(), 30, batchSize.get());
+        }
+        assertEquals(MAX_SIZE, batchSize.get());
+    }
+
+    @Test
+    public void shrinkOnSlowResponses() {
+        RrdBatchSize batchSize = new RrdBatchSize(MAX_SIZE);
+        for (int i = 0; i < 10; i++) {
+            batchSize.observe(batchSize.get(), 5_000L * batchSize.get(), 1);
+        }
+        assertEquals(MIN_SIZE, batchSize.get());
+    }
+
+    @Test
+    public void shrinkOnBigPayload() {
+        RrdBatchSize batchSize = new RrdBatchSize(MAX_SIZE);
+        for (int i = 0; i < 10; i++) {
+            batchSize.observe(batchSize.get(), 10, 100 * batchSize.get());
+        }
+        assertEquals(2, batchSize.get());
+    }
+
+    @Test
+    public void ignoreEmptyComposites() {
+        RrdBatchSize batchSize = new RrdBatchSize(3);
+        batchSize.observe(0, 10_000, 0);
+        assertEquals(3, batchSize.get());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class RrdTaskTest {
+
+    @Test
+    public void failedSteps() {
+        ModelNode payload = new ModelNode();
+        payload.get(OUTCOME).set("failed");
+        ModelNode steps = payload.get(FAILURE_DESCRIPTION)
+                .get("WFLYCTL0062: Composite operation failed and was rolled back. Steps that failed:");
+        steps.get("Operation step-2").set("WFLYCTL0216: Management resource '[(\"subsystem\" => \"foo\")]' not found");
+        steps.get("Operation step-11").set("WFLYCTL0216: Management resource '[(\"subsystem\" => \"bar\")]' not found");
+
+        assertEquals(Sets.newHashSet(1, 10), RrdTask.failedSteps(payload.getFailureDescription()));
+    }
+
+    @Test
+    public void noFailedSteps() {
+        assertTrue(RrdTask.failedSteps("WFLYCTL0030: No resource definition is registered").isEmpty());
+        assertTrue(RrdTask.failedSteps("Operation step-").isEmpty());
+        assertTrue(RrdTask.failedSteps(null).isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.processor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/**
+ * Build step which creates the resource description snapshot bundled with the console. The snapshot is read by the
+ * {@code MetadataProcessor} to seed the resource description registry if the management version, locale and stability level
+ * match.
+ * <p>
+ * The input is a directory with recorded {@code read-resource-description} responses in DMR string notation (*.dmr). Each file
+ * contains either
+ * <ul>
+ * <li>the response of a wildcard operation as printed by the CLI: a node with {@code outcome} and a list of nodes with
+ * {@code address} and {@code result},</li>
+ * <li>the list of nodes with {@code address} and {@code result} only or</li>
+ * <li>a single node with {@code address} and {@code result}.</li>
+ * </ul>
+ * See the {@code metadata-snapshot} profile of the console how to record the fixtures. Access control information is removed,
+ * since it depends on the user. The snapshot is written as base64 encoded DMR.
+ * <p>
+ * Usage: {@code MetadataSnapshotBuilder <fixtures> <output> <management-version> [<locale> [<stability-level>]]}
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class MetadataSnapshotBuilder {
+
+    private static final String ACCESS_CONTROL = "access-control";
+    private static final String ADDRESS = "address";
+    private static final String CHILDREN = "children";
+    private static final String LOCALE = "locale";
+    private static final String MANAGEMENT_VERSION = "management-version";
+    private static final String MODEL_DESCRIPTION = "model-description";
+    private static final String OUTCOME = "outcome";
+    private static final String RESPONSES = "responses";
+    private static final String RESULT = "result";
+    private static final String STABILITY_LEVEL = "stability-level";
+    private static final String SUCCESS = "success";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println(
+                    "Usage: MetadataSnapshotBuilder <fixtures> <output> <management-version> [<locale> [<stability-level>]]");
+            System.exit(1);
+        }
+        Path fixtures = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        if (!Files.isDirectory(fixtures)) {
+            throw new IllegalArgumentException("Fixtures directory " + fixtures
+                    + " not found. See the metadata-snapshot profile of the console how to record the fixtures.");
+        }
+        String locale = args.length > 3 ? args[3] : "en";
+        String stabilityLevel = args.length > 4 ? args[4] : null;
+
+        ModelNode snapshot = new MetadataSnapshotBuilder().build(fixtures, args[2], locale, stabilityLevel);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            snapshot.writeBase64(out);
+        }
+        System.out.printf("Wrote %d responses for management version %s to %s (%d bytes)%n",
+                snapshot.get(RESPONSES).asList().size(), args[2], output, Files.size(output));
+    }
+
+    ModelNode build(Path fixtures, String managementVersion, String locale, String stabilityLevel) throws IOException {
+        ModelNode snapshot = new ModelNode();
+        snapshot.get(MANAGEMENT_VERSION).set(managementVersion);
+        snapshot.get(LOCALE).set(locale);
+        if (stabilityLevel != null) {
+            snapshot.get(STABILITY_LEVEL).set(stabilityLevel);
+        }
+        ModelNode responses = snapshot.get(RESPONSES).setEmptyList();
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(fixtures)) {
+            files = stream.filter(path -> path.toString().endsWith(".dmr")).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            ModelNode fixture = ModelNode.fromString(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            if (fixture.getType() == ModelType.OBJECT && !fixture.has(ADDRESS) && fixture.hasDefined(RESULT)
+                    && fixture.get(RESULT).getType() == ModelType.LIST) {
+                // response of a wildcard operation as printed by the CLI
+                if (fixture.hasDefined(OUTCOME) && !SUCCESS.equals(fixture.get(OUTCOME).asString())) {
+                    throw new IllegalArgumentException("Failed operation in " + file);
+                }
+                fixture = fixture.get(RESULT);
+            }
+            if (fixture.getType() == ModelType.LIST) {
+                for (ModelNode response : fixture.asList()) {
+                    add(responses, response, file);
+                }
+            } else {
+                add(responses, fixture, file);
+            }
+        }
+        return snapshot;
+    }
+
+    private void add(ModelNode responses, ModelNode response, Path file) {
+        if (!response.has(ADDRESS) || !response.hasDefined(RESULT)) {
+            throw new IllegalArgumentException("Missing address or result in " + file);
+        }
+        if (response.hasDefined(OUTCOME) && !SUCCESS.equals(response.get(OUTCOME).asString())) {
+            return;
+        }
+        ModelNode compact = new ModelNode();
+        compact.get(ADDRESS).set(response.get(ADDRESS));
+        compact.get(RESULT).set(stripAccessControl(response.get(RESULT)));
+        responses.add(compact);
+    }
+
+    private ModelNode stripAccessControl(ModelNode description) {
+        if (description.has(ACCESS_CONTROL)) {
+            description.remove(ACCESS_CONTROL);
+        }
+        if (description.hasDefined(CHILDREN)) {
+            for (Property child : description.get(CHILDREN).asPropertyList()) {
+                if (child.getValue().hasDefined(MODEL_DESCRIPTION)) {
+                    for (Property modelDescription : child.getValue().get(MODEL_DESCRIPTION).asPropertyList()) {
+                        description.get(CHILDREN, child.getName(), MODEL_DESCRIPTION, modelDescription.getName())
+                                .set(stripAccessControl(modelDescription.getValue()));
+                    }
+                }
+            }
+        }
+        return description;
+    }
+}
@@ -299,6 +299,7 @@ public interface CSS {
     String modalTitle = "modal-title";
     String modelBrowserButtons = "model-browser-buttons";
     String modelBrowserContent = "model-browser-content";
+    String modelSearch = "model-search";
 
     String name = "name";
     String nav = "nav";
@@ -379,6 +379,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String membershipOfRole();
     String message();
     String messageLarge();
+    String messageSelector();
     String messages();
     String milliseconds();
     String minimum();
@@ -538,6 +539,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String sameOrigin();
     String save();
     String search();
+    String searchIndexNotReady();
+    String searchResources();
     String second();
     String seconds();
     String selectAll();
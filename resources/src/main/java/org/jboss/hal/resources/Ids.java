@@ -325,6 +325,7 @@ public interface Ids {
     String HAL_WIZARD_TITLE = "hal-wizard-title";
     String HEADER = "header";
     String HEADER_CONNECTED_TO = "header-connected-to";
+    String HEADER_SEARCH = "header-search";
     String HEADER_USERNAME = "header-username";
     String HOMEPAGE_ACCESS_CONTROL_MODULE = "homepage-access-control-module";
     String HOMEPAGE_ACCESS_CONTROL_SECTION = "homepage-access-control-section";
@@ -433,6 +434,7 @@ public interface Ids {
     String JMS_MESSAGE_LIST_REFRESH = "jms-message-list-refresh";
     String JMS_MESSAGE_LIST_REMOVE = "jms-message-list-remove";
     String JMS_MESSAGE_LIST_SELECT_ALL = "jms-message-list-select-all";
+    String JMS_MESSAGE_LIST_SELECTOR = "jms-message-list-selector";
     String JMS_MESSAGE_LIST_SEND_TO_DEAD_LETTER = "jms-message-list-send-to-dead-letter";
     String JMS_MESSAGE_LIST_TOO_MANY = "jms-message-list-too-many";
     String JMS_MESSAGE_MOVE = "jms-message-move";
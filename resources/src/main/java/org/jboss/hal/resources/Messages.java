@@ -234,6 +234,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml managementOperationsFindNoResult();
     SafeHtml managementVersionMismatch(String managementVersion, String targetVersion);
     SafeHtml manyMessages(long number);
+    SafeHtml manyMessagesSelector(long number, String selector);
     SafeHtml mappingHint();
     SafeHtml messageServerStarted(String name);
     SafeHtml messageServerStopped(String name, String server);
@@ -412,6 +413,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml saveIdentityError(String identity, String realm, String error);
     SafeHtml saveIdentitySuccess(String identity, String realm);
     SafeHtml selected(int selected, int total);
+    SafeHtml selectorQuestion(String selector);
     SafeHtml sendMessagesToDeadLetterQuestion();
     SafeHtml sendMessageToDeadLetterQuestion();
     SafeHtml sendMessageToDeadLetterSuccess();
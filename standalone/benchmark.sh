@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+#
+#  Copyright 2022 Red Hat
+#
+#  Licensed under the Apache License, Version 2.0 (the "License");
+#  you may not use this file except in compliance with the License.
+#  You may obtain a copy of the License at
+#
+#      https://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+#
+
+#
+# Compares the transfer size and time of the static assets served by the standalone
+# console for the different content encodings. If a baseline URL is given, the same
+# requests are sent to the baseline server, too. Start the baseline server with
+# -Dhal.static-assets.precompressed=false to serve the plain files as before, e.g.
+#
+#   java -Dquarkus.http.port=9091 -Dhal.static-assets.precompressed=false -jar target/quarkus-app/quarkus-run.jar
+#   benchmark.sh http://localhost:9090 http://localhost:9091
+#
+# Usage: benchmark.sh [url] [baseline-url] [runs]
+
+url=${1:-http://localhost:9090}
+baseline=${2:-}
+runs=${3:-10}
+
+benchmark() {
+    local server=$1 target=$2
+    local assets
+    assets=$(curl -s "${target}/" | grep -oE '(src|href)="[^"]+\.(js|css)"' | sed -E 's/.*="([^"]+)"/\1/')
+    assets="index.html ${assets}"
+
+    for encoding in identity gzip br; do
+        total_size=0
+        total_time=0
+        for ((i = 0; i < runs; i++)); do
+            for asset in ${assets}; do
+                read -r size time < <(curl -s -o /dev/null -H "Accept-Encoding: ${encoding}" \
+                    -w '%{size_download} %{time_total}\n' "${target}/${asset}")
+                total_size=$((total_size + size))
+                total_time=$(echo "${total_time} + ${time}" | bc)
+            done
+        done
+        printf "%-10s %-10s %12d bytes %10.3f s\n" "${server}" "${encoding}" $((total_size / runs)) \
+            "$(echo "${total_time} / ${runs}" | bc -l)"
+    done
+}
+
+if [[ -n "${baseline}" ]]; then
+    benchmark baseline "${baseline}"
+fi
+benchmark new "${url}"
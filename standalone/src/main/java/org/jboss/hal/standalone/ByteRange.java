@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** A single byte range requested by a {@code Range} header. Multiple ranges are not supported. */
+class ByteRange {
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+    private static final Pattern RANGE = Pattern.compile("^bytes=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$");
+
+    /**
+     * @return the range requested by the specified {@code Range} header, {@link #UNSATISFIABLE} if the range doesn't overlap
+     *         the content or {@code null} if the header is missing, invalid or requests multiple ranges. In the latter case the
+     *         header is ignored and the full content is sent.
+     */
+    static ByteRange parse(String range, long size) {
+        if (range == null) {
+            return null;
+        }
+        Matcher matcher = RANGE.matcher(range);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                // suffix range: the last n bytes
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long length = Long.parseLong(last);
+                if (length == 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - length), size - 1);
+            } else {
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (end < start) {
+                    return null;
+                }
+                if (start >= size) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(start, Math.min(end, size - 1));
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return whether the range applies according to the specified {@code If-Range} header. Assets have no
+     *         {@code Last-Modified} header, so only a strong ETag can match.
+     */
+    static boolean ifRange(String ifRange, String etag) {
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    /** First byte position (inclusive). */
+    final long start;
+
+    /** Last byte position (inclusive). */
+    final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    long length() {
+        return end - start + 1;
+    }
+
+    String contentRange(long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+}
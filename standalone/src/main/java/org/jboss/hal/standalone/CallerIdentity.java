@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identifies the caller of a request based on the credentials sent with the request. The identity is a hash, so that no
+ * credentials are kept in memory.
+ * <p>
+ * Digest credentials change with every request, and their stable parts (user name, realm and nonce) aren't secret. So the
+ * identity of a digest request is the hash of the whole header and is never the same for two requests. Besides that, digest
+ * callers are not {@linkplain #verifiable(String) verifiable}: The proxy can't tell if the credentials are valid without
+ * forwarding the request.
+ */
+final class CallerIdentity {
+
+    static final String ANONYMOUS = "";
+    private static final String DIGEST = "Digest ";
+
+    static String of(String authorization, String cookie) {
+        if (authorization == null && cookie == null) {
+            return ANONYMOUS;
+        }
+        StringBuilder builder = new StringBuilder();
+        if (authorization != null) {
+            builder.append(authorization);
+        }
+        builder.append('\n');
+        if (cookie != null) {
+            builder.append(cookie);
+        }
+        return sha256(builder.toString());
+    }
+
+    /**
+     * @return whether the credentials of a successful request can be used to identify subsequent requests of the same caller.
+     *         That's not the case for digest credentials.
+     */
+    static boolean verifiable(String authorization) {
+        return authorization == null || !authorization.regionMatches(true, 0, DIGEST, 0, DIGEST.length());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CallerIdentity() {
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares pending executions with the same key. If an execution with the same key is already in flight, callers get the pending
+ * result instead of starting another execution.
+ */
+class Coalescer<V> {
+
+    private final Map<String, CompletableFuture<V>> pending;
+
+    Coalescer() {
+        this.pending = new ConcurrentHashMap<>();
+    }
+
+    CompletionStage<V> execute(String key, Supplier<CompletionStage<V>> execution) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = pending.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            execution.get().whenComplete((value, error) -> {
+                pending.remove(key, future);
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    int size() {
+        return pending.size();
+    }
+}
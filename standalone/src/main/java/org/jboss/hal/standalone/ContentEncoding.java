@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/** The encodings of the precompressed variants of the static assets in the order of preference. */
+enum ContentEncoding {
+
+    BROTLI("br", ".br"), GZIP("gzip", ".gz"), IDENTITY(null, "");
+
+    private static final Pattern HASHED = Pattern.compile(".*(\\.cache\\.\\w+|\\.[0-9a-f]{8,}\\.\\w+)$");
+
+    /**
+     * @return the encodings which are accepted according to the specified {@code Accept-Encoding} header in the order of
+     *         preference. The last encoding is always {@link #IDENTITY}.
+     */
+    static List<ContentEncoding> accepted(String acceptEncoding) {
+        List<ContentEncoding> encodings = new ArrayList<>();
+        if (acceptEncoding != null) {
+            for (ContentEncoding encoding : values()) {
+                if (encoding != IDENTITY && encoding.acceptedBy(acceptEncoding)) {
+                    encodings.add(encoding);
+                }
+            }
+        }
+        encodings.add(IDENTITY);
+        return encodings;
+    }
+
+    /**
+     * @return whether the name contains a content hash, e.g. the GWT permutations ({@code <hash>.cache.js}) or the bundles
+     *         created by parcel ({@code <name>.<hash>.<ext>}).
+     */
+    static boolean hashed(String name) {
+        return HASHED.matcher(name).matches();
+    }
+
+    final String name;
+    final String extension;
+
+    ContentEncoding(String name, String extension) {
+        this.name = name;
+        this.extension = extension;
+    }
+
+    private boolean acceptedBy(String acceptEncoding) {
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] parameters = part.trim().split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(name) || coding.equals("*")) {
+                boolean accepted = quality(parameters) > 0;
+                if (coding.equals(name)) {
+                    return accepted;
+                }
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread safe cache with a maximum number of entries. Entries expire {@code ttl} milliseconds after they have been added. If
+ * the cache is full, the least recently used entry is removed.
+ */
+class ExpiringCache<K, V> {
+
+    private final long ttl;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+
+    ExpiringCache(int maxSize, long ttl, LongSupplier clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** @return the value or {@code null} if there's no such value or the value has expired */
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expires < clock.getAsLong()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+        return null;
+    }
+
+    synchronized boolean contains(K key) {
+        return get(key) != null;
+    }
+
+    synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttl));
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+
+        final V value;
+        final long expires;
+
+        Entry(V value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+}
@@ -17,18 +17,33 @@ package org.jboss.hal.standalone;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.handler.StaticHandler;
 
 @ApplicationScoped
 public class Main {
 
+    @Inject ManagementProxy managementProxy;
+    @Inject StaticAssets staticAssets;
+    @ConfigProperty(name = "hal.static-assets.precompressed", defaultValue = "true") boolean precompressed;
+
     public void init(@Observes Router router) {
+        if (managementProxy.enabled()) {
+            managementProxy.routes(router);
+        }
+
         StaticHandler noCache = StaticHandler.create().setCachingEnabled(false);
         StaticHandler staticHandler = StaticHandler.create();
 
-        router.getWithRegex(".*nocache.*").order(0).handler(noCache);
-        router.get().order(1).handler(staticHandler);
+        if (precompressed) {
+            router.route().method(HttpMethod.GET).method(HttpMethod.HEAD).order(0).handler(staticAssets);
+        }
+        router.getWithRegex(".*nocache.*").order(1).handler(noCache);
+        router.get().order(2).handler(staticHandler);
     }
 }
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * The management version and the access control provider of the management endpoint. Resource descriptions are cached per
+ * management version. If the access control provider is {@code simple}, access control information is the same for all users
+ * and can be shared as well.
+ */
+final class ManagementInfo {
+
+    private static final String[] VERSIONS = {
+            "management-major-version", "management-minor-version", "management-micro-version" };
+
+    /** @return a composite operation which reads the management version and the access control provider */
+    static ModelNode operation() {
+        ModelNode operation = new ModelNode();
+        operation.get("operation").set("composite");
+        operation.get("address").setEmptyList();
+        for (String version : VERSIONS) {
+            ModelNode step = new ModelNode();
+            step.get("operation").set("read-attribute");
+            step.get("address").setEmptyList();
+            step.get("name").set(version);
+            operation.get("steps").add(step);
+        }
+        ModelNode step = new ModelNode();
+        step.get("operation").set("read-attribute");
+        step.get("address").add("core-service", "management").add("access", "authorization");
+        step.get("name").set("provider");
+        operation.get("steps").add(step);
+        return operation;
+    }
+
+    /** Parses the result of {@link #operation()} */
+    static ManagementInfo from(ModelNode response) {
+        if (!"success".equals(response.get("outcome").asString())) {
+            throw new IllegalStateException("Unable to read management version: " + response.get("failure-description"));
+        }
+        ModelNode result = response.get("result");
+        StringBuilder version = new StringBuilder();
+        for (int i = 0; i < VERSIONS.length; i++) {
+            if (i > 0) {
+                version.append('.');
+            }
+            version.append(result.get("step-" + (i + 1)).get("result").asString());
+        }
+        String provider = result.get("step-" + (VERSIONS.length + 1)).get("result").asString();
+        return new ManagementInfo(version.toString(), "simple".equals(provider));
+    }
+
+    final String version;
+    final boolean simpleAccessControl;
+
+    ManagementInfo(String version, boolean simpleAccessControl) {
+        this.version = version;
+        this.simpleAccessControl = simpleAccessControl;
+    }
+}
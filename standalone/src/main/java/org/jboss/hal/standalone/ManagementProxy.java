@@ -0,0 +1,375 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.dmr.ModelNode;
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+/**
+ * Optional reverse proxy for the management endpoint. If {@code hal.proxy.url} is set, all requests to {@code /management*} are
+ * forwarded to the management endpoint at that URL, and the console connects to the standalone server as if it was served by
+ * WildFly itself.
+ * <p>
+ * Only requests to {@code /management} are read into memory (up to {@code hal.proxy.body-limit} bytes). All other requests,
+ * e.g. uploads to {@code /management-upload}, are piped to the management endpoint as they are.
+ * <p>
+ * The proxy reduces the load on the management endpoint if many users work with the console:
+ * <ul>
+ * <li>Identical read-only requests of the same user which are in flight at the same time are sent only once.</li>
+ * <li>Resource descriptions are cached across users by management version and locale. Descriptions which contain access control
+ * information are only shared if the access control provider is {@code simple}. Cached descriptions are only served to callers
+ * whose credentials have been accepted by the management endpoint before. Headers which belong to a caller like cookies are not
+ * cached.</li>
+ * </ul>
+ * Requests with digest credentials are always forwarded as they are. The proxy can't verify digest credentials, so it neither
+ * shares responses with nor serves cached descriptions to such callers.
+ */
+@ApplicationScoped
+public class ManagementProxy implements Handler<RoutingContext> {
+
+    private static final long INFO_TTL = 60_000; // ms
+    private static final int CREDENTIALS_SIZE = 1_000;
+    private static final long CREDENTIALS_TTL = 300_000; // ms
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String BEARER = "Bearer ";
+    private static final Set<String> SKIP_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "host", "keep-alive", "origin", "proxy-authenticate",
+            "proxy-authorization", "referer", "te", "trailer", "transfer-encoding", "upgrade"));
+    private static final Set<String> PRIVATE_HEADERS = new HashSet<>(Arrays.asList(
+            "authentication-info", "set-cookie", "www-authenticate"));
+    private static final Logger logger = Logger.getLogger(ManagementProxy.class);
+
+    @ConfigProperty(name = "hal.proxy.url") Optional<String> url;
+    @ConfigProperty(name = "hal.proxy.description-cache.size", defaultValue = "2000") int descriptionCacheSize;
+    @ConfigProperty(name = "hal.proxy.description-cache.ttl", defaultValue = "10M") Duration descriptionCacheTtl;
+    @ConfigProperty(name = "hal.proxy.body-limit", defaultValue = "10485760") long bodyLimit;
+    @Inject Vertx vertx;
+
+    private String target;
+    private HttpClient client;
+    private Coalescer<ProxyResponse> requests;
+    private Coalescer<ManagementInfo> infoRequests;
+    private ExpiringCache<String, ProxyResponse> descriptions;
+    private ExpiringCache<String, Boolean> credentials;
+    private volatile ManagementInfo info;
+    private volatile long infoExpires;
+
+    @PostConstruct
+    void init() {
+        if (enabled()) {
+            target = url.get().endsWith("/") ? url.get().substring(0, url.get().length() - 1) : url.get();
+            client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true));
+            requests = new Coalescer<>();
+            infoRequests = new Coalescer<>();
+            descriptions = new ExpiringCache<>(descriptionCacheSize, descriptionCacheTtl.toMillis(),
+                    System::currentTimeMillis);
+            credentials = new ExpiringCache<>(CREDENTIALS_SIZE, CREDENTIALS_TTL, System::currentTimeMillis);
+            logger.infof("Forward management requests to %s", target);
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    boolean enabled() {
+        return url.isPresent() && !url.get().isBlank();
+    }
+
+    /**
+     * Registers the routes of the proxy. Requests to the management endpoint are read into memory and handled by this proxy.
+     * All other requests to {@code /management*} are {@linkplain #pipe(RoutingContext) piped}.
+     */
+    void routes(Router router) {
+        // /management and /management/<http-get-path>, but not /management-upload
+        router.routeWithRegex(ManagementRequest.MANAGEMENT + "(/.*)?").order(-2)
+                .handler(BodyHandler.create(false).setBodyLimit(bodyLimit))
+                .handler(this);
+        router.route(ManagementRequest.MANAGEMENT + "*").order(-1).handler(this::pipe);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        Context context = vertx.getOrCreateContext();
+        Buffer body = routingContext.body().buffer();
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String identity = CallerIdentity.of(authorization, request.getHeader(HttpHeaders.COOKIE));
+        boolean verifiable = CallerIdentity.verifiable(authorization);
+        ManagementRequest managementRequest = ManagementRequest.classify(request.method().name(), request.path(),
+                request.uri(), request.getHeader(HttpHeaders.CONTENT_TYPE), body != null ? body.toString() : null);
+
+        CompletionStage<ProxyResponse> response;
+        Forward forward = new Forward(request.method(), request.uri(), request.headers(), body);
+        if (managementRequest.readOnly && verifiable) {
+            String key = request.method().name() + ' ' + request.getHeader(HttpHeaders.ACCEPT) + ' '
+                    + request.getHeader(HttpHeaders.ACCEPT_LANGUAGE) + ' ' + managementRequest.key;
+            if (managementRequest.description && credentials.contains(identity)) {
+                response = description(managementRequest, identity, key, forward);
+            } else {
+                response = requests.execute(identity + ' ' + key, forward::send);
+            }
+        } else {
+            response = forward.send();
+        }
+
+        response.whenComplete((proxyResponse, error) -> context.runOnContext(v -> {
+            if (error != null) {
+                logger.errorf("Unable to forward %s %s to %s: %s", request.method(), request.uri(), target,
+                        error.getMessage());
+                routingContext.response().setStatusCode(502).end();
+            } else {
+                if (proxyResponse.successful() && verifiable && !CallerIdentity.ANONYMOUS.equals(identity)) {
+                    credentials.put(identity, true);
+                }
+                proxyResponse.send(routingContext.response());
+            }
+        }));
+    }
+
+    /** Streams the request to the management endpoint and the response back to the caller without buffering them. */
+    void pipe(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        HttpServerResponse response = routingContext.response();
+        request.pause();
+        RequestOptions options = new RequestOptions().setMethod(request.method()).setAbsoluteURI(target + request.uri());
+        client.request(options)
+                .compose(upstream -> {
+                    forwardHeaders(request.headers(), upstream.headers());
+                    copy(request.headers(), upstream.headers(), HttpHeaders.CONTENT_LENGTH.toString());
+                    return upstream.send(request);
+                })
+                .onSuccess(upstream -> {
+                    response.setStatusCode(upstream.statusCode());
+                    response.setStatusMessage(upstream.statusMessage());
+                    forwardHeaders(upstream.headers(), response.headers());
+                    String contentLength = upstream.getHeader(HttpHeaders.CONTENT_LENGTH);
+                    if (contentLength != null) {
+                        response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
+                    } else {
+                        response.setChunked(true);
+                    }
+                    upstream.pipeTo(response);
+                })
+                .onFailure(error -> {
+                    logger.errorf("Unable to pipe %s %s to %s: %s", request.method(), request.uri(), target,
+                            error.getMessage());
+                    if (response.headWritten()) {
+                        response.reset();
+                    } else {
+                        response.setStatusCode(502).end();
+                    }
+                });
+    }
+
+    // ------------------------------------------------------ descriptions
+
+    private CompletionStage<ProxyResponse> description(ManagementRequest managementRequest, String identity,
+            String key, Forward forward) {
+        return info(forward)
+                .thenCompose(management -> {
+                    boolean shared = !managementRequest.userSpecific || management.simpleAccessControl;
+                    String cacheKey = management.version + ' ' + (shared ? "*" : identity) + ' ' + key;
+                    ProxyResponse cached = descriptions.get(cacheKey);
+                    if (cached != null) {
+                        logger.debugf("Serve cached description %s", managementRequest.key);
+                        return completedFuture(cached);
+                    }
+                    // the response might be shared with other callers: remove their cookies and authentication headers
+                    return requests.execute(cacheKey, () -> forward.send().thenApply(ProxyResponse::shareable))
+                            .thenApply(proxyResponse -> {
+                                if (proxyResponse.successful()) {
+                                    descriptions.put(cacheKey, proxyResponse);
+                                }
+                                return proxyResponse;
+                            });
+                })
+                .<CompletionStage<ProxyResponse>> handle((proxyResponse, error) -> {
+                    if (error != null) {
+                        logger.debugf("Unable to use description cache: %s", error.getMessage());
+                        return requests.execute(identity + ' ' + key, forward::send);
+                    }
+                    return completedFuture(proxyResponse);
+                })
+                .thenCompose(stage -> stage);
+    }
+
+    /**
+     * Reads the management info using the credentials of the caller. Digest credentials are bound to the method and URI of the
+     * original request and can't be replayed. Only bearer tokens and cookies are used.
+     */
+    private CompletionStage<ManagementInfo> info(Forward forward) {
+        ManagementInfo current = info;
+        if (current != null && infoExpires > System.currentTimeMillis()) {
+            return completedFuture(current);
+        }
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+                .add(HttpHeaders.ACCEPT, APPLICATION_JSON);
+        String authorization = forward.headers.get(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            headers.add(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        copy(forward.headers, headers, HttpHeaders.COOKIE.toString());
+        if (!headers.contains(HttpHeaders.AUTHORIZATION) && !headers.contains(HttpHeaders.COOKIE)) {
+            return failedFuture(new IllegalStateException("No credentials to read the management version"));
+        }
+        return infoRequests.execute("", () -> {
+            Buffer body = Buffer.buffer(ManagementInfo.operation().toJSONString(true));
+            return new Forward(HttpMethod.POST, ManagementRequest.MANAGEMENT, headers, body).send()
+                    .thenApply(response -> {
+                        if (!response.successful()) {
+                            throw new IllegalStateException("Unable to read management version: " + response.status);
+                        }
+                        ManagementInfo management = ManagementInfo.from(
+                                ModelNode.fromJSONString(response.body.toString()));
+                        info = management;
+                        infoExpires = System.currentTimeMillis() + INFO_TTL;
+                        logger.debugf("Management version %s, simple access control: %s", management.version,
+                                management.simpleAccessControl);
+                        return management;
+                    });
+        });
+    }
+
+    private static void copy(MultiMap from, MultiMap to, String name) {
+        String value = from.get(name);
+        if (value != null) {
+            to.add(name, value);
+        }
+    }
+
+    /** Copies all headers except hop-by-hop and CORS headers. */
+    private static void forwardHeaders(MultiMap from, MultiMap to) {
+        from.forEach(header -> {
+            if (!skip(header.getKey())) {
+                to.add(header.getKey(), header.getValue());
+            }
+        });
+    }
+
+    private static boolean skip(String header) {
+        String name = header.toLowerCase(Locale.ROOT);
+        return SKIP_HEADERS.contains(name) || name.startsWith("access-control-");
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private class Forward {
+
+        final HttpMethod method;
+        final String uri;
+        final MultiMap headers;
+        final Buffer body;
+
+        Forward(HttpMethod method, String uri, MultiMap headers, Buffer body) {
+            this.method = method;
+            this.uri = uri;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        CompletionStage<ProxyResponse> send() {
+            RequestOptions options = new RequestOptions().setMethod(method).setAbsoluteURI(target + uri);
+            return client.request(options)
+                    .compose(request -> {
+                        forwardHeaders(headers, request.headers());
+                        return body != null && body.length() > 0 ? request.send(body) : request.send();
+                    })
+                    .compose(response -> response.body()
+                            .map(buffer -> new ProxyResponse(response.statusCode(), response.statusMessage(),
+                                    response.headers(), buffer)))
+                    .toCompletionStage();
+        }
+    }
+
+    static class ProxyResponse {
+
+        final int status;
+        final String statusMessage;
+        final MultiMap headers;
+        final Buffer body;
+
+        ProxyResponse(int status, String statusMessage, MultiMap headers, Buffer body) {
+            this.status = status;
+            this.statusMessage = statusMessage;
+            this.headers = MultiMap.caseInsensitiveMultiMap();
+            forwardHeaders(headers, this.headers);
+            this.body = body;
+        }
+
+        /** @return a copy without the headers which belong to the caller, like cookies or authentication information */
+        ProxyResponse shareable() {
+            MultiMap shareable = MultiMap.caseInsensitiveMultiMap();
+            headers.forEach(header -> {
+                if (!PRIVATE_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                    shareable.add(header.getKey(), header.getValue());
+                }
+            });
+            return new ProxyResponse(status, statusMessage, shareable, body);
+        }
+
+        boolean successful() {
+            return status >= 200 && status < 300;
+        }
+
+        void send(HttpServerResponse response) {
+            response.setStatusCode(status);
+            if (statusMessage != null) {
+                response.setStatusMessage(statusMessage);
+            }
+            response.headers().addAll(headers);
+            // the same response might be sent to several callers
+            response.end(body.copy());
+        }
+    }
+}
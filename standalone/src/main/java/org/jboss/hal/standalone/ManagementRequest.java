@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Classifies a request to the management endpoint. Only requests which are classified as read-only are coalesced, and only
+ * read-only requests which read resource descriptions are cached.
+ */
+final class ManagementRequest {
+
+    static final String MANAGEMENT = "/management";
+    static final String DMR_ENCODED = "application/dmr-encoded";
+
+    private static final String ACCESS_CONTROL = "access-control";
+    private static final String COMPOSITE = "composite";
+    private static final String NONE = "none";
+    private static final String OPERATION = "operation";
+    private static final String OPERATION_HEADERS = "operation-headers";
+    private static final String READ_RESOURCE_DESCRIPTION = "read-resource-description";
+    private static final String ROLES = "roles";
+    private static final String STEPS = "steps";
+    private static final Set<String> READ_ONLY = new HashSet<>(Arrays.asList(
+            "query", "resolve-expression", "whoami"));
+
+    /** Classifies the specified request. Requests which cannot be parsed are classified as modifying requests. */
+    static ManagementRequest classify(String method, String path, String uri, String contentType, String body) {
+        if (MANAGEMENT.equals(path) || (path != null && path.startsWith(MANAGEMENT + "/"))) {
+            if ("GET".equals(method)) {
+                // GET requests can only execute read operations
+                return new ManagementRequest(true, false, true, uri);
+
+            } else if ("POST".equals(method) && MANAGEMENT.equals(path) && body != null && !body.isEmpty()) {
+                try {
+                    ModelNode operation;
+                    if (contentType != null && contentType.startsWith(DMR_ENCODED)) {
+                        operation = ModelNode.fromBase64String(body.trim());
+                    } else {
+                        operation = ModelNode.fromJSONString(body);
+                    }
+                    return new ManagementRequest(readOnly(operation), description(operation),
+                            userSpecific(operation), operation.toString());
+                } catch (IOException | IllegalArgumentException e) {
+                    return modify();
+                }
+            }
+        }
+        return modify();
+    }
+
+    private static ManagementRequest modify() {
+        return new ManagementRequest(false, false, true, null);
+    }
+
+    private static boolean readOnly(ModelNode operation) {
+        String name = operation.get(OPERATION).asString();
+        if (COMPOSITE.equals(name)) {
+            return steps(operation).stream().allMatch(ManagementRequest::readOnly);
+        }
+        return name.startsWith("read-") || READ_ONLY.contains(name);
+    }
+
+    private static boolean description(ModelNode operation) {
+        String name = operation.get(OPERATION).asString();
+        if (COMPOSITE.equals(name)) {
+            return !steps(operation).isEmpty() && steps(operation).stream().allMatch(ManagementRequest::description);
+        }
+        return READ_RESOURCE_DESCRIPTION.equals(name);
+    }
+
+    /** Operations which contain access control information or which run as a specific role depend on the user. */
+    private static boolean userSpecific(ModelNode operation) {
+        if (operation.hasDefined(OPERATION_HEADERS) && operation.get(OPERATION_HEADERS).hasDefined(ROLES)) {
+            return true;
+        }
+        if (COMPOSITE.equals(operation.get(OPERATION).asString())) {
+            return steps(operation).stream().anyMatch(ManagementRequest::userSpecific);
+        }
+        return operation.hasDefined(ACCESS_CONTROL) && !NONE.equals(operation.get(ACCESS_CONTROL).asString());
+    }
+
+    private static List<ModelNode> steps(ModelNode operation) {
+        ModelNode steps = operation.get(STEPS);
+        return steps.getType() == ModelType.LIST ? steps.asList() : Collections.emptyList();
+    }
+
+    /** Whether the request only reads data */
+    final boolean readOnly;
+    /** Whether the request only reads resource descriptions */
+    final boolean description;
+    /** Whether the response depends on the user */
+    final boolean userSpecific;
+    /** A canonical representation of the request which can be used as key */
+    final String key;
+
+    private ManagementRequest(boolean readOnly, boolean description, boolean userSpecific, String key) {
+        this.readOnly = readOnly;
+        this.description = readOnly && description;
+        this.userSpecific = userSpecific;
+        this.key = key;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+import static java.util.Map.entry;
+
+/**
+ * Serves the static assets of the console. If the browser accepts it, the precompressed brotli or gzip variant generated at
+ * build time is sent instead of the original file.
+ * <p>
+ * Files with a content hash in their name are cached by the browser forever. All other files have to be revalidated using their
+ * ETag, which is the SHA-1 of the variant. Requests for other files are passed to the next handler.
+ * <p>
+ * Uncompressed variants support a single byte range ({@code Range} and {@code If-Range}). Range requests for compressed
+ * variants are answered with the full content.
+ */
+@ApplicationScoped
+public class StaticAssets implements Handler<RoutingContext> {
+
+    static final String WEBROOT = "webroot";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            entry(".css", "text/css;charset=UTF-8"),
+            entry(".eot", "application/vnd.ms-fontobject"),
+            entry(".html", "text/html;charset=UTF-8"),
+            entry(".js", "text/javascript;charset=UTF-8"),
+            entry(".json", "application/json"),
+            entry(".map", "application/json"),
+            entry(".svg", "image/svg+xml"),
+            entry(".ttf", "font/ttf"),
+            entry(".txt", "text/plain;charset=UTF-8"),
+            entry(".xml", "application/xml"));
+
+    @Inject Vertx vertx;
+    private final Map<String, Future<Variant>> variants = new ConcurrentHashMap<>();
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        String path = routingContext.normalizedPath();
+        if (path.endsWith("/")) {
+            path += "index.html";
+        }
+        String contentType = contentType(path);
+        if ((request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) || contentType == null
+                || path.contains("..")) {
+            routingContext.next();
+            return;
+        }
+
+        String assetPath = path;
+        List<ContentEncoding> encodings = ContentEncoding.accepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        variant(WEBROOT + path, encodings.iterator())
+                .onSuccess(variant -> {
+                    if (variant == null) {
+                        routingContext.next();
+                    } else {
+                        send(routingContext, assetPath, contentType, variant);
+                    }
+                })
+                .onFailure(routingContext::fail);
+    }
+
+    private void send(RoutingContext routingContext, String path, String contentType, Variant variant) {
+        HttpServerResponse response = routingContext.response();
+        response.putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+                .putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .putHeader(HttpHeaders.ETAG, variant.etag)
+                .putHeader(HttpHeaders.CACHE_CONTROL, ContentEncoding.hashed(path) ? IMMUTABLE : REVALIDATE);
+        if (variant.encoding == ContentEncoding.IDENTITY) {
+            response.putHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        } else {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding.name);
+        }
+
+        HttpServerRequest request = routingContext.request();
+        if (notModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+
+        ByteRange range = null;
+        if (variant.encoding == ContentEncoding.IDENTITY && ByteRange.ifRange(request.getHeader(HttpHeaders.IF_RANGE),
+                variant.etag)) {
+            range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), variant.size);
+        }
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.putHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + variant.size).setStatusCode(416).end();
+        } else if (range != null) {
+            response.putHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(variant.size)).setStatusCode(206);
+            if (request.method() == HttpMethod.HEAD) {
+                response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(range.length())).end();
+            } else {
+                response.sendFile(variant.file, range.start, range.length());
+            }
+        } else if (request.method() == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(variant.size)).end();
+        } else {
+            response.sendFile(variant.file);
+        }
+    }
+
+    // ------------------------------------------------------ variants
+
+    /** @return the first existing variant or {@code null} if there's no such variant */
+    private Future<Variant> variant(String file, Iterator<ContentEncoding> encodings) {
+        if (!encodings.hasNext()) {
+            return Future.succeededFuture(null);
+        }
+        return lookup(file, encodings.next())
+                .compose(variant -> variant != null ? Future.succeededFuture(variant) : variant(file, encodings));
+    }
+
+    /**
+     * Looks up the variant and caches it. Misses and failures are removed once they're completed, so that requests for
+     * arbitrary paths don't fill up the cache. Concurrent lookups of the same variant are still done only once.
+     */
+    private Future<Variant> lookup(String file, ContentEncoding encoding) {
+        String name = file + encoding.extension;
+        return variants.computeIfAbsent(name, n -> vertx.fileSystem().exists(n)
+                .compose(exists -> exists ? vertx.fileSystem().props(n) : Future.succeededFuture(null))
+                .compose(props -> props != null && props.isRegularFile()
+                        ? vertx.fileSystem().readFile(n)
+                                .compose(buffer -> vertx.executeBlocking(promise -> promise.complete(
+                                        new Variant(n, encoding, buffer.length(), etag(buffer))), false))
+                        : Future.succeededFuture(null))
+                .onComplete(result -> {
+                    if (result.failed() || result.result() == null) {
+                        variants.remove(n);
+                    }
+                }));
+    }
+
+    private static String contentType(String path) {
+        int index = path.lastIndexOf('.');
+        return index != -1 ? CONTENT_TYPES.get(path.substring(index)) : null;
+    }
+
+    private static String etag(Buffer buffer) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(buffer.getBytes());
+            StringBuilder etag = new StringBuilder(hash.length * 2 + 2).append('"');
+            for (byte b : hash) {
+                etag.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return etag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static class Variant {
+
+        final String file;
+        final ContentEncoding encoding;
+        final int size;
+        final String etag;
+
+        Variant(String file, ContentEncoding encoding, int size, String etag) {
+            this.file = file;
+            this.encoding = encoding;
+            this.size = size;
+            this.etag = etag;
+        }
+    }
+}
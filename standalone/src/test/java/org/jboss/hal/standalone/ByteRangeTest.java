@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    @Test
+    public void range() {
+        assertRange(0, 499, ByteRange.parse("bytes=0-499", SIZE));
+        assertRange(500, 999, ByteRange.parse("bytes=500-", SIZE));
+        assertRange(900, 999, ByteRange.parse("bytes=-100", SIZE));
+        assertRange(0, 999, ByteRange.parse("bytes=-2000", SIZE));
+        assertRange(990, 999, ByteRange.parse("bytes=990-2000", SIZE));
+        assertEquals("bytes 0-499/1000", ByteRange.parse("bytes=0-499", SIZE).contentRange(SIZE));
+    }
+
+    @Test
+    public void ignored() {
+        assertNull(ByteRange.parse(null, SIZE));
+        assertNull(ByteRange.parse("bytes=0-10,20-30", SIZE));
+        assertNull(ByteRange.parse("bytes=10-5", SIZE));
+        assertNull(ByteRange.parse("bytes=-", SIZE));
+        assertNull(ByteRange.parse("items=0-10", SIZE));
+        assertNull(ByteRange.parse("bytes=99999999999999999999-", SIZE));
+    }
+
+    @Test
+    public void unsatisfiable() {
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", SIZE));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", SIZE));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=0-", 0));
+    }
+
+    @Test
+    public void ifRange() {
+        assertTrue(ByteRange.ifRange(null, "\"abc\""));
+        assertTrue(ByteRange.ifRange("\"abc\"", "\"abc\""));
+        assertFalse(ByteRange.ifRange("W/\"abc\"", "\"abc\""));
+        assertFalse(ByteRange.ifRange("\"def\"", "\"abc\""));
+        assertFalse(ByteRange.ifRange("Wed, 21 Oct 2015 07:28:00 GMT", "\"abc\""));
+    }
+
+    private void assertRange(long start, long end, ByteRange range) {
+        assertEquals(start, range.start);
+        assertEquals(end, range.end);
+        assertEquals(end - start + 1, range.length());
+    }
+}
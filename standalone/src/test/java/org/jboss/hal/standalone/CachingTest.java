@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class CachingTest {
+
+    private long now;
+
+    @Test
+    public void coalesce() {
+        Coalescer<String> coalescer = new Coalescer<>();
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletionStage<String> first = coalescer.execute("foo", () -> {
+            executions.incrementAndGet();
+            return pending;
+        });
+        CompletionStage<String> second = coalescer.execute("foo", () -> {
+            executions.incrementAndGet();
+            return pending;
+        });
+        assertSame(first, second);
+        assertEquals(1, executions.get());
+
+        pending.complete("bar");
+        assertEquals("bar", first.toCompletableFuture().join());
+        assertEquals(0, coalescer.size());
+    }
+
+    @Test
+    public void coalesceFailure() {
+        Coalescer<String> coalescer = new Coalescer<>();
+        CompletionStage<String> stage = coalescer.execute("foo", () -> {
+            throw new IllegalStateException();
+        });
+
+        assertTrue(stage.toCompletableFuture().isCompletedExceptionally());
+        assertEquals(0, coalescer.size());
+    }
+
+    @Test
+    public void expire() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 100, () -> now);
+        cache.put("foo", "bar");
+
+        now = 100;
+        assertEquals("bar", cache.get("foo"));
+        now = 101;
+        assertNull(cache.get("foo"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsed() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, 100, () -> now);
+        cache.put("a", "a");
+        cache.put("b", "b");
+        cache.get("a");
+        cache.put("c", "c");
+
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+    }
+}
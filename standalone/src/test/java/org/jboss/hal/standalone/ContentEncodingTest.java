@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.jboss.hal.standalone.ContentEncoding.BROTLI;
+import static org.jboss.hal.standalone.ContentEncoding.GZIP;
+import static org.jboss.hal.standalone.ContentEncoding.IDENTITY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ContentEncodingTest {
+
+    @Test
+    public void accepted() {
+        assertEquals(singletonList(IDENTITY), ContentEncoding.accepted(null));
+        assertEquals(singletonList(IDENTITY), ContentEncoding.accepted("identity"));
+        assertEquals(asList(GZIP, IDENTITY), ContentEncoding.accepted("gzip, deflate"));
+        assertEquals(asList(BROTLI, GZIP, IDENTITY), ContentEncoding.accepted("gzip, deflate, br"));
+    }
+
+    @Test
+    public void quality() {
+        assertEquals(asList(GZIP, IDENTITY), ContentEncoding.accepted("gzip;q=0.5, br;q=0"));
+        assertEquals(asList(BROTLI, GZIP, IDENTITY), ContentEncoding.accepted("*"));
+        assertEquals(asList(BROTLI, IDENTITY), ContentEncoding.accepted("gzip;q=0, *"));
+        assertEquals(singletonList(IDENTITY), ContentEncoding.accepted("*;q=0"));
+    }
+
+    @Test
+    public void hashed() {
+        assertTrue(ContentEncoding.hashed("/hal/2F4D1A5B3C2E1F0A.cache.js"));
+        assertTrue(ContentEncoding.hashed("/vendor.5a3f9c1e.js"));
+        assertFalse(ContentEncoding.hashed("/hal/hal.nocache.js"));
+        assertFalse(ContentEncoding.hashed("/index.html"));
+        assertFalse(ContentEncoding.hashed("/css/main.css"));
+    }
+}
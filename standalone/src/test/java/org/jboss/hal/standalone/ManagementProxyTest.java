@@ -0,0 +1,272 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.jboss.hal.standalone.ManagementRequest.MANAGEMENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests the proxy against a stubbed management endpoint. */
+@SuppressWarnings("HardCodedStringLiteral")
+public class ManagementProxyTest {
+
+    private static final String UPLOAD = "/management-upload";
+    private static final String BEARER = "Bearer foo";
+    private static final String DIGEST = "Digest username=\"admin\", realm=\"ManagementRealm\", nonce=\"n1\", "
+            + "uri=\"/management\"";
+    private static final String INFO = "{\"outcome\" : \"success\", \"result\" : {"
+            + "\"step-1\" : {\"outcome\" : \"success\", \"result\" : 22},"
+            + "\"step-2\" : {\"outcome\" : \"success\", \"result\" : 0},"
+            + "\"step-3\" : {\"outcome\" : \"success\", \"result\" : 0},"
+            + "\"step-4\" : {\"outcome\" : \"success\", \"result\" : \"simple\"}}}";
+    private static final String RESULT = "{\"outcome\" : \"success\", \"result\" : {}}";
+
+    private Vertx vertx;
+    private HttpServer upstream;
+    private HttpServer server;
+    private HttpClient client;
+    private ManagementProxy proxy;
+    private List<Received> received;
+
+    @Before
+    public void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        received = new CopyOnWriteArrayList<>();
+        upstream = await(vertx.createHttpServer().requestHandler(this::upstream).listen(0));
+
+        proxy = new ManagementProxy();
+        proxy.url = Optional.of("http://localhost:" + upstream.actualPort() + "/");
+        proxy.descriptionCacheSize = 10;
+        proxy.descriptionCacheTtl = Duration.ofMinutes(1);
+        proxy.bodyLimit = 1024;
+        proxy.vertx = vertx;
+        proxy.init();
+
+        Router router = Router.router(vertx);
+        proxy.routes(router);
+        server = await(vertx.createHttpServer().requestHandler(router).listen(0));
+        client = vertx.createHttpClient();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        proxy.destroy();
+        await(vertx.close());
+    }
+
+    @Test
+    public void forward() throws Exception {
+        String operation = operation("write-attribute").toJSONString(true);
+        Response response = send(MANAGEMENT, BEARER, "application/json", Buffer.buffer(operation));
+
+        assertEquals(200, response.status);
+        assertEquals(RESULT, response.body);
+        assertEquals(1, received.size());
+        assertEquals(MANAGEMENT, received.get(0).uri);
+        assertEquals(BEARER, received.get(0).headers.get(HttpHeaders.AUTHORIZATION));
+        assertEquals(operation, received.get(0).body);
+    }
+
+    @Test
+    public void bodyLimit() throws Exception {
+        Response response = send(MANAGEMENT, BEARER, "application/json", Buffer.buffer(new byte[2048]));
+
+        assertEquals(413, response.status);
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void upload() throws Exception {
+        // larger than the body limit, which applies to /management only
+        String content = "x".repeat(4096);
+        String multipart = "--boundary\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"test.war\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n"
+                + content + "\r\n"
+                + "--boundary--\r\n";
+        Response response = send(UPLOAD, BEARER, "multipart/form-data; boundary=boundary", Buffer.buffer(multipart));
+
+        assertEquals(200, response.status);
+        assertEquals(1, received.size());
+        assertEquals(UPLOAD, received.get(0).uri);
+        assertEquals("multipart/form-data; boundary=boundary", received.get(0).headers.get(HttpHeaders.CONTENT_TYPE));
+        assertEquals(BEARER, received.get(0).headers.get(HttpHeaders.AUTHORIZATION));
+        assertEquals(multipart, received.get(0).body);
+        assertEquals(String.valueOf(multipart.length()), response.body);
+    }
+
+    @Test
+    public void cachedDescription() throws Exception {
+        Buffer description = Buffer.buffer(operation("read-resource-description").toJSONString(true));
+        // the first request is forwarded as it is and makes the credentials known
+        Response first = send(MANAGEMENT, BEARER, "application/json", description);
+        assertEquals("JSESSIONID=foo", first.headers.get("Set-Cookie"));
+
+        Response second = send(MANAGEMENT, BEARER, "application/json", description);
+        Response third = send(MANAGEMENT, BEARER, "application/json", description);
+
+        assertEquals(RESULT, third.body);
+        assertEquals(2, descriptions().size());
+        assertEquals(1, infos().size());
+        assertEquals(BEARER, infos().get(0).headers.get(HttpHeaders.AUTHORIZATION));
+        for (Response response : new Response[] { second, third }) {
+            assertNull(response.headers.get("Set-Cookie"));
+            assertNull(response.headers.get("WWW-Authenticate"));
+            assertNull(response.headers.get("Authentication-Info"));
+            assertEquals("bar", response.headers.get("X-Management"));
+        }
+    }
+
+    @Test
+    public void digestCredentialsAreNotReplayed() throws Exception {
+        Buffer description = Buffer.buffer(operation("read-resource-description").toJSONString(true));
+        send(MANAGEMENT, DIGEST, "application/json", description);
+        Response response = send(MANAGEMENT, DIGEST, "application/json", description);
+
+        assertEquals(200, response.status);
+        assertTrue(infos().isEmpty());
+        assertEquals(2, descriptions().size());
+        for (Received request : descriptions()) {
+            assertEquals(DIGEST, request.headers.get(HttpHeaders.AUTHORIZATION));
+        }
+    }
+
+    @Test
+    public void forgedDigestCredentialsAreForwarded() throws Exception {
+        // user name, realm and nonce are public, a forged header must not be mistaken for the original caller
+        String forged = DIGEST + ", response=\"forged\"";
+        Buffer description = Buffer.buffer(operation("read-resource-description").toJSONString(true));
+        send(MANAGEMENT, DIGEST, "application/json", description);
+        send(MANAGEMENT, forged, "application/json", description);
+
+        assertTrue(infos().isEmpty());
+        assertEquals(2, descriptions().size());
+        assertEquals(DIGEST, descriptions().get(0).headers.get(HttpHeaders.AUTHORIZATION));
+        assertEquals(forged, descriptions().get(1).headers.get(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    public void unreachable() throws Exception {
+        await(upstream.close());
+
+        assertEquals(502, send(MANAGEMENT, BEARER, "application/json", Buffer.buffer("{}")).status);
+        assertEquals(502, send(UPLOAD, BEARER, "multipart/form-data; boundary=boundary", Buffer.buffer("--")).status);
+    }
+
+    // ------------------------------------------------------ stubbed management endpoint
+
+    private void upstream(HttpServerRequest request) {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap().addAll(request.headers());
+        request.body().onSuccess(buffer -> {
+            String body = buffer.toString();
+            received.add(new Received(request.uri(), headers, body));
+            if (UPLOAD.equals(request.path())) {
+                request.response().end(String.valueOf(buffer.length()));
+            } else if (body.contains("management-major-version")) {
+                request.response().end(INFO);
+            } else {
+                request.response()
+                        .putHeader("Set-Cookie", "JSESSIONID=foo")
+                        .putHeader("WWW-Authenticate", "Bearer")
+                        .putHeader("Authentication-Info", "nextnonce=\"n2\"")
+                        .putHeader("X-Management", "bar")
+                        .end(RESULT);
+            }
+        });
+    }
+
+    private List<Received> infos() {
+        return received.stream().filter(r -> r.body.contains("management-major-version")).collect(Collectors.toList());
+    }
+
+    private List<Received> descriptions() {
+        return received.stream().filter(r -> r.body.contains("read-resource-description")).collect(Collectors.toList());
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private Response send(String uri, String authorization, String contentType, Buffer body) throws Exception {
+        return await(client.request(HttpMethod.POST, server.actualPort(), "localhost", uri)
+                .compose(request -> {
+                    request.putHeader(HttpHeaders.AUTHORIZATION, authorization);
+                    request.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+                    return request.send(body);
+                })
+                .compose(response -> response.body()
+                        .map(buffer -> new Response(response.statusCode(), response.headers(), buffer.toString()))));
+    }
+
+    private static ModelNode operation(String name) {
+        ModelNode operation = new ModelNode();
+        operation.get("operation").set(name);
+        operation.get("address").add("subsystem", "undertow");
+        return operation;
+    }
+
+    private static <T> T await(io.vertx.core.Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, SECONDS);
+    }
+
+    private static class Received {
+
+        final String uri;
+        final MultiMap headers;
+        final String body;
+
+        Received(String uri, MultiMap headers, String body) {
+            this.uri = uri;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    private static class Response {
+
+        final int status;
+        final MultiMap headers;
+        final String body;
+
+        Response(int status, MultiMap headers, String body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
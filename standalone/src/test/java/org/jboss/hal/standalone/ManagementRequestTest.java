@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import static org.jboss.hal.standalone.ManagementRequest.DMR_ENCODED;
+import static org.jboss.hal.standalone.ManagementRequest.MANAGEMENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ManagementRequestTest {
+
+    @Test
+    public void get() {
+        ManagementRequest request = classify("GET", MANAGEMENT + "/subsystem/undertow", null, null);
+
+        assertTrue(request.readOnly);
+        assertFalse(request.description);
+    }
+
+    @Test
+    public void read() throws IOException {
+        ManagementRequest request = classify("POST", MANAGEMENT, DMR_ENCODED,
+                base64(operation("read-resource", "subsystem", "undertow")));
+
+        assertTrue(request.readOnly);
+        assertFalse(request.description);
+        assertFalse(request.userSpecific);
+    }
+
+    @Test
+    public void write() {
+        ManagementRequest request = classify("POST", MANAGEMENT, "application/json",
+                operation("write-attribute", "subsystem", "undertow").toJSONString(true));
+
+        assertFalse(request.readOnly);
+    }
+
+    @Test
+    public void description() throws IOException {
+        ModelNode composite = composite(operation("read-resource-description", "subsystem", "undertow"),
+                operation("read-resource-description", "subsystem", "io"));
+        ManagementRequest request = classify("POST", MANAGEMENT, DMR_ENCODED, base64(composite));
+
+        assertTrue(request.readOnly);
+        assertTrue(request.description);
+        assertFalse(request.userSpecific);
+        assertEquals(composite.toString(), request.key);
+    }
+
+    @Test
+    public void accessControl() throws IOException {
+        ModelNode operation = operation("read-resource-description", "subsystem", "undertow");
+        operation.get("access-control").set("combined-descriptions");
+        ManagementRequest request = classify("POST", MANAGEMENT, DMR_ENCODED, base64(composite(operation)));
+
+        assertTrue(request.description);
+        assertTrue(request.userSpecific);
+    }
+
+    @Test
+    public void runAs() throws IOException {
+        ModelNode operation = operation("read-resource-description", "subsystem", "undertow");
+        operation.get("operation-headers").get("roles").set("Monitor");
+        ManagementRequest request = classify("POST", MANAGEMENT, DMR_ENCODED, base64(operation));
+
+        assertTrue(request.userSpecific);
+    }
+
+    @Test
+    public void mixed() throws IOException {
+        ModelNode composite = composite(operation("read-resource-description", "subsystem", "undertow"),
+                operation("remove", "subsystem", "io"));
+        ManagementRequest request = classify("POST", MANAGEMENT, DMR_ENCODED, base64(composite));
+
+        assertFalse(request.readOnly);
+        assertFalse(request.description);
+    }
+
+    @Test
+    public void invalid() {
+        assertFalse(classify("POST", MANAGEMENT, DMR_ENCODED, "no dmr").readOnly);
+        assertFalse(classify("POST", MANAGEMENT + "-upload", DMR_ENCODED, "").readOnly);
+        assertFalse(classify("GET", "/index.html", null, null).readOnly);
+    }
+
+    @Test
+    public void identity() {
+        String digest1 = CallerIdentity.of("Digest username=\"admin\", realm=\"ManagementRealm\", nonce=\"abc\", " +
+                "nc=00000001, cnonce=\"x\", response=\"1\"", null);
+        String digest2 = CallerIdentity.of("Digest username=\"admin\", realm=\"ManagementRealm\", nonce=\"abc\", " +
+                "nc=00000002, cnonce=\"y\", response=\"2\"", null);
+        String digest3 = CallerIdentity.of("Digest username=\"alice\", realm=\"ManagementRealm\", nonce=\"abc\", " +
+                "nc=00000001, cnonce=\"x\", response=\"1\"", null);
+
+        assertNotEquals(digest1, digest2);
+        assertNotEquals(digest1, digest3);
+        assertFalse(CallerIdentity.verifiable("Digest username=\"admin\""));
+        assertTrue(CallerIdentity.verifiable("Bearer a"));
+        assertTrue(CallerIdentity.verifiable(null));
+        assertNotEquals(CallerIdentity.of("Bearer a", null), CallerIdentity.of("Bearer b", null));
+        assertEquals(CallerIdentity.ANONYMOUS, CallerIdentity.of(null, null));
+    }
+
+    @Test
+    public void info() {
+        ModelNode response = ModelNode.fromString("{\"outcome\" => \"success\", \"result\" => {" +
+                "\"step-1\" => {\"outcome\" => \"success\", \"result\" => 20}," +
+                "\"step-2\" => {\"outcome\" => \"success\", \"result\" => 0}," +
+                "\"step-3\" => {\"outcome\" => \"success\", \"result\" => 1}," +
+                "\"step-4\" => {\"outcome\" => \"success\", \"result\" => \"simple\"}}}");
+        ManagementInfo info = ManagementInfo.from(response);
+
+        assertEquals("20.0.1", info.version);
+        assertTrue(info.simpleAccessControl);
+        assertEquals(4, ManagementInfo.operation().get("steps").asList().size());
+    }
+
+    private ManagementRequest classify(String method, String path, String contentType, String body) {
+        return ManagementRequest.classify(method, path, path, contentType, body);
+    }
+
+    private ModelNode operation(String name, String type, String value) {
+        ModelNode operation = new ModelNode();
+        operation.get("operation").set(name);
+        operation.get("address").add(type, value);
+        return operation;
+    }
+
+    private ModelNode composite(ModelNode... steps) {
+        ModelNode composite = new ModelNode();
+        composite.get("operation").set("composite");
+        composite.get("address").setEmptyList();
+        for (ModelNode step : steps) {
+            composite.get("steps").add(step);
+        }
+        return composite;
+    }
+
+    private String base64(ModelNode operation) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        operation.writeBase64(out);
+        return new String(out.toByteArray(), US_ASCII);
+    }
+}